@@ -0,0 +1,47 @@
+#!/usr/bin/env bash
+# Compara INSERTs com id IDENTITY (um round trip por linha) com sequência pooled + lote JDBC.
+# Uso: ./run.sh [segundos]   (variáveis PG* definem a conexão)
+set -euo pipefail
+
+DURATION="${1:-30}"
+CLIENTS="${CLIENTS:-4}"
+BATCH=50
+DIR="$(cd "$(dirname "$0")" && pwd)"
+WORK="$(mktemp -d)"
+export PGHOST="${PGHOST:-localhost}" PGUSER="${PGUSER:-postgres}" PGDATABASE="${PGDATABASE:-proxima_projects}"
+
+COLUMNS="task_id, recommended_user_id, recommendation_score, recommendation_reason, confidence_level, is_implemented, created_at"
+VALUES="1, 1, 0.8123, 'Skill match', 'MEDIUM', false, now()"
+
+# IDENTITY: o Hibernate precisa do id gerado, então cada INSERT espera a resposta do banco
+{
+    echo "BEGIN;"
+    for _ in $(seq 1 "$BATCH"); do
+        echo "INSERT INTO insert_bench.identity_rows ($COLUMNS) VALUES ($VALUES) RETURNING id;"
+    done
+    echo "COMMIT;"
+} > "$WORK/identity.sql"
+
+# Pooled: um nextval reserva 50 ids e os INSERTs seguem num único envio (como executeBatch)
+{
+    echo "BEGIN;"
+    echo "SELECT nextval('insert_bench.pooled_rows_seq') AS hi \\gset"
+    echo "\\startpipeline"
+    for i in $(seq $((BATCH - 1)) -1 0); do
+        echo "INSERT INTO insert_bench.pooled_rows (id, $COLUMNS) VALUES (CAST(:hi AS bigint) - $i, $VALUES);"
+    done
+    echo "\\endpipeline"
+    echo "COMMIT;"
+} > "$WORK/pooled.sql"
+
+echo ">> Criando schema insert_bench"
+psql -q -v ON_ERROR_STOP=1 -f "$DIR/schema.sql"
+
+for script in identity pooled; do
+    echo ">> ${script}: ${CLIENTS} clientes por ${DURATION}s, ${BATCH} linhas por transação"
+    pgbench -n -M extended -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" -f "$WORK/$script.sql" > "$WORK/$script.out"
+    awk -v batch="$BATCH" '/^tps/ { printf "   linhas/s=%.0f (%s)\n", $3 * batch, $0; exit }' "$WORK/$script.out"
+done
+
+psql -q -c "DROP SCHEMA insert_bench CASCADE"
+rm -rf "$WORK"
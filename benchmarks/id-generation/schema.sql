@@ -0,0 +1,18 @@
+-- Tabelas com o mesmo formato de ai_allocation_recommendations, uma por estratégia de id
+DROP SCHEMA IF EXISTS insert_bench CASCADE;
+CREATE SCHEMA insert_bench;
+
+CREATE TABLE insert_bench.identity_rows (
+    id bigserial PRIMARY KEY,
+    task_id bigint NOT NULL,
+    recommended_user_id bigint NOT NULL,
+    recommendation_score numeric(5, 4),
+    recommendation_reason varchar(255),
+    confidence_level varchar(255),
+    is_implemented boolean,
+    created_at timestamp(6) NOT NULL
+);
+
+CREATE TABLE insert_bench.pooled_rows (LIKE insert_bench.identity_rows INCLUDING ALL);
+ALTER TABLE insert_bench.pooled_rows ALTER COLUMN id DROP DEFAULT;
+CREATE SEQUENCE insert_bench.pooled_rows_seq START WITH 50 INCREMENT BY 50;
@@ -0,0 +1,12 @@
+-- Novo caminho: TaskRepository.fullTextSearch (primeira página, keyset)
+\set w random(1, 8)
+SELECT * FROM (
+    SELECT t.id, t.title, t.status, t.priority, t.project_id,
+           CAST(ts_rank_cd(t.search_vector, q.query) AS double precision) AS rank
+    FROM search_bench.tasks t,
+         (SELECT websearch_to_tsquery('portuguese', (ARRAY['login','deploy','pagamento','report','timeout','webhook','fatura','token'])[:w]) ||
+                 websearch_to_tsquery('english', (ARRAY['login','deploy','pagamento','report','timeout','webhook','fatura','token'])[:w]) AS query) q
+    WHERE t.search_vector @@ q.query
+) hits
+WHERE hits.rank < 1.7976931348623157E308 OR (hits.rank = 1.7976931348623157E308 AND hits.id < 9223372036854775807)
+ORDER BY hits.rank DESC, hits.id DESC LIMIT 20;
@@ -0,0 +1,12 @@
+-- Fallback: TaskRepository.fuzzySearch (substring/aproximado via pg_trgm)
+\set w random(1, 8)
+SET pg_trgm.word_similarity_threshold = 0.5;
+SELECT * FROM (
+    SELECT t.id, t.title, t.status, t.priority, t.project_id,
+           CAST(GREATEST(similarity(t.title, (ARRAY['logn','deplo','pagament','reprt','timeot','webhok','fatra','tokn'])[:w]),
+                         word_similarity((ARRAY['logn','deplo','pagament','reprt','timeot','webhok','fatra','tokn'])[:w], t.title)) AS double precision) AS rank
+    FROM search_bench.tasks t
+    WHERE (ARRAY['logn','deplo','pagament','reprt','timeot','webhok','fatra','tokn'])[:w] <% t.title
+       OR t.title ILIKE '%' || (ARRAY['logn','deplo','pagament','reprt','timeot','webhok','fatra','tokn'])[:w] || '%'
+) hits
+ORDER BY hits.rank DESC, hits.id DESC LIMIT 20;
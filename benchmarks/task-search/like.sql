@@ -0,0 +1,9 @@
+-- Caminho atual: TaskRepository.searchTasks (Page => consulta + contagem)
+\set w random(1, 8)
+SELECT t.* FROM search_bench.tasks t
+WHERE LOWER(t.title) LIKE LOWER('%' || (ARRAY['login','deploy','pagamento','report','timeout','webhook','fatura','token'])[:w] || '%')
+   OR LOWER(t.description) LIKE LOWER('%' || (ARRAY['login','deploy','pagamento','report','timeout','webhook','fatura','token'])[:w] || '%')
+ORDER BY t.id LIMIT 20;
+SELECT COUNT(*) FROM search_bench.tasks t
+WHERE LOWER(t.title) LIKE LOWER('%' || (ARRAY['login','deploy','pagamento','report','timeout','webhook','fatura','token'])[:w] || '%')
+   OR LOWER(t.description) LIKE LOWER('%' || (ARRAY['login','deploy','pagamento','report','timeout','webhook','fatura','token'])[:w] || '%');
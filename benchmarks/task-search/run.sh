@@ -0,0 +1,35 @@
+#!/usr/bin/env bash
+# Compara latência (p50/p99) da busca LIKE com a busca full-text/trigram.
+# Uso: ./run.sh [linhas] [segundos]   (variáveis PG* definem a conexão)
+set -euo pipefail
+
+ROWS="${1:-1000000}"
+DURATION="${2:-60}"
+CLIENTS="${CLIENTS:-8}"
+DIR="$(cd "$(dirname "$0")" && pwd)"
+WORK="$(mktemp -d)"
+export PGHOST="${PGHOST:-localhost}" PGUSER="${PGUSER:-postgres}" PGDATABASE="${PGDATABASE:-proxima_projects}"
+
+echo ">> Criando schema search_bench com ${ROWS} tarefas"
+psql -q -v ON_ERROR_STOP=1 -f "$DIR/schema.sql"
+psql -q -v ON_ERROR_STOP=1 -v rows="$ROWS" -f "$DIR/seed.sql"
+PGOPTIONS="-c search_path=search_bench,public" \
+    psql -q -v ON_ERROR_STOP=1 -f "$DIR/../../src/main/resources/db/task-search.sql"
+psql -q -c "ANALYZE search_bench.tasks"
+
+for script in like fulltext fuzzy; do
+    echo ">> ${script}: ${CLIENTS} clientes por ${DURATION}s"
+    (cd "$WORK" && pgbench -n -c "$CLIENTS" -j "$CLIENTS" -T "$DURATION" -l --log-prefix="$script" \
+        -f "$DIR/$script.sql" > "$WORK/$script.out")
+    grep -E "^tps" "$WORK/$script.out" | head -1
+    # Terceira coluna do log do pgbench = latência da transação em microssegundos
+    cat "$WORK/$script".* | awk '{print $3}' | sort -n | awk '
+        { v[NR] = $1 }
+        END {
+            p50 = v[int(NR * 0.50) > 0 ? int(NR * 0.50) : 1]
+            p99 = v[int(NR * 0.99) > 0 ? int(NR * 0.99) : 1]
+            printf "   transações=%d  p50=%.2fms  p99=%.2fms\n", NR, p50 / 1000, p99 / 1000
+        }'
+done
+
+rm -rf "$WORK"
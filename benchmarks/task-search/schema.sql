@@ -0,0 +1,12 @@
+-- Tabela isolada com as colunas de tasks usadas pela busca
+DROP SCHEMA IF EXISTS search_bench CASCADE;
+CREATE SCHEMA search_bench;
+
+CREATE TABLE search_bench.tasks (
+    id          bigint PRIMARY KEY,
+    project_id  bigint NOT NULL,
+    title       varchar(255) NOT NULL,
+    description varchar(2000),
+    status      varchar(255) NOT NULL,
+    priority    varchar(255) NOT NULL
+);
@@ -0,0 +1,24 @@
+-- Gera :rows tarefas sintéticas com vocabulário misto português/inglês (seed fixa)
+SELECT setseed(0.42);
+
+WITH vocab AS (
+    SELECT ARRAY[
+        'login', 'deploy', 'relatório', 'pagamento', 'integração', 'autenticação', 'dashboard', 'cache',
+        'migração', 'notificação', 'usuário', 'permissão', 'exportação', 'fatura', 'agenda', 'timeline',
+        'search', 'payment', 'invoice', 'report', 'upload', 'database', 'performance', 'timeout',
+        'kanban', 'sprint', 'backlog', 'webhook', 'email', 'sincronização', 'importação', 'auditoria',
+        'refactor', 'bug', 'crash', 'layout', 'mobile', 'api', 'endpoint', 'token'
+    ] AS words
+)
+INSERT INTO search_bench.tasks (id, project_id, title, description, status, priority)
+SELECT g,
+       1 + (g % 2000),
+       initcap(words[1 + floor(random() * 40)::int]) || ' ' || words[1 + floor(random() * 40)::int]
+           || ' ' || words[1 + floor(random() * 40)::int],
+       'Corrigir ' || words[1 + floor(random() * 40)::int] || ' e revisar ' || words[1 + floor(random() * 40)::int]
+           || ' antes do ' || words[1 + floor(random() * 40)::int] || ' (' || md5(g::text) || ')',
+       (ARRAY['TODO', 'IN_PROGRESS', 'IN_REVIEW', 'TESTING', 'DONE', 'CANCELLED'])[1 + floor(random() * 6)::int],
+       (ARRAY['LOW', 'MEDIUM', 'HIGH', 'CRITICAL', 'URGENT'])[1 + floor(random() * 5)::int]
+FROM generate_series(1, :rows) g, vocab;
+
+ANALYZE search_bench.tasks;
@@ -0,0 +1,131 @@
+package com.proximaai.benchmark;
+
+import com.proximaai.service.ai.assignment.AssignmentSolution;
+import com.proximaai.service.ai.assignment.CostMatrix;
+import com.proximaai.service.ai.assignment.HungarianSolver;
+import com.proximaai.service.ai.assignment.MinCostFlowSolver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Atribuição de tarefas a usuários com capacidade: guloso (cada tarefa, na ordem de entrada, vai para o
+ * usuário com vaga de menor custo) contra o fluxo de custo mínimo, do zero e a partir da solução anterior
+ * depois de alterar os custos de algumas tarefas; e o húngaro um-para-um em uma matriz quadrada.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AssignmentBenchmark {
+
+    @Param({"5000"})
+    private int tasks;
+
+    @Param({"500"})
+    private int users;
+
+    // Tarefas com custos alterados entre a solução anterior e a nova
+    @Param({"50"})
+    private int changedTasks;
+
+    private CostMatrix costs;
+    private CostMatrix changedCosts;
+    private int[] capacities;
+    private AssignmentSolution previous;
+    private CostMatrix squareCosts;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        costs = randomCosts(random, tasks, users);
+        capacities = new int[users];
+        for (int u = 0; u < users; u++) {
+            capacities[u] = 8 + random.nextInt(5);
+        }
+        previous = new MinCostFlowSolver().solve(costs, capacities);
+
+        changedCosts = new CostMatrix(tasks, users);
+        for (int t = 0; t < tasks; t++) {
+            for (int u = 0; u < users; u++) {
+                changedCosts.set(t, u, costs.get(t, u));
+            }
+        }
+        for (int i = 0; i < changedTasks; i++) {
+            int t = random.nextInt(tasks);
+            for (int u = 0; u < users; u++) {
+                changedCosts.set(t, u, random.nextDouble());
+            }
+        }
+
+        squareCosts = randomCosts(random, users, users);
+    }
+
+    @Benchmark
+    public int[] greedy() {
+        int[] load = new int[users];
+        int[] assignment = new int[tasks];
+        for (int t = 0; t < tasks; t++) {
+            int best = AssignmentSolution.UNASSIGNED;
+            double bestCost = Double.MAX_VALUE;
+            for (int u = 0; u < users; u++) {
+                if (load[u] < capacities[u] && costs.get(t, u) < bestCost) {
+                    bestCost = costs.get(t, u);
+                    best = u;
+                }
+            }
+            assignment[t] = best;
+            if (best != AssignmentSolution.UNASSIGNED) {
+                load[best]++;
+            }
+        }
+        return assignment;
+    }
+
+    @Benchmark
+    public AssignmentSolution minCostFlow() {
+        return new MinCostFlowSolver().solve(changedCosts, capacities);
+    }
+
+    @Benchmark
+    public AssignmentSolution minCostFlowWarmStart() {
+        return new MinCostFlowSolver().solve(changedCosts, capacities, previous);
+    }
+
+    @Benchmark
+    public AssignmentSolution hungarian() {
+        return new HungarianSolver().solve(squareCosts);
+    }
+
+    /**
+     * Custos com estrutura: afinidade da tarefa com o usuário mais ruído, e alguns pares proibidos
+     */
+    private static CostMatrix randomCosts(SplittableRandom random, int rows, int columns) {
+        double[] seniority = new double[columns];
+        Arrays.setAll(seniority, u -> random.nextDouble());
+        CostMatrix matrix = new CostMatrix(rows, columns);
+        for (int r = 0; r < rows; r++) {
+            double difficulty = random.nextDouble();
+            for (int c = 0; c < columns; c++) {
+                matrix.set(r, c, random.nextInt(50) == 0
+                        ? CostMatrix.FORBIDDEN
+                        : Math.abs(difficulty - seniority[c]) + 0.2 * random.nextDouble());
+            }
+        }
+        return matrix;
+    }
+}
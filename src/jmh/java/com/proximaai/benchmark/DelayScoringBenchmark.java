@@ -0,0 +1,83 @@
+package com.proximaai.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proximaai.config.AIConfig;
+import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.ai.DelayPredictionRepository;
+import com.proximaai.repository.ai.DelayRegressionModelRepository;
+import com.proximaai.service.ai.DelayPredictionService;
+import com.proximaai.service.ai.DelayRegressionService;
+import com.proximaai.service.ai.delay.DelayFeatureVector;
+import com.proximaai.service.ai.delay.DelayScoringFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão da predição de atraso em tarefas por segundo: cada operação é uma tarefa, então o
+ * gc.alloc.rate.norm do -prof gc é a alocação por predição.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DelayScoringBenchmark {
+
+    private static final int TASKS = 10_000;
+
+    private List<Task> taskList;
+    private DelayPredictionService delayPredictionService;
+
+    @Setup
+    public void setUp() {
+        taskList = SyntheticData.tasks(TASKS, 100);
+
+        DelayRegressionService delayRegressionService = new DelayRegressionService();
+        ReflectionTestUtils.setField(delayRegressionService, "delayRegressionModelRepository", SyntheticData.repository(DelayRegressionModelRepository.class));
+        ReflectionTestUtils.setField(delayRegressionService, "aiConfig", new AIConfig());
+
+        delayPredictionService = new DelayPredictionService();
+        ReflectionTestUtils.setField(delayPredictionService, "delayPredictionRepository", SyntheticData.repository(DelayPredictionRepository.class));
+        ReflectionTestUtils.setField(delayPredictionService, "delayRegressionService", delayRegressionService);
+        ReflectionTestUtils.setField(delayPredictionService, "objectMapper", new ObjectMapper());
+    }
+
+    /**
+     * Só o núcleo de cálculo: extração das features em double e regressão ponderada
+     */
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void scoring(Blackhole blackhole) {
+        for (Task task : taskList) {
+            DelayFeatureVector features = DelayFeatureVector.of(task);
+            blackhole.consume(DelayScoringFunction.WEIGHTED.predictDelayDays(features));
+            blackhole.consume(features.confidenceScore());
+        }
+    }
+
+    /**
+     * Predição completa: features, atraso, confiança, entidade e JSON das features
+     */
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void prediction(Blackhole blackhole) {
+        for (Task task : taskList) {
+            blackhole.consume(delayPredictionService.predictDelayForTask(task));
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.proximaai.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compara dois resultados JSON do JMH (-rf json) casando benchmark e parâmetros. Imprime a variação do score
+ * e da alocação por operação (gc.alloc.rate.norm, de -prof gc) e termina com código 1 se algum benchmark piorou além do limite
+ * percentual. Uso: JmhResultComparison baseline.json candidate.json [limite%]
+ */
+public final class JmhResultComparison {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private JmhResultComparison() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Uso: JmhResultComparison <baseline.json> <candidate.json> [limite%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+
+        Map<String, JsonNode> baseline = read(new File(args[0]));
+        Map<String, JsonNode> candidate = read(new File(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-80s %14s %14s %9s %12s%n", "Benchmark", "Baseline", "Candidate", "Score", "Alloc B/op");
+        for (Map.Entry<String, JsonNode> entry : candidate.entrySet()) {
+            JsonNode previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.printf("%-80s %14s %14.3f %9s %12s%n", entry.getKey(), "-", score(entry.getValue()), "novo", "-");
+                continue;
+            }
+            JsonNode current = entry.getValue();
+            double scoreChange = percentChange(score(previous), score(current));
+            // Em modos de tempo (avgt, ss, sample) menor é melhor; em throughput, maior é melhor
+            double slowdown = "thrpt".equals(current.path("mode").asText()) ? -scoreChange : scoreChange;
+            boolean regressed = slowdown > threshold;
+            if (regressed) {
+                regressions++;
+            }
+
+            System.out.printf("%-80s %14.3f %14.3f %+8.1f%% %12s%s%n",
+                    entry.getKey(), score(previous), score(current), scoreChange,
+                    allocationChange(previous, current), regressed ? "  PIOROU" : "");
+        }
+        for (String key : baseline.keySet()) {
+            if (!candidate.containsKey(key)) {
+                System.out.printf("%-80s %14.3f %14s %9s %12s%n", key, score(baseline.get(key)), "-", "removido", "-");
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) piorou(aram) mais de %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Indexa os resultados por nome curto do benchmark mais parâmetros, em ordem estável
+     */
+    private static Map<String, JsonNode> read(File file) throws IOException {
+        Map<String, JsonNode> results = new TreeMap<>();
+        for (JsonNode result : new ObjectMapper().readTree(file)) {
+            String benchmark = result.path("benchmark").asText();
+            StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+            Map<String, String> params = new LinkedHashMap<>();
+            result.path("params").fields().forEachRemaining(param -> params.put(param.getKey(), param.getValue().asText()));
+            if (!params.isEmpty()) {
+                key.append(params);
+            }
+            results.put(key.toString(), result);
+        }
+        return results;
+    }
+
+    private static double score(JsonNode result) {
+        return result.path("primaryMetric").path("score").asDouble();
+    }
+
+    private static String allocationChange(JsonNode previous, JsonNode current) {
+        JsonNode before = previous.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score");
+        JsonNode after = current.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score");
+        if (before.isMissingNode() || after.isMissingNode()) {
+            return "-";
+        }
+        return String.format("%+.1f%%", percentChange(before.asDouble(), after.asDouble()));
+    }
+
+    private static double percentChange(double before, double after) {
+        return before == 0.0 ? 0.0 : (after - before) / before * 100.0;
+    }
+}
@@ -0,0 +1,82 @@
+package com.proximaai.benchmark;
+
+import com.proximaai.service.ai.clustering.FeatureScaling;
+import com.proximaai.service.ai.clustering.KMeansEngine;
+import com.proximaai.service.ai.clustering.KMeansResult;
+import com.proximaai.service.ai.clustering.MiniBatchKMeans;
+import com.proximaai.service.ai.clustering.TaskFeatureVectors;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * K-means sobre vetores de features de tarefas já normalizados: agrupamento completo (k-means++ e
+ * iterações até convergir) e uma passada de mini-batch sobre todos os pontos a partir dos centróides finais.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class KMeansBenchmark {
+
+    private static final int K = 8;
+    private static final int MAX_ITERATIONS = 100;
+    private static final double TOLERANCE = 0.001;
+    private static final int MINI_BATCH_SIZE = 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    private int points;
+
+    private double[] data;
+    private double[] centroids;
+    private long[] counts;
+    private ForkJoinPool pool;
+    private KMeansEngine engine;
+
+    @Setup
+    public void setUp() {
+        int dimensions = TaskFeatureVectors.DIMENSIONS;
+        data = SyntheticData.taskFeaturePoints(points);
+        FeatureScaling.fit(data, dimensions).apply(data);
+
+        pool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        engine = new KMeansEngine(pool);
+
+        KMeansResult result = engine.cluster(data, dimensions, K, MAX_ITERATIONS, TOLERANCE, SyntheticData.SEED);
+        centroids = result.getCentroids();
+        counts = new long[K];
+        for (int i = 0; i < points; i++) {
+            counts[result.getAssignment(i)]++;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public KMeansResult cluster() {
+        return engine.cluster(data, TaskFeatureVectors.DIMENSIONS, K, MAX_ITERATIONS, TOLERANCE, SyntheticData.SEED);
+    }
+
+    @Benchmark
+    public MiniBatchKMeans.Update miniBatchUpdate() {
+        // Cópias: a atualização altera centróides e contagens, e cada operação deve partir do mesmo estado
+        return MiniBatchKMeans.update(centroids.clone(), counts.clone(), data, TaskFeatureVectors.DIMENSIONS, MINI_BATCH_SIZE);
+    }
+}
@@ -0,0 +1,67 @@
+package com.proximaai.benchmark;
+
+import com.proximaai.service.ai.MLAlgorithmService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Alocação por horas (optimizeResourceAllocation, best-fit decreasing) de tarefas entre usuários cuja
+ * capacidade total cobre cerca de 90% das horas estimadas.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class ResourceAllocationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int tasks;
+
+    @Param({"500"})
+    private int users;
+
+    private List<Double> complexities;
+    private List<Double> capacities;
+    private MLAlgorithmService mlAlgorithmService;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(SyntheticData.SEED);
+        complexities = new ArrayList<>(tasks);
+        double totalHours = 0.0;
+        for (int t = 0; t < tasks; t++) {
+            double hours = 1 + random.nextInt(40);
+            complexities.add(hours);
+            totalHours += hours;
+        }
+
+        capacities = new ArrayList<>(users);
+        double averageCapacity = totalHours * 0.9 / users;
+        for (int u = 0; u < users; u++) {
+            capacities.add(averageCapacity * (0.5 + random.nextDouble()));
+        }
+
+        mlAlgorithmService = new MLAlgorithmService();
+    }
+
+    @Benchmark
+    public List<Integer> optimizeResourceAllocation() {
+        return mlAlgorithmService.optimizeResourceAllocation(complexities, capacities);
+    }
+}
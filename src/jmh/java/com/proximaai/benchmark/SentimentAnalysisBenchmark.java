@@ -0,0 +1,147 @@
+package com.proximaai.benchmark;
+
+import com.proximaai.config.AIConfig;
+import com.proximaai.service.ai.MLAlgorithmService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Análise de sentimento de um lote de comentários: implementação anterior (HashMaps montados a cada chamada,
+ * split por regex e replaceAll por palavra) contra o léxico compilado, texto a texto e em lote paralelo.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SentimentAnalysisBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int comments;
+
+    private List<String> texts;
+    private MLAlgorithmService mlAlgorithmService;
+    private ThreadPoolTaskExecutor executor;
+
+    @Setup
+    public void setUp() {
+        texts = SyntheticData.comments(comments);
+
+        AIConfig config = new AIConfig();
+        executor = (ThreadPoolTaskExecutor) config.aiTaskExecutor();
+        mlAlgorithmService = new MLAlgorithmService();
+        ReflectionTestUtils.setField(mlAlgorithmService, "sentimentLexicons", config.sentimentLexicons());
+        ReflectionTestUtils.setField(mlAlgorithmService, "aiTaskExecutor", executor);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdown();
+    }
+
+    @Benchmark
+    public void legacyAnalyzeSentiment(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(legacyAnalyzeSentiment(text));
+        }
+    }
+
+    @Benchmark
+    public void analyzeSentiment(Blackhole blackhole) {
+        for (String text : texts) {
+            blackhole.consume(mlAlgorithmService.analyzeSentiment(text));
+        }
+    }
+
+    @Benchmark
+    public List<BigDecimal> analyzeSentimentBatch() {
+        return mlAlgorithmService.analyzeSentimentBatch(texts);
+    }
+
+    // Implementação anterior de MLAlgorithmService.analyzeSentiment, mantida como referência
+    private static BigDecimal legacyAnalyzeSentiment(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+
+        // Palavras-chave positivas e negativas (simplificado)
+        Map<String, Integer> positiveWords = new HashMap<>();
+        positiveWords.put("excellent", 2);
+        positiveWords.put("great", 2);
+        positiveWords.put("good", 1);
+        positiveWords.put("amazing", 2);
+        positiveWords.put("wonderful", 2);
+        positiveWords.put("perfect", 2);
+        positiveWords.put("fantastic", 2);
+        positiveWords.put("outstanding", 2);
+        positiveWords.put("superb", 2);
+        positiveWords.put("brilliant", 2);
+        positiveWords.put("success", 1);
+        positiveWords.put("complete", 1);
+        positiveWords.put("done", 1);
+        positiveWords.put("finished", 1);
+        positiveWords.put("achieved", 1);
+
+        Map<String, Integer> negativeWords = new HashMap<>();
+        negativeWords.put("terrible", -2);
+        negativeWords.put("awful", -2);
+        negativeWords.put("bad", -1);
+        negativeWords.put("horrible", -2);
+        negativeWords.put("disappointing", -2);
+        negativeWords.put("failed", -2);
+        negativeWords.put("broken", -1);
+        negativeWords.put("error", -1);
+        negativeWords.put("problem", -1);
+        negativeWords.put("issue", -1);
+        negativeWords.put("delay", -1);
+        negativeWords.put("late", -1);
+        negativeWords.put("overdue", -2);
+        negativeWords.put("stuck", -1);
+        negativeWords.put("blocked", -1);
+
+        String[] words = text.toLowerCase().split("\\s+");
+        int sentimentScore = 0;
+        int wordCount = 0;
+
+        for (String word : words) {
+            word = word.replaceAll("[^a-zA-Z]", "");
+            if (positiveWords.containsKey(word)) {
+                sentimentScore += positiveWords.get(word);
+                wordCount++;
+            } else if (negativeWords.containsKey(word)) {
+                sentimentScore += negativeWords.get(word);
+                wordCount++;
+            }
+        }
+
+        if (wordCount == 0) {
+            return BigDecimal.ZERO;
+        }
+
+        // Normaliza o score entre -1 e 1
+        double normalizedScore = (double) sentimentScore / (wordCount * 2);
+        return BigDecimal.valueOf(Math.max(-1.0, Math.min(1.0, normalizedScore)))
+                .setScale(4, RoundingMode.HALF_UP);
+    }
+}
@@ -0,0 +1,179 @@
+package com.proximaai.benchmark;
+
+import com.proximaai.domain.entity.Project;
+import com.proximaai.domain.entity.Task;
+import com.proximaai.domain.entity.TaskDependency;
+import com.proximaai.domain.entity.User;
+import com.proximaai.repository.projection.TaskFeatureRow;
+import com.proximaai.service.ai.clustering.TaskFeatureVectors;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.SplittableRandom;
+
+/**
+ * Dados sintéticos dos benchmarks. Cada gerador parte da mesma semente, de modo que o mesmo tamanho
+ * produz os mesmos dados em qualquer commit e os resultados podem ser comparados entre execuções.
+ * Tamanhos usuais nos @Param: {@link #SMALL}, {@link #MEDIUM} e {@link #LARGE}.
+ */
+public final class SyntheticData {
+
+    public static final long SEED = 42L;
+
+    public static final int SMALL = 1_000;
+    public static final int MEDIUM = 100_000;
+    public static final int LARGE = 1_000_000;
+
+    // Data fixa: prazos e idades das tarefas não mudam com o dia da execução
+    public static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+    private static final String[] VOCABULARY = {
+        "a", "tarefa", "foi", "concluída", "mas", "o", "deploy", "está", "travado", "por", "causa", "de", "um",
+        "erro", "ótimo", "trabalho", "equipe", "the", "build", "is", "broken", "again", "great", "job", "on",
+        "review", "atrasada", "sprint", "bloqueado", "aguardando", "cliente", "done", "finished", "excelente",
+        "issue", "péssimo", "ambiente", "de", "homologação", "código", "revisão", "problema", "resolvido"
+    };
+
+    private SyntheticData() {}
+
+    /**
+     * Comentários de 5 a 44 palavras misturando português e inglês, com maiúsculas e vírgulas
+     */
+    public static List<String> comments(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        List<String> texts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            StringBuilder text = new StringBuilder();
+            int words = 5 + random.nextInt(40);
+            for (int w = 0; w < words; w++) {
+                String word = VOCABULARY[random.nextInt(VOCABULARY.length)];
+                text.append(random.nextInt(10) == 0 ? word.toUpperCase() : word);
+                text.append(random.nextInt(8) == 0 ? ", " : " ");
+            }
+            texts.add(text.append('.').toString());
+        }
+        return texts;
+    }
+
+    /**
+     * Tarefas distribuídas entre {@code projects} projetos, com tipo, prioridade, status, estimativas,
+     * prazo e (em 20% delas) uma dependência
+     */
+    public static List<Task> tasks(int count, int projects) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        User reporter = new User("reporter", "reporter@proxima.ai", "secret", "Reporter", "Synthetic");
+        reporter.setId(1L);
+        List<Project> projectList = new ArrayList<>(projects);
+        for (int p = 0; p < projects; p++) {
+            Project project = new Project();
+            project.setId((long) p + 1);
+            project.setName("Projeto " + p);
+            project.setPriority(pick(random, Project.ProjectPriority.values()));
+            projectList.add(project);
+        }
+
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Task task = new Task("Tarefa " + i, null, projectList.get(random.nextInt(projects)), reporter);
+            task.setId((long) i + 1);
+            task.setType(pick(random, Task.TaskType.values()));
+            task.setPriority(pick(random, Task.TaskPriority.values()));
+            task.setStatus(pick(random, Task.TaskStatus.values()));
+            task.setStoryPoints(random.nextInt(4) == 0 ? null : 1 + random.nextInt(13));
+            task.setEstimatedHours(random.nextInt(5) == 0 ? null : 1 + random.nextInt(60));
+            task.setActualHours(task.getEstimatedHours() != null && random.nextBoolean()
+                    ? (int) Math.round(task.getEstimatedHours() * (0.5 + random.nextDouble())) : null);
+            task.setDueDate(random.nextInt(3) == 0 ? null : TODAY.plusDays(random.nextInt(120) - 30));
+            task.setCreatedAt(TODAY.minusDays(random.nextInt(180)).atStartOfDay());
+            if (random.nextInt(5) == 0 && i > 0) {
+                task.getDependencies().add(new TaskDependency(task, tasks.get(random.nextInt(i))));
+            }
+            tasks.add(task);
+        }
+        return tasks;
+    }
+
+    /**
+     * Vetores de features de tarefas (TaskFeatureVectors) em um único array, linha a linha
+     */
+    public static double[] taskFeaturePoints(int count) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[] points = new double[count * TaskFeatureVectors.DIMENSIONS];
+        for (int i = 0; i < count; i++) {
+            Integer estimatedHours = random.nextInt(5) == 0 ? null : 1 + random.nextInt(60);
+            TaskFeatureRow row = new TaskFeatureRow((long) i + 1,
+                    pick(random, Task.TaskType.values()),
+                    pick(random, Task.TaskPriority.values()),
+                    pick(random, Task.TaskStatus.values()),
+                    random.nextInt(4) == 0 ? null : 1 + random.nextInt(13),
+                    estimatedHours,
+                    estimatedHours != null && random.nextBoolean() ? (int) Math.round(estimatedHours * (0.5 + random.nextDouble())) : null,
+                    random.nextInt(3) == 0 ? null : TODAY.plusDays(random.nextInt(120) - 30),
+                    TODAY.minusDays(random.nextInt(180)).atStartOfDay());
+            TaskFeatureVectors.write(row, TODAY, points, i * TaskFeatureVectors.DIMENSIONS);
+        }
+        return points;
+    }
+
+    /**
+     * Perfis de usuários com 1/4 das dimensões zeradas e nenhum perfil vazio
+     */
+    public static double[][] userProfiles(int count, int dimensions) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        double[][] profiles = new double[count][dimensions];
+        for (double[] profile : profiles) {
+            for (int d = 0; d < dimensions; d++) {
+                profile[d] = random.nextInt(4) == 0 ? 0.0 : random.nextInt(50);
+            }
+            profile[0] += 1;
+        }
+        return profiles;
+    }
+
+    /**
+     * Vetores de requisitos esparsos (2/3 das dimensões zeradas), nenhum vazio
+     */
+    public static double[][] requirementVectors(int count, int dimensions) {
+        SplittableRandom random = new SplittableRandom(SEED + 1);
+        double[][] vectors = new double[count][dimensions];
+        for (double[] vector : vectors) {
+            for (int d = 0; d < dimensions; d++) {
+                vector[d] = random.nextInt(3) == 0 ? random.nextDouble() : 0.0;
+            }
+            vector[dimensions - 1] += 0.1;
+        }
+        return vectors;
+    }
+
+    /**
+     * Repositório sem banco: save devolve o argumento, buscas não encontram nada
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> T repository(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            if (method.getName().equals("save")) {
+                return args[0];
+            }
+            if (method.getReturnType() == Optional.class) {
+                return Optional.empty();
+            }
+            if (method.getName().equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            if (method.getName().equals("equals")) {
+                return proxy == args[0];
+            }
+            if (method.getName().equals("toString")) {
+                return type.getSimpleName();
+            }
+            return null;
+        });
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,79 @@
+package com.proximaai.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proximaai.config.AIConfig;
+import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.ai.DelayPredictionRepository;
+import com.proximaai.repository.ai.DelayRegressionModelRepository;
+import com.proximaai.service.ai.AIServiceImpl;
+import com.proximaai.service.ai.DelayPredictionService;
+import com.proximaai.service.ai.DelayRegressionService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pontuação por tarefa: prioridade do AIServiceImpl e predição de atraso completa do DelayPredictionService
+ * (features, fórmula ponderada, confiança e montagem da entidade). Os repositórios são substituídos por
+ * proxies sem banco: save devolve a própria entidade e nenhum projeto tem modelo de regressão aprendido.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class TaskScoringBenchmark {
+
+    private static final int PROJECTS = 100;
+
+    @Param({"1000", "100000", "1000000"})
+    private int tasks;
+
+    private List<Task> taskList;
+    private AIServiceImpl aiService;
+    private DelayPredictionService delayPredictionService;
+
+    @Setup
+    public void setUp() {
+        taskList = SyntheticData.tasks(tasks, PROJECTS);
+
+        aiService = new AIServiceImpl();
+
+        DelayRegressionService delayRegressionService = new DelayRegressionService();
+        ReflectionTestUtils.setField(delayRegressionService, "delayRegressionModelRepository", SyntheticData.repository(DelayRegressionModelRepository.class));
+        ReflectionTestUtils.setField(delayRegressionService, "aiConfig", new AIConfig());
+
+        delayPredictionService = new DelayPredictionService();
+        ReflectionTestUtils.setField(delayPredictionService, "delayPredictionRepository", SyntheticData.repository(DelayPredictionRepository.class));
+        ReflectionTestUtils.setField(delayPredictionService, "delayRegressionService", delayRegressionService);
+        ReflectionTestUtils.setField(delayPredictionService, "objectMapper", new ObjectMapper());
+    }
+
+    @Benchmark
+    public void priorityScore(Blackhole blackhole) {
+        for (Task task : taskList) {
+            blackhole.consume(aiService.calculateTaskPriorityScore(task));
+        }
+    }
+
+    @Benchmark
+    public void delayPrediction(Blackhole blackhole) {
+        for (Task task : taskList) {
+            blackhole.consume(delayPredictionService.predictDelayForTask(task));
+        }
+    }
+}
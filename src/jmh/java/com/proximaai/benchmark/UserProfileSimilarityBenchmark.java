@@ -0,0 +1,120 @@
+package com.proximaai.benchmark;
+
+import com.proximaai.service.ai.MLAlgorithmService;
+import com.proximaai.service.ai.similarity.DotProductKernel;
+import com.proximaai.service.ai.similarity.DotProductKernels;
+import com.proximaai.service.ai.similarity.TaskRequirementVectors;
+import com.proximaai.service.ai.similarity.UserProfileMatrix;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Top-K de usuários para um lote de tarefas: similaridade par a par com listas boxed e BigDecimal
+ * (calculateSimilarityScore para cada usuário) contra a UserProfileMatrix com kernel escalar e SIMD.
+ * Com 1M de usuários o par a par leva cerca de um minuto por operação: -p users=1000000 quando necessário.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+public class UserProfileSimilarityBenchmark {
+
+    private static final int TOP_K = 5;
+
+    @Param({"1000", "100000"})
+    private int users;
+
+    @Param({"50"})
+    private int tasks;
+
+    private List<List<Double>> userProfiles;
+    private List<List<Double>> taskVectors;
+    private List<double[]> taskArrays;
+    private UserProfileMatrix scalarMatrix;
+    private UserProfileMatrix simdMatrix;
+    private MLAlgorithmService mlAlgorithmService;
+
+    @Setup
+    public void setUp() {
+        int dimensions = TaskRequirementVectors.DIMENSIONS;
+
+        DotProductKernel simdKernel = DotProductKernels.select(true);
+        if (simdKernel == DotProductKernel.SCALAR) {
+            throw new IllegalStateException("Kernel SIMD indisponível: rode com -Pjmh,vector");
+        }
+        scalarMatrix = new UserProfileMatrix(dimensions, DotProductKernel.SCALAR);
+        simdMatrix = new UserProfileMatrix(dimensions, simdKernel);
+
+        userProfiles = new ArrayList<>(users);
+        double[][] profiles = SyntheticData.userProfiles(users, dimensions);
+        for (int u = 0; u < users; u++) {
+            double[] profile = profiles[u];
+            scalarMatrix.put(u, profile);
+            simdMatrix.put(u, profile);
+            userProfiles.add(boxed(profile));
+        }
+
+        taskVectors = new ArrayList<>(tasks);
+        taskArrays = new ArrayList<>(tasks);
+        for (double[] vector : SyntheticData.requirementVectors(tasks, dimensions)) {
+            taskArrays.add(vector);
+            taskVectors.add(boxed(vector));
+        }
+
+        mlAlgorithmService = new MLAlgorithmService();
+    }
+
+    @Benchmark
+    public List<List<Long>> pairwiseBigDecimal() {
+        List<List<Long>> result = new ArrayList<>(tasks);
+        for (List<Double> task : taskVectors) {
+            List<long[]> scored = new ArrayList<>(users);
+            List<BigDecimal> scores = new ArrayList<>(users);
+            for (int u = 0; u < users; u++) {
+                scores.add(mlAlgorithmService.calculateSimilarityScore(userProfiles.get(u), task));
+                scored.add(new long[] {u});
+            }
+            result.add(scored.stream()
+                    .sorted(Comparator.comparing((long[] entry) -> scores.get((int) entry[0])).reversed())
+                    .limit(TOP_K)
+                    .map(entry -> entry[0])
+                    .toList());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<List<UserProfileMatrix.Match>> matrixScalar() {
+        return scalarMatrix.topK(taskArrays, TOP_K);
+    }
+
+    @Benchmark
+    public List<List<UserProfileMatrix.Match>> matrixSimd() {
+        return simdMatrix.topK(taskArrays, TOP_K);
+    }
+
+    private static List<Double> boxed(double[] values) {
+        List<Double> list = new ArrayList<>(values.length);
+        for (double value : values) {
+            list.add(value);
+        }
+        return list;
+    }
+}
@@ -1,13 +1,21 @@
 package com.proximaai.config;
 
+import com.proximaai.service.ai.clustering.KMeansEngine;
+import com.proximaai.service.ai.nlp.NlpModels;
+import com.proximaai.service.ai.sentiment.SentimentLexicons;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 
 @Configuration
 @EnableAsync
@@ -38,6 +46,43 @@ public class AIConfig {
     private int maxPoolSize = 20;
     private int queueCapacity = 100;
 
+    // Clustering Configuration
+    private int clusteringParallelism = Runtime.getRuntime().availableProcessors();
+
+    // Sentiment Configuration (léxicos em sentiment/lexicon-{língua}.txt)
+    private List<String> sentimentLanguages = List.of("pt-BR", "en");
+
+    // NLP Configuration (modelos OpenNLP em classpath: ou file:; sem modelo, usa os fallbacks)
+    private String nlpLanguage = "pt-BR";
+    private String nlpSentenceModel;
+    private String nlpTokenizerModel;
+    private String nlpPosModel;
+    private String nlpLemmaDictionary;
+
+    // Anomaly Detection Configuration (acumuladores online; decay = 1 sem decaimento)
+    private double anomalyDecay = 1.0;
+    private double anomalyZScoreThreshold = 2.0;
+    private int anomalyMinSamples = 3;
+
+    // Delay Regression Configuration (modelo por projeto; decay aplicado a cada compactação noturna)
+    private double delayRegressionDecay = 0.995;
+    private double delayRegressionRidge = 0.1;
+    private int delayRegressionMinSamples = 10;
+
+    // Similarity Configuration (kernel SIMD exige build com -Pvector e --add-modules jdk.incubator.vector; sem eles, escalar)
+    private boolean similaritySimdEnabled = true;
+
+    // Time Series Configuration (últimas observações por série; suavização dos modelos EWMA e Holt)
+    private int timeSeriesCapacity = 90;
+    private double timeSeriesEwmaAlpha = 0.3;
+    private double timeSeriesHoltAlpha = 0.5;
+    private double timeSeriesHoltBeta = 0.3;
+    private double sentimentTrendThreshold = 0.02;
+
+    // Delay Reprediction Configuration (tarefas alteradas repreditas por lote a cada execução do job)
+    private int delayRepredictionBatchSize = 500;
+    private int delayRepredictionMaxAttempts = 3;
+
     @Bean(name = "aiTaskExecutor")
     public Executor aiTaskExecutor() {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
@@ -51,6 +96,36 @@ public class AIConfig {
         return executor;
     }
 
+    /**
+     * Pool ForkJoin próprio do k-means, para não disputar o pool comum com parallel streams
+     */
+    @Bean(name = "clusteringPool", destroyMethod = "shutdown")
+    public ForkJoinPool clusteringPool() {
+        return new ForkJoinPool(clusteringParallelism);
+    }
+
+    @Bean
+    public KMeansEngine kMeansEngine(@Qualifier("clusteringPool") ForkJoinPool clusteringPool) {
+        return new KMeansEngine(clusteringPool);
+    }
+
+    /**
+     * Léxicos de sentimento compilados uma única vez, um por língua configurada
+     */
+    @Bean
+    public SentimentLexicons sentimentLexicons() {
+        return SentimentLexicons.load(sentimentLanguages);
+    }
+
+    /**
+     * Modelos OpenNLP compartilhados, carregados no primeiro uso
+     */
+    @Bean
+    public NlpModels nlpModels(ResourceLoader resourceLoader) {
+        return new NlpModels(resourceLoader, Locale.forLanguageTag(nlpLanguage), nlpSentenceModel,
+                nlpTokenizerModel, nlpPosModel, nlpLemmaDictionary);
+    }
+
     // Getters and Setters
     public String getOpenaiApiKey() {
         return openaiApiKey;
@@ -179,4 +254,172 @@ public class AIConfig {
     public void setQueueCapacity(int queueCapacity) {
         this.queueCapacity = queueCapacity;
     }
+
+    public int getClusteringParallelism() {
+        return clusteringParallelism;
+    }
+
+    public void setClusteringParallelism(int clusteringParallelism) {
+        this.clusteringParallelism = clusteringParallelism;
+    }
+
+    public List<String> getSentimentLanguages() {
+        return sentimentLanguages;
+    }
+
+    public void setSentimentLanguages(List<String> sentimentLanguages) {
+        this.sentimentLanguages = sentimentLanguages;
+    }
+
+    public String getNlpLanguage() {
+        return nlpLanguage;
+    }
+
+    public void setNlpLanguage(String nlpLanguage) {
+        this.nlpLanguage = nlpLanguage;
+    }
+
+    public String getNlpSentenceModel() {
+        return nlpSentenceModel;
+    }
+
+    public void setNlpSentenceModel(String nlpSentenceModel) {
+        this.nlpSentenceModel = nlpSentenceModel;
+    }
+
+    public String getNlpTokenizerModel() {
+        return nlpTokenizerModel;
+    }
+
+    public void setNlpTokenizerModel(String nlpTokenizerModel) {
+        this.nlpTokenizerModel = nlpTokenizerModel;
+    }
+
+    public String getNlpPosModel() {
+        return nlpPosModel;
+    }
+
+    public void setNlpPosModel(String nlpPosModel) {
+        this.nlpPosModel = nlpPosModel;
+    }
+
+    public String getNlpLemmaDictionary() {
+        return nlpLemmaDictionary;
+    }
+
+    public void setNlpLemmaDictionary(String nlpLemmaDictionary) {
+        this.nlpLemmaDictionary = nlpLemmaDictionary;
+    }
+
+    public double getAnomalyDecay() {
+        return anomalyDecay;
+    }
+
+    public void setAnomalyDecay(double anomalyDecay) {
+        this.anomalyDecay = anomalyDecay;
+    }
+
+    public double getAnomalyZScoreThreshold() {
+        return anomalyZScoreThreshold;
+    }
+
+    public void setAnomalyZScoreThreshold(double anomalyZScoreThreshold) {
+        this.anomalyZScoreThreshold = anomalyZScoreThreshold;
+    }
+
+    public int getAnomalyMinSamples() {
+        return anomalyMinSamples;
+    }
+
+    public void setAnomalyMinSamples(int anomalyMinSamples) {
+        this.anomalyMinSamples = anomalyMinSamples;
+    }
+
+    public double getDelayRegressionDecay() {
+        return delayRegressionDecay;
+    }
+
+    public void setDelayRegressionDecay(double delayRegressionDecay) {
+        this.delayRegressionDecay = delayRegressionDecay;
+    }
+
+    public double getDelayRegressionRidge() {
+        return delayRegressionRidge;
+    }
+
+    public void setDelayRegressionRidge(double delayRegressionRidge) {
+        this.delayRegressionRidge = delayRegressionRidge;
+    }
+
+    public int getDelayRegressionMinSamples() {
+        return delayRegressionMinSamples;
+    }
+
+    public void setDelayRegressionMinSamples(int delayRegressionMinSamples) {
+        this.delayRegressionMinSamples = delayRegressionMinSamples;
+    }
+
+    public boolean isSimilaritySimdEnabled() {
+        return similaritySimdEnabled;
+    }
+
+    public void setSimilaritySimdEnabled(boolean similaritySimdEnabled) {
+        this.similaritySimdEnabled = similaritySimdEnabled;
+    }
+
+    public int getTimeSeriesCapacity() {
+        return timeSeriesCapacity;
+    }
+
+    public void setTimeSeriesCapacity(int timeSeriesCapacity) {
+        this.timeSeriesCapacity = timeSeriesCapacity;
+    }
+
+    public double getTimeSeriesEwmaAlpha() {
+        return timeSeriesEwmaAlpha;
+    }
+
+    public void setTimeSeriesEwmaAlpha(double timeSeriesEwmaAlpha) {
+        this.timeSeriesEwmaAlpha = timeSeriesEwmaAlpha;
+    }
+
+    public double getTimeSeriesHoltAlpha() {
+        return timeSeriesHoltAlpha;
+    }
+
+    public void setTimeSeriesHoltAlpha(double timeSeriesHoltAlpha) {
+        this.timeSeriesHoltAlpha = timeSeriesHoltAlpha;
+    }
+
+    public double getTimeSeriesHoltBeta() {
+        return timeSeriesHoltBeta;
+    }
+
+    public void setTimeSeriesHoltBeta(double timeSeriesHoltBeta) {
+        this.timeSeriesHoltBeta = timeSeriesHoltBeta;
+    }
+
+    public double getSentimentTrendThreshold() {
+        return sentimentTrendThreshold;
+    }
+
+    public void setSentimentTrendThreshold(double sentimentTrendThreshold) {
+        this.sentimentTrendThreshold = sentimentTrendThreshold;
+    }
+
+    public int getDelayRepredictionBatchSize() {
+        return delayRepredictionBatchSize;
+    }
+
+    public void setDelayRepredictionBatchSize(int delayRepredictionBatchSize) {
+        this.delayRepredictionBatchSize = delayRepredictionBatchSize;
+    }
+
+    public int getDelayRepredictionMaxAttempts() {
+        return delayRepredictionMaxAttempts;
+    }
+
+    public void setDelayRepredictionMaxAttempts(int delayRepredictionMaxAttempts) {
+        this.delayRepredictionMaxAttempts = delayRepredictionMaxAttempts;
+    }
 }
@@ -0,0 +1,60 @@
+package com.proximaai.config;
+
+import com.proximaai.service.cache.ClusterCacheInvalidator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.UUID;
+
+@Configuration
+@ConfigurationProperties(prefix = "proxima.cache")
+public class CacheConfig {
+
+    // Propaga as alterações das entidades em cache para os outros nós
+    private boolean invalidationEnabled = false;
+
+    private String invalidationChannel = "proxima:l2-invalidation";
+
+    // Identifica este nó para ignorar as próprias mensagens
+    private String nodeId = UUID.randomUUID().toString();
+
+    @Bean
+    @ConditionalOnProperty(name = "proxima.cache.invalidation-enabled", havingValue = "true")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            ClusterCacheInvalidator invalidator) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidator, new ChannelTopic(invalidationChannel));
+        return container;
+    }
+
+    // Getters and Setters
+    public boolean isInvalidationEnabled() {
+        return invalidationEnabled;
+    }
+
+    public void setInvalidationEnabled(boolean invalidationEnabled) {
+        this.invalidationEnabled = invalidationEnabled;
+    }
+
+    public String getInvalidationChannel() {
+        return invalidationChannel;
+    }
+
+    public void setInvalidationChannel(String invalidationChannel) {
+        this.invalidationChannel = invalidationChannel;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+}
@@ -0,0 +1,122 @@
+package com.proximaai.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Envia transações readOnly para a réplica e todo o resto para o primário.
+ * A réplica só é usada enquanto o atraso medido estiver dentro da tolerância; se ela estiver
+ * atrasada, fora do ar ou recusar a conexão, a leitura cai no primário.
+ * Deve ficar atrás de um LazyConnectionDataSourceProxy para que a escolha aconteça no primeiro
+ * comando da transação, quando o flag readOnly já está registrado.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // Segundos desde o último commit aplicado; zero se a réplica já aplicou tudo o que recebeu
+    // ou se a URL aponta para um servidor que não está em recuperação (ex.: ambiente local)
+    private static final String LAG_QUERY = """
+            SELECT CASE
+                WHEN NOT pg_is_in_recovery() OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+            END""";
+
+    private final DataSource primary;
+    private final DataSource replica;
+    private final long maxLagMillis;
+
+    // Começa no primário até a primeira verificação
+    private volatile boolean replicaAvailable = false;
+    private volatile long replicaLagMillis = -1;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, long maxLagMillis) {
+        this.primary = primary;
+        this.replica = replica;
+        this.maxLagMillis = maxLagMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (useReplica()) {
+            try {
+                return replica.getConnection();
+            } catch (SQLException e) {
+                markReplica(false, -1, e);
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (useReplica()) {
+            try {
+                return replica.getConnection(username, password);
+            } catch (SQLException e) {
+                markReplica(false, -1, e);
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    private boolean useReplica() {
+        return replicaAvailable && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    /**
+     * Mede o atraso da réplica e decide se ela pode receber leituras
+     */
+    @Scheduled(fixedDelayString = "${proxima.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkReplica() {
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            double lagSeconds = resultSet.getDouble(1);
+            if (resultSet.wasNull()) {
+                // Réplica ainda não aplicou nenhuma transação
+                markReplica(false, -1, null);
+                return;
+            }
+
+            long lagMillis = Math.round(lagSeconds * 1000);
+            markReplica(lagMillis <= maxLagMillis, lagMillis, null);
+        } catch (SQLException e) {
+            markReplica(false, -1, e);
+        }
+    }
+
+    private void markReplica(boolean available, long lagMillis, Exception error) {
+        boolean wasAvailable = replicaAvailable;
+        replicaLagMillis = lagMillis;
+        replicaAvailable = available;
+
+        if (wasAvailable && !available) {
+            if (error != null) {
+                log.warn("Réplica indisponível, leituras seguem para o primário: {}", error.getMessage());
+            } else {
+                log.warn("Réplica atrasada ({} ms, tolerância {} ms), leituras seguem para o primário", lagMillis, maxLagMillis);
+            }
+        } else if (!wasAvailable && available) {
+            log.info("Réplica disponível para leituras (atraso {} ms)", lagMillis);
+        }
+    }
+
+    public boolean isReplicaAvailable() {
+        return replicaAvailable;
+    }
+
+    public long getReplicaLagMillis() {
+        return replicaLagMillis;
+    }
+}
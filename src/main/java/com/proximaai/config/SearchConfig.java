@@ -0,0 +1,76 @@
+package com.proximaai.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+@Configuration
+@ConfigurationProperties(prefix = "proxima.search")
+public class SearchConfig {
+
+    // Backend do índice de tarefas: elasticsearch ou memory
+    private String indexBackend = "memory";
+
+    // Documentos por requisição bulk na reindexação
+    private int bulkSize = 500;
+
+    private int indexQueueCapacity = 10000;
+
+    /**
+     * Uma única thread aplica as alterações na ordem dos commits.
+     * Com a fila cheia quem fez o commit espera uma vaga: executar a alteração na própria thread
+     * a aplicaria antes das que já estão na fila.
+     */
+    @Bean(name = "searchIndexExecutor")
+    public Executor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(indexQueueCapacity);
+        executor.setThreadNamePrefix("SEARCH-");
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            if (pool.isShutdown()) {
+                throw new RejectedExecutionException("Executor do índice de busca encerrado");
+            }
+            try {
+                pool.getQueue().put(task);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrompido aguardando vaga na fila do índice de busca", e);
+            }
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    // Getters and Setters
+    public String getIndexBackend() {
+        return indexBackend;
+    }
+
+    public void setIndexBackend(String indexBackend) {
+        this.indexBackend = indexBackend;
+    }
+
+    public int getBulkSize() {
+        return bulkSize;
+    }
+
+    public void setBulkSize(int bulkSize) {
+        this.bulkSize = bulkSize;
+    }
+
+    public int getIndexQueueCapacity() {
+        return indexQueueCapacity;
+    }
+
+    public void setIndexQueueCapacity(int indexQueueCapacity) {
+        this.indexQueueCapacity = indexQueueCapacity;
+    }
+}
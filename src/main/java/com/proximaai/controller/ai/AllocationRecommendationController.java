@@ -1,8 +1,8 @@
 package com.proximaai.controller.ai;
 
 import com.proximaai.domain.entity.Task;
-import com.proximaai.domain.entity.User;
 import com.proximaai.domain.entity.ai.AllocationRecommendation;
+import com.proximaai.repository.projection.AllocationRecommendationView;
 import com.proximaai.service.ai.AllocationRecommendationService;
 import com.proximaai.repository.TaskRepository;
 import com.proximaai.repository.UserRepository;
@@ -36,7 +36,7 @@ public class AllocationRecommendationController {
     @PostMapping("/task/{taskId}")
     @Operation(summary = "Gerar recomendações de alocação para uma tarefa", 
                description = "Usa IA para sugerir os melhores profissionais para uma tarefa específica")
-    public ResponseEntity<List<AllocationRecommendation>> generateRecommendationsForTask(
+    public ResponseEntity<List<AllocationRecommendationView>> generateRecommendationsForTask(
             @Parameter(description = "ID da tarefa") @PathVariable Long taskId) {
         
         Optional<Task> taskOpt = taskRepository.findById(taskId);
@@ -44,24 +44,25 @@ public class AllocationRecommendationController {
             return ResponseEntity.notFound().build();
         }
         
-        List<AllocationRecommendation> recommendations = 
-            allocationRecommendationService.generateRecommendationsForTask(taskOpt.get());
+        List<AllocationRecommendationView> recommendations = 
+            allocationRecommendationService.generateRecommendationsForTask(taskOpt.get()).stream()
+                .map(AllocationRecommendationView::from)
+                .toList();
         return ResponseEntity.ok(recommendations);
     }
 
     @GetMapping("/task/{taskId}")
     @Operation(summary = "Buscar recomendações de uma tarefa", 
                description = "Retorna todas as recomendações de alocação para uma tarefa específica")
-    public ResponseEntity<List<AllocationRecommendation>> getRecommendationsForTask(
+    public ResponseEntity<List<AllocationRecommendationView>> getRecommendationsForTask(
             @Parameter(description = "ID da tarefa") @PathVariable Long taskId) {
         
-        Optional<Task> taskOpt = taskRepository.findById(taskId);
-        if (taskOpt.isEmpty()) {
+        if (!taskRepository.existsById(taskId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<AllocationRecommendation> recommendations = 
-            allocationRecommendationService.getRecommendationsForTask(taskOpt.get());
+        List<AllocationRecommendationView> recommendations = 
+            allocationRecommendationService.getRecommendationsForTask(taskId);
         return ResponseEntity.ok(recommendations);
     }
 
@@ -86,24 +87,23 @@ public class AllocationRecommendationController {
     @GetMapping("/user/{userId}")
     @Operation(summary = "Buscar recomendações para um usuário", 
                description = "Retorna todas as recomendações onde um usuário foi sugerido")
-    public ResponseEntity<List<AllocationRecommendation>> getRecommendationsForUser(
+    public ResponseEntity<List<AllocationRecommendationView>> getRecommendationsForUser(
             @Parameter(description = "ID do usuário") @PathVariable Long userId) {
         
-        Optional<User> userOpt = userRepository.findById(userId);
-        if (userOpt.isEmpty()) {
+        if (!userRepository.existsById(userId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<AllocationRecommendation> recommendations = 
-            allocationRecommendationService.getRecommendationsForUser(userOpt.get());
+        List<AllocationRecommendationView> recommendations = 
+            allocationRecommendationService.getRecommendationsForUser(userId);
         return ResponseEntity.ok(recommendations);
     }
 
     @GetMapping("/high-confidence")
     @Operation(summary = "Buscar recomendações com alta confiança", 
                description = "Retorna recomendações com nível de confiança alto")
-    public ResponseEntity<List<AllocationRecommendation>> getHighConfidenceRecommendations() {
-        List<AllocationRecommendation> recommendations = 
+    public ResponseEntity<List<AllocationRecommendationView>> getHighConfidenceRecommendations() {
+        List<AllocationRecommendationView> recommendations = 
             allocationRecommendationService.getHighConfidenceRecommendations();
         return ResponseEntity.ok(recommendations);
     }
@@ -132,26 +132,23 @@ public class AllocationRecommendationController {
     @GetMapping("/task/{taskId}/alternatives")
     @Operation(summary = "Buscar recomendações alternativas", 
                description = "Retorna recomendações alternativas excluindo um usuário específico")
-    public ResponseEntity<List<AllocationRecommendation>> getAlternativeRecommendations(
+    public ResponseEntity<List<AllocationRecommendationView>> getAlternativeRecommendations(
             @Parameter(description = "ID da tarefa") @PathVariable Long taskId,
             @Parameter(description = "ID do usuário a excluir") @RequestParam Long excludeUserId) {
         
-        Optional<Task> taskOpt = taskRepository.findById(taskId);
-        Optional<User> userOpt = userRepository.findById(excludeUserId);
-        
-        if (taskOpt.isEmpty() || userOpt.isEmpty()) {
+        if (!taskRepository.existsById(taskId) || !userRepository.existsById(excludeUserId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<AllocationRecommendation> recommendations = 
-            allocationRecommendationService.getAlternativeRecommendations(taskOpt.get(), userOpt.get());
+        List<AllocationRecommendationView> recommendations = 
+            allocationRecommendationService.getAlternativeRecommendations(taskId, excludeUserId);
         return ResponseEntity.ok(recommendations);
     }
 
     @PostMapping("/task/{taskId}/recalculate")
     @Operation(summary = "Recalcular recomendações para uma tarefa", 
                description = "Remove recomendações antigas e gera novas baseadas nos dados atuais")
-    public ResponseEntity<List<AllocationRecommendation>> recalculateRecommendationsForTask(
+    public ResponseEntity<List<AllocationRecommendationView>> recalculateRecommendationsForTask(
             @Parameter(description = "ID da tarefa") @PathVariable Long taskId) {
         
         Optional<Task> taskOpt = taskRepository.findById(taskId);
@@ -159,11 +156,12 @@ public class AllocationRecommendationController {
             return ResponseEntity.notFound().build();
         }
         
-        allocationRecommendationService.recalculateRecommendationsForTask(taskOpt.get());
-        
-        // Retorna as novas recomendações
-        List<AllocationRecommendation> recommendations = 
-            allocationRecommendationService.getRecommendationsForTask(taskOpt.get());
+        // Retorna as recomendações geradas: relê-las numa transação somente leitura iria para a réplica,
+        // que pode ainda não ter as novas
+        List<AllocationRecommendationView> recommendations = allocationRecommendationService
+            .recalculateRecommendationsForTask(taskOpt.get()).stream()
+            .map(AllocationRecommendationView::from)
+            .toList();
         return ResponseEntity.ok(recommendations);
     }
 
@@ -181,13 +179,12 @@ public class AllocationRecommendationController {
     public ResponseEntity<Object> getRecommendationSummary(
             @Parameter(description = "ID da tarefa") @PathVariable Long taskId) {
         
-        Optional<Task> taskOpt = taskRepository.findById(taskId);
-        if (taskOpt.isEmpty()) {
+        if (!taskRepository.existsById(taskId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<AllocationRecommendation> recommendations = 
-            allocationRecommendationService.getRecommendationsForTask(taskOpt.get());
+        List<AllocationRecommendationView> recommendations = 
+            allocationRecommendationService.getRecommendationsForTask(taskId);
         
         if (recommendations.isEmpty()) {
             Map<String, Object> response = new HashMap<>();
@@ -202,14 +199,14 @@ public class AllocationRecommendationController {
     /**
      * Calcula estatísticas das recomendações
      */
-    private Map<String, Object> calculateRecommendationStatistics(List<AllocationRecommendation> recommendations) {
+    private Map<String, Object> calculateRecommendationStatistics(List<AllocationRecommendationView> recommendations) {
         BigDecimal avgScore = recommendations.stream()
-            .map(AllocationRecommendation::getRecommendationScore)
+            .map(AllocationRecommendationView::recommendationScore)
             .reduce(BigDecimal.ZERO, BigDecimal::add)
             .divide(BigDecimal.valueOf(recommendations.size()), 4, java.math.RoundingMode.HALF_UP);
         
         long highConfidenceCount = recommendations.stream()
-            .filter(r -> r.getConfidenceLevel() == AllocationRecommendation.ConfidenceLevel.HIGH)
+            .filter(r -> r.confidenceLevel() == AllocationRecommendation.ConfidenceLevel.HIGH)
             .count();
         
         Map<String, Object> response = new HashMap<>();
@@ -2,7 +2,11 @@ package com.proximaai.controller.ai;
 
 import com.proximaai.domain.entity.Task;
 import com.proximaai.domain.entity.ai.DelayPrediction;
+import com.proximaai.repository.projection.DelayPredictionAccuracyView;
+import com.proximaai.repository.projection.DelayPredictionSummary;
+import com.proximaai.repository.projection.DelayPredictionView;
 import com.proximaai.service.ai.DelayPredictionService;
+import com.proximaai.repository.ProjectRepository;
 import com.proximaai.repository.TaskRepository;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -27,6 +31,9 @@ public class DelayPredictionController {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private ProjectRepository projectRepository;
+
     @PostMapping("/task/{taskId}")
     @Operation(summary = "Gerar predição de atraso para uma tarefa", 
                description = "Usa algoritmos de ML para prever possíveis atrasos em uma tarefa específica")
@@ -42,44 +49,57 @@ public class DelayPredictionController {
         return ResponseEntity.ok(prediction);
     }
 
+    @PostMapping("/project/{projectId}")
+    @Operation(summary = "Gerar predições de atraso para um projeto", 
+               description = "Prevê em lote o atraso de todas as tarefas abertas do projeto e retorna um resumo por tarefa")
+    public ResponseEntity<List<DelayPredictionSummary>> predictDelaysForProject(
+            @Parameter(description = "ID do projeto") @PathVariable @Positive Long projectId) {
+        
+        if (!projectRepository.existsById(projectId)) {
+            return ResponseEntity.notFound().build();
+        }
+        
+        List<DelayPredictionSummary> predictions = delayPredictionService.predictDelaysForProject(projectId);
+        return ResponseEntity.ok(predictions);
+    }
+
     @GetMapping("/task/{taskId}")
     @Operation(summary = "Buscar predições de uma tarefa", 
                description = "Retorna todas as predições de atraso para uma tarefa específica")
-    public ResponseEntity<List<DelayPrediction>> getPredictionsForTask(
+    public ResponseEntity<List<DelayPredictionView>> getPredictionsForTask(
             @Parameter(description = "ID da tarefa") @PathVariable Long taskId) {
         
-        Optional<Task> taskOpt = taskRepository.findById(taskId);
-        if (taskOpt.isEmpty()) {
+        if (!taskRepository.existsById(taskId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<DelayPrediction> predictions = delayPredictionService.getPredictionsForTask(taskOpt.get());
+        List<DelayPredictionView> predictions = delayPredictionService.getPredictionsForTask(taskId);
         return ResponseEntity.ok(predictions);
     }
 
     @GetMapping("/critical")
     @Operation(summary = "Buscar predições críticas", 
                description = "Retorna predições com alto risco de atraso que precisam de atenção")
-    public ResponseEntity<List<DelayPrediction>> getCriticalPredictions() {
-        List<DelayPrediction> predictions = delayPredictionService.getCriticalPredictions();
+    public ResponseEntity<List<DelayPredictionView>> getCriticalPredictions() {
+        List<DelayPredictionView> predictions = delayPredictionService.getCriticalPredictions();
         return ResponseEntity.ok(predictions);
     }
 
     @GetMapping("/high-confidence")
     @Operation(summary = "Buscar predições com alta confiança", 
                description = "Retorna predições com score de confiança acima de 80%")
-    public ResponseEntity<List<DelayPrediction>> getHighConfidencePredictions() {
-        List<DelayPrediction> predictions = delayPredictionService.getHighConfidencePredictions();
+    public ResponseEntity<List<DelayPredictionView>> getHighConfidencePredictions() {
+        List<DelayPredictionView> predictions = delayPredictionService.getHighConfidencePredictions();
         return ResponseEntity.ok(predictions);
     }
 
     @GetMapping("/project/{projectId}")
     @Operation(summary = "Buscar predições por projeto", 
                description = "Retorna predições recentes para todas as tarefas de um projeto")
-    public ResponseEntity<List<DelayPrediction>> getPredictionsForProject(
+    public ResponseEntity<List<DelayPredictionView>> getPredictionsForProject(
             @Parameter(description = "ID do projeto") @PathVariable Long projectId) {
         
-        List<DelayPrediction> predictions = delayPredictionService.getPredictionsForProject(projectId);
+        List<DelayPredictionView> predictions = delayPredictionService.getPredictionsForProject(projectId);
         return ResponseEntity.ok(predictions);
     }
 
@@ -97,8 +117,8 @@ public class DelayPredictionController {
     @GetMapping("/alerts")
     @Operation(summary = "Buscar predições que precisam de alertas", 
                description = "Retorna predições críticas que ainda não tiveram alertas enviados")
-    public ResponseEntity<List<DelayPrediction>> getPredictionsNeedingAlerts() {
-        List<DelayPrediction> predictions = delayPredictionService.getPredictionsNeedingAlerts();
+    public ResponseEntity<List<DelayPredictionView>> getPredictionsNeedingAlerts() {
+        List<DelayPredictionView> predictions = delayPredictionService.getPredictionsNeedingAlerts();
         return ResponseEntity.ok(predictions);
     }
 
@@ -120,10 +140,18 @@ public class DelayPredictionController {
         return ResponseEntity.ok(accuracy);
     }
 
+    @GetMapping("/accuracy/breakdown")
+    @Operation(summary = "Detalhar precisão das predições", 
+               description = "Retorna a precisão média geral, dos últimos 30 e 90 dias e por projeto, nível de risco e versão do modelo")
+    public ResponseEntity<DelayPredictionAccuracyView> getAccuracyBreakdown() {
+        DelayPredictionAccuracyView breakdown = delayPredictionService.getAccuracyBreakdown();
+        return ResponseEntity.ok(breakdown);
+    }
+
     @PostMapping("/task/{taskId}/recalculate")
     @Operation(summary = "Recalcular predições para uma tarefa", 
                description = "Remove predições antigas e gera nova predição baseada nos dados atuais")
-    public ResponseEntity<DelayPrediction> recalculatePredictionsForTask(
+    public ResponseEntity<DelayPredictionView> recalculatePredictionsForTask(
             @Parameter(description = "ID da tarefa") @PathVariable Long taskId) {
         
         Optional<Task> taskOpt = taskRepository.findById(taskId);
@@ -134,7 +162,7 @@ public class DelayPredictionController {
         delayPredictionService.recalculatePredictionsForTask(taskOpt.get());
         
         // Retorna a nova predição
-        List<DelayPrediction> predictions = delayPredictionService.getPredictionsForTask(taskOpt.get());
+        List<DelayPredictionView> predictions = delayPredictionService.getPredictionsForTask(taskId);
         if (!predictions.isEmpty()) {
             return ResponseEntity.ok(predictions.get(0));
         }
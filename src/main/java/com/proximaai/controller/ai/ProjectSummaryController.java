@@ -2,8 +2,11 @@ package com.proximaai.controller.ai;
 
 import com.proximaai.domain.entity.Project;
 import com.proximaai.domain.entity.ai.ProjectSummary;
+import com.proximaai.repository.projection.ProjectSummaryView;
 import com.proximaai.service.ai.ProjectSummaryService;
 import com.proximaai.repository.ProjectRepository;
+import com.proximaai.service.ai.timeseries.TimeSeriesKey;
+import com.proximaai.service.ai.timeseries.TimeSeriesStore;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,6 +14,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -20,12 +24,17 @@ import java.util.Optional;
 @Tag(name = "Project Summary AI", description = "APIs para geração automática de resumos de projetos com IA")
 public class ProjectSummaryController {
 
+    private static final int TREND_FORECAST_DAYS = 7;
+
     @Autowired
     private ProjectSummaryService projectSummaryService;
 
     @Autowired
     private ProjectRepository projectRepository;
 
+    @Autowired
+    private TimeSeriesStore timeSeriesStore;
+
     @PostMapping("/project/{projectId}")
     @Operation(summary = "Gerar resumo automático para um projeto", 
                description = "Usa IA generativa para criar resumos inteligentes de status do projeto")
@@ -45,15 +54,14 @@ public class ProjectSummaryController {
     @GetMapping("/project/{projectId}")
     @Operation(summary = "Buscar resumos de um projeto", 
                description = "Retorna todos os resumos gerados para um projeto específico")
-    public ResponseEntity<List<ProjectSummary>> getSummariesForProject(
+    public ResponseEntity<List<ProjectSummaryView>> getSummariesForProject(
             @Parameter(description = "ID do projeto") @PathVariable Long projectId) {
         
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
-        if (projectOpt.isEmpty()) {
+        if (!projectRepository.existsById(projectId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<ProjectSummary> summaries = projectSummaryService.getSummariesForProject(projectOpt.get());
+        List<ProjectSummaryView> summaries = projectSummaryService.getSummariesForProject(projectId);
         return ResponseEntity.ok(summaries);
     }
 
@@ -77,19 +85,15 @@ public class ProjectSummaryController {
     @GetMapping("/project/{projectId}/type/{summaryType}")
     @Operation(summary = "Buscar resumos por tipo", 
                description = "Retorna resumos de um projeto filtrados por tipo (DAILY, WEEKLY, MONTHLY, MILESTONE)")
-    public ResponseEntity<List<ProjectSummary>> getSummariesByType(
+    public ResponseEntity<List<ProjectSummaryView>> getSummariesByType(
             @Parameter(description = "ID do projeto") @PathVariable Long projectId,
             @Parameter(description = "Tipo do resumo") @PathVariable ProjectSummary.SummaryType summaryType) {
         
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
-        if (projectOpt.isEmpty()) {
+        if (!projectRepository.existsById(projectId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<ProjectSummary> summaries = projectSummaryService.getSummariesForProject(projectOpt.get())
-            .stream()
-            .filter(s -> s.getSummaryType() == summaryType)
-            .toList();
+        List<ProjectSummaryView> summaries = projectSummaryService.getSummariesForProject(projectId, summaryType);
         
         return ResponseEntity.ok(summaries);
     }
@@ -133,12 +137,11 @@ public class ProjectSummaryController {
     public ResponseEntity<Map<String, Object>> getProjectSummaryStats(
             @Parameter(description = "ID do projeto") @PathVariable Long projectId) {
         
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
-        if (projectOpt.isEmpty()) {
+        if (!projectRepository.existsById(projectId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<ProjectSummary> summaries = projectSummaryService.getSummariesForProject(projectOpt.get());
+        List<ProjectSummaryView> summaries = projectSummaryService.getSummariesForProject(projectId);
         
         if (summaries.isEmpty()) {
             return ResponseEntity.ok(Map.of("message", "Nenhum resumo disponível"));
@@ -147,20 +150,21 @@ public class ProjectSummaryController {
         // Calcula estatísticas
         long totalSummaries = summaries.size();
         long approvedSummaries = summaries.stream()
-            .filter(ProjectSummary::getIsApproved)
+            .filter(ProjectSummaryView::isApproved)
             .count();
         long sharedSummaries = summaries.stream()
-            .filter(ProjectSummary::getIsShared)
+            .filter(ProjectSummaryView::isShared)
             .count();
         
         double avgGenerationTime = summaries.stream()
-            .mapToLong(ProjectSummary::getGenerationTimeMs)
+            .filter(s -> s.generationTimeMs() != null)
+            .mapToLong(ProjectSummaryView::generationTimeMs)
             .average()
             .orElse(0.0);
         
         double avgFeedbackScore = summaries.stream()
-            .filter(s -> s.getFeedbackScore() != null)
-            .mapToInt(ProjectSummary::getFeedbackScore)
+            .filter(s -> s.feedbackScore() != null)
+            .mapToInt(ProjectSummaryView::feedbackScore)
             .average()
             .orElse(0.0);
         
@@ -170,7 +174,7 @@ public class ProjectSummaryController {
             "sharedSummaries", sharedSummaries,
             "averageGenerationTimeMs", avgGenerationTime,
             "averageFeedbackScore", avgFeedbackScore,
-            "latestSummaryDate", summaries.get(0).getSummaryDate() // Primeiro é o mais recente
+            "latestSummaryDate", summaries.get(0).summaryDate() // Primeiro é o mais recente
         ));
     }
 
@@ -215,22 +219,28 @@ public class ProjectSummaryController {
     public ResponseEntity<Map<String, Object>> getTrendAnalysis(
             @Parameter(description = "ID do projeto") @PathVariable Long projectId) {
         
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
-        if (projectOpt.isEmpty()) {
+        if (!projectRepository.existsById(projectId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<ProjectSummary> summaries = projectSummaryService.getSummariesForProject(projectOpt.get());
+        List<ProjectSummaryView> summaries = projectSummaryService.getSummariesForProject(projectId);
+        
+        // Séries diárias do projeto, com a previsão de Holt para a próxima semana
+        Map<String, Object> series = new LinkedHashMap<>();
+        for (TimeSeriesKey.Metric metric : List.of(TimeSeriesKey.Metric.VELOCITY, TimeSeriesKey.Metric.OVERDUE_TASKS)) {
+            timeSeriesStore.forecast(TimeSeriesKey.project(projectId, metric), TREND_FORECAST_DAYS)
+                    .ifPresent(forecast -> series.put(metric.name(), forecast));
+        }
         
-        if (summaries.size() < 2) {
+        if (summaries.size() < 2 && series.isEmpty()) {
             return ResponseEntity.ok(Map.of("message", "Dados insuficientes para análise de tendências"));
         }
         
-        // Análise simplificada de tendências
         return ResponseEntity.ok(Map.of(
             "totalSummaries", summaries.size(),
             "timeSpan", "Últimos " + summaries.size() + " resumos",
-            "trend", "Análise de tendências seria implementada aqui",
+            "trend", series,
+            "forecastDays", TREND_FORECAST_DAYS,
             "recommendations", List.of(
                 "Continuar monitoramento regular",
                 "Ajustar frequência de resumos conforme necessário"
@@ -3,6 +3,7 @@ package com.proximaai.controller.ai;
 import com.proximaai.domain.entity.Project;
 import com.proximaai.domain.entity.Team;
 import com.proximaai.domain.entity.ai.SentimentAnalysis;
+import com.proximaai.repository.projection.SentimentAnalysisView;
 import com.proximaai.service.ai.SentimentAnalysisService;
 import com.proximaai.repository.ProjectRepository;
 import com.proximaai.repository.TeamRepository;
@@ -54,30 +55,28 @@ public class SentimentAnalysisController {
     @GetMapping("/project/{projectId}")
     @Operation(summary = "Buscar análises de sentimento por projeto", 
                description = "Retorna todas as análises de sentimento realizadas para um projeto")
-    public ResponseEntity<List<SentimentAnalysis>> getAnalysesForProject(
+    public ResponseEntity<List<SentimentAnalysisView>> getAnalysesForProject(
             @Parameter(description = "ID do projeto") @PathVariable Long projectId) {
         
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
-        if (projectOpt.isEmpty()) {
+        if (!projectRepository.existsById(projectId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<SentimentAnalysis> analyses = sentimentAnalysisService.getAnalysesForProject(projectOpt.get());
+        List<SentimentAnalysisView> analyses = sentimentAnalysisService.getAnalysesForProject(projectId);
         return ResponseEntity.ok(analyses);
     }
 
     @GetMapping("/team/{teamId}")
     @Operation(summary = "Buscar análises de sentimento por equipe", 
                description = "Retorna todas as análises de sentimento realizadas para uma equipe")
-    public ResponseEntity<List<SentimentAnalysis>> getAnalysesForTeam(
+    public ResponseEntity<List<SentimentAnalysisView>> getAnalysesForTeam(
             @Parameter(description = "ID da equipe") @PathVariable Long teamId) {
         
-        Optional<Team> teamOpt = teamRepository.findById(teamId);
-        if (teamOpt.isEmpty()) {
+        if (!teamRepository.existsById(teamId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<SentimentAnalysis> analyses = sentimentAnalysisService.getAnalysesForTeam(teamOpt.get());
+        List<SentimentAnalysisView> analyses = sentimentAnalysisService.getAnalysesForTeam(teamId);
         return ResponseEntity.ok(analyses);
     }
 
@@ -101,8 +100,8 @@ public class SentimentAnalysisController {
     @GetMapping("/alerts")
     @Operation(summary = "Buscar análises que precisam de alertas", 
                description = "Retorna análises com indicadores críticos que precisam de atenção")
-    public ResponseEntity<List<SentimentAnalysis>> getAnalysesNeedingAlerts() {
-        List<SentimentAnalysis> analyses = sentimentAnalysisService.getAnalysesNeedingAlerts();
+    public ResponseEntity<List<SentimentAnalysisView>> getAnalysesNeedingAlerts() {
+        List<SentimentAnalysisView> analyses = sentimentAnalysisService.getAnalysesNeedingAlerts();
         return ResponseEntity.ok(analyses);
     }
 
@@ -144,26 +143,25 @@ public class SentimentAnalysisController {
     public ResponseEntity<Map<String, Object>> getSentimentDashboard(
             @Parameter(description = "ID do projeto") @PathVariable Long projectId) {
         
-        Optional<Project> projectOpt = projectRepository.findById(projectId);
-        if (projectOpt.isEmpty()) {
+        if (!projectRepository.existsById(projectId)) {
             return ResponseEntity.notFound().build();
         }
         
-        List<SentimentAnalysis> analyses = sentimentAnalysisService.getAnalysesForProject(projectOpt.get());
+        List<SentimentAnalysisView> analyses = sentimentAnalysisService.getAnalysesForProject(projectId);
         
         if (analyses.isEmpty()) {
             return ResponseEntity.ok(Map.of("message", "Nenhuma análise disponível"));
         }
         
         // Calcula métricas do dashboard
-        SentimentAnalysis latest = analyses.get(0);
+        SentimentAnalysisView latest = analyses.get(0);
         BigDecimal avgSentiment = analyses.stream()
-            .map(SentimentAnalysis::getSentimentScore)
+            .map(SentimentAnalysisView::sentimentScore)
             .reduce(BigDecimal.ZERO, BigDecimal::add)
             .divide(BigDecimal.valueOf(analyses.size()), 4, java.math.RoundingMode.HALF_UP);
         
         long alertCount = analyses.stream()
-            .filter(SentimentAnalysis::getIsAlertTriggered)
+            .filter(SentimentAnalysisView::isAlertTriggered)
             .count();
         
         return ResponseEntity.ok(Map.of(
@@ -171,12 +169,12 @@ public class SentimentAnalysisController {
             "totalAnalyses", analyses.size(),
             "latestAnalysis", latest,
             "averageSentimentScore", avgSentiment,
-            "currentMood", latest.getOverallMood(),
-            "currentStressLevel", latest.getStressLevel(),
-            "currentBurnoutRisk", latest.getBurnoutRisk(),
+            "currentMood", latest.overallMood(),
+            "currentStressLevel", latest.stressLevel(),
+            "currentBurnoutRisk", latest.burnoutRisk(),
             "alertCount", alertCount,
-            "trendDirection", latest.getTrendDirection(),
-            "confidenceLevel", latest.getConfidenceLevel()
+            "trendDirection", latest.trendDirection(),
+            "confidenceLevel", latest.confidenceLevel()
         ));
     }
 
@@ -191,13 +189,13 @@ public class SentimentAnalysisController {
             return ResponseEntity.notFound().build();
         }
         
-        List<SentimentAnalysis> analyses = sentimentAnalysisService.getAnalysesForProject(projectOpt.get());
+        Optional<SentimentAnalysis> latestOpt = sentimentAnalysisService.getLatestAnalysisForProject(projectOpt.get());
         
-        if (analyses.isEmpty()) {
+        if (latestOpt.isEmpty()) {
             return ResponseEntity.ok(Map.of("message", "Dados insuficientes para relatório"));
         }
         
-        SentimentAnalysis latest = analyses.get(0);
+        SentimentAnalysis latest = latestOpt.get();
         
         Map<String, Object> response = new HashMap<>();
         response.put("projectId", projectId);
@@ -228,13 +226,13 @@ public class SentimentAnalysisController {
             return ResponseEntity.notFound().build();
         }
         
-        List<SentimentAnalysis> analyses = sentimentAnalysisService.getAnalysesForProject(projectOpt.get());
+        Optional<SentimentAnalysis> latestOpt = sentimentAnalysisService.getLatestAnalysisForProject(projectOpt.get());
         
-        if (analyses.isEmpty()) {
+        if (latestOpt.isEmpty()) {
             return ResponseEntity.ok(Map.of("message", "Nenhuma análise disponível"));
         }
         
-        SentimentAnalysis latest = analyses.get(0);
+        SentimentAnalysis latest = latestOpt.get();
         
         return ResponseEntity.ok(Map.of(
             "projectId", projectId,
@@ -260,13 +258,13 @@ public class SentimentAnalysisController {
             return ResponseEntity.notFound().build();
         }
         
-        List<SentimentAnalysis> analyses = sentimentAnalysisService.getAnalysesForProject(projectOpt.get());
+        Optional<SentimentAnalysis> latestOpt = sentimentAnalysisService.getLatestAnalysisForProject(projectOpt.get());
         
-        if (analyses.isEmpty()) {
+        if (latestOpt.isEmpty()) {
             return ResponseEntity.ok(Map.of("message", "Dados insuficientes para cálculo"));
         }
         
-        SentimentAnalysis latest = analyses.get(0);
+        SentimentAnalysis latest = latestOpt.get();
         BigDecimal healthScore = calculateWellnessScore(latest);
         
         return ResponseEntity.ok(Map.of(
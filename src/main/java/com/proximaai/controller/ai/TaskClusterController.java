@@ -0,0 +1,74 @@
+package com.proximaai.controller.ai;
+
+import com.proximaai.domain.entity.Project;
+import com.proximaai.domain.entity.ai.TaskCluster;
+import com.proximaai.repository.ProjectRepository;
+import com.proximaai.service.ai.TaskClusteringService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/api/ai/task-clusters")
+@Tag(name = "Task Clustering AI", description = "APIs para agrupamento automático de tarefas com K-means")
+public class TaskClusterController {
+
+    @Autowired
+    private TaskClusteringService taskClusteringService;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @PostMapping("/project/{projectId}")
+    @Operation(summary = "Agrupar tarefas de um projeto",
+               description = "Executa K-means++ sobre as features das tarefas e substitui os clusters automáticos anteriores")
+    public ResponseEntity<List<Map<String, Object>>> clusterProjectTasks(
+            @Parameter(description = "ID do projeto") @PathVariable Long projectId,
+            @Parameter(description = "Número de clusters") @RequestParam(defaultValue = "8") int k) {
+
+        Optional<Project> projectOpt = projectRepository.findById(projectId);
+        if (projectOpt.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+
+        List<TaskCluster> clusters = taskClusteringService.clusterProjectTasks(projectOpt.get(), k);
+        List<Map<String, Object>> response = clusters.stream().map(this::toSummary).toList();
+        return ResponseEntity.ok(response);
+    }
+
+    @PostMapping("/project/{projectId}/recalculate")
+    @Operation(summary = "Recalcular clusters de um projeto",
+               description = "Atualiza os centroides com as tarefas alteradas desde o último recálculo (mini-batch K-means)")
+    public ResponseEntity<List<Map<String, Object>>> recalculateProjectClusters(
+            @Parameter(description = "ID do projeto") @PathVariable Long projectId) {
+
+        if (!projectRepository.existsById(projectId)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        List<TaskCluster> clusters = taskClusteringService.recalculateProjectClusters(projectId);
+        List<Map<String, Object>> response = clusters.stream().map(this::toSummary).toList();
+        return ResponseEntity.ok(response);
+    }
+
+    private Map<String, Object> toSummary(TaskCluster cluster) {
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("id", cluster.getId());
+        summary.put("clusterName", cluster.getClusterName());
+        summary.put("clusterSize", cluster.getClusterSize());
+        summary.put("cohesionScore", cluster.getClusterCohesionScore());
+        summary.put("qualityScore", cluster.getClusterQualityScore());
+        summary.put("stabilityScore", cluster.getClusterStabilityScore());
+        summary.put("algorithmUsed", cluster.getAlgorithmUsed());
+        summary.put("processingTimeMs", cluster.getProcessingTimeMs());
+        return summary;
+    }
+}
@@ -0,0 +1,34 @@
+package com.proximaai.controller.cache;
+
+import com.proximaai.service.cache.CacheStatisticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/cache")
+@Tag(name = "Cache", description = "APIs de monitoramento do cache de segundo nível")
+public class CacheController {
+
+    @Autowired
+    private CacheStatisticsService cacheStatisticsService;
+
+    @GetMapping("/statistics")
+    @Operation(summary = "Estatísticas do cache",
+               description = "Retorna acertos, faltas, inserções e taxa de acerto do cache de segundo nível, no total e por região")
+    public ResponseEntity<Map<String, Object>> getStatistics() {
+        return ResponseEntity.ok(cacheStatisticsService.getStatistics());
+    }
+
+    @PostMapping("/statistics/reset")
+    @Operation(summary = "Zerar estatísticas do cache",
+               description = "Reinicia os contadores de acertos e faltas deste nó")
+    public ResponseEntity<Void> resetStatistics() {
+        cacheStatisticsService.resetStatistics();
+        return ResponseEntity.noContent().build();
+    }
+}
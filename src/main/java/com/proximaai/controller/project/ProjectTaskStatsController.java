@@ -0,0 +1,45 @@
+package com.proximaai.controller.project;
+
+import com.proximaai.domain.entity.ProjectTaskCounters;
+import com.proximaai.service.ProjectTaskStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/projects")
+@Tag(name = "Project Task Stats", description = "APIs dos contadores de tarefas por projeto")
+public class ProjectTaskStatsController {
+
+    @Autowired
+    private ProjectTaskStatsService projectTaskStatsService;
+
+    @GetMapping("/{projectId}/task-stats")
+    @Operation(summary = "Contadores de tarefas do projeto",
+               description = "Retorna as contagens por status, horas, story points e tarefas atrasadas do projeto")
+    public ResponseEntity<ProjectTaskCounters> getTaskStats(
+            @Parameter(description = "ID do projeto") @PathVariable Long projectId) {
+        return projectTaskStatsService.getCounters(projectId)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    @PostMapping("/task-stats/rebuild")
+    @Operation(summary = "Reconstruir contadores de tarefas",
+               description = "Recalcula os contadores de todos os projetos a partir das tarefas")
+    public ResponseEntity<Map<String, Object>> rebuildTaskStats() {
+        long startTime = System.currentTimeMillis();
+        int rebuilt = projectTaskStatsService.rebuild();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("rebuiltProjects", rebuilt);
+        response.put("processingTimeMs", System.currentTimeMillis() - startTime);
+        return ResponseEntity.ok(response);
+    }
+}
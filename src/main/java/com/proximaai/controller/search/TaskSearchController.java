@@ -0,0 +1,71 @@
+package com.proximaai.controller.search;
+
+import com.proximaai.service.search.TaskSearchCursor;
+import com.proximaai.service.search.TaskSearchMode;
+import com.proximaai.service.search.TaskSearchPage;
+import com.proximaai.service.search.TaskSearchService;
+import com.proximaai.service.search.index.TaskIndexQuery;
+import com.proximaai.service.search.index.TaskIndexResult;
+import com.proximaai.service.search.index.TaskIndexingService;
+import com.proximaai.service.search.index.TaskSearchIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/search/tasks")
+@Tag(name = "Task Search", description = "APIs de busca e filtros facetados de tarefas")
+public class TaskSearchController {
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private TaskIndexingService taskIndexingService;
+
+    @Autowired
+    private TaskSearchService taskSearchService;
+
+    @GetMapping
+    @Operation(summary = "Buscar tarefas no índice",
+               description = "Busca por texto com filtros de projeto, status, prioridade, tipo, responsável e tag, retornando as contagens por faceta")
+    public ResponseEntity<TaskIndexResult> search(@ModelAttribute TaskIndexQuery query) {
+        return ResponseEntity.ok(taskSearchIndex.search(query));
+    }
+
+    @GetMapping(params = "mode=ranked")
+    @Operation(summary = "Buscar tarefas por relevância no banco",
+               description = "Busca full-text (tsvector) ranqueada, com recurso à busca trigram quando não há resultados, paginada pelo cursor da página anterior")
+    public ResponseEntity<TaskSearchPage> searchRanked(
+            @Parameter(description = "Termo de busca") @RequestParam String text,
+            @Parameter(description = "ID do projeto") @RequestParam(required = false) Long projectId,
+            @Parameter(description = "Tamanho da página") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "Modo do cursor da página anterior") @RequestParam(required = false) TaskSearchMode cursorMode,
+            @Parameter(description = "Rank do cursor da página anterior") @RequestParam(required = false) Double cursorRank,
+            @Parameter(description = "ID do cursor da página anterior") @RequestParam(required = false) Long cursorId) {
+
+        TaskSearchCursor after = cursorMode != null && cursorRank != null && cursorId != null
+                ? new TaskSearchCursor(cursorMode, cursorRank, cursorId)
+                : null;
+        return ResponseEntity.ok(taskSearchService.search(text, projectId, after, size));
+    }
+
+    @PostMapping("/reindex")
+    @Operation(summary = "Reindexar todas as tarefas",
+               description = "Reconstrói o índice de busca a partir do banco de dados")
+    public ResponseEntity<Map<String, Object>> reindex() {
+        long startTime = System.currentTimeMillis();
+        long indexed = taskIndexingService.reindexAll();
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("indexedTasks", indexed);
+        response.put("processingTimeMs", System.currentTimeMillis() - startTime);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -3,6 +3,8 @@ package com.proximaai.domain.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,10 +16,12 @@ import java.util.List;
 @Entity
 @Table(name = "custom_workflows")
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workflows")
 public class CustomWorkflow {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "custom_workflows_seq")
+    @SequenceGenerator(name = "custom_workflows_seq", sequenceName = "custom_workflows_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -53,9 +57,11 @@ public class CustomWorkflow {
     @Column(name = "icon")
     private String icon; // Ícone do workflow
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workflows.statuses")
     @OneToMany(mappedBy = "workflow", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<WorkflowStatus> statuses = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workflows.transitions")
     @OneToMany(mappedBy = "workflow", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private List<WorkflowTransition> transitions = new ArrayList<>();
 
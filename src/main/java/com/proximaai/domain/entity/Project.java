@@ -3,6 +3,8 @@ package com.proximaai.domain.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -17,10 +19,12 @@ import static com.proximaai.domain.entity.Task.TaskStatus;
 @Entity
 @Table(name = "projects")
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "projects")
 public class Project {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -43,6 +47,11 @@ public class Project {
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private Set<Task> tasks = new HashSet<>();
 
+    // Contadores das tarefas, mantidos pelo banco (a linha é criada junto com o projeto)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "id", insertable = false, updatable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private ProjectTaskCounters taskCounters;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ProjectStatus status = ProjectStatus.PLANNING;
@@ -243,6 +252,10 @@ public class Project {
         this.documentationUrl = documentationUrl;
     }
 
+    public ProjectTaskCounters getTaskCounters() {
+        return taskCounters;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -263,26 +276,20 @@ public class Project {
     public void addTask(Task task) {
         tasks.add(task);
         task.setProject(this);
-        updateProgress();
     }
 
     public void removeTask(Task task) {
         tasks.remove(task);
         task.setProject(null);
-        updateProgress();
     }
 
-    public void updateProgress() {
-        if (tasks.isEmpty()) {
-            progressPercentage = 0;
-            return;
-        }
-
-        long completedTasks = tasks.stream()
-            .filter(task -> TaskStatus.DONE.equals(task.getStatus()))
-            .count();
-
-        progressPercentage = (int) ((completedTasks * 100) / tasks.size());
+    /**
+     * Copia o progresso dos contadores do projeto, sem percorrer as tarefas.
+     * Os contadores só refletem as tarefas após o flush, e a linha já carregada no contexto
+     * de persistência precisa ser relida (refresh) antes.
+     */
+    public void updateProgress(ProjectTaskCounters counters) {
+        progressPercentage = counters.getProgressPercentage();
     }
 
     public boolean isOverdue() {
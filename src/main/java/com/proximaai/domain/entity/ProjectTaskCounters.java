@@ -0,0 +1,120 @@
+package com.proximaai.domain.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.LocalDateTime;
+
+import static com.proximaai.domain.entity.Task.TaskStatus;
+
+/**
+ * Contadores das tarefas de um projeto (tabela project_task_stats).
+ * Mantidos pelo banco, na mesma transação, pelos gatilhos de db/project-task-stats.sql;
+ * a aplicação apenas lê. overdue_tasks é recontado diariamente, quando a data muda.
+ */
+@Entity
+@Immutable
+@Table(name = "project_task_stats")
+@Synchronize("tasks") // Consultas nesta entidade fazem flush das tarefas pendentes antes
+public class ProjectTaskCounters {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "total_tasks", nullable = false)
+    private long totalTasks;
+
+    @Column(name = "todo_tasks", nullable = false)
+    private long todoTasks;
+
+    @Column(name = "in_progress_tasks", nullable = false)
+    private long inProgressTasks;
+
+    @Column(name = "in_review_tasks", nullable = false)
+    private long inReviewTasks;
+
+    @Column(name = "testing_tasks", nullable = false)
+    private long testingTasks;
+
+    @Column(name = "done_tasks", nullable = false)
+    private long doneTasks;
+
+    @Column(name = "cancelled_tasks", nullable = false)
+    private long cancelledTasks;
+
+    @Column(name = "overdue_tasks", nullable = false)
+    private long overdueTasks;
+
+    @Column(name = "estimated_hours", nullable = false)
+    private long estimatedHours;
+
+    @Column(name = "actual_hours", nullable = false)
+    private long actualHours;
+
+    @Column(name = "story_points_sum", nullable = false)
+    private long storyPointsSum;
+
+    // Tarefas com story points informados
+    @Column(name = "story_points_count", nullable = false)
+    private long storyPointsCount;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    protected ProjectTaskCounters() {}
+
+    // Getters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public long getTotalTasks() {
+        return totalTasks;
+    }
+
+    public long getCountByStatus(TaskStatus status) {
+        return switch (status) {
+            case TODO -> todoTasks;
+            case IN_PROGRESS -> inProgressTasks;
+            case IN_REVIEW -> inReviewTasks;
+            case TESTING -> testingTasks;
+            case DONE -> doneTasks;
+            case CANCELLED -> cancelledTasks;
+        };
+    }
+
+    public long getOverdueTasks() {
+        return overdueTasks;
+    }
+
+    public long getEstimatedHours() {
+        return estimatedHours;
+    }
+
+    public long getActualHours() {
+        return actualHours;
+    }
+
+    public long getStoryPointsSum() {
+        return storyPointsSum;
+    }
+
+    public long getStoryPointsCount() {
+        return storyPointsCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    // Helper methods
+    public Double getAverageStoryPoints() {
+        return storyPointsCount == 0 ? null : (double) storyPointsSum / storyPointsCount;
+    }
+
+    public int getProgressPercentage() {
+        return totalTasks == 0 ? 0 : (int) ((doneTasks * 100) / totalTasks);
+    }
+}
@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 public class ResourceAllocation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resource_allocations_seq")
+    @SequenceGenerator(name = "resource_allocations_seq", sequenceName = "resource_allocations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.proximaai.domain.entity;
 
+import com.proximaai.service.search.index.TaskIndexingListener;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
@@ -10,15 +11,23 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Entity
-@Table(name = "tasks")
-@EntityListeners(AuditingEntityListener.class)
+@Table(name = "tasks", indexes = {
+    @Index(name = "idx_tasks_project_status", columnList = "project_id, status"),
+    @Index(name = "idx_tasks_project_updated", columnList = "project_id, updated_at"),
+    @Index(name = "idx_tasks_updated", columnList = "updated_at")
+})
+@EntityListeners({AuditingEntityListener.class, TaskIndexingListener.class})
 public class Task {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -78,8 +87,12 @@ public class Task {
     @Column(name = "kanban_order")
     private Integer kanbanOrder = 0;
 
-    @Column(name = "tags")
-    private String tags; // Comma-separated tags
+    @ElementCollection
+    @CollectionTable(name = "task_tags",
+                     joinColumns = @JoinColumn(name = "task_id"),
+                     indexes = @Index(name = "idx_task_tags_tag", columnList = "tag, task_id"))
+    @Column(name = "tag", nullable = false, length = 50)
+    private Set<String> tags = new LinkedHashSet<>(); // Normalized tags (lowercase)
 
     @Column(name = "attachments")
     private String attachments; // Comma-separated file URLs
@@ -263,11 +276,11 @@ public class Task {
         this.kanbanOrder = kanbanOrder;
     }
 
-    public String getTags() {
+    public Set<String> getTags() {
         return tags;
     }
 
-    public void setTags(String tags) {
+    public void setTags(Set<String> tags) {
         this.tags = tags;
     }
 
@@ -346,6 +359,25 @@ public class Task {
         timeLog.setTask(this);
     }
 
+    public void addTag(String tag) {
+        String normalized = normalizeTag(tag);
+        if (!normalized.isEmpty()) {
+            tags.add(normalized);
+        }
+    }
+
+    public void removeTag(String tag) {
+        tags.remove(normalizeTag(tag));
+    }
+
+    public boolean hasTag(String tag) {
+        return tags.contains(normalizeTag(tag));
+    }
+
+    public static String normalizeTag(String tag) {
+        return tag == null ? "" : tag.trim().toLowerCase(Locale.ROOT);
+    }
+
     public boolean isOverdue() {
         return dueDate != null && LocalDate.now().isAfter(dueDate) && 
                !TaskStatus.DONE.equals(status);
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class TaskComment {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_comments_seq")
+    @SequenceGenerator(name = "task_comments_seq", sequenceName = "task_comments_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class TaskTimeLog {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_time_logs_seq")
+    @SequenceGenerator(name = "task_time_logs_seq", sequenceName = "task_time_logs_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
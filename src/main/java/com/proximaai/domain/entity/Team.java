@@ -3,6 +3,8 @@ package com.proximaai.domain.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -14,10 +16,12 @@ import java.util.Set;
 @Entity
 @Table(name = "teams")
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teams")
 public class Team {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "teams_seq")
+    @SequenceGenerator(name = "teams_seq", sequenceName = "teams_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -33,6 +37,7 @@ public class Team {
     @JoinColumn(name = "leader_id")
     private User leader;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teams.members")
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
         name = "team_members",
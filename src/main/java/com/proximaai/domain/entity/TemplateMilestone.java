@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class TemplateMilestone {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "template_milestones_seq")
+    @SequenceGenerator(name = "template_milestones_seq", sequenceName = "template_milestones_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
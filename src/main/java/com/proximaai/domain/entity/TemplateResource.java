@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class TemplateResource {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "template_resources_seq")
+    @SequenceGenerator(name = "template_resources_seq", sequenceName = "template_resources_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -14,7 +14,8 @@ import java.time.LocalDateTime;
 public class TemplateTask {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "template_tasks_seq")
+    @SequenceGenerator(name = "template_tasks_seq", sequenceName = "template_tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -19,7 +19,8 @@ import java.util.List;
 public class Timesheet {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timesheets_seq")
+    @SequenceGenerator(name = "timesheets_seq", sequenceName = "timesheets_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -16,7 +16,8 @@ import java.time.LocalTime;
 public class TimesheetEntry {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "timesheet_entries_seq")
+    @SequenceGenerator(name = "timesheet_entries_seq", sequenceName = "timesheet_entries_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -3,6 +3,8 @@ package com.proximaai.domain.entity;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -11,10 +13,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "workflow_statuses")
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workflow-statuses")
 public class WorkflowStatus {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workflow_statuses_seq")
+    @SequenceGenerator(name = "workflow_statuses_seq", sequenceName = "workflow_statuses_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
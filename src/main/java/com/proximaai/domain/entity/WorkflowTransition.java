@@ -1,6 +1,8 @@
 package com.proximaai.domain.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
@@ -9,10 +11,12 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "workflow_transitions")
 @EntityListeners(AuditingEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "workflow-transitions")
 public class WorkflowTransition {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "workflow_transitions_seq")
+    @SequenceGenerator(name = "workflow_transitions_seq", sequenceName = "workflow_transitions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
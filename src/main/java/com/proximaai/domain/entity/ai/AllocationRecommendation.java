@@ -17,7 +17,8 @@ import com.proximaai.domain.entity.User;
 public class AllocationRecommendation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_allocation_recommendations_seq")
+    @SequenceGenerator(name = "ai_allocation_recommendations_seq", sequenceName = "ai_allocation_recommendations_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
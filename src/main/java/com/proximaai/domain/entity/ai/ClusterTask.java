@@ -16,7 +16,8 @@ import com.proximaai.domain.entity.Task;
 public class ClusterTask {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_cluster_tasks_seq")
+    @SequenceGenerator(name = "ai_cluster_tasks_seq", sequenceName = "ai_cluster_tasks_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -18,7 +18,8 @@ import com.proximaai.domain.entity.Task;
 public class DelayPrediction {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_delay_predictions_seq")
+    @SequenceGenerator(name = "ai_delay_predictions_seq", sequenceName = "ai_delay_predictions_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
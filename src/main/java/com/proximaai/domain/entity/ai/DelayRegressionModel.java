@@ -0,0 +1,147 @@
+package com.proximaai.domain.entity.ai;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Modelo de regressão de atrasos de um projeto: estatísticas suficientes (XᵀX, Xᵀy, yᵀy) das predições
+ * já resolvidas e os coeficientes resolvidos a partir delas. Cada atraso real informado atualiza a linha
+ * em O(1); a predição usa só os coeficientes, sem reler o histórico.
+ */
+@Entity
+@Table(name = "ai_delay_regression_models")
+public class DelayRegressionModel {
+
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Column(name = "model_version", nullable = false)
+    private String modelVersion;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount; // Observações somadas desde a criação
+
+    @Column(nullable = false)
+    private double weight; // Soma dos pesos, após os decaimentos da compactação
+
+    @Column(name = "xtx")
+    private double[] xtx; // XᵀX (p×p, por linha), com o intercepto na posição 0
+
+    @Column(name = "xty")
+    private double[] xty;
+
+    @Column(name = "yty", nullable = false)
+    private double yty;
+
+    @Column(name = "coefficients")
+    private double[] coefficients; // [intercepto, β₁..βₚ]; null enquanto não há dados suficientes
+
+    @Column(name = "residual_variance")
+    private Double residualVariance;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(name = "compacted_at")
+    private LocalDateTime compactedAt;
+
+    // Constructors
+    public DelayRegressionModel() {}
+
+    public DelayRegressionModel(Long projectId, String modelVersion) {
+        this.projectId = projectId;
+        this.modelVersion = modelVersion;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    // Getters and Setters
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getModelVersion() {
+        return modelVersion;
+    }
+
+    public void setModelVersion(String modelVersion) {
+        this.modelVersion = modelVersion;
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    public void setSampleCount(long sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+    }
+
+    public double[] getXtx() {
+        return xtx;
+    }
+
+    public void setXtx(double[] xtx) {
+        this.xtx = xtx;
+    }
+
+    public double[] getXty() {
+        return xty;
+    }
+
+    public void setXty(double[] xty) {
+        this.xty = xty;
+    }
+
+    public double getYty() {
+        return yty;
+    }
+
+    public void setYty(double yty) {
+        this.yty = yty;
+    }
+
+    public double[] getCoefficients() {
+        return coefficients;
+    }
+
+    public void setCoefficients(double[] coefficients) {
+        this.coefficients = coefficients;
+    }
+
+    public Double getResidualVariance() {
+        return residualVariance;
+    }
+
+    public void setResidualVariance(Double residualVariance) {
+        this.residualVariance = residualVariance;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getCompactedAt() {
+        return compactedAt;
+    }
+
+    public void setCompactedAt(LocalDateTime compactedAt) {
+        this.compactedAt = compactedAt;
+    }
+}
@@ -0,0 +1,127 @@
+package com.proximaai.domain.entity.ai;
+
+import com.proximaai.service.ai.anomaly.MetricKey;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado persistido de um acumulador de média/variância online (um por escopo, id e métrica).
+ * Gravado periodicamente pelo RunningStatisticsRegistry e relido na inicialização.
+ */
+@Entity
+@Table(name = "ai_metric_accumulators",
+       uniqueConstraints = @UniqueConstraint(name = "uk_ai_metric_accumulators_key", columnNames = {"scope", "scope_id", "metric"}))
+public class MetricAccumulator {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_metric_accumulators_seq")
+    @SequenceGenerator(name = "ai_metric_accumulators_seq", sequenceName = "ai_metric_accumulators_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private MetricKey.Scope scope;
+
+    @Column(name = "scope_id", nullable = false)
+    private Long scopeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private MetricKey.Metric metric;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount; // Observações acumuladas (sem decaimento)
+
+    @Column(nullable = false)
+    private double weight; // Soma dos pesos com decaimento
+
+    @Column(nullable = false)
+    private double mean;
+
+    @Column(nullable = false)
+    private double m2; // Soma ponderada dos quadrados dos desvios
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public MetricAccumulator() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public MetricKey.Scope getScope() {
+        return scope;
+    }
+
+    public void setScope(MetricKey.Scope scope) {
+        this.scope = scope;
+    }
+
+    public Long getScopeId() {
+        return scopeId;
+    }
+
+    public void setScopeId(Long scopeId) {
+        this.scopeId = scopeId;
+    }
+
+    public MetricKey.Metric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(MetricKey.Metric metric) {
+        this.metric = metric;
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    public void setSampleCount(long sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public void setWeight(double weight) {
+        this.weight = weight;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public void setMean(double mean) {
+        this.mean = mean;
+    }
+
+    public double getM2() {
+        return m2;
+    }
+
+    public void setM2(double m2) {
+        this.m2 = m2;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public MetricKey getKey() {
+        return new MetricKey(scope, scopeId, metric);
+    }
+}
@@ -0,0 +1,99 @@
+package com.proximaai.domain.entity.ai;
+
+import jakarta.persistence.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Soma e quantidade das acurácias das predições de atraso já resolvidas, por dimensão: geral, projeto,
+ * nível de risco, versão do modelo e dia da predição (janelas móveis). Atualizadas por incremento na mesma
+ * transação que grava o atraso real; a média é soma / quantidade.
+ */
+@Entity
+@Table(name = "ai_prediction_accuracy_stats",
+       uniqueConstraints = @UniqueConstraint(name = "uk_ai_prediction_accuracy_stats_key", columnNames = {"dimension", "dimension_key"}))
+public class PredictionAccuracyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_prediction_accuracy_stats_seq")
+    @SequenceGenerator(name = "ai_prediction_accuracy_stats_seq", sequenceName = "ai_prediction_accuracy_stats_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Dimension dimension;
+
+    @Column(name = "dimension_key", nullable = false, length = 50)
+    private String dimensionKey; // Id do projeto, nível de risco, versão do modelo ou data ISO; vazio em ALL
+
+    @Column(name = "accuracy_sum", nullable = false, precision = 19, scale = 4)
+    private BigDecimal accuracySum;
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Enums
+    public enum Dimension {
+        ALL,            // Todas as predições
+        PROJECT,        // Por projeto da tarefa
+        RISK_LEVEL,     // Por nível de risco da predição
+        MODEL_VERSION,  // Por versão do modelo
+        DAY             // Por dia da predição, somado nas janelas móveis
+    }
+
+    // Constructors
+    public PredictionAccuracyStats() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public void setDimension(Dimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public String getDimensionKey() {
+        return dimensionKey;
+    }
+
+    public void setDimensionKey(String dimensionKey) {
+        this.dimensionKey = dimensionKey;
+    }
+
+    public BigDecimal getAccuracySum() {
+        return accuracySum;
+    }
+
+    public void setAccuracySum(BigDecimal accuracySum) {
+        this.accuracySum = accuracySum;
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    public void setSampleCount(long sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -16,7 +16,8 @@ import com.proximaai.domain.entity.Project;
 public class ProjectSummary {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_project_summaries_seq")
+    @SequenceGenerator(name = "ai_project_summaries_seq", sequenceName = "ai_project_summaries_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -17,7 +17,8 @@ import com.proximaai.domain.entity.Team;
 public class SentimentAnalysis {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_sentiment_analysis_seq")
+    @SequenceGenerator(name = "ai_sentiment_analysis_seq", sequenceName = "ai_sentiment_analysis_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
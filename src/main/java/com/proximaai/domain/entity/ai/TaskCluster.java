@@ -21,7 +21,8 @@ import com.proximaai.domain.entity.Task;
 public class TaskCluster {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_task_clusters_seq")
+    @SequenceGenerator(name = "ai_task_clusters_seq", sequenceName = "ai_task_clusters_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -56,13 +57,13 @@ public class TaskCluster {
     @Column(name = "algorithm_used")
     private String algorithmUsed; // Algoritmo de ML usado (K-means, DBSCAN, etc.)
 
-    @Column(name = "cluster_centroid")
+    @Column(name = "cluster_centroid", columnDefinition = "TEXT")
     private String clusterCentroid; // JSON com características do centroide
 
-    @Column(name = "cluster_features")
+    @Column(name = "cluster_features", columnDefinition = "TEXT")
     private String clusterFeatures; // JSON com features utilizadas para clusterização
 
-    @Column(name = "cluster_metadata")
+    @Column(name = "cluster_metadata", columnDefinition = "TEXT")
     private String clusterMetadata; // JSON com metadados do cluster
 
     @Column(name = "is_auto_generated")
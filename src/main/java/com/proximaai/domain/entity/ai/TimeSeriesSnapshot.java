@@ -0,0 +1,149 @@
+package com.proximaai.domain.entity.ai;
+
+import com.proximaai.service.ai.timeseries.TimeSeriesKey;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Estado persistido de uma série temporal (uma por métrica, projeto e equipe): as observações do buffer
+ * circular em ordem cronológica e o estado dos modelos EWMA e Holt.
+ * Gravado periodicamente pelo TimeSeriesStore e relido na inicialização.
+ */
+@Entity
+@Table(name = "ai_time_series",
+       uniqueConstraints = @UniqueConstraint(name = "uk_ai_time_series_key", columnNames = {"metric", "project_id", "team_id"}))
+public class TimeSeriesSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "ai_time_series_seq")
+    @SequenceGenerator(name = "ai_time_series_seq", sequenceName = "ai_time_series_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private TimeSeriesKey.Metric metric;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "team_id", nullable = false)
+    private Long teamId; // TimeSeriesKey.NO_TEAM nas séries do projeto
+
+    @Column(name = "observed_values", nullable = false)
+    private double[] observedValues;
+
+    @Column(name = "observed_at", nullable = false)
+    private long[] observedAt; // Epoch em milissegundos
+
+    @Column(name = "sample_count", nullable = false)
+    private long sampleCount; // Observações desde o início, inclusive as que já saíram do buffer
+
+    @Column(nullable = false)
+    private double ewma;
+
+    @Column(nullable = false)
+    private double level;
+
+    @Column(nullable = false)
+    private double trend;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Constructors
+    public TimeSeriesSnapshot() {}
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public TimeSeriesKey.Metric getMetric() {
+        return metric;
+    }
+
+    public void setMetric(TimeSeriesKey.Metric metric) {
+        this.metric = metric;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getTeamId() {
+        return teamId;
+    }
+
+    public void setTeamId(Long teamId) {
+        this.teamId = teamId;
+    }
+
+    public double[] getObservedValues() {
+        return observedValues;
+    }
+
+    public void setObservedValues(double[] observedValues) {
+        this.observedValues = observedValues;
+    }
+
+    public long[] getObservedAt() {
+        return observedAt;
+    }
+
+    public void setObservedAt(long[] observedAt) {
+        this.observedAt = observedAt;
+    }
+
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    public void setSampleCount(long sampleCount) {
+        this.sampleCount = sampleCount;
+    }
+
+    public double getEwma() {
+        return ewma;
+    }
+
+    public void setEwma(double ewma) {
+        this.ewma = ewma;
+    }
+
+    public double getLevel() {
+        return level;
+    }
+
+    public void setLevel(double level) {
+        this.level = level;
+    }
+
+    public double getTrend() {
+        return trend;
+    }
+
+    public void setTrend(double trend) {
+        this.trend = trend;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public TimeSeriesKey getKey() {
+        return new TimeSeriesKey(metric, projectId, teamId);
+    }
+}
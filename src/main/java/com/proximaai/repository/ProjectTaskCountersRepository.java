@@ -0,0 +1,59 @@
+package com.proximaai.repository;
+
+import com.proximaai.domain.entity.ProjectTaskCounters;
+import com.proximaai.domain.entity.Task;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ProjectTaskCountersRepository extends JpaRepository<ProjectTaskCounters, Long> {
+
+    /**
+     * Busca os contadores por consulta (faz flush das tarefas pendentes, ao contrário de findById)
+     */
+    Optional<ProjectTaskCounters> findByProjectId(Long projectId);
+
+    /**
+     * Quantidade de tarefas do projeto no status informado
+     */
+    default long countByProjectAndStatus(Long projectId, Task.TaskStatus status) {
+        return findByProjectId(projectId).map(counters -> counters.getCountByStatus(status)).orElse(0L);
+    }
+
+    /**
+     * Média de story points das tarefas que têm story points (null se nenhuma tem)
+     */
+    default Double getAverageStoryPointsByProject(Long projectId) {
+        return findByProjectId(projectId).map(ProjectTaskCounters::getAverageStoryPoints).orElse(null);
+    }
+
+    /**
+     * Total de horas realizadas nas tarefas do projeto (null se o projeto não tem contadores)
+     */
+    default Double getTotalActualHoursByProject(Long projectId) {
+        return findByProjectId(projectId).map(counters -> (double) counters.getActualHours()).orElse(null);
+    }
+
+    @Query(value = "SELECT id FROM projects ORDER BY id", nativeQuery = true)
+    List<Long> findAllProjectIds();
+
+    /**
+     * Recalcula os contadores de um projeto a partir das tarefas (trava só a linha do projeto)
+     */
+    @Transactional
+    @Query(value = "SELECT rebuild_project_task_stats(:projectId)", nativeQuery = true)
+    int rebuild(@Param("projectId") Long projectId);
+
+    /**
+     * Reconta as tarefas atrasadas de um projeto (trava só a linha do projeto)
+     */
+    @Transactional
+    @Query(value = "SELECT refresh_project_overdue_tasks(:projectId)", nativeQuery = true)
+    int refreshOverdueTasks(@Param("projectId") Long projectId);
+}
@@ -1,22 +1,35 @@
 package com.proximaai.repository;
 
 import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.projection.AssigneeTaskStats;
+import com.proximaai.repository.projection.ProjectTaskStats;
+import com.proximaai.repository.projection.TaskFeatureRow;
+import com.proximaai.repository.projection.TagCount;
+import com.proximaai.repository.projection.TaskSearchHit;
+import com.proximaai.repository.projection.UserTaskProfileRow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
     List<Task> findByProjectId(Long projectId);
     
+    long countByProjectId(Long projectId);
+    
     List<Task> findByAssigneeId(Long assigneeId);
     
     List<Task> findByReporterId(Long reporterId);
@@ -33,6 +46,69 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     
     List<Task> findByProjectIdAndAssigneeId(Long projectId, Long assigneeId);
     
+    // Streams tasks of a project assigned to members of a team (must be consumed inside a transaction)
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.assignee.id IN " +
+           "(SELECT m.id FROM Team tm JOIN tm.members m WHERE tm.id = :teamId)")
+    Stream<Task> streamByProjectAndTeamMembers(@Param("projectId") Long projectId, @Param("teamId") Long teamId);
+    
+    // Comment texts on a project's tasks assigned to members of a team, written since the given moment
+    @Query("SELECT c.content FROM TaskComment c WHERE c.task.project.id = :projectId AND c.createdAt >= :since " +
+           "AND c.task.assignee.id IN (SELECT m.id FROM Team tm JOIN tm.members m WHERE tm.id = :teamId)")
+    List<String> findCommentContentsByProjectAndTeamMembers(@Param("projectId") Long projectId, @Param("teamId") Long teamId,
+                                                            @Param("since") LocalDateTime since);
+    
+    // Search index feeding: id keyset batches, then tasks with their tags in a single query
+    @Query("SELECT t.id FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.tags WHERE t.id IN :ids")
+    List<Task> findAllForIndexing(@Param("ids") Collection<Long> ids);
+    
+    // Batch delay prediction: open tasks of a project with their dependencies in a single query
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.dependencies " +
+           "WHERE t.project.id = :projectId AND t.status NOT IN ('DONE', 'CANCELLED') ORDER BY t.id")
+    List<Task> findOpenByProjectIdWithDependencies(@Param("projectId") Long projectId);
+    
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT DISTINCT t FROM Task t LEFT JOIN FETCH t.dependencies " +
+           "WHERE t.id IN :ids AND t.status NOT IN ('DONE', 'CANCELLED') ORDER BY t.id")
+    List<Task> findOpenByIdInWithDependencies(@Param("ids") Collection<Long> ids);
+    
+    // Clustering features: scalar columns only, no entity hydration
+    @Query("SELECT new com.proximaai.repository.projection.TaskFeatureRow(t.id, t.type, t.priority, t.status, " +
+           "t.storyPoints, t.estimatedHours, t.actualHours, t.dueDate, t.createdAt) " +
+           "FROM Task t WHERE t.project.id = :projectId ORDER BY t.id")
+    List<TaskFeatureRow> findFeatureRowsByProjectId(@Param("projectId") Long projectId);
+
+    // Tasks created or changed since the last clustering run (auditing also sets updatedAt on insert)
+    @Query("SELECT new com.proximaai.repository.projection.TaskFeatureRow(t.id, t.type, t.priority, t.status, " +
+           "t.storyPoints, t.estimatedHours, t.actualHours, t.dueDate, t.createdAt) " +
+           "FROM Task t WHERE t.project.id = :projectId AND t.updatedAt > :since ORDER BY t.id")
+    List<TaskFeatureRow> findFeatureRowsChangedSince(@Param("projectId") Long projectId, @Param("since") LocalDateTime since);
+
+    // Completed tasks per assignee, type and priority (user profiles for allocation similarity)
+    @Query("SELECT new com.proximaai.repository.projection.UserTaskProfileRow(t.assignee.id, t.type, t.priority, COUNT(t), " +
+           "SUM(LEAST(COALESCE(t.storyPoints, 0), 13) / 13.0)) " +
+           "FROM Task t WHERE t.status = 'DONE' AND t.assignee IS NOT NULL " +
+           "GROUP BY t.assignee.id, t.type, t.priority")
+    List<UserTaskProfileRow> findUserTaskProfileRows();
+
+    @Query("SELECT new com.proximaai.repository.projection.UserTaskProfileRow(t.assignee.id, t.type, t.priority, COUNT(t), " +
+           "SUM(LEAST(COALESCE(t.storyPoints, 0), 13) / 13.0)) " +
+           "FROM Task t WHERE t.status = 'DONE' AND t.assignee.id IN :userIds " +
+           "GROUP BY t.assignee.id, t.type, t.priority")
+    List<UserTaskProfileRow> findUserTaskProfileRowsByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // Assignees of tasks created or changed since the given instant
+    @Query("SELECT DISTINCT t.assignee.id FROM Task t WHERE t.updatedAt > :since AND t.assignee IS NOT NULL")
+    List<Long> findAssigneeIdsOfTasksChangedSince(@Param("since") LocalDateTime since);
+    
     // Kanban Board queries
     List<Task> findByProjectIdAndKanbanColumnOrderByKanbanOrderAsc(Long projectId, String kanbanColumn);
     
@@ -64,6 +140,71 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
                                    @Param("searchTerm") String searchTerm, 
                                    Pageable pageable);
     
+    // Ranked full-text search (tsvector + GIN) with keyset pagination on (rank, id)
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT t.id AS \"id\", t.title AS \"title\", t.status AS \"status\", t.priority AS \"priority\", " +
+                   "t.project_id AS \"projectId\", CAST(ts_rank_cd(t.search_vector, q.query) AS double precision) AS \"rank\" " +
+                   "FROM tasks t, (SELECT websearch_to_tsquery('portuguese', :searchTerm) || " +
+                   "websearch_to_tsquery('english', :searchTerm) AS query) q " +
+                   "WHERE t.search_vector @@ q.query) hits " +
+                   "WHERE hits.\"rank\" < :afterRank OR (hits.\"rank\" = :afterRank AND hits.\"id\" < :afterId) " +
+                   "ORDER BY hits.\"rank\" DESC, hits.\"id\" DESC LIMIT :limit",
+           nativeQuery = true)
+    List<TaskSearchHit> fullTextSearch(@Param("searchTerm") String searchTerm,
+                                       @Param("afterRank") double afterRank,
+                                       @Param("afterId") long afterId,
+                                       @Param("limit") int limit);
+    
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT t.id AS \"id\", t.title AS \"title\", t.status AS \"status\", t.priority AS \"priority\", " +
+                   "t.project_id AS \"projectId\", CAST(ts_rank_cd(t.search_vector, q.query) AS double precision) AS \"rank\" " +
+                   "FROM tasks t, (SELECT websearch_to_tsquery('portuguese', :searchTerm) || " +
+                   "websearch_to_tsquery('english', :searchTerm) AS query) q " +
+                   "WHERE t.project_id = :projectId AND t.search_vector @@ q.query) hits " +
+                   "WHERE hits.\"rank\" < :afterRank OR (hits.\"rank\" = :afterRank AND hits.\"id\" < :afterId) " +
+                   "ORDER BY hits.\"rank\" DESC, hits.\"id\" DESC LIMIT :limit",
+           nativeQuery = true)
+    List<TaskSearchHit> fullTextSearchInProject(@Param("projectId") Long projectId,
+                                                @Param("searchTerm") String searchTerm,
+                                                @Param("afterRank") double afterRank,
+                                                @Param("afterId") long afterId,
+                                                @Param("limit") int limit);
+    
+    // Threshold for the pg_trgm word similarity operator, scoped to the current transaction
+    @Query(value = "SELECT set_config('pg_trgm.word_similarity_threshold', CAST(:threshold AS text), true)",
+           nativeQuery = true)
+    String setWordSimilarityThreshold(@Param("threshold") double threshold);
+    
+    // Ranked substring/fuzzy search backed by pg_trgm indexes
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT t.id AS \"id\", t.title AS \"title\", t.status AS \"status\", t.priority AS \"priority\", " +
+                   "t.project_id AS \"projectId\", " +
+                   "CAST(GREATEST(similarity(t.title, :searchTerm), word_similarity(:searchTerm, t.title)) AS double precision) AS \"rank\" " +
+                   "FROM tasks t WHERE :searchTerm <% t.title " +
+                   "OR t.title ILIKE CONCAT('%', :searchTerm, '%') OR t.description ILIKE CONCAT('%', :searchTerm, '%')) hits " +
+                   "WHERE hits.\"rank\" < :afterRank OR (hits.\"rank\" = :afterRank AND hits.\"id\" < :afterId) " +
+                   "ORDER BY hits.\"rank\" DESC, hits.\"id\" DESC LIMIT :limit",
+           nativeQuery = true)
+    List<TaskSearchHit> fuzzySearch(@Param("searchTerm") String searchTerm,
+                                    @Param("afterRank") double afterRank,
+                                    @Param("afterId") long afterId,
+                                    @Param("limit") int limit);
+    
+    @Query(value = "SELECT * FROM (" +
+                   "SELECT t.id AS \"id\", t.title AS \"title\", t.status AS \"status\", t.priority AS \"priority\", " +
+                   "t.project_id AS \"projectId\", " +
+                   "CAST(GREATEST(similarity(t.title, :searchTerm), word_similarity(:searchTerm, t.title)) AS double precision) AS \"rank\" " +
+                   "FROM tasks t WHERE t.project_id = :projectId AND (:searchTerm <% t.title " +
+                   "OR t.title ILIKE CONCAT('%', :searchTerm, '%') OR t.description ILIKE CONCAT('%', :searchTerm, '%'))) hits " +
+                   "WHERE hits.\"rank\" < :afterRank OR (hits.\"rank\" = :afterRank AND hits.\"id\" < :afterId) " +
+                   "ORDER BY hits.\"rank\" DESC, hits.\"id\" DESC LIMIT :limit",
+           nativeQuery = true)
+    List<TaskSearchHit> fuzzySearchInProject(@Param("projectId") Long projectId,
+                                             @Param("searchTerm") String searchTerm,
+                                             @Param("afterRank") double afterRank,
+                                             @Param("afterId") long afterId,
+                                             @Param("limit") int limit);
+    
     // Priority and status combinations
     List<Task> findByPriorityAndStatus(Task.TaskPriority priority, Task.TaskStatus status);
     
@@ -89,18 +230,29 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByAiEstimatedDurationIsNotNull();
     
     // Statistics queries
-    @Query("SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId AND t.status = :status")
-    long countByProjectAndStatus(@Param("projectId") Long projectId, @Param("status") Task.TaskStatus status);
-    
     @Query("SELECT COUNT(t) FROM Task t WHERE t.assignee.id = :assigneeId AND t.status = :status")
     long countByAssigneeAndStatus(@Param("assigneeId") Long assigneeId, @Param("status") Task.TaskStatus status);
-    
-    @Query("SELECT AVG(t.storyPoints) FROM Task t WHERE t.project.id = :projectId AND t.storyPoints IS NOT NULL")
-    Double getAverageStoryPointsByProject(@Param("projectId") Long projectId);
-    
-    @Query("SELECT SUM(t.actualHours) FROM Task t WHERE t.project.id = :projectId AND t.actualHours IS NOT NULL")
-    Double getTotalActualHoursByProject(@Param("projectId") Long projectId);
-    
+
+    // Per-project counts and sums are read from ProjectTaskCountersRepository
+
+    // Aggregated project statistics (one row per status/priority pair)
+    @Query("SELECT t.status AS status, t.priority AS priority, COUNT(t) AS taskCount, " +
+           "SUM(CASE WHEN t.dueDate < CURRENT_DATE THEN 1 ELSE 0 END) AS pastDueCount, " +
+           "SUM(CASE WHEN SIZE(t.dependencies) > 0 THEN 1 ELSE 0 END) AS dependencyBlockerCount, " +
+           "COALESCE(SUM(t.estimatedHours), 0) AS estimatedHours, " +
+           "COALESCE(SUM(t.actualHours), 0) AS actualHours " +
+           "FROM Task t WHERE t.project.id = :projectId GROUP BY t.status, t.priority")
+    List<ProjectTaskStats.Row> aggregateStatsByProject(@Param("projectId") Long projectId);
+    
+    // Aggregated workload statistics for a set of assignees (one row per assignee/status pair)
+    @Query("SELECT t.assignee.id AS assigneeId, t.status AS status, COUNT(t) AS taskCount, " +
+           "SUM(COALESCE(t.estimatedHours, 8)) AS estimatedHours, " +
+           "SUM(CASE WHEN t.estimatedHours IS NOT NULL AND t.actualHours > 0 " +
+           "THEN 1.0 * t.estimatedHours / t.actualHours ELSE 0.0 END) AS estimationRatioSum, " +
+           "SUM(CASE WHEN t.estimatedHours IS NOT NULL AND t.actualHours > 0 THEN 1 ELSE 0 END) AS estimationRatioCount " +
+           "FROM Task t WHERE t.assignee.id IN :assigneeIds GROUP BY t.assignee.id, t.status")
+    List<AssigneeTaskStats.Row> aggregateStatsByAssignees(@Param("assigneeIds") Collection<Long> assigneeIds);
+
     // Recent tasks
     List<Task> findTop10ByOrderByCreatedAtDesc();
     
@@ -121,10 +273,26 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     List<Task> findByCompletedDateBetween(@Param("startDate") LocalDate startDate, 
                                          @Param("endDate") LocalDate endDate);
     
-    // Tasks with specific tags
-    @Query("SELECT t FROM Task t WHERE t.tags LIKE CONCAT('%', :tag, '%')")
+    // Tasks with specific tags (exact match on the normalized tag, served by idx_task_tags_tag)
+    @Query("SELECT t FROM Task t JOIN t.tags tag WHERE tag = :tag")
     List<Task> findByTag(@Param("tag") String tag);
     
+    @Query("SELECT t FROM Task t JOIN t.tags tag WHERE t.project.id = :projectId AND tag = :tag")
+    List<Task> findByProjectIdAndTag(@Param("projectId") Long projectId, @Param("tag") String tag);
+    
+    @Query("SELECT COUNT(t) FROM Task t JOIN t.tags tag WHERE t.project.id = :projectId AND tag = :tag")
+    long countByProjectIdAndTag(@Param("projectId") Long projectId, @Param("tag") String tag);
+    
+    @Query("SELECT t FROM Task t WHERE t.project.id = :projectId AND t.status = :status AND :tag NOT MEMBER OF t.tags")
+    List<Task> findByProjectIdAndStatusWithoutTag(@Param("projectId") Long projectId,
+                                                  @Param("status") Task.TaskStatus status,
+                                                  @Param("tag") String tag);
+    
+    // Tag facets of a project
+    @Query("SELECT tag AS tag, COUNT(t) AS taskCount FROM Task t JOIN t.tags tag " +
+           "WHERE t.project.id = :projectId GROUP BY tag ORDER BY COUNT(t) DESC, tag")
+    List<TagCount> countTagsByProject(@Param("projectId") Long projectId);
+    
     // Tasks by multiple criteria
     @Query("SELECT t FROM Task t WHERE " +
            "(:projectId IS NULL OR t.project.id = :projectId) AND " +
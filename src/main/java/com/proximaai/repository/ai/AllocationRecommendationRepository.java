@@ -4,6 +4,7 @@ import com.proximaai.domain.entity.ai.AllocationRecommendation;
 import com.proximaai.domain.entity.Task;
 import com.proximaai.domain.entity.User;
 import com.proximaai.domain.entity.Project;
+import com.proximaai.repository.projection.AllocationRecommendationView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -105,4 +106,35 @@ public interface AllocationRecommendationRepository extends JpaRepository<Alloca
      */
     @Query("SELECT ar FROM AllocationRecommendation ar WHERE ar.task = :task AND ar.recommendedUser != :excludeUser ORDER BY ar.recommendationScore DESC")
     List<AllocationRecommendation> findAlternativesForTask(@Param("task") Task task, @Param("excludeUser") User excludeUser);
+
+    // Projeção das listagens da API: uma consulta, sem carregar tarefa nem usuário
+    String VIEW_SELECT = "SELECT new com.proximaai.repository.projection.AllocationRecommendationView(" +
+            "ar.id, ar.task.id, ar.recommendedUser.id, ar.recommendationScore, ar.skillMatchPercentage, " +
+            "ar.availabilityScore, ar.workloadScore, ar.experienceScore, ar.collaborationScore, " +
+            "ar.estimatedCompletionDays, ar.confidenceLevel, ar.isImplemented, ar.actualPerformanceScore, ar.createdAt) " +
+            "FROM AllocationRecommendation ar ";
+
+    /**
+     * Recomendações de uma tarefa, da melhor para a pior
+     */
+    @Query(VIEW_SELECT + "WHERE ar.task.id = :taskId ORDER BY ar.recommendationScore DESC")
+    List<AllocationRecommendationView> findViewsByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Recomendações em que o usuário foi sugerido
+     */
+    @Query(VIEW_SELECT + "WHERE ar.recommendedUser.id = :userId ORDER BY ar.recommendationScore DESC")
+    List<AllocationRecommendationView> findViewsByRecommendedUserId(@Param("userId") Long userId);
+
+    /**
+     * Recomendações por nível de confiança
+     */
+    @Query(VIEW_SELECT + "WHERE ar.confidenceLevel = :confidenceLevel")
+    List<AllocationRecommendationView> findViewsByConfidenceLevel(@Param("confidenceLevel") AllocationRecommendation.ConfidenceLevel confidenceLevel);
+
+    /**
+     * Recomendações de uma tarefa excluindo um usuário
+     */
+    @Query(VIEW_SELECT + "WHERE ar.task.id = :taskId AND ar.recommendedUser.id <> :excludeUserId ORDER BY ar.recommendationScore DESC")
+    List<AllocationRecommendationView> findAlternativeViewsForTask(@Param("taskId") Long taskId, @Param("excludeUserId") Long excludeUserId);
 }
@@ -4,12 +4,14 @@ import com.proximaai.domain.entity.ai.ClusterTask;
 import com.proximaai.domain.entity.ai.TaskCluster;
 import com.proximaai.domain.entity.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -166,4 +168,17 @@ public interface ClusterTaskRepository extends JpaRepository<ClusterTask, Long>
      */
     @Query("SELECT ct FROM ClusterTask ct WHERE ct.cluster = :cluster AND ct.assignmentDate >= :since ORDER BY ct.assignmentDate DESC")
     List<ClusterTask> findRecentByCluster(@Param("cluster") TaskCluster cluster, @Param("since") LocalDateTime since);
+
+    /**
+     * Busca as atribuições das tarefas informadas entre os clusters informados
+     */
+    @Query("SELECT ct FROM ClusterTask ct WHERE ct.cluster IN :clusters AND ct.task.id IN :taskIds")
+    List<ClusterTask> findByClusterInAndTaskIdIn(@Param("clusters") Collection<TaskCluster> clusters, @Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Remove as atribuições dos clusters informados em um único comando
+     */
+    @Modifying
+    @Query("DELETE FROM ClusterTask ct WHERE ct.cluster IN :clusters")
+    int deleteByClusterIn(@Param("clusters") Collection<TaskCluster> clusters);
 }
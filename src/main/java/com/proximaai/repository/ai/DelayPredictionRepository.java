@@ -2,6 +2,7 @@ package com.proximaai.repository.ai;
 
 import com.proximaai.domain.entity.ai.DelayPrediction;
 import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.projection.DelayPredictionView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -74,4 +75,40 @@ public interface DelayPredictionRepository extends JpaRepository<DelayPrediction
      */
     @Query("SELECT dp FROM DelayPrediction dp WHERE dp.task = :task AND dp.predictionDate BETWEEN :startDate AND :endDate")
     List<DelayPrediction> findByTaskAndPeriod(@Param("task") Task task, @Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
+
+    // Projeção das listagens da API: uma consulta, sem carregar a tarefa
+    String VIEW_SELECT = "SELECT new com.proximaai.repository.projection.DelayPredictionView(" +
+            "dp.id, dp.task.id, dp.predictedDelayDays, dp.confidenceScore, dp.riskLevel, dp.predictionDate, " +
+            "dp.actualDelayDays, dp.predictionAccuracy, dp.modelVersion, dp.isAlertSent, dp.createdAt) " +
+            "FROM DelayPrediction dp ";
+
+    /**
+     * Predições de uma tarefa, da mais recente para a mais antiga
+     */
+    @Query(VIEW_SELECT + "WHERE dp.task.id = :taskId ORDER BY dp.predictionDate DESC")
+    List<DelayPredictionView> findViewsByTaskId(@Param("taskId") Long taskId);
+
+    /**
+     * Predições por nível de risco
+     */
+    @Query(VIEW_SELECT + "WHERE dp.riskLevel = :riskLevel")
+    List<DelayPredictionView> findViewsByRiskLevel(@Param("riskLevel") DelayPrediction.RiskLevel riskLevel);
+
+    /**
+     * Predições com score de confiança acima do threshold
+     */
+    @Query(VIEW_SELECT + "WHERE dp.confidenceScore >= :minConfidence")
+    List<DelayPredictionView> findViewsByConfidenceScoreAbove(@Param("minConfidence") Double minConfidence);
+
+    /**
+     * Predições recentes das tarefas de um projeto
+     */
+    @Query(VIEW_SELECT + "WHERE dp.task.project.id = :projectId AND dp.predictionDate >= :since")
+    List<DelayPredictionView> findRecentViewsByProject(@Param("projectId") Long projectId, @Param("since") LocalDateTime since);
+
+    /**
+     * Predições críticas ainda não alertadas
+     */
+    @Query(VIEW_SELECT + "WHERE dp.riskLevel = 'CRITICAL' AND dp.isAlertSent = false")
+    List<DelayPredictionView> findCriticalViewsWithoutAlert();
 }
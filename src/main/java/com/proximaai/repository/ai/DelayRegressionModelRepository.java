@@ -0,0 +1,53 @@
+package com.proximaai.repository.ai;
+
+import com.proximaai.domain.entity.ai.DelayRegressionModel;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DelayRegressionModelRepository extends JpaRepository<DelayRegressionModel, Long> {
+
+    /**
+     * Busca o modelo do projeto bloqueando a linha até o fim da transação (atualizações concorrentes esperam)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM DelayRegressionModel m WHERE m.projectId = :projectId")
+    Optional<DelayRegressionModel> findForUpdate(@Param("projectId") Long projectId);
+
+    /**
+     * Cria o modelo vazio do projeto, se ainda não existir (seguro com inserções concorrentes)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_delay_regression_models"))
+    @Query(value = "INSERT INTO ai_delay_regression_models (project_id, model_version, sample_count, weight, yty, updated_at) " +
+                   "VALUES (:projectId, :modelVersion, 0, 0, 0, :now) ON CONFLICT (project_id) DO NOTHING",
+           nativeQuery = true)
+    int insertIfAbsent(@Param("projectId") Long projectId, @Param("modelVersion") String modelVersion, @Param("now") LocalDateTime now);
+
+    /**
+     * Projetos com modelo, para a compactação
+     */
+    @Query("SELECT m.projectId FROM DelayRegressionModel m ORDER BY m.projectId")
+    List<Long> findAllProjectIds();
+
+    /**
+     * Remove os modelos de projetos que não existem mais
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_delay_regression_models"))
+    @Query(value = "DELETE FROM ai_delay_regression_models m WHERE NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = m.project_id)",
+           nativeQuery = true)
+    int deleteOrphans();
+}
@@ -0,0 +1,31 @@
+package com.proximaai.repository.ai;
+
+import com.proximaai.domain.entity.ai.MetricAccumulator;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface MetricAccumulatorRepository extends JpaRepository<MetricAccumulator, Long> {
+
+    /**
+     * Grava o estado de um acumulador, inserindo ou substituindo o da mesma chave
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_metric_accumulators"))
+    @Query(value = "INSERT INTO ai_metric_accumulators (id, scope, scope_id, metric, sample_count, weight, mean, m2, updated_at) " +
+                   "VALUES (nextval('ai_metric_accumulators_seq'), :scope, :scopeId, :metric, :sampleCount, :weight, :mean, :m2, :updatedAt) " +
+                   "ON CONFLICT (scope, scope_id, metric) DO UPDATE SET sample_count = EXCLUDED.sample_count, " +
+                   "weight = EXCLUDED.weight, mean = EXCLUDED.mean, m2 = EXCLUDED.m2, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int upsert(@Param("scope") String scope, @Param("scopeId") Long scopeId, @Param("metric") String metric,
+               @Param("sampleCount") long sampleCount, @Param("weight") double weight, @Param("mean") double mean,
+               @Param("m2") double m2, @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,81 @@
+package com.proximaai.repository.ai;
+
+import com.proximaai.domain.entity.ai.PredictionAccuracyStats;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PredictionAccuracyStatsRepository extends JpaRepository<PredictionAccuracyStats, Long> {
+
+    Optional<PredictionAccuracyStats> findByDimensionAndDimensionKey(PredictionAccuracyStats.Dimension dimension, String dimensionKey);
+
+    List<PredictionAccuracyStats> findByDimensionOrderByDimensionKey(PredictionAccuracyStats.Dimension dimension);
+
+    /**
+     * Day buckets from the given ISO date on (at most one row per day of the window)
+     */
+    @Query("SELECT s FROM PredictionAccuracyStats s WHERE s.dimension = 'DAY' AND s.dimensionKey >= :since")
+    List<PredictionAccuracyStats> findDaysSince(@Param("since") String since);
+
+    /**
+     * Adds to the running sum and count of a key, creating the row on first use (safe with concurrent writers)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_prediction_accuracy_stats"))
+    @Query(value = "INSERT INTO ai_prediction_accuracy_stats (id, dimension, dimension_key, accuracy_sum, sample_count, updated_at) " +
+                   "VALUES (nextval('ai_prediction_accuracy_stats_seq'), :dimension, :dimensionKey, :accuracyDelta, :countDelta, :now) " +
+                   "ON CONFLICT (dimension, dimension_key) DO UPDATE SET " +
+                   "accuracy_sum = ai_prediction_accuracy_stats.accuracy_sum + EXCLUDED.accuracy_sum, " +
+                   "sample_count = ai_prediction_accuracy_stats.sample_count + EXCLUDED.sample_count, " +
+                   "updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int increment(@Param("dimension") String dimension, @Param("dimensionKey") String dimensionKey,
+                  @Param("accuracyDelta") BigDecimal accuracyDelta, @Param("countDelta") long countDelta,
+                  @Param("now") LocalDateTime now);
+
+    /**
+     * Blocks concurrent increments and rebuilds until the end of the transaction (reads are not blocked)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_prediction_accuracy_stats"))
+    @Query(value = "LOCK TABLE ai_prediction_accuracy_stats IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockStats();
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_prediction_accuracy_stats"))
+    @Query(value = "DELETE FROM ai_prediction_accuracy_stats", nativeQuery = true)
+    int deleteAllStats();
+
+    /**
+     * Recomputes every dimension from the resolved predictions (backfill and repair)
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_prediction_accuracy_stats"))
+    @Query(value = "INSERT INTO ai_prediction_accuracy_stats (id, dimension, dimension_key, accuracy_sum, sample_count, updated_at) " +
+                   "SELECT nextval('ai_prediction_accuracy_stats_seq'), s.dimension, s.dimension_key, s.accuracy_sum, s.sample_count, :now FROM (" +
+                   "SELECT 'ALL' AS dimension, '' AS dimension_key, SUM(p.prediction_accuracy) AS accuracy_sum, COUNT(*) AS sample_count " +
+                   "FROM ai_delay_predictions p WHERE p.prediction_accuracy IS NOT NULL HAVING COUNT(*) > 0 " +
+                   "UNION ALL SELECT 'PROJECT', CAST(t.project_id AS varchar), SUM(p.prediction_accuracy), COUNT(*) " +
+                   "FROM ai_delay_predictions p JOIN tasks t ON t.id = p.task_id WHERE p.prediction_accuracy IS NOT NULL GROUP BY t.project_id " +
+                   "UNION ALL SELECT 'RISK_LEVEL', p.risk_level, SUM(p.prediction_accuracy), COUNT(*) " +
+                   "FROM ai_delay_predictions p WHERE p.prediction_accuracy IS NOT NULL GROUP BY p.risk_level " +
+                   "UNION ALL SELECT 'MODEL_VERSION', m.model_version, SUM(m.prediction_accuracy), COUNT(*) " +
+                   "FROM (SELECT COALESCE(p.model_version, :unknownModel) AS model_version, p.prediction_accuracy " +
+                   "FROM ai_delay_predictions p WHERE p.prediction_accuracy IS NOT NULL) m GROUP BY m.model_version " +
+                   "UNION ALL SELECT 'DAY', to_char(p.prediction_date, 'YYYY-MM-DD'), SUM(p.prediction_accuracy), COUNT(*) " +
+                   "FROM ai_delay_predictions p WHERE p.prediction_accuracy IS NOT NULL GROUP BY to_char(p.prediction_date, 'YYYY-MM-DD')" +
+                   ") s",
+           nativeQuery = true)
+    int insertRebuilt(@Param("unknownModel") String unknownModel, @Param("now") LocalDateTime now);
+}
@@ -2,6 +2,7 @@ package com.proximaai.repository.ai;
 
 import com.proximaai.domain.entity.ai.ProjectSummary;
 import com.proximaai.domain.entity.Project;
+import com.proximaai.repository.projection.ProjectSummaryView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -121,4 +122,23 @@ public interface ProjectSummaryRepository extends JpaRepository<ProjectSummary,
      * Busca resumos por projeto e status de aprovação
      */
     List<ProjectSummary> findByProjectAndIsApprovedOrderBySummaryDateDesc(Project project, Boolean isApproved);
+
+    // Projeção das listagens da API: uma consulta, sem o texto do resumo nem os campos JSON
+    String VIEW_SELECT = "SELECT new com.proximaai.repository.projection.ProjectSummaryView(" +
+            "ps.id, ps.project.id, ps.summaryTitle, ps.summaryType, ps.summaryDate, ps.aiModelUsed, " +
+            "ps.generationTimeMs, ps.isApproved, ps.approvedBy, ps.approvedAt, ps.feedbackScore, ps.isShared, ps.createdAt) " +
+            "FROM ProjectSummary ps ";
+
+    /**
+     * Resumos de um projeto, do mais recente para o mais antigo
+     */
+    @Query(VIEW_SELECT + "WHERE ps.project.id = :projectId ORDER BY ps.summaryDate DESC")
+    List<ProjectSummaryView> findViewsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Resumos de um projeto filtrados por tipo
+     */
+    @Query(VIEW_SELECT + "WHERE ps.project.id = :projectId AND ps.summaryType = :summaryType ORDER BY ps.summaryDate DESC")
+    List<ProjectSummaryView> findViewsByProjectIdAndSummaryType(@Param("projectId") Long projectId,
+                                                                @Param("summaryType") ProjectSummary.SummaryType summaryType);
 }
@@ -3,6 +3,7 @@ package com.proximaai.repository.ai;
 import com.proximaai.domain.entity.ai.SentimentAnalysis;
 import com.proximaai.domain.entity.Project;
 import com.proximaai.domain.entity.Team;
+import com.proximaai.repository.projection.SentimentAnalysisView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -160,4 +161,30 @@ public interface SentimentAnalysisRepository extends JpaRepository<SentimentAnal
      * Busca análises por equipe e nível de estresse
      */
     List<SentimentAnalysis> findByTeamAndStressLevelOrderByAnalysisDateDesc(Team team, SentimentAnalysis.StressLevel stressLevel);
+
+    // Projeção das listagens da API: uma consulta, sem os campos JSON de texto
+    String VIEW_SELECT = "SELECT new com.proximaai.repository.projection.SentimentAnalysisView(" +
+            "sa.id, sa.project.id, sa.team.id, sa.analysisDate, sa.sentimentScore, sa.positivePercentage, " +
+            "sa.neutralPercentage, sa.negativePercentage, sa.overallMood, sa.stressLevel, sa.satisfactionScore, " +
+            "sa.burnoutRisk, sa.trendDirection, sa.confidenceLevel, sa.collaborationScore, sa.motivationScore, " +
+            "sa.sampleSize, sa.isAlertTriggered, sa.alertSeverity, sa.createdAt) " +
+            "FROM SentimentAnalysis sa ";
+
+    /**
+     * Análises de um projeto, da mais recente para a mais antiga
+     */
+    @Query(VIEW_SELECT + "WHERE sa.project.id = :projectId ORDER BY sa.analysisDate DESC")
+    List<SentimentAnalysisView> findViewsByProjectId(@Param("projectId") Long projectId);
+
+    /**
+     * Análises de uma equipe, da mais recente para a mais antiga
+     */
+    @Query(VIEW_SELECT + "WHERE sa.team.id = :teamId ORDER BY sa.analysisDate DESC")
+    List<SentimentAnalysisView> findViewsByTeamId(@Param("teamId") Long teamId);
+
+    /**
+     * Análises que dispararam alerta
+     */
+    @Query(VIEW_SELECT + "WHERE sa.isAlertTriggered = true")
+    List<SentimentAnalysisView> findViewsWithAlertTriggered();
 }
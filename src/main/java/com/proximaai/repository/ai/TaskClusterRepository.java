@@ -40,11 +40,6 @@ public interface TaskClusterRepository extends JpaRepository<TaskCluster, Long>
      */
     List<TaskCluster> findByIsManuallyAdjustedTrue();
 
-    /**
-     * Busca clusters ativos
-     */
-    List<TaskCluster> findByIsActiveTrue();
-
     /**
      * Busca clusters por algoritmo de ML
      */
@@ -153,4 +148,19 @@ public interface TaskClusterRepository extends JpaRepository<TaskCluster, Long>
      * Busca clusters por projeto e status de geração
      */
     List<TaskCluster> findByProjectAndIsAutoGeneratedOrderByCreatedAtDesc(Project project, Boolean isAutoGenerated);
+
+    /**
+     * Busca os clusters gerados automaticamente para um projeto por um algoritmo
+     */
+    List<TaskCluster> findByProjectIdAndAlgorithmUsedAndIsAutoGeneratedTrue(Long projectId, String algorithmUsed);
+
+    /**
+     * Projetos com clusters automáticos do algoritmo cujo recálculo venceu (última data + frequência em dias)
+     */
+    @Query(value = "SELECT DISTINCT tc.project_id FROM ai_task_clusters tc " +
+                   "WHERE tc.algorithm_used = :algorithmUsed AND tc.is_auto_generated " +
+                   "AND (tc.last_recalculation_date IS NULL " +
+                   "OR tc.last_recalculation_date + make_interval(days => coalesce(tc.recalculation_frequency_days, 7)) < :now)",
+           nativeQuery = true)
+    List<Long> findProjectIdsDueForRecalculation(@Param("algorithmUsed") String algorithmUsed, @Param("now") LocalDateTime now);
 }
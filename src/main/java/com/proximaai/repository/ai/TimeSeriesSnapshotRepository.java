@@ -0,0 +1,35 @@
+package com.proximaai.repository.ai;
+
+import com.proximaai.domain.entity.ai.TimeSeriesSnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface TimeSeriesSnapshotRepository extends JpaRepository<TimeSeriesSnapshot, Long> {
+
+    /**
+     * Grava o estado de uma série, inserindo ou substituindo o da mesma chave
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "ai_time_series"))
+    @Query(value = "INSERT INTO ai_time_series (id, metric, project_id, team_id, observed_values, observed_at, sample_count, " +
+                   "ewma, level, trend, updated_at) " +
+                   "VALUES (nextval('ai_time_series_seq'), :metric, :projectId, :teamId, :observedValues, :observedAt, :sampleCount, " +
+                   ":ewma, :level, :trend, :updatedAt) " +
+                   "ON CONFLICT (metric, project_id, team_id) DO UPDATE SET observed_values = EXCLUDED.observed_values, " +
+                   "observed_at = EXCLUDED.observed_at, sample_count = EXCLUDED.sample_count, ewma = EXCLUDED.ewma, " +
+                   "level = EXCLUDED.level, trend = EXCLUDED.trend, updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int upsert(@Param("metric") String metric, @Param("projectId") Long projectId, @Param("teamId") Long teamId,
+               @Param("observedValues") double[] observedValues, @Param("observedAt") long[] observedAt,
+               @Param("sampleCount") long sampleCount, @Param("ewma") double ewma, @Param("level") double level,
+               @Param("trend") double trend, @Param("updatedAt") LocalDateTime updatedAt);
+}
@@ -0,0 +1,44 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.ai.AllocationRecommendation;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Recomendação de alocação como exposta pela API: ids da tarefa e do usuário no lugar das entidades
+ */
+public record AllocationRecommendationView(
+        Long id,
+        Long taskId,
+        Long recommendedUserId,
+        BigDecimal recommendationScore,
+        BigDecimal skillMatchPercentage,
+        BigDecimal availabilityScore,
+        BigDecimal workloadScore,
+        BigDecimal experienceScore,
+        BigDecimal collaborationScore,
+        Integer estimatedCompletionDays,
+        AllocationRecommendation.ConfidenceLevel confidenceLevel,
+        Boolean isImplemented,
+        BigDecimal actualPerformanceScore,
+        LocalDateTime createdAt) {
+
+    public static AllocationRecommendationView from(AllocationRecommendation recommendation) {
+        return new AllocationRecommendationView(
+                recommendation.getId(),
+                recommendation.getTask() != null ? recommendation.getTask().getId() : null,
+                recommendation.getRecommendedUser() != null ? recommendation.getRecommendedUser().getId() : null,
+                recommendation.getRecommendationScore(),
+                recommendation.getSkillMatchPercentage(),
+                recommendation.getAvailabilityScore(),
+                recommendation.getWorkloadScore(),
+                recommendation.getExperienceScore(),
+                recommendation.getCollaborationScore(),
+                recommendation.getEstimatedCompletionDays(),
+                recommendation.getConfidenceLevel(),
+                recommendation.getIsImplemented(),
+                recommendation.getActualPerformanceScore(),
+                recommendation.getCreatedAt());
+    }
+}
@@ -0,0 +1,86 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.Task;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estatísticas agregadas das tarefas de um responsável.
+ * Preenchido a partir de uma única consulta agrupada por responsável e status,
+ * permitindo analisar uma equipe inteira sem uma consulta por membro.
+ */
+public class AssigneeTaskStats {
+
+    /**
+     * Linha da consulta agrupada (responsável, status)
+     */
+    public interface Row {
+        Long getAssigneeId();
+        Task.TaskStatus getStatus();
+        Long getTaskCount();
+        Long getEstimatedHours();
+        Double getEstimationRatioSum();
+        Long getEstimationRatioCount();
+    }
+
+    private final Long assigneeId;
+    private final Map<Task.TaskStatus, Long> countsByStatus = new EnumMap<>(Task.TaskStatus.class);
+    private final Map<Task.TaskStatus, Long> estimatedHoursByStatus = new EnumMap<>(Task.TaskStatus.class);
+    private double completedRatioSum;
+    private long completedRatioCount;
+
+    public AssigneeTaskStats(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    /**
+     * Agrupa as linhas da consulta por responsável
+     */
+    public static Map<Long, AssigneeTaskStats> byAssignee(List<? extends Row> rows) {
+        Map<Long, AssigneeTaskStats> stats = new HashMap<>();
+        for (Row row : rows) {
+            stats.computeIfAbsent(row.getAssigneeId(), AssigneeTaskStats::new).add(row);
+        }
+        return stats;
+    }
+
+    private void add(Row row) {
+        countsByStatus.merge(row.getStatus(), valueOf(row.getTaskCount()), Long::sum);
+        estimatedHoursByStatus.merge(row.getStatus(), valueOf(row.getEstimatedHours()), Long::sum);
+
+        if (Task.TaskStatus.DONE.equals(row.getStatus())) {
+            completedRatioSum += row.getEstimationRatioSum() != null ? row.getEstimationRatioSum() : 0.0;
+            completedRatioCount += valueOf(row.getEstimationRatioCount());
+        }
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    // Getters
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public long getCountByStatus(Task.TaskStatus status) {
+        return countsByStatus.getOrDefault(status, 0L);
+    }
+
+    /**
+     * Soma das horas estimadas (8h para tarefas sem estimativa)
+     */
+    public long getEstimatedHoursByStatus(Task.TaskStatus status) {
+        return estimatedHoursByStatus.getOrDefault(status, 0L);
+    }
+
+    /**
+     * Média da razão estimado/real nas tarefas concluídas (1.0 quando não há dados)
+     */
+    public double getCompletedEstimationRatio() {
+        return completedRatioCount == 0 ? 1.0 : completedRatioSum / completedRatioCount;
+    }
+}
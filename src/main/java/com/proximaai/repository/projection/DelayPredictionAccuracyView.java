@@ -0,0 +1,25 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.ai.DelayPrediction;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Acurácia média das predições resolvidas, geral, nas janelas de 30 e 90 dias (pela data da predição)
+ * e por projeto, nível de risco e versão do modelo
+ */
+public record DelayPredictionAccuracyView(
+        Accuracy overall,
+        Accuracy last30Days,
+        Accuracy last90Days,
+        Map<Long, Accuracy> byProject,
+        Map<DelayPrediction.RiskLevel, Accuracy> byRiskLevel,
+        Map<String, Accuracy> byModelVersion) {
+
+    /**
+     * Média (zero sem amostras) e quantidade de predições resolvidas
+     */
+    public record Accuracy(BigDecimal accuracy, long samples) {
+    }
+}
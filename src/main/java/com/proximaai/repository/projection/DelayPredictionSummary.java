@@ -0,0 +1,16 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.ai.DelayPrediction;
+
+import java.math.BigDecimal;
+
+/**
+ * Resumo compacto de uma predição gerada em lote, uma linha por tarefa
+ */
+public record DelayPredictionSummary(
+        Long taskId,
+        Long predictionId,
+        Integer predictedDelayDays,
+        BigDecimal confidenceScore,
+        DelayPrediction.RiskLevel riskLevel) {
+}
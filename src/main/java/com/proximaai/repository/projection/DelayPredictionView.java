@@ -0,0 +1,23 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.ai.DelayPrediction;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Predição de atraso como exposta pela API: somente ids, scores, enums e datas, sem navegar pela tarefa
+ */
+public record DelayPredictionView(
+        Long id,
+        Long taskId,
+        Integer predictedDelayDays,
+        BigDecimal confidenceScore,
+        DelayPrediction.RiskLevel riskLevel,
+        LocalDateTime predictionDate,
+        Integer actualDelayDays,
+        BigDecimal predictionAccuracy,
+        String modelVersion,
+        Boolean isAlertSent,
+        LocalDateTime createdAt) {
+}
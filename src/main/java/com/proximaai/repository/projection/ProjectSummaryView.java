@@ -0,0 +1,24 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.ai.ProjectSummary;
+
+import java.time.LocalDateTime;
+
+/**
+ * Resumo de projeto como exposto nas listagens: metadados sem o texto do resumo nem os campos JSON
+ */
+public record ProjectSummaryView(
+        Long id,
+        Long projectId,
+        String summaryTitle,
+        ProjectSummary.SummaryType summaryType,
+        LocalDateTime summaryDate,
+        String aiModelUsed,
+        Long generationTimeMs,
+        Boolean isApproved,
+        String approvedBy,
+        LocalDateTime approvedAt,
+        Integer feedbackScore,
+        Boolean isShared,
+        LocalDateTime createdAt) {
+}
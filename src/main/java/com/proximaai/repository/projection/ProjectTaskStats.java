@@ -0,0 +1,123 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.Task;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Estatísticas agregadas das tarefas de um projeto.
+ * Preenchido a partir de uma única consulta agrupada por status e prioridade,
+ * de modo que o custo depende do número de grupos e não do tamanho da tabela.
+ */
+public class ProjectTaskStats {
+
+    /**
+     * Linha da consulta agrupada (status, prioridade)
+     */
+    public interface Row {
+        Task.TaskStatus getStatus();
+        Task.TaskPriority getPriority();
+        Long getTaskCount();
+        Long getPastDueCount();
+        Long getDependencyBlockerCount();
+        Long getEstimatedHours();
+        Long getActualHours();
+    }
+
+    private final Map<Task.TaskStatus, Long> countsByStatus = new EnumMap<>(Task.TaskStatus.class);
+    private final Map<Task.TaskPriority, Long> countsByPriority = new EnumMap<>(Task.TaskPriority.class);
+    private final Map<Task.TaskPriority, Long> pendingByPriority = new EnumMap<>(Task.TaskPriority.class);
+    private long totalTasks;
+    private long overdueTasks;
+    private long dependencyBlockers;
+    private long estimatedHours;
+    private long actualHours;
+    private long completedActualHours;
+
+    public static ProjectTaskStats from(List<? extends Row> rows) {
+        ProjectTaskStats stats = new ProjectTaskStats();
+        for (Row row : rows) {
+            stats.add(row);
+        }
+        return stats;
+    }
+
+    private void add(Row row) {
+        long count = valueOf(row.getTaskCount());
+        countsByStatus.merge(row.getStatus(), count, Long::sum);
+        countsByPriority.merge(row.getPriority(), count, Long::sum);
+        totalTasks += count;
+
+        if (!Task.TaskStatus.DONE.equals(row.getStatus())) {
+            pendingByPriority.merge(row.getPriority(), count, Long::sum);
+            overdueTasks += valueOf(row.getPastDueCount());
+        } else {
+            completedActualHours += valueOf(row.getActualHours());
+        }
+
+        dependencyBlockers += valueOf(row.getDependencyBlockerCount());
+        estimatedHours += valueOf(row.getEstimatedHours());
+        actualHours += valueOf(row.getActualHours());
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    // Getters
+    public long getTotalTasks() {
+        return totalTasks;
+    }
+
+    public long getCountByStatus(Task.TaskStatus status) {
+        return countsByStatus.getOrDefault(status, 0L);
+    }
+
+    public long getCountByPriority(Task.TaskPriority priority) {
+        return countsByPriority.getOrDefault(priority, 0L);
+    }
+
+    /**
+     * Tarefas ainda não concluídas com a prioridade informada
+     */
+    public long getPendingCountByPriority(Task.TaskPriority priority) {
+        return pendingByPriority.getOrDefault(priority, 0L);
+    }
+
+    public Map<Task.TaskStatus, Long> getCountsByStatus() {
+        return countsByStatus;
+    }
+
+    public Map<Task.TaskPriority, Long> getCountsByPriority() {
+        return countsByPriority;
+    }
+
+    public long getOverdueTasks() {
+        return overdueTasks;
+    }
+
+    public long getDependencyBlockers() {
+        return dependencyBlockers;
+    }
+
+    public long getEstimatedHours() {
+        return estimatedHours;
+    }
+
+    public long getActualHours() {
+        return actualHours;
+    }
+
+    /**
+     * Horas reais somadas apenas das tarefas concluídas
+     */
+    public long getCompletedActualHours() {
+        return completedActualHours;
+    }
+
+    public boolean isEmpty() {
+        return totalTasks == 0;
+    }
+}
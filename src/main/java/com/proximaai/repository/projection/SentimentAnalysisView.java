@@ -0,0 +1,32 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.ai.SentimentAnalysis;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Análise de sentimento como exposta nas listagens: scores e classificações, sem os campos JSON de texto
+ */
+public record SentimentAnalysisView(
+        Long id,
+        Long projectId,
+        Long teamId,
+        LocalDateTime analysisDate,
+        BigDecimal sentimentScore,
+        BigDecimal positivePercentage,
+        BigDecimal neutralPercentage,
+        BigDecimal negativePercentage,
+        SentimentAnalysis.TeamMood overallMood,
+        SentimentAnalysis.StressLevel stressLevel,
+        BigDecimal satisfactionScore,
+        SentimentAnalysis.BurnoutRisk burnoutRisk,
+        SentimentAnalysis.TrendDirection trendDirection,
+        SentimentAnalysis.ConfidenceLevel confidenceLevel,
+        BigDecimal collaborationScore,
+        BigDecimal motivationScore,
+        Integer sampleSize,
+        Boolean isAlertTriggered,
+        SentimentAnalysis.AlertSeverity alertSeverity,
+        LocalDateTime createdAt) {
+}
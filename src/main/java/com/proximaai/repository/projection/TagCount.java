@@ -0,0 +1,9 @@
+package com.proximaai.repository.projection;
+
+/**
+ * Quantidade de tarefas que carregam uma tag
+ */
+public interface TagCount {
+    String getTag();
+    Long getTaskCount();
+}
@@ -0,0 +1,21 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.Task;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Colunas da tarefa usadas para montar o vetor de features da clusterização
+ */
+public record TaskFeatureRow(
+        Long id,
+        Task.TaskType type,
+        Task.TaskPriority priority,
+        Task.TaskStatus status,
+        Integer storyPoints,
+        Integer estimatedHours,
+        Integer actualHours,
+        LocalDate dueDate,
+        LocalDateTime createdAt) {
+}
@@ -0,0 +1,15 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.Task;
+
+/**
+ * Resultado ranqueado da busca textual de tarefas
+ */
+public interface TaskSearchHit {
+    Long getId();
+    String getTitle();
+    Task.TaskStatus getStatus();
+    Task.TaskPriority getPriority();
+    Long getProjectId();
+    Double getRank();
+}
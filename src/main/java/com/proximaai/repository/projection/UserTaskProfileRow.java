@@ -0,0 +1,15 @@
+package com.proximaai.repository.projection;
+
+import com.proximaai.domain.entity.Task;
+
+/**
+ * Tarefas concluídas de um usuário agrupadas por tipo e prioridade, para montar o perfil de similaridade.
+ * complexitySum soma os story points de cada tarefa limitados ao máximo e divididos por ele.
+ */
+public record UserTaskProfileRow(
+        Long userId,
+        Task.TaskType type,
+        Task.TaskPriority priority,
+        long taskCount,
+        Double complexitySum) {
+}
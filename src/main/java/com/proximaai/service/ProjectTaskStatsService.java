@@ -0,0 +1,114 @@
+package com.proximaai.service;
+
+import com.proximaai.domain.entity.ProjectTaskCounters;
+import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.ProjectTaskCountersRepository;
+import com.proximaai.service.ai.anomaly.MetricKey;
+import com.proximaai.service.ai.anomaly.RunningStatisticsRegistry;
+import com.proximaai.service.ai.timeseries.TimeSeriesKey;
+import com.proximaai.service.ai.timeseries.TimeSeriesStore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * Manutenção dos contadores de tarefas por projeto (project_task_stats).
+ * Os deltas de cada escrita são aplicados pelos gatilhos do banco; aqui ficam a reconstrução
+ * completa e a recontagem diária das tarefas atrasadas, feitas projeto a projeto em transações curtas:
+ * a linha do projeto é travada antes da contagem, sem bloquear a tabela de tarefas.
+ */
+@Service
+@Transactional
+public class ProjectTaskStatsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectTaskStatsService.class);
+
+    @Autowired
+    private ProjectTaskCountersRepository projectTaskCountersRepository;
+
+    @Autowired
+    private RunningStatisticsRegistry runningStatisticsRegistry;
+
+    @Autowired
+    private TimeSeriesStore timeSeriesStore;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Transactional(readOnly = true)
+    public Optional<ProjectTaskCounters> getCounters(Long projectId) {
+        return projectTaskCountersRepository.findByProjectId(projectId);
+    }
+
+    /**
+     * Recalcula os contadores de todos os projetos, cada um na sua transação
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild() {
+        int rebuilt = 0;
+        for (Long projectId : projectTaskCountersRepository.findAllProjectIds()) {
+            rebuilt += projectTaskCountersRepository.rebuild(projectId);
+        }
+        log.info("Contadores de tarefas reconstruídos para {} projetos", rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * Tarefas passam a estar atrasadas com a virada do dia, sem nenhuma escrita que dispare os gatilhos
+     */
+    @Scheduled(cron = "${proxima.task-stats.overdue-refresh-cron:0 1 0 * * *}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void refreshOverdueTasks() {
+        int refreshed = 0;
+        for (Long projectId : projectTaskCountersRepository.findAllProjectIds()) {
+            // Recontagem e releitura na mesma transação de escrita: a leitura vai ao primário,
+            // e não a uma réplica que ainda não tem a recontagem
+            Optional<ProjectTaskCounters> counters = transactionTemplate.execute(status -> {
+                projectTaskCountersRepository.refreshOverdueTasks(projectId);
+                return projectTaskCountersRepository.findByProjectId(projectId);
+            });
+            if (counters != null && counters.isPresent()) {
+                refreshed++;
+                observeDaily(counters.get());
+            }
+        }
+        log.debug("Tarefas atrasadas recontadas em {} projetos", refreshed);
+    }
+
+    /**
+     * Uma observação diária por projeto para a detecção de anomalias e as séries temporais
+     */
+    private void observeDaily(ProjectTaskCounters counters) {
+        MetricKey key = MetricKey.project(counters.getProjectId(), MetricKey.Metric.OVERDUE_TASKS);
+        if (runningStatisticsRegistry.observe(key, counters.getOverdueTasks())) {
+            log.warn("Quantidade anômala de tarefas atrasadas no projeto {}: {}", counters.getProjectId(), counters.getOverdueTasks());
+        }
+        recordDailySeries(counters);
+    }
+
+    /**
+     * Tarefas atrasadas e concluídas do dia; a velocidade é a diferença de concluídas para a recontagem anterior
+     */
+    private void recordDailySeries(ProjectTaskCounters counters) {
+        Long projectId = counters.getProjectId();
+        timeSeriesStore.record(TimeSeriesKey.project(projectId, TimeSeriesKey.Metric.OVERDUE_TASKS), counters.getOverdueTasks());
+
+        TimeSeriesKey completedKey = TimeSeriesKey.project(projectId, TimeSeriesKey.Metric.COMPLETED_TASKS);
+        long doneTasks = counters.getCountByStatus(Task.TaskStatus.DONE);
+        OptionalDouble previousDone = timeSeriesStore.getLast(completedKey);
+        if (previousDone.isPresent()) {
+            // Tarefas reabertas reduzem as concluídas; a velocidade não fica negativa
+            double velocity = Math.max(0.0, doneTasks - previousDone.getAsDouble());
+            timeSeriesStore.record(TimeSeriesKey.project(projectId, TimeSeriesKey.Metric.VELOCITY), velocity);
+        }
+        timeSeriesStore.record(completedKey, doneTasks);
+    }
+}
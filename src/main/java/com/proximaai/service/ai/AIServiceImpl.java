@@ -1,8 +1,11 @@
 package com.proximaai.service.ai;
 
 import com.proximaai.domain.entity.*;
+import com.proximaai.repository.ProjectTaskCountersRepository;
 import com.proximaai.repository.TaskRepository;
 import com.proximaai.repository.UserRepository;
+import com.proximaai.repository.projection.AssigneeTaskStats;
+import com.proximaai.service.ai.nlp.TextProcessingService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -14,12 +17,20 @@ import java.util.stream.Collectors;
 @Service
 public class AIServiceImpl implements AIService {
 
+    private static final String DEPENDENCY_TAG = "dependency";
+
     @Autowired
     private TaskRepository taskRepository;
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private ProjectTaskCountersRepository projectTaskCountersRepository;
+
+    @Autowired
+    private TextProcessingService textProcessingService;
+
     @Override
     public Integer estimateTaskDuration(Task task, String description) {
         // Lógica baseada em dados históricos e análise de texto
@@ -62,7 +73,7 @@ public class AIServiceImpl implements AIService {
         
         // Ajuste baseado no tamanho da descrição (proxy para complexidade)
         if (description != null) {
-            int wordCount = description.split("\\s+").length;
+            int wordCount = textProcessingService.countWords(description);
             if (wordCount > 100) {
                 baseHours = (int) (baseHours * 1.3);
             } else if (wordCount < 20) {
@@ -71,12 +82,15 @@ public class AIServiceImpl implements AIService {
         }
         
         // Ajuste baseado em dados históricos do projeto
-        if (task.getProject() != null) {
-            Double avgHours = taskRepository.getTotalActualHoursByProject(task.getProject().getId());
-            if (avgHours != null && avgHours > 0) {
+        // Uma leitura dos contadores do projeto em vez de duas agregações sobre as tarefas
+        Optional<ProjectTaskCounters> counters = task.getProject() != null
+            ? projectTaskCountersRepository.findByProjectId(task.getProject().getId())
+            : Optional.empty();
+        if (counters.isPresent()) {
+            double avgHours = counters.get().getActualHours();
+            if (avgHours > 0) {
                 // Ajuste baseado na média histórica
-                double adjustmentFactor = avgHours / (taskRepository.countByProjectAndStatus(
-                    task.getProject().getId(), Task.TaskStatus.DONE) * 8.0);
+                double adjustmentFactor = avgHours / (counters.get().getCountByStatus(Task.TaskStatus.DONE) * 8.0);
                 baseHours = (int) (baseHours * adjustmentFactor);
             }
         }
@@ -163,17 +177,33 @@ public class AIServiceImpl implements AIService {
 
     @Override
     public boolean detectUserOverload(User user) {
-        // Conta tarefas ativas do usuário
-        long activeTasks = taskRepository.countByAssigneeAndStatus(user.getId(), Task.TaskStatus.IN_PROGRESS);
+        return isOverloaded(loadAssigneeStats(List.of(user)).get(user.getId()));
+    }
+    
+    /**
+     * Carrega estatísticas de tarefas de vários usuários em uma única consulta
+     */
+    private Map<Long, AssigneeTaskStats> loadAssigneeStats(Collection<User> users) {
+        Map<Long, AssigneeTaskStats> stats = new HashMap<>();
+        if (users.isEmpty()) {
+            return stats;
+        }
         
-        // Conta tarefas pendentes
-        long pendingTasks = taskRepository.countByAssigneeAndStatus(user.getId(), Task.TaskStatus.TODO);
+        Set<Long> userIds = users.stream().map(User::getId).collect(Collectors.toSet());
+        stats.putAll(AssigneeTaskStats.byAssignee(taskRepository.aggregateStatsByAssignees(userIds)));
         
-        // Calcula horas estimadas de trabalho
-        List<Task> userTasks = taskRepository.findByAssigneeIdAndStatus(user.getId(), Task.TaskStatus.IN_PROGRESS);
-        double totalEstimatedHours = userTasks.stream()
-            .mapToDouble(t -> t.getEstimatedHours() != null ? t.getEstimatedHours() : 8.0)
-            .sum();
+        // Usuários sem tarefas recebem estatísticas vazias
+        userIds.forEach(id -> stats.computeIfAbsent(id, AssigneeTaskStats::new));
+        return stats;
+    }
+    
+    private boolean isOverloaded(AssigneeTaskStats stats) {
+        // Conta tarefas ativas e pendentes do usuário
+        long activeTasks = stats.getCountByStatus(Task.TaskStatus.IN_PROGRESS);
+        long pendingTasks = stats.getCountByStatus(Task.TaskStatus.TODO);
+        
+        // Horas estimadas de trabalho em andamento
+        long totalEstimatedHours = stats.getEstimatedHoursByStatus(Task.TaskStatus.IN_PROGRESS);
         
         // Critérios de sobrecarga
         boolean tooManyActiveTasks = activeTasks > 5;
@@ -304,8 +334,9 @@ public class AIServiceImpl implements AIService {
         if (project.getTeam() == null) return 0.0;
         
         List<User> teamMembers = userRepository.findUsersByTeamId(project.getTeam().getId());
-        long overloadedUsers = teamMembers.stream()
-            .filter(this::detectUserOverload)
+        Map<Long, AssigneeTaskStats> memberStats = loadAssigneeStats(teamMembers);
+        long overloadedUsers = memberStats.values().stream()
+            .filter(this::isOverloaded)
             .count();
         
         return teamMembers.isEmpty() ? 0.0 : (double) overloadedUsers / teamMembers.size() * 100;
@@ -327,12 +358,12 @@ public class AIServiceImpl implements AIService {
     
     private double calculateDependencyRisk(Project project) {
         // Implementação simplificada - pode ser expandida com análise de dependências
-        List<Task> tasks = taskRepository.findByProjectId(project.getId());
-        long tasksWithDependencies = tasks.stream()
-            .filter(t -> t.getTags() != null && t.getTags().contains("dependency"))
-            .count();
+        long totalTasks = projectTaskCountersRepository.findByProjectId(project.getId())
+            .map(ProjectTaskCounters::getTotalTasks)
+            .orElse(0L);
+        long tasksWithDependencies = taskRepository.countByProjectIdAndTag(project.getId(), DEPENDENCY_TAG);
         
-        return tasks.isEmpty() ? 0.0 : (double) tasksWithDependencies / tasks.size() * 100;
+        return totalTasks == 0 ? 0.0 : (double) tasksWithDependencies / totalTasks * 100;
     }
 
     @Override
@@ -374,8 +405,9 @@ public class AIServiceImpl implements AIService {
         // Verifica usuários sobrecarregados
         if (project.getTeam() != null) {
             List<User> teamMembers = userRepository.findUsersByTeamId(project.getTeam().getId());
+            Map<Long, AssigneeTaskStats> memberStats = loadAssigneeStats(teamMembers);
             for (User member : teamMembers) {
-                if (detectUserOverload(member)) {
+                if (isOverloaded(memberStats.get(member.getId()))) {
                     bottlenecks.add("Usuário sobrecarregado: " + member.getUsername());
                 }
             }
@@ -393,9 +425,9 @@ public class AIServiceImpl implements AIService {
         }
         
         // Verifica dependências
-        List<Task> tasksWithDependencies = taskRepository.findByTag("dependency");
-        if (!tasksWithDependencies.isEmpty()) {
-            bottlenecks.add("Tarefas com dependências: " + tasksWithDependencies.size());
+        long tasksWithDependencies = taskRepository.countByProjectIdAndTag(project.getId(), DEPENDENCY_TAG);
+        if (tasksWithDependencies > 0) {
+            bottlenecks.add("Tarefas com dependências: " + tasksWithDependencies);
         }
         
         return bottlenecks;
@@ -551,18 +583,8 @@ public class AIServiceImpl implements AIService {
 
     @Override
     public List<Task> identifyParallelizableTasks(Project project) {
-        List<Task> parallelizableTasks = new ArrayList<>();
-        
-        List<Task> todoTasks = taskRepository.findByProjectIdAndStatus(project.getId(), Task.TaskStatus.TODO);
-        
         // Tarefas que não dependem de outras podem ser paralelizadas
-        for (Task task : todoTasks) {
-            if (task.getTags() == null || !task.getTags().contains("dependency")) {
-                parallelizableTasks.add(task);
-            }
-        }
-        
-        return parallelizableTasks;
+        return taskRepository.findByProjectIdAndStatusWithoutTag(project.getId(), Task.TaskStatus.TODO, DEPENDENCY_TAG);
     }
 
     @Override
@@ -628,29 +650,26 @@ public class AIServiceImpl implements AIService {
         }
         
         List<User> teamMembers = userRepository.findUsersByTeamId(project.getTeam().getId());
+        Map<Long, AssigneeTaskStats> memberStats = loadAssigneeStats(teamMembers);
         
         for (User member : teamMembers) {
             Map<String, Object> memberInsights = new HashMap<>();
+            AssigneeTaskStats stats = memberStats.get(member.getId());
             
             // Tarefas completadas
-            long completedTasks = taskRepository.countByAssigneeAndStatus(member.getId(), Task.TaskStatus.DONE);
+            long completedTasks = stats.getCountByStatus(Task.TaskStatus.DONE);
             memberInsights.put("completed_tasks", completedTasks);
             
             // Tarefas ativas
-            long activeTasks = taskRepository.countByAssigneeAndStatus(member.getId(), Task.TaskStatus.IN_PROGRESS);
+            long activeTasks = stats.getCountByStatus(Task.TaskStatus.IN_PROGRESS);
             memberInsights.put("active_tasks", activeTasks);
             
             // Precisão das estimativas
-            List<Task> memberCompletedTasks = taskRepository.findByAssigneeIdAndStatus(member.getId(), Task.TaskStatus.DONE);
-            double estimationAccuracy = memberCompletedTasks.stream()
-                .filter(t -> t.getEstimatedHours() != null && t.getActualHours() != null)
-                .mapToDouble(t -> (double) t.getEstimatedHours() / t.getActualHours())
-                .average()
-                .orElse(1.0);
+            double estimationAccuracy = stats.getCompletedEstimationRatio();
             memberInsights.put("estimation_accuracy", estimationAccuracy);
             
             // Sobrecarga
-            boolean isOverloaded = detectUserOverload(member);
+            boolean isOverloaded = isOverloaded(stats);
             memberInsights.put("is_overloaded", isOverloaded);
             
             insights.put(member.getId(), memberInsights);
@@ -665,8 +684,8 @@ public class AIServiceImpl implements AIService {
         
         Map<Long, Map<String, Object>> memberInsights = generateTeamMemberInsights(project);
         
-        List<User> overloadedMembers = new ArrayList<>();
-        List<User> underutilizedMembers = new ArrayList<>();
+        List<Long> overloadedMembers = new ArrayList<>();
+        List<Long> underutilizedMembers = new ArrayList<>();
         
         for (Map.Entry<Long, Map<String, Object>> entry : memberInsights.entrySet()) {
             Map<String, Object> insights = entry.getValue();
@@ -674,9 +693,9 @@ public class AIServiceImpl implements AIService {
             Long completedTasks = (Long) insights.get("completed_tasks");
             
             if (Boolean.TRUE.equals(isOverloaded)) {
-                overloadedMembers.add(userRepository.findById(entry.getKey()).orElse(null));
+                overloadedMembers.add(entry.getKey());
             } else if (completedTasks != null && completedTasks < 3) {
-                underutilizedMembers.add(userRepository.findById(entry.getKey()).orElse(null));
+                underutilizedMembers.add(entry.getKey());
             }
         }
         
@@ -7,6 +7,8 @@ import com.proximaai.domain.entity.Project;
 import com.proximaai.repository.ai.AllocationRecommendationRepository;
 
 import com.proximaai.repository.UserRepository;
+import com.proximaai.repository.projection.AllocationRecommendationView;
+import com.proximaai.service.ai.similarity.UserProfileMatrix;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,13 +17,19 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional
 public class AllocationRecommendationService {
 
+    // Usuários avaliados por tarefa
+    private static final int MAX_CANDIDATES = 5;
+
     @Autowired
     private AllocationRecommendationRepository allocationRecommendationRepository;
 
@@ -30,12 +38,18 @@ public class AllocationRecommendationService {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private UserProfileService userProfileService;
+
     /**
      * Gera recomendações de alocação para uma tarefa
      */
     public List<AllocationRecommendation> generateRecommendationsForTask(Task task) {
-        // Busca usuários disponíveis para o projeto
-        List<User> availableUsers = getAvailableUsersForProject(task.getProject());
+        // Usuários com perfil mais similar aos requisitos da tarefa; sem perfis, usuários disponíveis para o projeto
+        List<User> availableUsers = getMostSimilarUsers(task);
+        if (availableUsers.isEmpty()) {
+            availableUsers = getAvailableUsersForProject(task.getProject());
+        }
         
         // Gera recomendações para cada usuário
         List<AllocationRecommendation> recommendations = availableUsers.stream()
@@ -205,6 +219,18 @@ public class AllocationRecommendationService {
         return BigDecimal.valueOf(0.6); // Workload médio padrão
     }
 
+    /**
+     * Busca os usuários com perfil mais similar à tarefa, na ordem de similaridade
+     */
+    private List<User> getMostSimilarUsers(Task task) {
+        List<Long> userIds = userProfileService.findTopUsers(task, MAX_CANDIDATES).stream()
+                .map(UserProfileMatrix.Match::userId)
+                .toList();
+        Map<Long, User> usersById = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+        return userIds.stream().map(usersById::get).filter(Objects::nonNull).toList();
+    }
+
     /**
      * Busca usuários disponíveis para o projeto
      */
@@ -218,13 +244,15 @@ public class AllocationRecommendationService {
     /**
      * Busca recomendações por tarefa
      */
-    public List<AllocationRecommendation> getRecommendationsForTask(Task task) {
-        return allocationRecommendationRepository.findByTaskOrderByRecommendationScoreDesc(task);
+    @Transactional(readOnly = true)
+    public List<AllocationRecommendationView> getRecommendationsForTask(Long taskId) {
+        return allocationRecommendationRepository.findViewsByTaskId(taskId);
     }
 
     /**
      * Busca a melhor recomendação para uma tarefa
      */
+    @Transactional(readOnly = true)
     public Optional<AllocationRecommendation> getBestRecommendationForTask(Task task) {
         return allocationRecommendationRepository.findFirstByTaskOrderByRecommendationScoreDesc(task);
     }
@@ -232,15 +260,17 @@ public class AllocationRecommendationService {
     /**
      * Busca recomendações por usuário
      */
-    public List<AllocationRecommendation> getRecommendationsForUser(User user) {
-        return allocationRecommendationRepository.findByRecommendedUserOrderByRecommendationScoreDesc(user);
+    @Transactional(readOnly = true)
+    public List<AllocationRecommendationView> getRecommendationsForUser(Long userId) {
+        return allocationRecommendationRepository.findViewsByRecommendedUserId(userId);
     }
 
     /**
      * Busca recomendações com alta confiança
      */
-    public List<AllocationRecommendation> getHighConfidenceRecommendations() {
-        return allocationRecommendationRepository.findByConfidenceLevel(AllocationRecommendation.ConfidenceLevel.HIGH);
+    @Transactional(readOnly = true)
+    public List<AllocationRecommendationView> getHighConfidenceRecommendations() {
+        return allocationRecommendationRepository.findViewsByConfidenceLevel(AllocationRecommendation.ConfidenceLevel.HIGH);
     }
 
     /**
@@ -274,14 +304,15 @@ public class AllocationRecommendationService {
     /**
      * Busca recomendações alternativas excluindo um usuário
      */
-    public List<AllocationRecommendation> getAlternativeRecommendations(Task task, User excludeUser) {
-        return allocationRecommendationRepository.findAlternativesForTask(task, excludeUser);
+    @Transactional(readOnly = true)
+    public List<AllocationRecommendationView> getAlternativeRecommendations(Long taskId, Long excludeUserId) {
+        return allocationRecommendationRepository.findAlternativeViewsForTask(taskId, excludeUserId);
     }
 
     /**
-     * Recalcula recomendações para uma tarefa
+     * Recalcula recomendações para uma tarefa, retornando as novas da melhor para a pior
      */
-    public void recalculateRecommendationsForTask(Task task) {
+    public List<AllocationRecommendation> recalculateRecommendationsForTask(Task task) {
         // Remove recomendações antigas
         List<AllocationRecommendation> oldRecommendations = 
             allocationRecommendationRepository.findByTaskOrderByRecommendationScoreDesc(task);
@@ -291,12 +322,13 @@ public class AllocationRecommendationService {
         }
 
         // Gera novas recomendações
-        generateRecommendationsForTask(task);
+        return generateRecommendationsForTask(task);
     }
 
     /**
      * Calcula métricas de qualidade das recomendações
      */
+    @Transactional(readOnly = true)
     public BigDecimal calculateRecommendationQuality() {
         List<AllocationRecommendation> implementedRecommendations = 
             allocationRecommendationRepository.findImplementedWithPerformance();
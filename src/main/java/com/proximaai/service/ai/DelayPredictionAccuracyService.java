@@ -0,0 +1,191 @@
+package com.proximaai.service.ai;
+
+import com.proximaai.domain.entity.ai.DelayPrediction;
+import com.proximaai.domain.entity.ai.PredictionAccuracyStats;
+import com.proximaai.repository.ai.PredictionAccuracyStatsRepository;
+import com.proximaai.repository.projection.DelayPredictionAccuracyView;
+import com.proximaai.repository.projection.DelayPredictionAccuracyView.Accuracy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Acurácia das predições de atraso mantida por somas e contagens incrementais (geral, por projeto, nível de
+ * risco, versão do modelo e dia da predição), atualizadas na mesma transação que grava o atraso real.
+ * A consulta lê poucas linhas em vez de percorrer todas as predições resolvidas. As janelas móveis
+ * usam a data da predição: uma correção do atraso real cai no mesmo dia da contagem original.
+ */
+@Service
+@Transactional
+public class DelayPredictionAccuracyService {
+
+    private static final Logger log = LoggerFactory.getLogger(DelayPredictionAccuracyService.class);
+
+    // Chave das predições gravadas sem versão de modelo
+    private static final String UNKNOWN_MODEL_VERSION = "unknown";
+
+    @Autowired
+    private PredictionAccuracyStatsRepository predictionAccuracyStatsRepository;
+
+    /**
+     * Soma a mudança de acurácia da predição: conta uma amostra nova na primeira acurácia
+     * e só ajusta a soma quando ela é corrigida
+     */
+    public void record(DelayPrediction prediction, BigDecimal previousAccuracy) {
+        BigDecimal accuracy = prediction.getPredictionAccuracy();
+        if (accuracy == null) {
+            return;
+        }
+
+        BigDecimal delta = previousAccuracy != null ? accuracy.subtract(previousAccuracy) : accuracy;
+        long countDelta = previousAccuracy != null ? 0 : 1;
+        if (countDelta == 0 && delta.signum() == 0) {
+            return;
+        }
+        increment(prediction, delta, countDelta);
+    }
+
+    /**
+     * Retira das somas uma predição que será excluída
+     */
+    public void remove(DelayPrediction prediction) {
+        if (prediction.getPredictionAccuracy() != null) {
+            increment(prediction, prediction.getPredictionAccuracy().negate(), -1);
+        }
+    }
+
+    /**
+     * Sempre na mesma ordem de chaves, para que transações concorrentes travem as linhas sem deadlock
+     */
+    private void increment(DelayPrediction prediction, BigDecimal delta, long countDelta) {
+        LocalDateTime now = LocalDateTime.now();
+        predictionAccuracyStatsRepository.increment(PredictionAccuracyStats.Dimension.ALL.name(), "", delta, countDelta, now);
+        predictionAccuracyStatsRepository.increment(PredictionAccuracyStats.Dimension.PROJECT.name(),
+                String.valueOf(prediction.getTask().getProject().getId()), delta, countDelta, now);
+        predictionAccuracyStatsRepository.increment(PredictionAccuracyStats.Dimension.RISK_LEVEL.name(),
+                prediction.getRiskLevel().name(), delta, countDelta, now);
+        predictionAccuracyStatsRepository.increment(PredictionAccuracyStats.Dimension.MODEL_VERSION.name(),
+                modelVersionKey(prediction.getModelVersion()), delta, countDelta, now);
+        predictionAccuracyStatsRepository.increment(PredictionAccuracyStats.Dimension.DAY.name(),
+                prediction.getPredictionDate().toLocalDate().toString(), delta, countDelta, now);
+    }
+
+    /**
+     * Acurácia média de todas as predições resolvidas
+     */
+    @Transactional(readOnly = true)
+    public Accuracy getOverallAccuracy() {
+        return predictionAccuracyStatsRepository
+                .findByDimensionAndDimensionKey(PredictionAccuracyStats.Dimension.ALL, "")
+                .map(this::toAccuracy)
+                .orElse(new Accuracy(BigDecimal.ZERO, 0));
+    }
+
+    /**
+     * Acurácia geral, nas janelas de 30 e 90 dias e por projeto, nível de risco e versão do modelo
+     */
+    @Transactional(readOnly = true)
+    public DelayPredictionAccuracyView getAccuracyBreakdown() {
+        LocalDate today = LocalDate.now();
+        List<PredictionAccuracyStats> last90Days = predictionAccuracyStatsRepository
+                .findDaysSince(today.minusDays(90).toString());
+        String since30Days = today.minusDays(30).toString();
+
+        Map<Long, Accuracy> byProject = new TreeMap<>();
+        for (PredictionAccuracyStats stats : findByDimension(PredictionAccuracyStats.Dimension.PROJECT)) {
+            byProject.put(Long.valueOf(stats.getDimensionKey()), toAccuracy(stats));
+        }
+
+        Map<DelayPrediction.RiskLevel, Accuracy> byRiskLevel = new EnumMap<>(DelayPrediction.RiskLevel.class);
+        for (PredictionAccuracyStats stats : findByDimension(PredictionAccuracyStats.Dimension.RISK_LEVEL)) {
+            byRiskLevel.put(DelayPrediction.RiskLevel.valueOf(stats.getDimensionKey()), toAccuracy(stats));
+        }
+
+        Map<String, Accuracy> byModelVersion = new LinkedHashMap<>();
+        for (PredictionAccuracyStats stats : findByDimension(PredictionAccuracyStats.Dimension.MODEL_VERSION)) {
+            byModelVersion.put(stats.getDimensionKey(), toAccuracy(stats));
+        }
+
+        return new DelayPredictionAccuracyView(
+                getOverallAccuracy(),
+                sum(last90Days.stream().filter(stats -> stats.getDimensionKey().compareTo(since30Days) >= 0).toList()),
+                sum(last90Days),
+                byProject,
+                byRiskLevel,
+                byModelVersion);
+    }
+
+    /**
+     * Recalcula todas as somas a partir das predições resolvidas, com a tabela de somas travada: atualizações
+     * de acurácia concorrentes esperam o recálculo e somam sobre o resultado dele.
+     */
+    public void rebuild() {
+        predictionAccuracyStatsRepository.lockStats();
+        rebuildLocked();
+    }
+
+    /**
+     * Na primeira inicialização com a tabela de somas vazia, carrega as predições já resolvidas. Outros nós
+     * podem estar iniciando ao mesmo tempo, por isso a contagem é refeita com a tabela travada.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (predictionAccuracyStatsRepository.count() > 0) {
+            return;
+        }
+        predictionAccuracyStatsRepository.lockStats();
+        if (predictionAccuracyStatsRepository.count() == 0) {
+            rebuildLocked();
+        }
+    }
+
+    private void rebuildLocked() {
+        long startTime = System.currentTimeMillis();
+        predictionAccuracyStatsRepository.deleteAllStats();
+        int rows = predictionAccuracyStatsRepository.insertRebuilt(UNKNOWN_MODEL_VERSION, LocalDateTime.now());
+        log.info("{} somas de acurácia de predição recalculadas em {} ms", rows, System.currentTimeMillis() - startTime);
+    }
+
+    private List<PredictionAccuracyStats> findByDimension(PredictionAccuracyStats.Dimension dimension) {
+        return predictionAccuracyStatsRepository.findByDimensionOrderByDimensionKey(dimension);
+    }
+
+    private Accuracy sum(List<PredictionAccuracyStats> rows) {
+        BigDecimal accuracySum = BigDecimal.ZERO;
+        long sampleCount = 0;
+        for (PredictionAccuracyStats stats : rows) {
+            accuracySum = accuracySum.add(stats.getAccuracySum());
+            sampleCount += stats.getSampleCount();
+        }
+        return average(accuracySum, sampleCount);
+    }
+
+    private Accuracy toAccuracy(PredictionAccuracyStats stats) {
+        return average(stats.getAccuracySum(), stats.getSampleCount());
+    }
+
+    private Accuracy average(BigDecimal accuracySum, long sampleCount) {
+        if (sampleCount <= 0) {
+            return new Accuracy(BigDecimal.ZERO, 0);
+        }
+        return new Accuracy(accuracySum.divide(BigDecimal.valueOf(sampleCount), 4, RoundingMode.HALF_UP), sampleCount);
+    }
+
+    private String modelVersionKey(String modelVersion) {
+        return modelVersion != null ? modelVersion : UNKNOWN_MODEL_VERSION;
+    }
+}
@@ -1,10 +1,23 @@
 package com.proximaai.service.ai;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.proximaai.domain.entity.ai.DelayPrediction;
 import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.TaskRepository;
 import com.proximaai.repository.ai.DelayPredictionRepository;
+import com.proximaai.repository.projection.DelayPredictionAccuracyView;
+import com.proximaai.repository.projection.DelayPredictionSummary;
+import com.proximaai.repository.projection.DelayPredictionView;
+import com.proximaai.service.ai.delay.DelayFeatureVector;
+import com.proximaai.service.ai.delay.DelayRepredictionQueue;
+import com.proximaai.service.ai.delay.DelayScoringFunction;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,193 +25,236 @@ import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 @Service
 @Transactional
 public class DelayPredictionService {
 
+    // Versão gravada nas predições feitas pela regressão ponderada fixa
+    private static final String HEURISTIC_MODEL_VERSION = "weighted-1.0";
+
+    // Tarefas mínimas por bloco no cálculo paralelo do lote
+    private static final int SCORING_CHUNK_SIZE = 256;
+
+    // Predições gravadas entre flush/clear do contexto no lote
+    private static final int WRITE_BATCH_SIZE = 500;
+
     @Autowired
     private DelayPredictionRepository delayPredictionRepository;
 
+    @Autowired
+    private DelayRegressionService delayRegressionService;
 
+    @Autowired
+    private ObjectMapper objectMapper;
 
-    /**
-     * Gera predição de atraso para uma tarefa específica
-     */
-    public DelayPrediction predictDelayForTask(Task task) {
-        // Análise de features da tarefa
-        BigDecimal complexityScore = calculateComplexityScore(task);
-        BigDecimal teamExperienceScore = calculateTeamExperienceScore(task);
-        BigDecimal dependencyRiskScore = calculateDependencyRiskScore(task);
-        BigDecimal resourceAvailabilityScore = calculateResourceAvailabilityScore(task);
-
-        // Algoritmo de ML simplificado (regressão ponderada)
-        Integer predictedDelayDays = calculatePredictedDelay(
-            complexityScore, 
-            teamExperienceScore, 
-            dependencyRiskScore, 
-            resourceAvailabilityScore
-        );
+    @Autowired
+    private TaskRepository taskRepository;
 
-        // Score de confiança baseado na qualidade dos dados
-        BigDecimal confidenceScore = calculateConfidenceScore(task);
+    @Autowired
+    @Qualifier("aiTaskExecutor")
+    private Executor aiTaskExecutor;
 
-        // Criação da predição
-        DelayPrediction prediction = new DelayPrediction(task, predictedDelayDays, confidenceScore);
-        
-        // Salvamento da predição
-        return delayPredictionRepository.save(prediction);
-    }
+    @Autowired
+    private DelayRepredictionQueue delayRepredictionQueue;
 
-    /**
-     * Calcula score de complexidade da tarefa
-     */
-    private BigDecimal calculateComplexityScore(Task task) {
-        BigDecimal score = BigDecimal.ZERO;
-        
-        // Pontuação por estimativa de tempo
-        if (task.getEstimatedHours() != null) {
-            if (task.getEstimatedHours() <= 8) {
-                score = score.add(BigDecimal.valueOf(0.2));
-            } else if (task.getEstimatedHours() <= 24) {
-                score = score.add(BigDecimal.valueOf(0.5));
-            } else if (task.getEstimatedHours() <= 40) {
-                score = score.add(BigDecimal.valueOf(0.8));
-            } else {
-                score = score.add(BigDecimal.valueOf(1.0));
-            }
-        }
+    @Autowired
+    private DelayPredictionAccuracyService delayPredictionAccuracyService;
 
-        // Pontuação por prioridade
-        if (task.getPriority() != null) {
-            switch (task.getPriority()) {
-                case HIGH -> score = score.add(BigDecimal.valueOf(0.3));
-                case MEDIUM -> score = score.add(BigDecimal.valueOf(0.1));
-                case LOW -> score = score.add(BigDecimal.valueOf(0.0));
-                default -> score = score.add(BigDecimal.valueOf(0.1));
-            }
-        }
+    @PersistenceContext
+    private EntityManager entityManager;
 
-        return score.min(BigDecimal.ONE);
+    /**
+     * Gera predição de atraso para uma tarefa específica
+     */
+    public DelayPrediction predictDelayForTask(Task task) {
+        double[] coefficients = delayRegressionService.findCoefficients(task.getProject().getId()).orElse(null);
+        return delayPredictionRepository.save(buildPrediction(task, coefficients));
     }
 
     /**
-     * Calcula score de experiência da equipe
+     * Predição em lote das tarefas abertas de um projeto: tarefas e dependências vêm em uma única consulta,
+     * o modelo do projeto é lido uma vez, as predições são calculadas em paralelo no aiTaskExecutor
+     * e gravadas em inserts agrupados
      */
-    private BigDecimal calculateTeamExperienceScore(Task task) {
-        // Implementação simplificada - em produção seria baseada em histórico
-        return BigDecimal.valueOf(0.7); // Score médio padrão
+    public List<DelayPredictionSummary> predictDelaysForProject(Long projectId) {
+        List<Task> tasks = taskRepository.findOpenByProjectIdWithDependencies(projectId);
+        return predictAndSave(tasks, findCoefficients(List.of(projectId)));
     }
 
     /**
-     * Calcula score de disponibilidade de recursos
+     * Predição em lote de tarefas específicas (as abertas entre elas), possivelmente de projetos diferentes;
+     * o modelo de cada projeto é lido uma vez
      */
-    private BigDecimal calculateResourceAvailabilityScore(Task task) {
-        // Implementação simplificada - em produção seria baseada em alocação real
-        return BigDecimal.valueOf(0.8); // Boa disponibilidade padrão
+    public List<DelayPredictionSummary> predictDelaysForTasks(Collection<Long> taskIds) {
+        List<Task> tasks = taskRepository.findOpenByIdInWithDependencies(taskIds);
+        Set<Long> projectIds = new HashSet<>();
+        tasks.forEach(task -> projectIds.add(task.getProject().getId()));
+        return predictAndSave(tasks, findCoefficients(projectIds));
     }
 
     /**
-     * Calcula dias de atraso previstos usando algoritmo de ML
+     * Coeficientes aprendidos por projeto; projetos sem modelo utilizável ficam de fora
      */
-    private Integer calculatePredictedDelay(
-            BigDecimal complexityScore,
-            BigDecimal teamExperienceScore,
-            BigDecimal dependencyRiskScore,
-            BigDecimal resourceAvailabilityScore) {
-        
-        // Fórmula de regressão ponderada
-        BigDecimal weightedScore = complexityScore.multiply(BigDecimal.valueOf(0.4))
-                .add(teamExperienceScore.multiply(BigDecimal.valueOf(0.2)))
-                .add(dependencyRiskScore.multiply(BigDecimal.valueOf(0.25)))
-                .add(resourceAvailabilityScore.multiply(BigDecimal.valueOf(0.15)));
-
-        // Mapeamento para dias de atraso
-        if (weightedScore.compareTo(BigDecimal.valueOf(0.3)) <= 0) {
-            return 0; // Sem atraso
-        } else if (weightedScore.compareTo(BigDecimal.valueOf(0.5)) <= 0) {
-            return 1; // 1 dia de atraso
-        } else if (weightedScore.compareTo(BigDecimal.valueOf(0.7)) <= 0) {
-            return 3; // 3 dias de atraso
-        } else if (weightedScore.compareTo(BigDecimal.valueOf(0.85)) <= 0) {
-            return 5; // 5 dias de atraso
-        } else {
-            return 7; // 7+ dias de atraso
+    private Map<Long, double[]> findCoefficients(Collection<Long> projectIds) {
+        Map<Long, double[]> coefficientsByProject = new HashMap<>();
+        for (Long projectId : projectIds) {
+            delayRegressionService.findCoefficients(projectId)
+                    .ifPresent(coefficients -> coefficientsByProject.put(projectId, coefficients));
         }
+        return coefficientsByProject;
     }
 
     /**
-     * Calcula score de confiança da predição
+     * Calcula as predições em paralelo no aiTaskExecutor e as grava em inserts agrupados
      */
-    private BigDecimal calculateConfidenceScore(Task task) {
-        BigDecimal confidence = BigDecimal.valueOf(0.8); // Base de confiança
-
-        // Ajusta confiança baseado na qualidade dos dados
-        if (task.getEstimatedHours() != null) {
-            confidence = confidence.add(BigDecimal.valueOf(0.1));
-        }
-        if (task.getPriority() != null) {
-            confidence = confidence.add(BigDecimal.valueOf(0.05));
-        }
-        // Verifica se a tarefa tem dependências (simulado)
-        if (task.getDependencies() != null && !task.getDependencies().isEmpty()) {
-            confidence = confidence.add(BigDecimal.valueOf(0.05));
+    private List<DelayPredictionSummary> predictAndSave(List<Task> tasks, Map<Long, double[]> coefficientsByProject) {
+        // As tarefas já estão carregadas com as dependências: o cálculo não toca na sessão
+        DelayPrediction[] predictions = new DelayPrediction[tasks.size()];
+        ParallelChunks.run(predictions.length, SCORING_CHUNK_SIZE, aiTaskExecutor, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                Task task = tasks.get(i);
+                predictions[i] = buildPrediction(task, coefficientsByProject.get(task.getProject().getId()));
+            }
+        });
+
+        // Tarefas somente leitura: saem do contexto para que os flushes do lote percorram só as predições
+        entityManager.clear();
+        List<DelayPredictionSummary> summaries = new ArrayList<>(predictions.length);
+        for (int i = 0; i < predictions.length; i++) {
+            DelayPrediction prediction = predictions[i];
+            entityManager.persist(prediction);
+            summaries.add(new DelayPredictionSummary(tasks.get(i).getId(), prediction.getId(),
+                    prediction.getPredictedDelayDays(), prediction.getConfidenceScore(), prediction.getRiskLevel()));
+
+            if ((i + 1) % WRITE_BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
         }
-
-        return confidence.min(BigDecimal.ONE);
+        entityManager.flush();
+        return summaries;
     }
 
     /**
-     * Calcula score de risco de dependências
+     * Monta a predição de uma tarefa sem gravá-la. Com coeficientes aprendidos usa a regressão do projeto;
+     * sem eles (null), a regressão ponderada fixa. O cálculo é todo em double; os BigDecimal só aparecem
+     * na entidade.
      */
-    private BigDecimal calculateDependencyRiskScore(Task task) {
-        // Verifica se a tarefa tem dependências
-        if (task.getDependencies() != null && !task.getDependencies().isEmpty()) {
-            return BigDecimal.valueOf(0.6); // Risco médio por dependências
-        }
-        return BigDecimal.valueOf(0.2); // Baixo risco sem dependências
+    private DelayPrediction buildPrediction(Task task, double[] coefficients) {
+        DelayFeatureVector features = DelayFeatureVector.of(task);
+
+        // Regressão aprendida com os atrasos reais do projeto; sem dados suficientes, regressão ponderada fixa
+        int predictedDelayDays = coefficients != null
+                ? DelayScoringFunction.predictDelayDays(coefficients, features)
+                : DelayScoringFunction.WEIGHTED.predictDelayDays(features);
+
+        BigDecimal confidenceScore = BigDecimal.valueOf(features.confidenceScore()).setScale(4, RoundingMode.HALF_UP);
+        DelayPrediction prediction = new DelayPrediction(task, predictedDelayDays, confidenceScore);
+        prediction.setModelVersion(coefficients != null ? DelayRegressionService.MODEL_VERSION : HEURISTIC_MODEL_VERSION);
+        prediction.setFeaturesUsed(toFeaturesJson(features.toArray()));
+        return prediction;
     }
 
     /**
      * Busca predições por tarefa
      */
-    public List<DelayPrediction> getPredictionsForTask(Task task) {
-        return delayPredictionRepository.findByTaskOrderByPredictionDateDesc(task);
+    @Transactional(readOnly = true)
+    public List<DelayPredictionView> getPredictionsForTask(Long taskId) {
+        return delayPredictionRepository.findViewsByTaskId(taskId);
     }
 
     /**
      * Busca predições críticas (alto risco)
      */
-    public List<DelayPrediction> getCriticalPredictions() {
-        return delayPredictionRepository.findByRiskLevel(DelayPrediction.RiskLevel.CRITICAL);
+    @Transactional(readOnly = true)
+    public List<DelayPredictionView> getCriticalPredictions() {
+        return delayPredictionRepository.findViewsByRiskLevel(DelayPrediction.RiskLevel.CRITICAL);
     }
 
     /**
      * Busca predições com alta confiança
      */
-    public List<DelayPrediction> getHighConfidencePredictions() {
-        return delayPredictionRepository.findByConfidenceScoreAbove(0.8);
+    @Transactional(readOnly = true)
+    public List<DelayPredictionView> getHighConfidencePredictions() {
+        return delayPredictionRepository.findViewsByConfidenceScoreAbove(0.8);
     }
 
     /**
-     * Atualiza precisão da predição com dados reais
+     * Atualiza precisão da predição com dados reais, ensina o atraso real ao modelo do projeto
+     * e soma a mudança de acurácia aos agregados
      */
     public void updatePredictionAccuracy(Long predictionId, Integer actualDelayDays) {
         Optional<DelayPrediction> predictionOpt = delayPredictionRepository.findById(predictionId);
         if (predictionOpt.isPresent()) {
             DelayPrediction prediction = predictionOpt.get();
+            Integer previousActualDelayDays = prediction.getActualDelayDays();
+            BigDecimal previousAccuracy = prediction.getPredictionAccuracy();
             prediction.updateAccuracy(actualDelayDays);
             delayPredictionRepository.save(prediction);
+
+            if (actualDelayDays != null) {
+                Task task = prediction.getTask();
+                delayRegressionService.recordOutcome(task.getProject().getId(), readFeatures(prediction),
+                        previousActualDelayDays, actualDelayDays);
+            }
+            delayPredictionAccuracyService.record(prediction, previousAccuracy);
         }
     }
 
     /**
-     * Gera alertas para predições críticas
+     * Features gravadas na predição; predições sem elas são recalculadas a partir do estado atual da tarefa
      */
-    public List<DelayPrediction> getPredictionsNeedingAlerts() {
-        return delayPredictionRepository.findCriticalPredictionsWithoutAlert();
+    private double[] readFeatures(DelayPrediction prediction) {
+        if (prediction.getFeaturesUsed() != null) {
+            try {
+                JsonNode node = objectMapper.readTree(prediction.getFeaturesUsed());
+                double[] features = new double[DelayRegressionService.FEATURES.size()];
+                boolean complete = true;
+                for (int i = 0; i < features.length; i++) {
+                    JsonNode value = node.get(DelayRegressionService.FEATURES.get(i));
+                    complete &= value != null && value.isNumber();
+                    features[i] = value != null ? value.asDouble() : 0.0;
+                }
+                if (complete) {
+                    return features;
+                }
+            } catch (JsonProcessingException e) {
+                // Features ilegíveis: recalcula abaixo
+            }
+        }
+
+        return DelayFeatureVector.of(prediction.getTask()).toArray();
+    }
+
+    private String toFeaturesJson(double[] features) {
+        Map<String, Double> byName = new LinkedHashMap<>();
+        for (int i = 0; i < features.length; i++) {
+            byName.put(DelayRegressionService.FEATURES.get(i), features[i]);
+        }
+        try {
+            return objectMapper.writeValueAsString(byName);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar as features da predição", e);
+        }
+    }
+
+    /**
+     * Gera alertas para predições críticas.
+     * Lê do primário: numa réplica atrasada, alertas já marcados como enviados voltariam a aparecer.
+     */
+    public List<DelayPredictionView> getPredictionsNeedingAlerts() {
+        return delayPredictionRepository.findCriticalViewsWithoutAlert();
     }
 
     /**
@@ -214,26 +270,19 @@ public class DelayPredictionService {
     }
 
     /**
-     * Calcula métricas de precisão das predições
+     * Calcula métricas de precisão das predições a partir dos agregados, sem ler as predições
      */
+    @Transactional(readOnly = true)
     public BigDecimal calculatePredictionAccuracy() {
-        List<DelayPrediction> predictionsWithActual = 
-            delayPredictionRepository.findPredictionsWithActualDelay();
-        
-        if (predictionsWithActual.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-
-        BigDecimal totalAccuracy = predictionsWithActual.stream()
-                .map(DelayPrediction::getPredictionAccuracy)
-                .filter(acc -> acc != null)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return delayPredictionAccuracyService.getOverallAccuracy().accuracy();
+    }
 
-        return totalAccuracy.divide(
-            BigDecimal.valueOf(predictionsWithActual.size()), 
-            4, 
-            RoundingMode.HALF_UP
-        );
+    /**
+     * Acurácia geral, nas janelas de 30 e 90 dias e por projeto, nível de risco e versão do modelo
+     */
+    @Transactional(readOnly = true)
+    public DelayPredictionAccuracyView getAccuracyBreakdown() {
+        return delayPredictionAccuracyService.getAccuracyBreakdown();
     }
 
     /**
@@ -243,6 +292,7 @@ public class DelayPredictionService {
         // Remove predições antigas
         List<DelayPrediction> oldPredictions = delayPredictionRepository.findByTaskOrderByPredictionDateDesc(task);
         if (!oldPredictions.isEmpty()) {
+            oldPredictions.forEach(delayPredictionAccuracyService::remove);
             delayPredictionRepository.deleteAll(oldPredictions);
         }
 
@@ -253,14 +303,16 @@ public class DelayPredictionService {
     /**
      * Busca predições por projeto
      */
-    public List<DelayPrediction> getPredictionsForProject(Long projectId) {
+    @Transactional(readOnly = true)
+    public List<DelayPredictionView> getPredictionsForProject(Long projectId) {
         LocalDateTime since = LocalDateTime.now().minusDays(30);
-        return delayPredictionRepository.findRecentByProject(projectId, since);
+        return delayPredictionRepository.findRecentViewsByProject(projectId, since);
     }
 
     /**
      * Verifica se uma tarefa precisa de nova predição
      */
+    @Transactional(readOnly = true)
     public boolean needsNewPrediction(Task task) {
         Optional<DelayPrediction> lastPrediction = 
             delayPredictionRepository.findFirstByTaskOrderByPredictionDateDesc(task);
@@ -275,7 +327,7 @@ public class DelayPredictionService {
             LocalDateTime.now()
         );
 
-        // Nova predição a cada 7 dias ou se a tarefa foi modificada
-        return daysSincePrediction >= 7 || task.getUpdatedAt() != null;
+        // Nova predição a cada 7 dias ou se uma entrada do modelo mudou e a repredição ainda não rodou
+        return daysSincePrediction >= 7 || delayRepredictionQueue.contains(task.getId());
     }
 }
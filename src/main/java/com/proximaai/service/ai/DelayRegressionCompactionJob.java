@@ -0,0 +1,41 @@
+package com.proximaai.service.ai;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Compactação noturna dos modelos de regressão de atrasos. Cada projeto é compactado na sua própria
+ * transação, bloqueando só a linha do seu modelo.
+ */
+@Component
+public class DelayRegressionCompactionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DelayRegressionCompactionJob.class);
+
+    @Autowired
+    private DelayRegressionService delayRegressionService;
+
+    @Scheduled(cron = "${proxima.delay-regression.compaction-cron:0 0 3 * * *}")
+    public void compactModels() {
+        int orphans = delayRegressionService.deleteOrphanModels();
+        List<Long> projectIds = delayRegressionService.findProjectsWithModels();
+        int failed = 0;
+
+        for (Long projectId : projectIds) {
+            try {
+                delayRegressionService.compactModel(projectId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Falha ao compactar o modelo de atrasos do projeto {}", projectId, e);
+            }
+        }
+
+        log.info("Modelos de atrasos compactados para {} projetos ({} falhas, {} órfãos removidos)",
+                projectIds.size() - failed, failed, orphans);
+    }
+}
@@ -0,0 +1,109 @@
+package com.proximaai.service.ai;
+
+import com.proximaai.config.AIConfig;
+import com.proximaai.domain.entity.ai.DelayRegressionModel;
+import com.proximaai.repository.ai.DelayRegressionModelRepository;
+import com.proximaai.service.ai.regression.RegressionStatistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Regressão linear de atrasos por projeto, aprendida de forma incremental com as predições resolvidas.
+ * Cada atraso real soma o par (features, atraso) às estatísticas suficientes do projeto e resolve de novo
+ * os coeficientes (sistema de tamanho fixo); a predição é um produto escalar com os coeficientes gravados.
+ */
+@Service
+@Transactional
+public class DelayRegressionService {
+
+    public static final String MODEL_VERSION = "delay-linreg-1.0";
+
+    // Ordem das features nas estatísticas e nos coeficientes (após o intercepto)
+    public static final List<String> FEATURES = List.of(
+            "complexityScore", "teamExperienceScore", "dependencyRiskScore", "resourceAvailabilityScore");
+
+    // Pesos abaixo disso, após os decaimentos, equivalem a um modelo vazio
+    private static final double MIN_WEIGHT = 1e-6;
+
+    @Autowired
+    private DelayRegressionModelRepository delayRegressionModelRepository;
+
+    @Autowired
+    private AIConfig aiConfig;
+
+    /**
+     * Coeficientes do modelo do projeto (intercepto primeiro), vazio enquanto o modelo não tem observações
+     * suficientes. Permite prever um lote de tarefas com uma única leitura do modelo.
+     */
+    @Transactional(readOnly = true)
+    public Optional<double[]> findCoefficients(Long projectId) {
+        return delayRegressionModelRepository.findById(projectId)
+                .filter(model -> model.getCoefficients() != null && model.getWeight() >= aiConfig.getDelayRegressionMinSamples())
+                .map(DelayRegressionModel::getCoefficients);
+    }
+
+    /**
+     * Soma ao modelo do projeto o atraso real de uma predição. Se a predição já tinha um atraso real,
+     * a observação anterior é desfeita antes, para que correções não contem duas vezes.
+     */
+    public void recordOutcome(Long projectId, double[] features, Integer previousActualDelayDays, int actualDelayDays) {
+        delayRegressionModelRepository.insertIfAbsent(projectId, MODEL_VERSION, LocalDateTime.now());
+        DelayRegressionModel model = delayRegressionModelRepository.findForUpdate(projectId).orElseThrow();
+
+        RegressionStatistics stats = readStatistics(model);
+        if (previousActualDelayDays != null) {
+            stats.remove(features, previousActualDelayDays);
+        }
+        stats.add(features, actualDelayDays);
+        writeStatistics(model, stats);
+    }
+
+    /**
+     * Compactação de um modelo: aplica o decaimento (observações antigas perdem peso), descarta modelos
+     * sem peso e resolve os coeficientes do zero, eliminando o erro acumulado pelas atualizações incrementais
+     */
+    public void compactModel(Long projectId) {
+        delayRegressionModelRepository.findForUpdate(projectId).ifPresent(model -> {
+            RegressionStatistics stats = readStatistics(model);
+            stats.decay(aiConfig.getDelayRegressionDecay());
+            if (stats.getWeight() < MIN_WEIGHT) {
+                stats = new RegressionStatistics(FEATURES.size());
+            }
+            writeStatistics(model, stats);
+            model.setModelVersion(MODEL_VERSION);
+            model.setCompactedAt(model.getUpdatedAt());
+        });
+    }
+
+    @Transactional(readOnly = true)
+    public List<Long> findProjectsWithModels() {
+        return delayRegressionModelRepository.findAllProjectIds();
+    }
+
+    public int deleteOrphanModels() {
+        return delayRegressionModelRepository.deleteOrphans();
+    }
+
+    private RegressionStatistics readStatistics(DelayRegressionModel model) {
+        return RegressionStatistics.restore(FEATURES.size(), model.getXtx(), model.getXty(),
+                model.getYty(), model.getWeight(), model.getSampleCount());
+    }
+
+    private void writeStatistics(DelayRegressionModel model, RegressionStatistics stats) {
+        double[] coefficients = stats.getWeight() >= MIN_WEIGHT ? stats.solve(aiConfig.getDelayRegressionRidge()) : null;
+        model.setXtx(stats.getXtx());
+        model.setXty(stats.getXty());
+        model.setYty(stats.getYty());
+        model.setWeight(stats.getWeight());
+        model.setSampleCount(stats.getCount());
+        model.setCoefficients(coefficients);
+        model.setResidualVariance(coefficients != null && Double.isFinite(stats.residualVariance(coefficients))
+                ? stats.residualVariance(coefficients) : null);
+        model.setUpdatedAt(LocalDateTime.now());
+    }
+}
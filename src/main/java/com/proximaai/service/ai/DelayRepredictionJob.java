@@ -0,0 +1,85 @@
+package com.proximaai.service.ai;
+
+import com.proximaai.config.AIConfig;
+import com.proximaai.service.ai.delay.DelayRepredictionQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Drena a fila de repredição em lotes, cada um na sua própria transação. O trabalho acompanha o volume
+ * de alterações, não o tamanho do backlog; um lote que falha é dividido até isolar as tarefas que falham,
+ * e só estas voltam para a fila, até o limite de tentativas.
+ */
+@Component
+public class DelayRepredictionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(DelayRepredictionJob.class);
+
+    @Autowired
+    private DelayRepredictionQueue delayRepredictionQueue;
+
+    @Autowired
+    private DelayPredictionService delayPredictionService;
+
+    @Autowired
+    private AIConfig aiConfig;
+
+    // Tentativas com falha por tarefa; o job não roda em paralelo consigo mesmo
+    private final Map<Long, Integer> failedAttempts = new HashMap<>();
+
+    @Scheduled(fixedDelayString = "${proxima.ai.delay-reprediction-interval-ms:30000}")
+    public void repredictChangedTasks() {
+        int batchSize = Math.max(aiConfig.getDelayRepredictionBatchSize(), 1);
+        // Só o que já estava na fila: alterações chegando durante a execução ficam para a próxima
+        int pending = delayRepredictionQueue.size();
+        int predicted = 0;
+
+        while (pending > 0) {
+            List<Long> taskIds = delayRepredictionQueue.drain(Math.min(batchSize, pending));
+            if (taskIds.isEmpty()) {
+                break;
+            }
+            pending -= taskIds.size();
+            predicted += repredict(taskIds);
+        }
+
+        if (predicted > 0) {
+            log.info("Atraso repredito para {} tarefas alteradas", predicted);
+        }
+    }
+
+    /**
+     * Reprediz o lote; se falhar, reprediz cada metade separadamente até chegar às tarefas que falham sozinhas.
+     */
+    private int repredict(List<Long> taskIds) {
+        try {
+            int predicted = delayPredictionService.predictDelaysForTasks(taskIds).size();
+            failedAttempts.keySet().removeAll(taskIds);
+            return predicted;
+        } catch (RuntimeException e) {
+            if (taskIds.size() > 1) {
+                int middle = taskIds.size() / 2;
+                return repredict(taskIds.subList(0, middle)) + repredict(taskIds.subList(middle, taskIds.size()));
+            }
+            Long taskId = taskIds.get(0);
+            int attempts = failedAttempts.merge(taskId, 1, Integer::sum);
+            if (attempts < Math.max(aiConfig.getDelayRepredictionMaxAttempts(), 1)) {
+                delayRepredictionQueue.enqueue(taskIds);
+                log.warn("Falha ao repredizer o atraso da tarefa {} (tentativa {}); ela volta para a fila: {}",
+                        taskId, attempts, e.toString());
+            } else {
+                failedAttempts.remove(taskId);
+                log.error("Falha ao repredizer o atraso da tarefa {} após {} tentativas; ela sai da fila",
+                        taskId, attempts, e);
+            }
+            return 0;
+        }
+    }
+}
@@ -1,15 +1,26 @@
 package com.proximaai.service.ai;
 
+import com.proximaai.service.ai.anomaly.MetricKey;
+import com.proximaai.service.ai.anomaly.RunningStatistics;
+import com.proximaai.service.ai.anomaly.RunningStatisticsRegistry;
+import com.proximaai.service.ai.clustering.KMeansEngine;
+import com.proximaai.service.ai.clustering.KMeansResult;
+import com.proximaai.service.ai.sentiment.SentimentLexicons;
+import com.proximaai.service.ai.timeseries.TimeSeriesKey;
+import com.proximaai.service.ai.timeseries.TimeSeriesStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Service;
 import org.apache.commons.math3.stat.regression.SimpleRegression;
 import org.apache.commons.math3.stat.correlation.PearsonsCorrelation;
-import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 
 @Service
@@ -19,7 +30,26 @@ public class MLAlgorithmService {
     private static final int MIN_CORRELATION_SAMPLES = 2;
     private static final double ANOMALY_Z_SCORE_THRESHOLD = 2.0;
     private static final double CENTROID_CONVERGENCE_THRESHOLD = 0.001;
-    private static final int DEFAULT_CENTROID_DIMENSIONS = 10;
+    private static final long KMEANS_SEED = 42L;
+
+    // Textos por bloco no lote de sentimento; lotes menores são pontuados na thread chamadora
+    private static final int SENTIMENT_BATCH_CHUNK_SIZE = 512;
+
+    @Autowired
+    private KMeansEngine kMeansEngine;
+
+    @Autowired
+    private SentimentLexicons sentimentLexicons;
+
+    @Autowired
+    private RunningStatisticsRegistry runningStatisticsRegistry;
+
+    @Autowired
+    private TimeSeriesStore timeSeriesStore;
+
+    @Autowired
+    @Qualifier("aiTaskExecutor")
+    private Executor aiTaskExecutor;
 
     /**
      * Algoritmo de regressão linear para predição de atrasos
@@ -62,7 +92,7 @@ public class MLAlgorithmService {
     }
 
     /**
-     * Algoritmo de clustering K-means simplificado para agrupamento de tarefas
+     * Algoritmo de clustering K-means para agrupamento de tarefas (delegado ao KMeansEngine)
      */
     public List<List<Integer>> performKMeansClustering(List<double[]> dataPoints, int k, int maxIterations) {
         if (dataPoints.isEmpty() || k <= 0) {
@@ -70,88 +100,59 @@ public class MLAlgorithmService {
         }
 
         int dimensions = dataPoints.get(0).length;
-        double[][] centroids = initializeCentroids(dataPoints, k, dimensions);
-        
-        for (int iteration = 0; iteration < maxIterations; iteration++) {
-            List<List<Integer>> clusters = assignPointsToClusters(dataPoints, centroids);
-            double[][] newCentroids = calculateNewCentroids(dataPoints, clusters, k, dimensions);
-            
-            if (centroidsConverged(centroids, newCentroids)) {
-                break;
-            }
-            
-            centroids = newCentroids;
+        double[] points = new double[dataPoints.size() * dimensions];
+        for (int i = 0; i < dataPoints.size(); i++) {
+            System.arraycopy(dataPoints.get(i), 0, points, i * dimensions, dimensions);
         }
-        
-        return assignPointsToClusters(dataPoints, centroids);
+
+        KMeansResult result = kMeansEngine.cluster(points, dimensions, k, maxIterations,
+                CENTROID_CONVERGENCE_THRESHOLD, KMEANS_SEED);
+
+        List<List<Integer>> clusters = new ArrayList<>();
+        for (int i = 0; i < k; i++) {
+            clusters.add(new ArrayList<>());
+        }
+        for (int i = 0; i < dataPoints.size(); i++) {
+            clusters.get(result.getAssignment(i)).add(i);
+        }
+        return clusters;
     }
 
     /**
-     * Algoritmo de análise de sentimento baseado em palavras-chave
+     * Algoritmo de análise de sentimento baseado em palavras-chave, com o léxico da língua que reconhece
+     * mais palavras do texto
      */
     public BigDecimal analyzeSentiment(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        if (text == null || text.isBlank()) {
             return BigDecimal.ZERO;
         }
+        return BigDecimal.valueOf(sentimentLexicons.score(text)).setScale(4, RoundingMode.HALF_UP);
+    }
 
-        // Palavras-chave positivas e negativas (simplificado)
-        Map<String, Integer> positiveWords = new HashMap<>();
-        positiveWords.put("excellent", 2);
-        positiveWords.put("great", 2);
-        positiveWords.put("good", 1);
-        positiveWords.put("amazing", 2);
-        positiveWords.put("wonderful", 2);
-        positiveWords.put("perfect", 2);
-        positiveWords.put("fantastic", 2);
-        positiveWords.put("outstanding", 2);
-        positiveWords.put("superb", 2);
-        positiveWords.put("brilliant", 2);
-        positiveWords.put("success", 1);
-        positiveWords.put("complete", 1);
-        positiveWords.put("done", 1);
-        positiveWords.put("finished", 1);
-        positiveWords.put("achieved", 1);
-
-        Map<String, Integer> negativeWords = new HashMap<>();
-        negativeWords.put("terrible", -2);
-        negativeWords.put("awful", -2);
-        negativeWords.put("bad", -1);
-        negativeWords.put("horrible", -2);
-        negativeWords.put("disappointing", -2);
-        negativeWords.put("failed", -2);
-        negativeWords.put("broken", -1);
-        negativeWords.put("error", -1);
-        negativeWords.put("problem", -1);
-        negativeWords.put("issue", -1);
-        negativeWords.put("delay", -1);
-        negativeWords.put("late", -1);
-        negativeWords.put("overdue", -2);
-        negativeWords.put("stuck", -1);
-        negativeWords.put("blocked", -1);
-
-        String[] words = text.toLowerCase().split("\\s+");
-        int sentimentScore = 0;
-        int wordCount = 0;
-
-        for (String word : words) {
-            word = word.replaceAll("[^a-zA-Z]", "");
-            if (positiveWords.containsKey(word)) {
-                sentimentScore += positiveWords.get(word);
-                wordCount++;
-            } else if (negativeWords.containsKey(word)) {
-                sentimentScore += negativeWords.get(word);
-                wordCount++;
-            }
-        }
-
-        if (wordCount == 0) {
+    /**
+     * Análise de sentimento com o léxico de uma língua configurada (ex.: pt-BR, en)
+     */
+    public BigDecimal analyzeSentiment(String text, String language) {
+        if (text == null || text.isBlank()) {
             return BigDecimal.ZERO;
         }
+        return BigDecimal.valueOf(sentimentLexicons.score(text, language)).setScale(4, RoundingMode.HALF_UP);
+    }
 
-        // Normaliza o score entre -1 e 1
-        double normalizedScore = (double) sentimentScore / (wordCount * 2);
-        return BigDecimal.valueOf(Math.max(-1.0, Math.min(1.0, normalizedScore)))
-                .setScale(4, RoundingMode.HALF_UP);
+    /**
+     * Análise de sentimento em lote: os textos são divididos em blocos pontuados em paralelo no aiTaskExecutor.
+     * Os scores voltam na mesma ordem dos textos.
+     */
+    public List<BigDecimal> analyzeSentimentBatch(List<String> texts) {
+        String[] input = texts.toArray(new String[0]);
+        BigDecimal[] scores = new BigDecimal[input.length];
+
+        ParallelChunks.run(input.length, SENTIMENT_BATCH_CHUNK_SIZE, aiTaskExecutor, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                scores[i] = analyzeSentiment(input[i]);
+            }
+        });
+        return List.of(scores);
     }
 
     /**
@@ -183,48 +184,46 @@ public class MLAlgorithmService {
     }
 
     /**
-     * Algoritmo de detecção de anomalias usando Z-score
+     * Algoritmo de detecção de anomalias usando Z-score, em uma única passada sobre o histórico
      */
     public boolean isAnomaly(double value, List<Double> historicalData) {
         if (historicalData.size() < MIN_CORRELATION_SAMPLES + 1) {
             return false;
         }
+        return RunningStatistics.of(historicalData).zScore(value) > ANOMALY_Z_SCORE_THRESHOLD;
+    }
 
-        DescriptiveStatistics stats = new DescriptiveStatistics();
-        historicalData.forEach(stats::addValue);
-
-        double mean = stats.getMean();
-        double stdDev = stats.getStandardDeviation();
-
-        if (stdDev == 0) {
-            return false;
-        }
-
-        double zScore = Math.abs((value - mean) / stdDev);
-        return zScore > ANOMALY_Z_SCORE_THRESHOLD;
+    /**
+     * Detecção de anomalias em O(1) contra o acumulador da chave (usuário/projeto e métrica), sem reler o histórico
+     */
+    public boolean isAnomaly(MetricKey key, double value) {
+        return runningStatisticsRegistry.isAnomaly(key, value);
     }
 
     /**
-     * Algoritmo de predição de tendência usando média móvel
+     * Algoritmo de predição de tendência usando média móvel: variação relativa da média da última janela
+     * sobre a média das observações anteriores, em uma única passada
      */
     public BigDecimal predictTrend(List<Double> timeSeries, int windowSize) {
-        if (timeSeries.size() < windowSize) {
+        int size = timeSeries.size();
+        if (size < windowSize) {
             return BigDecimal.ZERO;
         }
 
-        // Calcula média móvel das últimas observações
-        double recentAverage = timeSeries.stream()
-                .skip(timeSeries.size() - windowSize)
-                .mapToDouble(Double::doubleValue)
-                .average()
-                .orElse(0.0);
+        int split = size - windowSize;
+        double previousSum = 0.0;
+        double recentSum = 0.0;
+        int i = 0;
+        for (Double value : timeSeries) {
+            if (i++ < split) {
+                previousSum += value;
+            } else {
+                recentSum += value;
+            }
+        }
 
-        // Calcula média móvel das observações anteriores
-        double previousAverage = timeSeries.stream()
-                .limit(timeSeries.size() - windowSize)
-                .mapToDouble(Double::doubleValue)
-                .average()
-                .orElse(0.0);
+        double recentAverage = windowSize == 0 ? 0.0 : recentSum / windowSize;
+        double previousAverage = split == 0 ? 0.0 : previousSum / split;
 
         if (previousAverage == 0) {
             return BigDecimal.ZERO;
@@ -236,17 +235,37 @@ public class MLAlgorithmService {
     }
 
     /**
-     * Algoritmo de otimização de recursos usando algoritmo guloso
+     * Tendência de uma série do TimeSeriesStore em O(1): tendência de Holt por observação relativa ao nível atual
+     */
+    public BigDecimal predictTrend(TimeSeriesKey key) {
+        return timeSeriesStore.forecast(key, 1)
+                .filter(forecast -> forecast.level() != 0)
+                .map(forecast -> BigDecimal.valueOf(forecast.trend() / Math.abs(forecast.level())).setScale(4, RoundingMode.HALF_UP))
+                .orElse(BigDecimal.ZERO);
+    }
+
+    /**
+     * Otimização de recursos: cada tarefa vai para o usuário cuja capacidade restante fica mais justa.
+     * As tarefas são encaixadas da mais complexa para a menos complexa (best-fit decreasing), o que evita
+     * que tarefas pequenas fragmentem a capacidade das grandes; o resultado segue a ordem de entrada,
+     * com -1 para as tarefas que não couberam
      */
     public List<Integer> optimizeResourceAllocation(List<Double> taskComplexities, List<Double> userCapacities) {
         if (taskComplexities.isEmpty() || userCapacities.isEmpty()) {
             return List.of();
         }
 
-        List<Integer> allocation = new java.util.ArrayList<>();
+        double[] complexities = taskComplexities.stream().mapToDouble(Double::doubleValue).toArray();
         double[] remainingCapacity = userCapacities.stream().mapToDouble(Double::doubleValue).toArray();
+        Integer[] order = new Integer[complexities.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(complexities[b], complexities[a]));
 
-        for (double complexity : taskComplexities) {
+        Integer[] allocation = new Integer[complexities.length];
+        for (int task : order) {
+            double complexity = complexities[task];
             int bestUser = -1;
             double bestFit = Double.MAX_VALUE;
 
@@ -260,95 +279,12 @@ public class MLAlgorithmService {
                 }
             }
 
+            allocation[task] = bestUser; // -1: não foi possível alocar
             if (bestUser != -1) {
-                allocation.add(bestUser);
                 remainingCapacity[bestUser] -= complexity;
-            } else {
-                allocation.add(-1); // Não foi possível alocar
-            }
-        }
-
-        return allocation;
-    }
-
-    // Métodos auxiliares para K-means
-    private double[][] initializeCentroids(List<double[]> dataPoints, int k, int dimensions) {
-        double[][] centroids = new double[k][dimensions];
-        
-        for (int i = 0; i < k; i++) {
-            for (int j = 0; j < dimensions; j++) {
-                centroids[i][j] = Math.random() * DEFAULT_CENTROID_DIMENSIONS;
-            }
-        }
-        
-        return centroids;
-    }
-
-    private List<List<Integer>> assignPointsToClusters(List<double[]> dataPoints, double[][] centroids) {
-        List<List<Integer>> clusters = new java.util.ArrayList<>();
-        for (int i = 0; i < centroids.length; i++) {
-            clusters.add(new java.util.ArrayList<>());
-        }
-
-        for (int i = 0; i < dataPoints.size(); i++) {
-            double[] point = dataPoints.get(i);
-            int closestCentroid = 0;
-            double minDistance = Double.MAX_VALUE;
-
-            for (int j = 0; j < centroids.length; j++) {
-                double distance = calculateEuclideanDistance(point, centroids[j]);
-                if (distance < minDistance) {
-                    minDistance = distance;
-                    closestCentroid = j;
-                }
-            }
-
-            clusters.get(closestCentroid).add(i);
-        }
-
-        return clusters;
-    }
-
-    private double[][] calculateNewCentroids(List<double[]> dataPoints, List<List<Integer>> clusters, int k, int dimensions) {
-        double[][] newCentroids = new double[k][dimensions];
-
-        for (int i = 0; i < k; i++) {
-            List<Integer> cluster = clusters.get(i);
-            if (cluster.isEmpty()) {
-                continue;
-            }
-
-            for (int j = 0; j < dimensions; j++) {
-                double sum = 0.0;
-                for (int pointIndex : cluster) {
-                    sum += dataPoints.get(pointIndex)[j];
-                }
-                newCentroids[i][j] = sum / cluster.size();
             }
         }
 
-        return newCentroids;
-    }
-
-    private boolean centroidsConverged(double[][] oldCentroids, double[][] newCentroids) {
-        double threshold = CENTROID_CONVERGENCE_THRESHOLD;
-        
-        for (int i = 0; i < oldCentroids.length; i++) {
-            for (int j = 0; j < oldCentroids[i].length; j++) {
-                if (Math.abs(oldCentroids[i][j] - newCentroids[i][j]) > threshold) {
-                    return false;
-                }
-            }
-        }
-        
-        return true;
-    }
-
-    private double calculateEuclideanDistance(double[] point1, double[] point2) {
-        double sum = 0.0;
-        for (int i = 0; i < point1.length; i++) {
-            sum += Math.pow(point1[i] - point2[i], 2);
-        }
-        return Math.sqrt(sum);
+        return Arrays.asList(allocation);
     }
 }
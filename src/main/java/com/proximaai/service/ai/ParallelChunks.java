@@ -0,0 +1,47 @@
+package com.proximaai.service.ai;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Divide um lote de itens em blocos contíguos processados em paralelo em um Executor.
+ * O primeiro bloco roda na thread chamadora, que espera os demais; blocos recusados pelo executor
+ * (fila cheia) também rodam nela.
+ */
+public final class ParallelChunks {
+
+    private ParallelChunks() {}
+
+    @FunctionalInterface
+    public interface Chunk {
+        void process(int from, int to);
+    }
+
+    /**
+     * @param size          quantidade de itens
+     * @param minChunkSize  itens mínimos por bloco; lotes menores rodam inteiros na thread chamadora
+     */
+    public static void run(int size, int minChunkSize, Executor executor, Chunk chunk) {
+        int chunks = Math.min(Runtime.getRuntime().availableProcessors(), (size + minChunkSize - 1) / minChunkSize);
+        if (chunks <= 1) {
+            chunk.process(0, size);
+            return;
+        }
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[chunks - 1];
+        for (int c = 1; c < chunks; c++) {
+            int from = (int) ((long) size * c / chunks);
+            int to = (int) ((long) size * (c + 1) / chunks);
+            try {
+                futures[c - 1] = CompletableFuture.runAsync(() -> chunk.process(from, to), executor);
+            } catch (RejectedExecutionException e) {
+                chunk.process(from, to);
+                futures[c - 1] = CompletableFuture.completedFuture(null);
+            }
+        }
+
+        chunk.process(0, size / chunks);
+        CompletableFuture.allOf(futures).join();
+    }
+}
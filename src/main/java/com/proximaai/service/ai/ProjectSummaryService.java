@@ -5,6 +5,8 @@ import com.proximaai.domain.entity.Project;
 import com.proximaai.domain.entity.Task;
 import com.proximaai.repository.ai.ProjectSummaryRepository;
 import com.proximaai.repository.TaskRepository;
+import com.proximaai.repository.projection.ProjectSummaryView;
+import com.proximaai.repository.projection.ProjectTaskStats;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,7 +18,6 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @Transactional
@@ -34,18 +35,18 @@ public class ProjectSummaryService {
     public ProjectSummary generateProjectSummary(Project project, ProjectSummary.SummaryType summaryType) {
         long startTime = System.currentTimeMillis();
         
-        // Coleta dados do projeto
-        List<Task> projectTasks = getProjectTasks(project);
+        // Coleta estatísticas agregadas do projeto
+        ProjectTaskStats stats = getProjectTaskStats(project);
         
         // Gera conteúdo do resumo
-        String summaryContent = generateSummaryContent(project, projectTasks, summaryType);
+        String summaryContent = generateSummaryContent(project, stats, summaryType);
         String summaryTitle = generateSummaryTitle(project, summaryType);
-        String keyHighlights = generateKeyHighlights(project, projectTasks);
-        String riskIndicators = generateRiskIndicators(project, projectTasks);
-        String recommendations = generateRecommendations(project, projectTasks);
+        String keyHighlights = generateKeyHighlights(project, stats);
+        String riskIndicators = generateRiskIndicators(project, stats);
+        String recommendations = generateRecommendations(project, stats);
         
         // Calcula métricas
-        String summaryMetrics = generateSummaryMetrics(project, projectTasks);
+        String summaryMetrics = generateSummaryMetrics(project, stats);
         
         // Cria o resumo
         ProjectSummary summary = new ProjectSummary();
@@ -69,7 +70,7 @@ public class ProjectSummaryService {
     /**
      * Gera conteúdo do resumo usando IA generativa
      */
-    private String generateSummaryContent(Project project, List<Task> projectTasks, ProjectSummary.SummaryType summaryType) {
+    private String generateSummaryContent(Project project, ProjectTaskStats stats, ProjectSummary.SummaryType summaryType) {
         StringBuilder content = new StringBuilder();
         
         // Cabeçalho personalizado
@@ -80,26 +81,26 @@ public class ProjectSummaryService {
         // Status geral do projeto
         content.append("### Status Geral\n");
         content.append("O projeto encontra-se em **").append(getProjectStatusDescription(project.getStatus().toString())).append("** ");
-        content.append("com progresso de **").append(calculateProjectProgress(projectTasks)).append("%**.\n\n");
+        content.append("com progresso de **").append(calculateProjectProgress(stats)).append("%**.\n\n");
 
         // Resumo de tarefas
         content.append("### Resumo de Tarefas\n");
-        content.append("**Total de Tarefas:** ").append(projectTasks.size()).append("\n");
-        content.append("**Tarefas Concluídas:** ").append(countCompletedTasks(projectTasks)).append("\n");
-        content.append("**Tarefas em Andamento:** ").append(countInProgressTasks(projectTasks)).append("\n");
-        content.append("**Tarefas Pendentes:** ").append(countPendingTasks(projectTasks)).append("\n\n");
+        content.append("**Total de Tarefas:** ").append(stats.getTotalTasks()).append("\n");
+        content.append("**Tarefas Concluídas:** ").append(countCompletedTasks(stats)).append("\n");
+        content.append("**Tarefas em Andamento:** ").append(countInProgressTasks(stats)).append("\n");
+        content.append("**Tarefas Pendentes:** ").append(countPendingTasks(stats)).append("\n\n");
 
         // Destaques principais
         content.append("### Destaques Principais\n");
-        content.append(generateHighlightsText(project, projectTasks)).append("\n\n");
+        content.append(generateHighlightsText(project, stats)).append("\n\n");
 
         // Indicadores de risco
         content.append("### Indicadores de Risco\n");
-        content.append(generateRiskText(project, projectTasks)).append("\n\n");
+        content.append(generateRiskText(project, stats)).append("\n\n");
 
         // Recomendações
         content.append("### Recomendações\n");
-        content.append(generateRecommendationsText(project, projectTasks)).append("\n\n");
+        content.append(generateRecommendationsText(project, stats)).append("\n\n");
 
         // Próximos passos
         content.append("### Próximos Passos\n");
@@ -129,13 +130,13 @@ public class ProjectSummaryService {
     /**
      * Gera destaques principais em JSON
      */
-    private String generateKeyHighlights(Project project, List<Task> tasks) {
+    private String generateKeyHighlights(Project project, ProjectTaskStats stats) {
         Map<String, Object> highlights = Map.of(
             "projectName", project.getName(),
-            "totalTasks", tasks.size(),
-            "completedTasks", countCompletedTasks(tasks),
-            "progressPercentage", calculateProjectProgress(tasks),
-            "estimatedCompletion", estimateProjectCompletion(project, tasks),
+            "totalTasks", stats.getTotalTasks(),
+            "completedTasks", countCompletedTasks(stats),
+            "progressPercentage", calculateProjectProgress(stats),
+            "estimatedCompletion", estimateProjectCompletion(project, stats),
             "teamSize", project.getTeam() != null ? project.getTeam().getMembers().size() : 0
         );
         
@@ -145,12 +146,12 @@ public class ProjectSummaryService {
     /**
      * Gera indicadores de risco em JSON
      */
-    private String generateRiskIndicators(Project project, List<Task> tasks) {
+    private String generateRiskIndicators(Project project, ProjectTaskStats stats) {
         Map<String, Object> risks = Map.of(
-            "overdueTasks", countOverdueTasks(tasks),
-            "highPriorityPending", countHighPriorityPendingTasks(tasks),
+            "overdueTasks", countOverdueTasks(stats),
+            "highPriorityPending", countHighPriorityPendingTasks(stats),
             "resourceConstraints", hasResourceConstraints(project),
-            "dependencyBlockers", countDependencyBlockers(tasks),
+            "dependencyBlockers", countDependencyBlockers(stats),
             "budgetRisk", calculateBudgetRisk(project)
         );
         
@@ -160,12 +161,12 @@ public class ProjectSummaryService {
     /**
      * Gera recomendações em JSON
      */
-    private String generateRecommendations(Project project, List<Task> tasks) {
+    private String generateRecommendations(Project project, ProjectTaskStats stats) {
         Map<String, Object> recommendations = Map.of(
-            "immediateActions", generateImmediateActions(tasks),
+            "immediateActions", generateImmediateActions(stats),
             "resourceAllocation", generateResourceRecommendations(project),
-            "timelineAdjustments", generateTimelineRecommendations(project, tasks),
-            "riskMitigation", generateRiskMitigationStrategies(tasks)
+            "timelineAdjustments", generateTimelineRecommendations(project, stats),
+            "riskMitigation", generateRiskMitigationStrategies(stats)
         );
         
         return convertToJsonString(recommendations);
@@ -174,12 +175,12 @@ public class ProjectSummaryService {
     /**
      * Gera métricas do resumo
      */
-    private String generateSummaryMetrics(Project project, List<Task> tasks) {
+    private String generateSummaryMetrics(Project project, ProjectTaskStats stats) {
         Map<String, Object> metrics = Map.of(
-            "taskCompletionRate", calculateTaskCompletionRate(tasks),
-            "averageTaskDuration", calculateAverageTaskDuration(tasks),
-            "teamProductivity", calculateTeamProductivity(project, tasks),
-            "qualityScore", calculateQualityScore(tasks),
+            "taskCompletionRate", calculateTaskCompletionRate(stats),
+            "averageTaskDuration", calculateAverageTaskDuration(stats),
+            "teamProductivity", calculateTeamProductivity(project, stats),
+            "qualityScore", calculateQualityScore(stats),
             "stakeholderSatisfaction", estimateStakeholderSatisfaction(project)
         );
         
@@ -187,75 +188,59 @@ public class ProjectSummaryService {
     }
 
     /**
-     * Obtém tarefas do projeto
+     * Obtém estatísticas agregadas das tarefas do projeto
      */
-    private List<Task> getProjectTasks(Project project) {
-        // Implementação simplificada - em produção seria via repository
-        return taskRepository.findAll().stream()
-                .filter(task -> project.getId().equals(task.getProject().getId()))
-                .collect(Collectors.toList());
+    private ProjectTaskStats getProjectTaskStats(Project project) {
+        return ProjectTaskStats.from(taskRepository.aggregateStatsByProject(project.getId()));
     }
 
     /**
      * Calcula progresso do projeto
      */
-    private BigDecimal calculateProjectProgress(List<Task> tasks) {
-        if (tasks.isEmpty()) {
+    private BigDecimal calculateProjectProgress(ProjectTaskStats stats) {
+        if (stats.isEmpty()) {
             return BigDecimal.ZERO;
         }
         
-        long completedTasks = countCompletedTasks(tasks);
+        long completedTasks = countCompletedTasks(stats);
         return BigDecimal.valueOf(completedTasks)
-                .divide(BigDecimal.valueOf(tasks.size()), 2, RoundingMode.HALF_UP)
+                .divide(BigDecimal.valueOf(stats.getTotalTasks()), 2, RoundingMode.HALF_UP)
                 .multiply(BigDecimal.valueOf(100));
     }
 
     /**
      * Conta tarefas concluídas
      */
-    private long countCompletedTasks(List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> "DONE".equals(task.getStatus().toString()))
-                .count();
+    private long countCompletedTasks(ProjectTaskStats stats) {
+        return stats.getCountByStatus(Task.TaskStatus.DONE);
     }
 
     /**
      * Conta tarefas em andamento
      */
-    private long countInProgressTasks(List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> "IN_PROGRESS".equals(task.getStatus().toString()))
-                .count();
+    private long countInProgressTasks(ProjectTaskStats stats) {
+        return stats.getCountByStatus(Task.TaskStatus.IN_PROGRESS);
     }
 
     /**
      * Conta tarefas pendentes
      */
-    private long countPendingTasks(List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> "TODO".equals(task.getStatus().toString()))
-                .count();
+    private long countPendingTasks(ProjectTaskStats stats) {
+        return stats.getCountByStatus(Task.TaskStatus.TODO);
     }
 
     /**
      * Conta tarefas atrasadas
      */
-    private long countOverdueTasks(List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> task.getDueDate() != null && 
-                               task.getDueDate().isBefore(java.time.LocalDate.now()) &&
-                               !"DONE".equals(task.getStatus().toString()))
-                .count();
+    private long countOverdueTasks(ProjectTaskStats stats) {
+        return stats.getOverdueTasks();
     }
 
     /**
      * Conta tarefas de alta prioridade pendentes
      */
-    private long countHighPriorityPendingTasks(List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> "HIGH".equals(task.getPriority().toString()) && 
-                               !"DONE".equals(task.getStatus().toString()))
-                .count();
+    private long countHighPriorityPendingTasks(ProjectTaskStats stats) {
+        return stats.getPendingCountByPriority(Task.TaskPriority.HIGH);
     }
 
     /**
@@ -269,10 +254,8 @@ public class ProjectSummaryService {
     /**
      * Conta bloqueadores de dependência
      */
-    private long countDependencyBlockers(List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> task.getDependencies() != null && !task.getDependencies().isEmpty())
-                .count();
+    private long countDependencyBlockers(ProjectTaskStats stats) {
+        return stats.getDependencyBlockers();
     }
 
     /**
@@ -286,16 +269,16 @@ public class ProjectSummaryService {
     /**
      * Gera ações imediatas
      */
-    private List<String> generateImmediateActions(List<Task> tasks) {
+    private List<String> generateImmediateActions(ProjectTaskStats stats) {
         List<String> actions = new java.util.ArrayList<>();
         
-        if (countOverdueTasks(tasks) > 0) {
+        if (countOverdueTasks(stats) > 0) {
             actions.add("Revisar tarefas atrasadas");
         }
-        if (countHighPriorityPendingTasks(tasks) > 0) {
+        if (countHighPriorityPendingTasks(stats) > 0) {
             actions.add("Priorizar tarefas de alta prioridade");
         }
-        if (countDependencyBlockers(tasks) > 0) {
+        if (countDependencyBlockers(stats) > 0) {
             actions.add("Resolver dependências bloqueadoras");
         }
         
@@ -316,13 +299,13 @@ public class ProjectSummaryService {
     /**
      * Gera recomendações de timeline
      */
-    private List<String> generateTimelineRecommendations(Project project, List<Task> tasks) {
+    private List<String> generateTimelineRecommendations(Project project, ProjectTaskStats stats) {
         List<String> recommendations = new java.util.ArrayList<>();
         
-        if (calculateProjectProgress(tasks).compareTo(BigDecimal.valueOf(50)) < 0) {
+        if (calculateProjectProgress(stats).compareTo(BigDecimal.valueOf(50)) < 0) {
             recommendations.add("Considerar extensão do prazo");
         }
-        if (countOverdueTasks(tasks) > 0) {
+        if (countOverdueTasks(stats) > 0) {
             recommendations.add("Replanejar cronograma");
         }
         
@@ -332,7 +315,7 @@ public class ProjectSummaryService {
     /**
      * Gera estratégias de mitigação de risco
      */
-    private List<String> generateRiskMitigationStrategies(List<Task> tasks) {
+    private List<String> generateRiskMitigationStrategies(ProjectTaskStats stats) {
         return List.of(
             "Implementar monitoramento mais frequente",
             "Estabelecer checkpoints de progresso",
@@ -343,28 +326,33 @@ public class ProjectSummaryService {
     /**
      * Calcula taxa de conclusão de tarefas
      */
-    private BigDecimal calculateTaskCompletionRate(List<Task> tasks) {
-        if (tasks.isEmpty()) {
+    private BigDecimal calculateTaskCompletionRate(ProjectTaskStats stats) {
+        if (stats.isEmpty()) {
             return BigDecimal.ZERO;
         }
         
-        long completed = countCompletedTasks(tasks);
+        long completed = countCompletedTasks(stats);
         return BigDecimal.valueOf(completed)
-                .divide(BigDecimal.valueOf(tasks.size()), 4, RoundingMode.HALF_UP);
+                .divide(BigDecimal.valueOf(stats.getTotalTasks()), 4, RoundingMode.HALF_UP);
     }
 
     /**
-     * Calcula duração média das tarefas
+     * Calcula duração média das tarefas concluídas
      */
-    private BigDecimal calculateAverageTaskDuration(List<Task> tasks) {
-        // Implementação simplificada
-        return BigDecimal.valueOf(8.5);
+    private BigDecimal calculateAverageTaskDuration(ProjectTaskStats stats) {
+        long completed = countCompletedTasks(stats);
+        if (completed == 0 || stats.getCompletedActualHours() == 0) {
+            return BigDecimal.valueOf(8.5);
+        }
+        
+        return BigDecimal.valueOf(stats.getCompletedActualHours())
+                .divide(BigDecimal.valueOf(completed), 2, RoundingMode.HALF_UP);
     }
 
     /**
      * Calcula produtividade da equipe
      */
-    private BigDecimal calculateTeamProductivity(Project project, List<Task> tasks) {
+    private BigDecimal calculateTeamProductivity(Project project, ProjectTaskStats stats) {
         // Implementação simplificada
         return BigDecimal.valueOf(0.85);
     }
@@ -372,7 +360,7 @@ public class ProjectSummaryService {
     /**
      * Calcula score de qualidade
      */
-    private BigDecimal calculateQualityScore(List<Task> tasks) {
+    private BigDecimal calculateQualityScore(ProjectTaskStats stats) {
         // Implementação simplificada
         return BigDecimal.valueOf(0.9);
     }
@@ -388,7 +376,7 @@ public class ProjectSummaryService {
     /**
      * Estima data de conclusão do projeto
      */
-    private String estimateProjectCompletion(Project project, List<Task> tasks) {
+    private String estimateProjectCompletion(Project project, ProjectTaskStats stats) {
         // Implementação simplificada
         return java.time.LocalDate.now().plusDays(30).format(DateTimeFormatter.ofPattern("dd/MM/yyyy"));
     }
@@ -411,12 +399,12 @@ public class ProjectSummaryService {
     /**
      * Gera texto dos destaques
      */
-    private String generateHighlightsText(Project project, List<Task> tasks) {
+    private String generateHighlightsText(Project project, ProjectTaskStats stats) {
         StringBuilder highlights = new StringBuilder();
         
-        BigDecimal progress = calculateProjectProgress(tasks);
+        BigDecimal progress = calculateProjectProgress(stats);
         highlights.append("• Progresso geral: ").append(progress).append("%\n");
-        highlights.append("• Tarefas concluídas: ").append(countCompletedTasks(tasks)).append("/").append(tasks.size()).append("\n");
+        highlights.append("• Tarefas concluídas: ").append(countCompletedTasks(stats)).append("/").append(stats.getTotalTasks()).append("\n");
         highlights.append("• Equipe ativa: ").append(project.getTeam() != null ? project.getTeam().getMembers().size() : 0).append(" membros\n");
         
         return highlights.toString();
@@ -425,15 +413,15 @@ public class ProjectSummaryService {
     /**
      * Gera texto dos riscos
      */
-    private String generateRiskText(Project project, List<Task> tasks) {
+    private String generateRiskText(Project project, ProjectTaskStats stats) {
         StringBuilder risks = new StringBuilder();
         
-        long overdue = countOverdueTasks(tasks);
+        long overdue = countOverdueTasks(stats);
         if (overdue > 0) {
             risks.append("• ").append(overdue).append(" tarefas atrasadas\n");
         }
         
-        long highPriority = countHighPriorityPendingTasks(tasks);
+        long highPriority = countHighPriorityPendingTasks(stats);
         if (highPriority > 0) {
             risks.append("• ").append(highPriority).append(" tarefas de alta prioridade pendentes\n");
         }
@@ -448,14 +436,14 @@ public class ProjectSummaryService {
     /**
      * Gera texto das recomendações
      */
-    private String generateRecommendationsText(Project project, List<Task> tasks) {
+    private String generateRecommendationsText(Project project, ProjectTaskStats stats) {
         StringBuilder recommendations = new StringBuilder();
         
         recommendations.append("• Manter foco nas tarefas de alta prioridade\n");
         recommendations.append("• Revisar dependências regularmente\n");
         recommendations.append("• Comunicar progresso aos stakeholders\n");
         
-        if (countOverdueTasks(tasks) > 0) {
+        if (countOverdueTasks(stats) > 0) {
             recommendations.append("• Implementar ações corretivas para atrasos\n");
         }
         
@@ -473,13 +461,23 @@ public class ProjectSummaryService {
     /**
      * Busca resumos por projeto
      */
-    public List<ProjectSummary> getSummariesForProject(Project project) {
-        return projectSummaryRepository.findByProjectOrderBySummaryDateDesc(project);
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryView> getSummariesForProject(Long projectId) {
+        return projectSummaryRepository.findViewsByProjectId(projectId);
+    }
+
+    /**
+     * Busca resumos de um projeto por tipo
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSummaryView> getSummariesForProject(Long projectId, ProjectSummary.SummaryType summaryType) {
+        return projectSummaryRepository.findViewsByProjectIdAndSummaryType(projectId, summaryType);
     }
 
     /**
      * Busca o resumo mais recente de um projeto
      */
+    @Transactional(readOnly = true)
     public Optional<ProjectSummary> getLatestSummaryForProject(Project project) {
         return projectSummaryRepository.findFirstByProjectOrderBySummaryDateDesc(project);
     }
@@ -1,11 +1,18 @@
 package com.proximaai.service.ai;
 
+import com.proximaai.config.AIConfig;
 import com.proximaai.domain.entity.ai.SentimentAnalysis;
 import com.proximaai.domain.entity.Project;
 import com.proximaai.domain.entity.Team;
 import com.proximaai.domain.entity.Task;
 import com.proximaai.repository.ai.SentimentAnalysisRepository;
 import com.proximaai.repository.TaskRepository;
+import com.proximaai.repository.projection.SentimentAnalysisView;
+import com.proximaai.service.ai.timeseries.TimeSeriesForecast;
+import com.proximaai.service.ai.timeseries.TimeSeriesKey;
+import com.proximaai.service.ai.timeseries.TimeSeriesStore;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -15,7 +22,7 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
@@ -38,6 +45,13 @@ public class SentimentAnalysisService {
     
     private static final BigDecimal CRITICAL_SENTIMENT_THRESHOLD = BigDecimal.valueOf(-0.8);
     private static final BigDecimal WARNING_SENTIMENT_THRESHOLD = BigDecimal.valueOf(-0.5);
+    
+    // Análises necessárias para que a tendência de Holt deixe de ser STABLE
+    private static final int MIN_TREND_SAMPLES = 3;
+
+    // Comentários considerados e peso do sentimento deles no score da equipe (o resto vem das tarefas)
+    private static final int COMMENT_WINDOW_DAYS = 30;
+    private static final BigDecimal COMMENT_SENTIMENT_WEIGHT = BigDecimal.valueOf(0.5);
 
     @Autowired
     private SentimentAnalysisRepository sentimentAnalysisRepository;
@@ -45,26 +59,38 @@ public class SentimentAnalysisService {
     @Autowired
     private TaskRepository taskRepository;
 
+    @Autowired
+    private TimeSeriesStore timeSeriesStore;
+
+    @Autowired
+    private MLAlgorithmService mlAlgorithmService;
+
+    @Autowired
+    private AIConfig aiConfig;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * Gera análise de sentimento para uma equipe em um projeto
      */
     public SentimentAnalysis analyzeTeamSentiment(Project project, Team team) {
         long startTime = System.currentTimeMillis();
         
-        // Coleta dados para análise
-        List<Task> teamTasks = getTeamTasks(project, team);
+        // Coleta dados para análise em uma única passada
+        TeamTaskMetrics teamMetrics = collectTeamTaskMetrics(project, team);
         
         // Calcula scores de sentimento
-        BigDecimal sentimentScore = calculateSentimentScore(teamTasks);
+        BigDecimal sentimentScore = calculateSentimentScore(teamMetrics);
         SentimentAnalysis.TeamMood overallMood = determineOverallMood(sentimentScore);
-        SentimentAnalysis.StressLevel stressLevel = calculateStressLevel(teamTasks);
-        SentimentAnalysis.BurnoutRisk burnoutRisk = assessBurnoutRisk(teamTasks);
-        SentimentAnalysis.TrendDirection trendDirection = determineTrendDirection(project, team);
-        SentimentAnalysis.ConfidenceLevel confidenceLevel = calculateConfidenceLevel(teamTasks);
+        SentimentAnalysis.StressLevel stressLevel = calculateStressLevel(teamMetrics);
+        SentimentAnalysis.BurnoutRisk burnoutRisk = assessBurnoutRisk(teamMetrics);
+        SentimentAnalysis.TrendDirection trendDirection = determineTrendDirection(project, team, sentimentScore);
+        SentimentAnalysis.ConfidenceLevel confidenceLevel = calculateConfidenceLevel(teamMetrics);
         
         // Gera insights
-        String keyConcerns = identifyKeyConcerns(teamTasks);
-        String positiveFactors = identifyPositiveFactors(teamTasks);
+        String keyConcerns = identifyKeyConcerns(teamMetrics);
+        String positiveFactors = identifyPositiveFactors(teamMetrics);
         String recommendations = generateRecommendations(sentimentScore, stressLevel, burnoutRisk);
         
         // Determina se deve gerar alerta
@@ -72,9 +98,9 @@ public class SentimentAnalysisService {
         SentimentAnalysis.AlertSeverity alertSeverity = determineAlertSeverity(sentimentScore, stressLevel, burnoutRisk);
         
         // Calcula métricas adicionais
-        BigDecimal satisfactionScore = calculateSatisfactionScore(teamTasks);
-        BigDecimal collaborationScore = calculateCollaborationScore(teamTasks);
-        BigDecimal motivationScore = calculateMotivationScore(teamTasks);
+        BigDecimal satisfactionScore = calculateSatisfactionScore(teamMetrics);
+        BigDecimal collaborationScore = calculateCollaborationScore(teamMetrics);
+        BigDecimal motivationScore = calculateMotivationScore(teamMetrics);
         
         // Cria a análise
         SentimentAnalysis analysis = new SentimentAnalysis();
@@ -102,29 +128,22 @@ public class SentimentAnalysisService {
     }
 
     /**
-     * Calcula score de sentimento geral (-1.0 a 1.0)
+     * Calcula score de sentimento geral (-1.0 a 1.0): média das tarefas, combinada com a média dos
+     * comentários recentes quando há algum
      */
-    private BigDecimal calculateSentimentScore(List<Task> tasks) {
-        if (tasks.isEmpty()) {
+    private BigDecimal calculateSentimentScore(TeamTaskMetrics metrics) {
+        if (metrics.totalTasks == 0) {
             return BigDecimal.ZERO;
         }
         
-        BigDecimal totalScore = BigDecimal.ZERO;
-        int validTasks = 0;
-        
-        for (Task task : tasks) {
-            BigDecimal taskScore = calculateTaskSentimentScore(task);
-            if (taskScore != null) {
-                totalScore = totalScore.add(taskScore);
-                validTasks++;
-            }
-        }
-        
-        if (validTasks == 0) {
-            return BigDecimal.ZERO;
+        BigDecimal taskScore = metrics.sentimentTotal.divide(BigDecimal.valueOf(metrics.totalTasks), 4, RoundingMode.HALF_UP);
+        if (metrics.commentCount == 0) {
+            return taskScore;
         }
-        
-        return totalScore.divide(BigDecimal.valueOf(validTasks), 4, RoundingMode.HALF_UP);
+        BigDecimal commentScore = metrics.commentSentimentTotal.divide(BigDecimal.valueOf(metrics.commentCount), 4, RoundingMode.HALF_UP);
+        return taskScore.multiply(BigDecimal.ONE.subtract(COMMENT_SENTIMENT_WEIGHT))
+                .add(commentScore.multiply(COMMENT_SENTIMENT_WEIGHT))
+                .setScale(4, RoundingMode.HALF_UP);
     }
 
     /**
@@ -204,14 +223,14 @@ public class SentimentAnalysisService {
     /**
      * Calcula nível de estresse da equipe
      */
-    private SentimentAnalysis.StressLevel calculateStressLevel(List<Task> tasks) {
-        if (tasks.isEmpty()) {
+    private SentimentAnalysis.StressLevel calculateStressLevel(TeamTaskMetrics metrics) {
+        if (metrics.totalTasks == 0) {
             return SentimentAnalysis.StressLevel.LOW;
         }
         
-        long overdueTasks = countOverdueTasks(tasks);
-        long highPriorityTasks = countHighPriorityTasks(tasks);
-        long totalTasks = tasks.size();
+        long overdueTasks = metrics.overdueTasks;
+        long highPriorityTasks = metrics.highPriorityTasks;
+        long totalTasks = metrics.totalTasks;
         
         double stressRatio = (overdueTasks + highPriorityTasks) / (double) totalTasks;
         
@@ -227,14 +246,14 @@ public class SentimentAnalysisService {
     /**
      * Avalia risco de burnout
      */
-    private SentimentAnalysis.BurnoutRisk assessBurnoutRisk(List<Task> tasks) {
-        if (tasks.isEmpty()) {
+    private SentimentAnalysis.BurnoutRisk assessBurnoutRisk(TeamTaskMetrics metrics) {
+        if (metrics.totalTasks == 0) {
             return SentimentAnalysis.BurnoutRisk.LOW;
         }
         
-        long overdueTasks = countOverdueTasks(tasks);
-        long highPriorityTasks = countHighPriorityTasks(tasks);
-        long totalTasks = tasks.size();
+        long overdueTasks = metrics.overdueTasks;
+        long highPriorityTasks = metrics.highPriorityTasks;
+        long totalTasks = metrics.totalTasks;
         
         double burnoutRatio = (overdueTasks * 2 + highPriorityTasks) / (double) totalTasks;
         
@@ -248,20 +267,35 @@ public class SentimentAnalysisService {
     }
 
     /**
-     * Determina direção da tendência
+     * Determina direção da tendência pela tendência de Holt da série de scores da equipe no projeto,
+     * já incluindo o score desta análise. O score só entra na série após o commit da análise.
      */
-    private SentimentAnalysis.TrendDirection determineTrendDirection(Project project, Team team) {
-        // Implementação simplificada - em produção seria baseada em histórico
-        return SentimentAnalysis.TrendDirection.STABLE;
+    private SentimentAnalysis.TrendDirection determineTrendDirection(Project project, Team team, BigDecimal sentimentScore) {
+        TimeSeriesKey key = TimeSeriesKey.team(project.getId(), team.getId(), TimeSeriesKey.Metric.SENTIMENT);
+        TimeSeriesForecast forecast = timeSeriesStore.forecastWith(key, sentimentScore.doubleValue(), 1);
+        timeSeriesStore.recordAfterCommit(key, sentimentScore.doubleValue());
+
+        if (forecast.count() < MIN_TREND_SAMPLES) {
+            return SentimentAnalysis.TrendDirection.STABLE;
+        }
+
+        double trend = forecast.trend();
+        if (trend > aiConfig.getSentimentTrendThreshold()) {
+            return SentimentAnalysis.TrendDirection.IMPROVING;
+        } else if (trend < -aiConfig.getSentimentTrendThreshold()) {
+            return SentimentAnalysis.TrendDirection.DECLINING;
+        } else {
+            return SentimentAnalysis.TrendDirection.STABLE;
+        }
     }
 
     /**
      * Calcula nível de confiança da análise
      */
-    private SentimentAnalysis.ConfidenceLevel calculateConfidenceLevel(List<Task> tasks) {
-        if (tasks.size() >= HIGH_CONFIDENCE_TASK_COUNT) {
+    private SentimentAnalysis.ConfidenceLevel calculateConfidenceLevel(TeamTaskMetrics metrics) {
+        if (metrics.totalTasks >= HIGH_CONFIDENCE_TASK_COUNT) {
             return SentimentAnalysis.ConfidenceLevel.HIGH;
-        } else if (tasks.size() >= MODERATE_CONFIDENCE_TASK_COUNT) {
+        } else if (metrics.totalTasks >= MODERATE_CONFIDENCE_TASK_COUNT) {
             return SentimentAnalysis.ConfidenceLevel.MEDIUM;
         } else {
             return SentimentAnalysis.ConfidenceLevel.LOW;
@@ -271,15 +305,15 @@ public class SentimentAnalysisService {
     /**
      * Identifica principais preocupações
      */
-    private String identifyKeyConcerns(List<Task> tasks) {
+    private String identifyKeyConcerns(TeamTaskMetrics metrics) {
         List<String> concerns = new java.util.ArrayList<>();
         
-        long overdueTasks = countOverdueTasks(tasks);
+        long overdueTasks = metrics.overdueTasks;
         if (overdueTasks > 0) {
             concerns.add("Tarefas atrasadas: " + overdueTasks);
         }
         
-        long highPriorityTasks = countHighPriorityTasks(tasks);
+        long highPriorityTasks = metrics.highPriorityTasks;
         if (highPriorityTasks > 0) {
             concerns.add("Tarefas de alta prioridade: " + highPriorityTasks);
         }
@@ -294,15 +328,15 @@ public class SentimentAnalysisService {
     /**
      * Identifica fatores positivos
      */
-    private String identifyPositiveFactors(List<Task> tasks) {
+    private String identifyPositiveFactors(TeamTaskMetrics metrics) {
         List<String> factors = new java.util.ArrayList<>();
         
-        long completedTasks = countCompletedTasks(tasks);
+        long completedTasks = metrics.completedTasks;
         if (completedTasks > 0) {
             factors.add("Tarefas concluídas: " + completedTasks);
         }
         
-        long onTimeTasks = countOnTimeTasks(tasks);
+        long onTimeTasks = metrics.onTimeTasks;
         if (onTimeTasks > 0) {
             factors.add("Tarefas no prazo: " + onTimeTasks);
         }
@@ -376,13 +410,13 @@ public class SentimentAnalysisService {
     /**
      * Calcula score de satisfação
      */
-    private BigDecimal calculateSatisfactionScore(List<Task> tasks) {
-        if (tasks.isEmpty()) {
+    private BigDecimal calculateSatisfactionScore(TeamTaskMetrics metrics) {
+        if (metrics.totalTasks == 0) {
             return BigDecimal.ZERO;
         }
         
-        long completedTasks = countCompletedTasks(tasks);
-        long totalTasks = tasks.size();
+        long completedTasks = metrics.completedTasks;
+        long totalTasks = metrics.totalTasks;
         
         return BigDecimal.valueOf(completedTasks)
                 .divide(BigDecimal.valueOf(totalTasks), 4, RoundingMode.HALF_UP);
@@ -391,7 +425,7 @@ public class SentimentAnalysisService {
     /**
      * Calcula score de colaboração
      */
-    private BigDecimal calculateCollaborationScore(List<Task> tasks) {
+    private BigDecimal calculateCollaborationScore(TeamTaskMetrics metrics) {
         // Implementação simplificada - em produção seria baseada em interações
         return BigDecimal.valueOf(0.8);
     }
@@ -399,90 +433,114 @@ public class SentimentAnalysisService {
     /**
      * Calcula score de motivação
      */
-    private BigDecimal calculateMotivationScore(List<Task> tasks) {
-        if (tasks.isEmpty()) {
+    private BigDecimal calculateMotivationScore(TeamTaskMetrics metrics) {
+        if (metrics.totalTasks == 0) {
             return BigDecimal.ZERO;
         }
         
-        BigDecimal sentimentScore = calculateSentimentScore(tasks);
+        BigDecimal sentimentScore = calculateSentimentScore(metrics);
         return sentimentScore.add(BigDecimal.ONE).divide(BigDecimal.valueOf(2), 4, RoundingMode.HALF_UP);
     }
 
     /**
-     * Obtém tarefas da equipe no projeto
+     * Percorre as tarefas da equipe no projeto uma única vez, acumulando as métricas, e pontua os comentários recentes
      */
-    private List<Task> getTeamTasks(Project project, Team team) {
-        // Implementação simplificada - em produção seria via repository
-        return taskRepository.findAll().stream()
-                .filter(task -> project.getId().equals(task.getProject().getId()))
-                .limit(50) // Limita para demonstração
-                .collect(Collectors.toList());
-    }
+    private TeamTaskMetrics collectTeamTaskMetrics(Project project, Team team) {
+        TeamTaskMetrics metrics = new TeamTaskMetrics();
+        
+        try (Stream<Task> tasks = taskRepository.streamByProjectAndTeamMembers(project.getId(), team.getId())) {
+            tasks.forEach(task -> {
+                metrics.accept(task, calculateTaskSentimentScore(task));
+                // Libera a entidade do contexto de persistência para manter a memória limitada
+                entityManager.detach(task);
+            });
+        }
 
-    /**
-     * Conta tarefas atrasadas
-     */
-    private long countOverdueTasks(List<Task> tasks) {
-        return tasks.stream()
-                .filter(Task::isOverdue)
-                .count();
+        // Comentários recentes da equipe, pontuados em lote pelo léxico de sentimento
+        List<String> comments = taskRepository.findCommentContentsByProjectAndTeamMembers(
+                project.getId(), team.getId(), LocalDateTime.now().minusDays(COMMENT_WINDOW_DAYS));
+        mlAlgorithmService.analyzeSentimentBatch(comments).forEach(metrics::acceptComment);
+        
+        return metrics;
     }
 
     /**
-     * Conta tarefas de alta prioridade
+     * Verifica se a tarefa é de alta prioridade
      */
-    private long countHighPriorityTasks(List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> "HIGH".equals(task.getPriority().toString()) || 
-                               "CRITICAL".equals(task.getPriority().toString()) ||
-                               "URGENT".equals(task.getPriority().toString()))
-                .count();
+    private static boolean isHighPriority(Task task) {
+        return task.getPriority() == Task.TaskPriority.HIGH ||
+               task.getPriority() == Task.TaskPriority.CRITICAL ||
+               task.getPriority() == Task.TaskPriority.URGENT;
     }
 
     /**
-     * Conta tarefas concluídas
+     * Métricas acumuladas das tarefas de uma equipe
      */
-    private long countCompletedTasks(List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> "DONE".equals(task.getStatus().toString()))
-                .count();
-    }
+    private static final class TeamTaskMetrics {
+        private long totalTasks;
+        private long overdueTasks;
+        private long highPriorityTasks;
+        private long completedTasks;
+        private long onTimeTasks;
+        private BigDecimal sentimentTotal = BigDecimal.ZERO;
+        private long commentCount;
+        private BigDecimal commentSentimentTotal = BigDecimal.ZERO;
+
+        void accept(Task task, BigDecimal sentimentScore) {
+            totalTasks++;
+            sentimentTotal = sentimentTotal.add(sentimentScore);
+            
+            boolean overdue = task.isOverdue();
+            if (overdue) {
+                overdueTasks++;
+            }
+            if (isHighPriority(task)) {
+                highPriorityTasks++;
+            }
+            if (task.isCompleted()) {
+                completedTasks++;
+                if (!overdue) {
+                    onTimeTasks++;
+                }
+            }
+        }
 
-    /**
-     * Conta tarefas no prazo
-     */
-    private long countOnTimeTasks(List<Task> tasks) {
-        return tasks.stream()
-                .filter(task -> !task.isOverdue() && "DONE".equals(task.getStatus().toString()))
-                .count();
+        void acceptComment(BigDecimal sentimentScore) {
+            commentCount++;
+            commentSentimentTotal = commentSentimentTotal.add(sentimentScore);
+        }
     }
 
     /**
      * Busca análises por projeto
      */
-    public List<SentimentAnalysis> getAnalysesForProject(Project project) {
-        return sentimentAnalysisRepository.findByProjectOrderByAnalysisDateDesc(project);
+    @Transactional(readOnly = true)
+    public List<SentimentAnalysisView> getAnalysesForProject(Long projectId) {
+        return sentimentAnalysisRepository.findViewsByProjectId(projectId);
     }
 
     /**
      * Busca análises por equipe
      */
-    public List<SentimentAnalysis> getAnalysesForTeam(Team team) {
-        return sentimentAnalysisRepository.findByTeamOrderByAnalysisDateDesc(team);
+    @Transactional(readOnly = true)
+    public List<SentimentAnalysisView> getAnalysesForTeam(Long teamId) {
+        return sentimentAnalysisRepository.findViewsByTeamId(teamId);
     }
 
     /**
      * Busca a análise mais recente de um projeto
      */
+    @Transactional(readOnly = true)
     public Optional<SentimentAnalysis> getLatestAnalysisForProject(Project project) {
         return sentimentAnalysisRepository.findFirstByProjectOrderByAnalysisDateDesc(project);
     }
 
     /**
-     * Busca análises que precisam de alertas
+     * Busca análises que precisam de alertas.
+     * Lê do primário: numa réplica atrasada, alertas já processados voltariam a aparecer.
      */
-    public List<SentimentAnalysis> getAnalysesNeedingAlerts() {
-        return sentimentAnalysisRepository.findByIsAlertTriggeredTrue();
+    public List<SentimentAnalysisView> getAnalysesNeedingAlerts() {
+        return sentimentAnalysisRepository.findViewsWithAlertTriggered();
     }
 
     /**
@@ -500,6 +558,7 @@ public class SentimentAnalysisService {
     /**
      * Calcula tendência de sentimento ao longo do tempo
      */
+    @Transactional(readOnly = true)
     public BigDecimal calculateSentimentTrend(Project project, int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
         List<SentimentAnalysis> analyses = sentimentAnalysisRepository
@@ -0,0 +1,109 @@
+package com.proximaai.service.ai;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Estado em memória por chave, com as chaves alteradas gravadas em lote numa transação e relidas
+ * na inicialização. Cada valor só é acessado sob o lock da sua chave, então não precisa ser thread-safe;
+ * alterações feitas entre a última gravação e uma parada abrupta se perdem.
+ */
+public final class SnapshotMap<K, V> {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotMap.class);
+
+    private final String name;
+    private final UnaryOperator<V> copier;
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+    private final Set<K> dirty = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param name   o que os valores são, para os logs (ex.: "séries temporais")
+     * @param copier cópia independente de um valor, gravada fora do lock da chave
+     */
+    public SnapshotMap(String name, UnaryOperator<V> copier) {
+        this.name = name;
+        this.copier = copier;
+    }
+
+    /**
+     * Altera o valor da chave sob o lock dela e a marca para a próxima gravação
+     */
+    public void update(K key, BiFunction<? super K, ? super V, ? extends V> remapping) {
+        values.compute(key, remapping);
+        dirty.add(key);
+    }
+
+    /**
+     * Lê o valor da chave sob o lock dela; null se a chave não existe
+     */
+    public <R> R read(K key, Function<? super V, ? extends R> reader) {
+        List<R> result = new ArrayList<>(1);
+        values.computeIfPresent(key, (k, value) -> {
+            result.add(reader.apply(value));
+            return value;
+        });
+        return result.isEmpty() ? null : result.get(0);
+    }
+
+    /**
+     * Cópia do valor da chave, ou null se a chave não existe
+     */
+    public V copy(K key) {
+        return read(key, copier);
+    }
+
+    /**
+     * Relê os valores persistidos; chaves já alteradas nesta execução são mantidas
+     */
+    public <R> void rehydrate(TransactionTemplate transactionTemplate, Supplier<List<R>> loader,
+                              Function<R, K> key, Function<R, V> value) {
+        long startTime = System.currentTimeMillis();
+        List<R> rows = transactionTemplate.execute(status -> loader.get());
+        for (R row : rows) {
+            values.putIfAbsent(key.apply(row), value.apply(row));
+        }
+        log.info("{}: {} registros carregados em {} ms", name, rows.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Grava, numa transação, uma cópia de cada valor alterado desde a última gravação; se a gravação
+     * falha, as chaves voltam a ficar pendentes
+     */
+    public void flush(TransactionTemplate transactionTemplate, BiConsumer<K, V> writer) {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<K> keys = new ArrayList<>(dirty);
+        // Removidas antes da cópia: uma alteração concorrente marca a chave de novo para a próxima gravação
+        dirty.removeAll(keys);
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (K key : keys) {
+                    V value = copy(key);
+                    if (value != null) {
+                        writer.accept(key, value);
+                    }
+                }
+            });
+            log.debug("{}: {} registros gravados", name, keys.size());
+        } catch (RuntimeException e) {
+            dirty.addAll(keys);
+            log.error("{}: falha ao gravar {} registros", name, keys.size(), e);
+        }
+    }
+}
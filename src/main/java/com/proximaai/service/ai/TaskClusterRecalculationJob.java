@@ -0,0 +1,39 @@
+package com.proximaai.service.ai;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Recálculo noturno dos clusters de tarefas vencidos. Cada projeto é recalculado na sua própria transação,
+ * de forma incremental, com apenas as tarefas alteradas desde o último recálculo.
+ */
+@Component
+public class TaskClusterRecalculationJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskClusterRecalculationJob.class);
+
+    @Autowired
+    private TaskClusteringService taskClusteringService;
+
+    @Scheduled(cron = "${proxima.task-clusters.recalculation-cron:0 30 2 * * *}")
+    public void recalculateDueClusters() {
+        List<Long> projectIds = taskClusteringService.findProjectsDueForRecalculation();
+        int failed = 0;
+
+        for (Long projectId : projectIds) {
+            try {
+                taskClusteringService.recalculateProjectClusters(projectId);
+            } catch (RuntimeException e) {
+                failed++;
+                log.warn("Falha ao recalcular os clusters do projeto {}", projectId, e);
+            }
+        }
+
+        log.info("Clusters recalculados para {} projetos ({} falhas)", projectIds.size() - failed, failed);
+    }
+}
@@ -0,0 +1,418 @@
+package com.proximaai.service.ai;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.proximaai.domain.entity.Project;
+import com.proximaai.domain.entity.Task;
+import com.proximaai.domain.entity.ai.ClusterTask;
+import com.proximaai.domain.entity.ai.TaskCluster;
+import com.proximaai.repository.TaskRepository;
+import com.proximaai.repository.ai.ClusterTaskRepository;
+import com.proximaai.repository.ai.TaskClusterRepository;
+import com.proximaai.repository.projection.TaskFeatureRow;
+import com.proximaai.service.ai.clustering.FeatureScaling;
+import com.proximaai.service.ai.clustering.KMeansEngine;
+import com.proximaai.service.ai.clustering.KMeansResult;
+import com.proximaai.service.ai.clustering.MiniBatchKMeans;
+import com.proximaai.service.ai.clustering.TaskFeatureVectors;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Transactional
+public class TaskClusteringService {
+
+    public static final String ALGORITHM = "K-means++";
+    private static final String MODEL_VERSION = "kmeans-1.0";
+
+    private static final int MAX_ITERATIONS = 100;
+    private static final double CONVERGENCE_TOLERANCE = 1e-4;
+    private static final double OUTLIER_Z_SCORE_THRESHOLD = 2.0;
+    private static final BigDecimal MIN_SCORE = new BigDecimal("0.0001");
+
+    // Atribuições gravadas por flush; o contexto de persistência é limpo a cada lote
+    private static final int WRITE_BATCH_SIZE = 1000;
+
+    // Recálculo incremental: tamanho de cada mini-batch e fração de tarefas alteradas acima da qual
+    // compensa reagrupar o projeto inteiro
+    private static final int MINI_BATCH_SIZE = 256;
+    private static final double FULL_RECLUSTER_FRACTION = 0.5;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskClusterRepository taskClusterRepository;
+
+    @Autowired
+    private ClusterTaskRepository clusterTaskRepository;
+
+    @Autowired
+    private KMeansEngine kMeansEngine;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Agrupa as tarefas do projeto em até k clusters, substituindo os clusters K-means anteriores.
+     * Os vetores de features são lidos como escalares, padronizados e agrupados em um array primitivo.
+     */
+    public List<TaskCluster> clusterProjectTasks(Project project, int k) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime recalculationDate = LocalDateTime.now();
+
+        List<TaskFeatureRow> rows = taskRepository.findFeatureRowsByProjectId(project.getId());
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        double[] points = TaskFeatureVectors.toPoints(rows, LocalDate.now());
+        FeatureScaling scaling = FeatureScaling.fit(points, TaskFeatureVectors.DIMENSIONS);
+        scaling.apply(points);
+
+        KMeansResult result = kMeansEngine.cluster(points, TaskFeatureVectors.DIMENSIONS, Math.max(1, k),
+                MAX_ITERATIONS, CONVERGENCE_TOLERANCE, project.getId());
+        long processingTimeMs = System.currentTimeMillis() - startTime;
+
+        deletePreviousClusters(project);
+        TaskCluster[] clusters = createClusters(project, result, scaling, recalculationDate, processingTimeMs);
+        saveAssignments(rows, result, clusters);
+
+        return Arrays.stream(clusters).filter(cluster -> cluster != null).toList();
+    }
+
+    private void deletePreviousClusters(Project project) {
+        List<TaskCluster> previous = taskClusterRepository.findByProjectIdAndAlgorithmUsedAndIsAutoGeneratedTrue(project.getId(), ALGORITHM);
+        if (!previous.isEmpty()) {
+            clusterTaskRepository.deleteByClusterIn(previous);
+            taskClusterRepository.deleteAllInBatch(previous);
+        }
+    }
+
+    /**
+     * Um TaskCluster por cluster não vazio, com centroide, padronização e métricas da execução
+     */
+    private TaskCluster[] createClusters(Project project, KMeansResult result, FeatureScaling scaling,
+                                         LocalDateTime recalculationDate, long processingTimeMs) {
+        String features = toJson(Map.of(
+            "features", TaskFeatureVectors.FEATURES,
+            "mean", scaling.getMean(),
+            "scale", scaling.getScale()
+        ));
+        Map<String, Object> runMetadata = Map.of(
+            "k", result.getK(),
+            "taskCount", result.getPointCount(),
+            "iterations", result.getIterations(),
+            "converged", result.isConverged(),
+            "inertia", result.getInertia(),
+            "kmeansTimeMs", result.getProcessingTimeMs()
+        );
+        BigDecimal quality = score(result.getExplainedVariance());
+
+        TaskCluster[] clusters = new TaskCluster[result.getK()];
+        for (int c = 0; c < result.getK(); c++) {
+            if (result.getClusterSize(c) == 0) {
+                continue;
+            }
+
+            TaskCluster cluster = new TaskCluster("Cluster " + (c + 1), TaskCluster.ClusterType.CUSTOM, null);
+            cluster.setClusterDescription("Grupo K-means com " + result.getClusterSize(c) + " tarefas");
+            cluster.setProject(project);
+            cluster.setAlgorithmUsed(ALGORITHM);
+            cluster.setAiModelVersion(MODEL_VERSION);
+            cluster.setClusterSize(result.getClusterSize(c));
+            cluster.setClusterCohesionScore(score(result.getCohesionScore(c)));
+            cluster.setClusterQualityScore(quality);
+            cluster.setClusterCentroid(toJson(result.getCentroid(c)));
+            cluster.setClusterFeatures(features);
+            cluster.setClusterMetadata(toJson(clusterMetadata(runMetadata, result, c)));
+            cluster.setClusterStabilityScore(BigDecimal.ONE.setScale(4));
+            cluster.setLastRecalculationDate(recalculationDate);
+            cluster.setProcessingTimeMs(processingTimeMs);
+            clusters[c] = taskClusterRepository.save(cluster);
+        }
+
+        entityManager.flush();
+        return clusters;
+    }
+
+    /**
+     * Metadados da execução mais a distribuição de distâncias do cluster, usada no recálculo incremental
+     */
+    private Map<String, Object> clusterMetadata(Map<String, Object> runMetadata, KMeansResult result, int cluster) {
+        Map<String, Object> metadata = new LinkedHashMap<>(runMetadata);
+        metadata.put("meanDistance", result.getMeanDistance(cluster));
+        metadata.put("distanceDeviation", result.getDistanceDeviation(cluster));
+        return metadata;
+    }
+
+    /**
+     * Grava uma atribuição por tarefa, com distância, similaridade, rank dentro do cluster e outlier
+     */
+    private void saveAssignments(List<TaskFeatureRow> rows, KMeansResult result, TaskCluster[] clusters) {
+        int[] ranks = rankByDistance(result);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 0; i < rows.size(); i++) {
+            TaskCluster cluster = clusters[result.getAssignment(i)];
+            double distance = result.getDistance(i);
+            double outlierScore = result.getOutlierScore(i);
+
+            ClusterTask clusterTask = new ClusterTask(cluster, entityManager.getReference(Task.class, rows.get(i).id()),
+                    score(1.0 / (1.0 + distance)));
+            clusterTask.setDistanceToCentroid(BigDecimal.valueOf(distance).setScale(4, RoundingMode.HALF_UP));
+            clusterTask.setClusterRank(ranks[i]);
+            clusterTask.setOutlierScore(BigDecimal.valueOf(outlierScore).setScale(4, RoundingMode.HALF_UP));
+            clusterTask.setIsOutlier(outlierScore > OUTLIER_Z_SCORE_THRESHOLD);
+            clusterTask.setLastUpdated(now);
+            entityManager.persist(clusterTask);
+
+            if ((i + 1) % WRITE_BATCH_SIZE == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+    }
+
+    /**
+     * Recálculo incremental (mini-batch K-means): só as tarefas criadas ou alteradas desde o último recálculo
+     * movem os centroides e só as atribuições delas são regravadas. A estabilidade de cada cluster passa a
+     * refletir o deslocamento do seu centroide. Sem um modelo utilizável ou com mudanças demais,
+     * reagrupa o projeto inteiro com o mesmo número de clusters.
+     */
+    public List<TaskCluster> recalculateProjectClusters(Long projectId) {
+        long startTime = System.currentTimeMillis();
+        LocalDateTime recalculationDate = LocalDateTime.now();
+
+        List<TaskCluster> clusters = new ArrayList<>(
+                taskClusterRepository.findByProjectIdAndAlgorithmUsedAndIsAutoGeneratedTrue(projectId, ALGORITHM));
+        if (clusters.isEmpty()) {
+            return List.of();
+        }
+        clusters.sort(Comparator.comparing(TaskCluster::getId));
+
+        ClusterModel model = readModel(clusters);
+        LocalDateTime since = clusters.stream()
+                .map(TaskCluster::getLastRecalculationDate)
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElse(null);
+        if (model == null || since == null) {
+            return clusterProjectTasks(clusters.get(0).getProject(), clusters.size());
+        }
+
+        List<TaskFeatureRow> rows = taskRepository.findFeatureRowsChangedSince(projectId, since);
+        if (rows.size() > Arrays.stream(model.counts()).sum() * FULL_RECLUSTER_FRACTION) {
+            return clusterProjectTasks(clusters.get(0).getProject(), clusters.size());
+        }
+
+        double[] points = TaskFeatureVectors.toPoints(rows, LocalDate.now());
+        model.scaling().apply(points);
+        MiniBatchKMeans.Update update = MiniBatchKMeans.update(model.centroids(), model.counts(), points,
+                TaskFeatureVectors.DIMENSIONS, MINI_BATCH_SIZE);
+
+        int[] sizeDeltas = saveChangedAssignments(rows, update, clusters, model);
+
+        // O contexto foi limpo durante a gravação das atribuições
+        Map<Long, TaskCluster> reloaded = taskClusterRepository.findAllById(clusters.stream().map(TaskCluster::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(TaskCluster::getId, Function.identity()));
+        long processingTimeMs = System.currentTimeMillis() - startTime;
+
+        List<TaskCluster> updated = new ArrayList<>(clusters.size());
+        for (int c = 0; c < clusters.size(); c++) {
+            TaskCluster cluster = reloaded.get(clusters.get(c).getId());
+            double[] centroid = Arrays.copyOfRange(model.centroids(), c * TaskFeatureVectors.DIMENSIONS,
+                    (c + 1) * TaskFeatureVectors.DIMENSIONS);
+            cluster.setClusterCentroid(toJson(centroid));
+            cluster.setClusterSize(Math.max(0, cluster.getClusterSize() + sizeDeltas[c]));
+            cluster.setClusterStabilityScore(score(1.0 / (1.0 + update.drift()[c])));
+            cluster.setLastRecalculationDate(recalculationDate);
+            cluster.setProcessingTimeMs(processingTimeMs);
+            updated.add(cluster);
+        }
+        return updated;
+    }
+
+    /**
+     * Projetos cujos clusters K-means automáticos já passaram da frequência de recálculo
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findProjectsDueForRecalculation() {
+        return taskClusterRepository.findProjectIdsDueForRecalculation(ALGORITHM, LocalDateTime.now());
+    }
+
+    /**
+     * Atualiza ou cria as atribuições das tarefas do lote; retorna a variação de tamanho de cada cluster.
+     * O rank das tarefas que entram em um cluster só é recalculado no reagrupamento completo.
+     */
+    private int[] saveChangedAssignments(List<TaskFeatureRow> rows, MiniBatchKMeans.Update update,
+                                         List<TaskCluster> clusters, ClusterModel model) {
+        Map<Long, Integer> clusterIndex = new HashMap<>();
+        for (int c = 0; c < clusters.size(); c++) {
+            clusterIndex.put(clusters.get(c).getId(), c);
+        }
+        int[] sizeDeltas = new int[clusters.size()];
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int from = 0; from < rows.size(); from += WRITE_BATCH_SIZE) {
+            int to = Math.min(rows.size(), from + WRITE_BATCH_SIZE);
+            List<Long> taskIds = rows.subList(from, to).stream().map(TaskFeatureRow::id).toList();
+            Map<Long, ClusterTask> existing = clusterTaskRepository.findByClusterInAndTaskIdIn(clusters, taskIds).stream()
+                    .collect(Collectors.toMap(ct -> ct.getTask().getId(), Function.identity(), (first, second) -> first));
+
+            for (int i = from; i < to; i++) {
+                int c = update.assignments()[i];
+                double distance = update.distances()[i];
+                double deviation = model.distanceDeviations()[c];
+                double outlierScore = deviation == 0 ? 0.0 : (distance - model.meanDistances()[c]) / deviation;
+                TaskCluster cluster = entityManager.getReference(TaskCluster.class, clusters.get(c).getId());
+                Long taskId = rows.get(i).id();
+
+                ClusterTask clusterTask = existing.get(taskId);
+                if (clusterTask == null) {
+                    clusterTask = new ClusterTask(cluster, entityManager.getReference(Task.class, taskId), score(1.0 / (1.0 + distance)));
+                    entityManager.persist(clusterTask);
+                    sizeDeltas[c]++;
+                } else {
+                    int previous = clusterIndex.get(clusterTask.getCluster().getId());
+                    if (previous != c) {
+                        sizeDeltas[previous]--;
+                        sizeDeltas[c]++;
+                        clusterTask.setCluster(cluster);
+                        clusterTask.setClusterRank(null);
+                        clusterTask.setAssignmentDate(now);
+                    }
+                    clusterTask.setSimilarityScore(score(1.0 / (1.0 + distance)));
+                }
+                clusterTask.setDistanceToCentroid(BigDecimal.valueOf(distance).setScale(4, RoundingMode.HALF_UP));
+                clusterTask.setOutlierScore(BigDecimal.valueOf(outlierScore).setScale(4, RoundingMode.HALF_UP));
+                clusterTask.setIsOutlier(outlierScore > OUTLIER_Z_SCORE_THRESHOLD);
+                clusterTask.setLastUpdated(now);
+            }
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return sizeDeltas;
+    }
+
+    /**
+     * Lê padronização, centroides e distribuição de distâncias gravados no último agrupamento.
+     * Retorna null quando as features mudaram ou os dados gravados não são utilizáveis.
+     */
+    private ClusterModel readModel(List<TaskCluster> clusters) {
+        int dimensions = TaskFeatureVectors.DIMENSIONS;
+        int k = clusters.size();
+        double[] centroids = new double[k * dimensions];
+        long[] counts = new long[k];
+        double[] meanDistances = new double[k];
+        double[] distanceDeviations = new double[k];
+
+        try {
+            JsonNode features = objectMapper.readTree(Objects.toString(clusters.get(0).getClusterFeatures(), "{}"));
+            if (!TaskFeatureVectors.FEATURES.equals(objectMapper.convertValue(features.path("features"), List.class))) {
+                return null;
+            }
+            FeatureScaling scaling = new FeatureScaling(
+                    objectMapper.treeToValue(features.path("mean"), double[].class),
+                    objectMapper.treeToValue(features.path("scale"), double[].class));
+            if (scaling.getMean() == null || scaling.getMean().length != dimensions
+                    || scaling.getScale() == null || scaling.getScale().length != dimensions) {
+                return null;
+            }
+
+            for (int c = 0; c < k; c++) {
+                TaskCluster cluster = clusters.get(c);
+                double[] centroid = cluster.getClusterCentroid() != null
+                        ? objectMapper.readValue(cluster.getClusterCentroid(), double[].class)
+                        : null;
+                if (centroid == null || centroid.length != dimensions) {
+                    return null;
+                }
+                System.arraycopy(centroid, 0, centroids, c * dimensions, dimensions);
+                counts[c] = cluster.getClusterSize() != null ? cluster.getClusterSize() : 0;
+
+                JsonNode metadata = objectMapper.readTree(Objects.toString(cluster.getClusterMetadata(), "{}"));
+                meanDistances[c] = metadata.path("meanDistance").asDouble(0.0);
+                distanceDeviations[c] = metadata.path("distanceDeviation").asDouble(0.0);
+            }
+            return new ClusterModel(scaling, centroids, counts, meanDistances, distanceDeviations);
+        } catch (JsonProcessingException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Posição (1 = mais próxima do centroide) de cada tarefa dentro do seu cluster.
+     * Ordena chaves primitivas (distância como float nos 32 bits altos, índice nos baixos) por cluster.
+     */
+    private int[] rankByDistance(KMeansResult result) {
+        int n = result.getPointCount();
+        int[] offsets = new int[result.getK() + 1];
+        for (int i = 0; i < n; i++) {
+            offsets[result.getAssignment(i) + 1]++;
+        }
+        for (int c = 0; c < result.getK(); c++) {
+            offsets[c + 1] += offsets[c];
+        }
+
+        long[] keys = new long[n];
+        int[] next = Arrays.copyOf(offsets, result.getK());
+        for (int i = 0; i < n; i++) {
+            long distanceBits = Float.floatToIntBits((float) result.getDistance(i));
+            keys[next[result.getAssignment(i)]++] = distanceBits << 32 | i;
+        }
+
+        int[] ranks = new int[n];
+        for (int c = 0; c < result.getK(); c++) {
+            Arrays.sort(keys, offsets[c], offsets[c + 1]);
+            for (int position = offsets[c]; position < offsets[c + 1]; position++) {
+                ranks[(int) keys[position]] = position - offsets[c] + 1;
+            }
+        }
+        return ranks;
+    }
+
+    private static BigDecimal score(double value) {
+        return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP).max(MIN_SCORE);
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar dados do cluster", e);
+        }
+    }
+
+    /**
+     * Modelo gravado pelo último agrupamento, na ordem dos clusters
+     */
+    private record ClusterModel(FeatureScaling scaling, double[] centroids, long[] counts,
+                                double[] meanDistances, double[] distanceDeviations) {
+    }
+}
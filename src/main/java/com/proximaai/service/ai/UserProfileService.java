@@ -0,0 +1,111 @@
+package com.proximaai.service.ai;
+
+import com.proximaai.config.AIConfig;
+import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.TaskRepository;
+import com.proximaai.repository.projection.UserTaskProfileRow;
+import com.proximaai.service.ai.similarity.DotProductKernels;
+import com.proximaai.service.ai.similarity.TaskRequirementVectors;
+import com.proximaai.service.ai.similarity.UserProfileMatrix;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Perfis dos usuários (tarefas concluídas por tipo, prioridade e complexidade) em uma {@link UserProfileMatrix}
+ * em memória, para buscar os usuários mais similares aos requisitos de uma ou várias tarefas.
+ * A matriz é montada no primeiro uso e depois só as linhas dos usuários com tarefas alteradas são refeitas.
+ */
+@Service
+@Transactional(readOnly = true)
+public class UserProfileService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserProfileService.class);
+
+    // Sobreposição entre atualizações, para não perder tarefas de transações que terminaram depois da anterior
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private AIConfig aiConfig;
+
+    private volatile UserProfileMatrix matrix;
+    private volatile LocalDateTime refreshedAt;
+
+    /**
+     * Os k usuários com perfil mais similar aos requisitos da tarefa
+     */
+    public List<UserProfileMatrix.Match> findTopUsers(Task task, int k) {
+        return getMatrix().topK(TaskRequirementVectors.of(task), k);
+    }
+
+    /**
+     * Os k usuários com perfil mais similar a cada tarefa, na ordem das tarefas, em uma única passada pela matriz
+     */
+    public List<List<UserProfileMatrix.Match>> findTopUsers(List<Task> tasks, int k) {
+        return getMatrix().topK(tasks.stream().map(TaskRequirementVectors::of).toList(), k);
+    }
+
+    /**
+     * Refaz os perfis dos usuários com tarefas criadas ou alteradas desde a última atualização
+     */
+    @Scheduled(fixedDelayString = "${proxima.ai.user-profile-refresh-interval-ms:300000}")
+    public void refreshChangedProfiles() {
+        UserProfileMatrix current = matrix;
+        if (current == null) {
+            return; // Ainda não usada: será montada inteira no primeiro uso
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<Long> userIds = taskRepository.findAssigneeIdsOfTasksChangedSince(refreshedAt.minus(REFRESH_OVERLAP));
+        if (!userIds.isEmpty()) {
+            Map<Long, double[]> profiles = buildProfiles(taskRepository.findUserTaskProfileRowsByUserIds(userIds));
+            for (Long userId : userIds) {
+                // Usuários sem tarefas concluídas ficam sem perfil
+                current.put(userId, profiles.get(userId));
+            }
+            log.debug("Perfis de {} usuários atualizados", userIds.size());
+        }
+        refreshedAt = startedAt;
+    }
+
+    private UserProfileMatrix getMatrix() {
+        UserProfileMatrix current = matrix;
+        if (current == null) {
+            synchronized (this) {
+                current = matrix;
+                if (current == null) {
+                    LocalDateTime startedAt = LocalDateTime.now();
+                    current = new UserProfileMatrix(TaskRequirementVectors.DIMENSIONS,
+                            DotProductKernels.select(aiConfig.isSimilaritySimdEnabled()));
+                    buildProfiles(taskRepository.findUserTaskProfileRows()).forEach(current::put);
+                    log.info("Matriz de perfis montada com {} usuários em {} ms", current.size(),
+                            Duration.between(startedAt, LocalDateTime.now()).toMillis());
+                    refreshedAt = startedAt;
+                    matrix = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static Map<Long, double[]> buildProfiles(List<UserTaskProfileRow> rows) {
+        Map<Long, double[]> profiles = new HashMap<>();
+        for (UserTaskProfileRow row : rows) {
+            double[] profile = profiles.computeIfAbsent(row.userId(), id -> new double[TaskRequirementVectors.DIMENSIONS]);
+            TaskRequirementVectors.addToProfile(profile, row);
+        }
+        return profiles;
+    }
+}
@@ -0,0 +1,148 @@
+package com.proximaai.service.ai.anomaly;
+
+import com.proximaai.domain.entity.Task;
+import com.proximaai.domain.entity.Timesheet;
+import com.proximaai.domain.entity.TimesheetEntry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.proximaai.service.ai.anomaly.MetricKey.Metric;
+
+/**
+ * Alimenta os acumuladores de anomalia a cada escrita de tarefas e de lançamentos de timesheet:
+ * a razão horas realizadas / estimadas quando uma tarefa é concluída e a duração de cada lançamento,
+ * por usuário e por projeto. Os valores são coletados no flush e, somente após o commit, verificados
+ * e acumulados; rollbacks descartam o lote.
+ */
+@Component
+public class AnomalyTrackingListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(AnomalyTrackingListener.class);
+
+    private static final String STATUS_PROPERTY = "status";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private RunningStatisticsRegistry runningStatisticsRegistry;
+
+    @PostConstruct
+    public void registerListeners() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Task task && task.getStatus() == Task.TaskStatus.DONE) {
+            onTaskCompleted(task);
+        } else if (event.getEntity() instanceof TimesheetEntry entry) {
+            onTimesheetEntry(entry);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Task task && task.getStatus() == Task.TaskStatus.DONE
+                && event.getOldState() != null && wasNotDone(event.getPersister(), event.getOldState())) {
+            onTaskCompleted(task);
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static boolean wasNotDone(EntityPersister persister, Object[] oldState) {
+        return oldState[persister.getEntityMetamodel().getPropertyIndex(STATUS_PROPERTY)] != Task.TaskStatus.DONE;
+    }
+
+    private void onTaskCompleted(Task task) {
+        Integer actualHours = task.getActualHours();
+        Integer estimatedHours = task.getEstimatedHours();
+        if (actualHours == null || estimatedHours == null || estimatedHours <= 0) {
+            return;
+        }
+
+        double ratio = (double) actualHours / estimatedHours;
+        stage(MetricKey.project(task.getProject().getId(), Metric.ACTUAL_HOURS_RATIO), ratio, task.getId());
+        if (task.getAssignee() != null) {
+            stage(MetricKey.user(task.getAssignee().getId(), Metric.ACTUAL_HOURS_RATIO), ratio, task.getId());
+        }
+    }
+
+    private void onTimesheetEntry(TimesheetEntry entry) {
+        Integer minutes = entry.getDurationMinutes();
+        Timesheet timesheet = entry.getTimesheet();
+        if (minutes == null || timesheet == null) {
+            return;
+        }
+
+        stage(MetricKey.user(timesheet.getUser().getId(), Metric.TIMESHEET_MINUTES), minutes, entry.getId());
+        stage(MetricKey.project(timesheet.getProject().getId(), Metric.TIMESHEET_MINUTES), minutes, entry.getId());
+    }
+
+    private void stage(MetricKey key, double value, Long sourceId) {
+        Observation observation = new Observation(key, value, sourceId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(List.of(observation));
+            return;
+        }
+
+        PendingObservations pending = (PendingObservations) TransactionSynchronizationManager.getResource(PendingObservations.class);
+        if (pending == null) {
+            pending = new PendingObservations();
+            TransactionSynchronizationManager.bindResource(PendingObservations.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.observations.add(observation);
+    }
+
+    private void apply(List<Observation> observations) {
+        for (Observation observation : observations) {
+            if (runningStatisticsRegistry.observe(observation.key(), observation.value())) {
+                MetricKey key = observation.key();
+                log.warn("Valor anômalo de {} para {} {}: {} (registro {})",
+                        key.metric(), key.scope(), key.scopeId(), observation.value(), observation.sourceId());
+            }
+        }
+    }
+
+    private record Observation(MetricKey key, double value, Long sourceId) {}
+
+    private class PendingObservations implements TransactionSynchronization {
+
+        private final List<Observation> observations = new ArrayList<>();
+
+        @Override
+        public void afterCommit() {
+            apply(observations);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingObservations.class);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.proximaai.service.ai.anomaly;
+
+/**
+ * Chave de um acumulador: a métrica observada para um usuário ou um projeto
+ */
+public record MetricKey(Scope scope, Long scopeId, Metric metric) {
+
+    public enum Scope {
+        USER, PROJECT
+    }
+
+    public enum Metric {
+        ACTUAL_HOURS_RATIO, // horas realizadas / estimadas de cada tarefa concluída
+        OVERDUE_TASKS,      // tarefas atrasadas do projeto na recontagem diária
+        TIMESHEET_MINUTES   // duração de cada lançamento de timesheet
+    }
+
+    public static MetricKey user(Long userId, Metric metric) {
+        return new MetricKey(Scope.USER, userId, metric);
+    }
+
+    public static MetricKey project(Long projectId, Metric metric) {
+        return new MetricKey(Scope.PROJECT, projectId, metric);
+    }
+}
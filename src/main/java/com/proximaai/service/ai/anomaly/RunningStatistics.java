@@ -0,0 +1,93 @@
+package com.proximaai.service.ai.anomaly;
+
+/**
+ * Média e variância online (algoritmo de Welford), com decaimento exponencial opcional.
+ * Cada observação custa O(1) e nenhuma é guardada. Com decay = 1 todas as observações pesam igual
+ * e a variância coincide com a amostral do DescriptiveStatistics; com decay < 1 o peso das antigas
+ * é multiplicado por decay a cada nova observação.
+ * Não é thread-safe: o {@link RunningStatisticsRegistry} serializa o acesso por chave.
+ */
+public final class RunningStatistics {
+
+    private final double decay;
+
+    private long count;
+    private double weight;
+    private double mean;
+    private double m2;
+
+    public RunningStatistics(double decay) {
+        if (decay <= 0.0 || decay > 1.0) {
+            throw new IllegalArgumentException("decay deve estar em (0, 1]: " + decay);
+        }
+        this.decay = decay;
+    }
+
+    /**
+     * Restaura um acumulador persistido
+     */
+    public static RunningStatistics restore(double decay, long count, double weight, double mean, double m2) {
+        RunningStatistics stats = new RunningStatistics(decay);
+        stats.count = count;
+        stats.weight = weight;
+        stats.mean = mean;
+        stats.m2 = m2;
+        return stats;
+    }
+
+    /**
+     * Acumulador sem decaimento sobre uma série já coletada, em uma única passada
+     */
+    public static RunningStatistics of(Iterable<Double> values) {
+        RunningStatistics stats = new RunningStatistics(1.0);
+        for (Double value : values) {
+            stats.add(value);
+        }
+        return stats;
+    }
+
+    public void add(double value) {
+        count++;
+        weight = weight * decay + 1.0;
+        double delta = value - mean;
+        mean += delta / weight;
+        m2 = m2 * decay + delta * (value - mean);
+    }
+
+    /**
+     * Z-score absoluto do valor em relação às observações acumuladas; 0 sem dispersão
+     */
+    public double zScore(double value) {
+        double stdDev = getStandardDeviation();
+        return stdDev == 0.0 ? 0.0 : Math.abs((value - mean) / stdDev);
+    }
+
+    // Getters
+    public double getDecay() {
+        return decay;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    public double getM2() {
+        return m2;
+    }
+
+    public double getVariance() {
+        return weight > 1.0 ? Math.max(0.0, m2 / (weight - 1.0)) : 0.0;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+}
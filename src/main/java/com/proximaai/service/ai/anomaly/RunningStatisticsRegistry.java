@@ -0,0 +1,104 @@
+package com.proximaai.service.ai.anomaly;
+
+import com.proximaai.config.AIConfig;
+import com.proximaai.domain.entity.ai.MetricAccumulator;
+import com.proximaai.repository.ai.MetricAccumulatorRepository;
+import com.proximaai.service.ai.SnapshotMap;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+/**
+ * Acumuladores de média/variância online por usuário, projeto e métrica, usados na detecção de anomalias
+ * por Z-score sem reler o histórico: cada observação e cada verificação custam O(1).
+ * Os acumuladores alterados são gravados periodicamente em ai_metric_accumulators e relidos na inicialização;
+ * observações feitas entre a última gravação e uma parada abrupta se perdem. Com mais de um nó, cada um
+ * acumula o que observou e a última gravação prevalece.
+ */
+@Service
+public class RunningStatisticsRegistry {
+
+    @Autowired
+    private MetricAccumulatorRepository metricAccumulatorRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AIConfig aiConfig;
+
+    private final SnapshotMap<MetricKey, RunningStatistics> accumulators =
+            new SnapshotMap<>("acumuladores de anomalia", RunningStatisticsRegistry::copyOf);
+
+    /**
+     * Verifica se o valor é anômalo em relação ao que já foi observado na chave e depois o acumula
+     */
+    public boolean observe(MetricKey key, double value) {
+        boolean[] anomaly = new boolean[1];
+        accumulators.update(key, (k, stats) -> {
+            RunningStatistics current = stats != null ? stats : new RunningStatistics(aiConfig.getAnomalyDecay());
+            anomaly[0] = isAnomaly(current, value);
+            current.add(value);
+            return current;
+        });
+        return anomaly[0];
+    }
+
+    /**
+     * Verifica se o valor é anômalo sem acumulá-lo
+     */
+    public boolean isAnomaly(MetricKey key, double value) {
+        return Boolean.TRUE.equals(accumulators.read(key, stats -> isAnomaly(stats, value)));
+    }
+
+    /**
+     * Z-score acima do limite, desde que a chave já tenha o mínimo de observações
+     */
+    public boolean isAnomaly(RunningStatistics stats, double value) {
+        return stats.getCount() >= aiConfig.getAnomalyMinSamples()
+                && stats.zScore(value) > aiConfig.getAnomalyZScoreThreshold();
+    }
+
+    /**
+     * Cópia do acumulador da chave, ou null se nada foi observado
+     */
+    public RunningStatistics get(MetricKey key) {
+        return accumulators.copy(key);
+    }
+
+    /**
+     * Relê os acumuladores persistidos; observações feitas antes disso nesta execução são mantidas
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        accumulators.rehydrate(transactionTemplate, metricAccumulatorRepository::findAll, MetricAccumulator::getKey,
+                row -> RunningStatistics.restore(aiConfig.getAnomalyDecay(),
+                        row.getSampleCount(), row.getWeight(), row.getMean(), row.getM2()));
+    }
+
+    /**
+     * Grava os acumuladores alterados desde a última gravação
+     */
+    @Scheduled(fixedDelayString = "${proxima.ai.anomaly-flush-interval-ms:60000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        accumulators.flush(transactionTemplate, (key, stats) ->
+                metricAccumulatorRepository.upsert(key.scope().name(), key.scopeId(), key.metric().name(),
+                        stats.getCount(), stats.getWeight(), stats.getMean(), stats.getM2(), now));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static RunningStatistics copyOf(RunningStatistics stats) {
+        return RunningStatistics.restore(stats.getDecay(), stats.getCount(), stats.getWeight(), stats.getMean(), stats.getM2());
+    }
+}
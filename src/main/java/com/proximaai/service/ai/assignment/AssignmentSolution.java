@@ -0,0 +1,50 @@
+package com.proximaai.service.ai.assignment;
+
+import java.util.Arrays;
+
+/**
+ * Resultado de um solver: a coluna (usuário) de cada linha (tarefa), -1 quando não atribuída, o custo total
+ * e os potenciais duais das colunas. Passada de volta ao solver como ponto de partida, evita refazer os pares
+ * que continuam ótimos quando só parte dos custos mudou.
+ */
+public final class AssignmentSolution {
+
+    public static final int UNASSIGNED = -1;
+
+    private final int[] columnByRow;
+    private final double[] columnPotentials;
+    private final double totalCost;
+
+    public AssignmentSolution(int[] columnByRow, double[] columnPotentials, double totalCost) {
+        this.columnByRow = columnByRow;
+        this.columnPotentials = columnPotentials;
+        this.totalCost = totalCost;
+    }
+
+    /**
+     * Ponto de partida só com a atribuição atual (sem potenciais de uma execução anterior)
+     */
+    public static AssignmentSolution of(int[] columnByRow) {
+        return new AssignmentSolution(columnByRow.clone(), null, Double.NaN);
+    }
+
+    public int[] getColumnByRow() {
+        return columnByRow.clone();
+    }
+
+    public int getColumn(int row) {
+        return columnByRow[row];
+    }
+
+    public double[] getColumnPotentials() {
+        return columnPotentials == null ? null : columnPotentials.clone();
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    public int getAssignedCount() {
+        return (int) Arrays.stream(columnByRow).filter(column -> column != UNASSIGNED).count();
+    }
+}
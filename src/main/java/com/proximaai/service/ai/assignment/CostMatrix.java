@@ -0,0 +1,84 @@
+package com.proximaai.service.ai.assignment;
+
+/**
+ * Matriz densa de custos tarefa × usuário (linha × coluna), em um único double[] por linha.
+ * Pares proibidos têm custo {@link #FORBIDDEN} e nunca são atribuídos.
+ */
+public final class CostMatrix {
+
+    public static final double FORBIDDEN = Double.POSITIVE_INFINITY;
+
+    private final int rows;
+    private final int columns;
+    private final double[] costs;
+
+    public CostMatrix(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.costs = new double[rows * columns];
+    }
+
+    /**
+     * Custos a partir de scores de adequação (maior é melhor): custo = 1 - score.
+     * Scores NaN ou negativos marcam o par como proibido.
+     */
+    public static CostMatrix fromFitScores(double[][] fitScores) {
+        int columns = fitScores.length == 0 ? 0 : fitScores[0].length;
+        CostMatrix matrix = new CostMatrix(fitScores.length, columns);
+        for (int row = 0; row < fitScores.length; row++) {
+            if (fitScores[row].length != columns) {
+                throw new IllegalArgumentException("Linha " + row + " com " + fitScores[row].length + " colunas, esperadas " + columns);
+            }
+            for (int column = 0; column < columns; column++) {
+                double fit = fitScores[row][column];
+                matrix.set(row, column, Double.isNaN(fit) || fit < 0 ? FORBIDDEN : 1.0 - fit);
+            }
+        }
+        return matrix;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public double get(int row, int column) {
+        return costs[row * columns + column];
+    }
+
+    public void set(int row, int column, double cost) {
+        if (Double.isNaN(cost) || cost == Double.NEGATIVE_INFINITY) {
+            throw new IllegalArgumentException("Custo inválido em (" + row + ", " + column + "): " + cost);
+        }
+        costs[row * columns + column] = cost;
+    }
+
+    public boolean isForbidden(int row, int column) {
+        return costs[row * columns + column] == FORBIDDEN;
+    }
+
+    /**
+     * Custo que supera qualquer soma de custos permitidos em uma atribuição: usado como custo de
+     * "não atribuir", para que o solver maximize primeiro a quantidade de tarefas atribuídas
+     */
+    double unassignedCost() {
+        double max = 0.0;
+        for (double cost : costs) {
+            if (cost != FORBIDDEN) {
+                max = Math.max(max, Math.abs(cost));
+            }
+        }
+        return (max + 1.0) * (Math.min(rows, Math.max(columns, 1)) + 1) * 2;
+    }
+
+    /**
+     * Custo usado internamente pelos solvers: proibidos viram o custo de não atribuir
+     */
+    double effective(int row, int column, double unassignedCost) {
+        double cost = costs[row * columns + column];
+        return cost == FORBIDDEN ? unassignedCost : cost;
+    }
+}
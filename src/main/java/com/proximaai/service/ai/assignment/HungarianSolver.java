@@ -0,0 +1,150 @@
+package com.proximaai.service.ai.assignment;
+
+import java.util.Arrays;
+
+/**
+ * Atribuição um-para-um de custo mínimo (algoritmo húngaro com potenciais, O(n²·m) para n ≤ m).
+ * Matrizes com mais linhas que colunas são resolvidas transpostas. Pares proibidos só entram na solução
+ * quando não há alternativa e são devolvidos como não atribuídos; assim a quantidade de atribuições
+ * é máxima e, entre as máximas, o custo é mínimo.
+ */
+public final class HungarianSolver {
+
+    public AssignmentSolution solve(CostMatrix matrix) {
+        return solve(matrix, null);
+    }
+
+    /**
+     * @param previous solução anterior (ou só a atribuição atual) usada como ponto de partida; pode ser null.
+     *                 Os potenciais só são reaproveitados quando a matriz não precisa ser transposta.
+     */
+    public AssignmentSolution solve(CostMatrix matrix, AssignmentSolution previous) {
+        int rows = matrix.getRows();
+        int columns = matrix.getColumns();
+        double unassignedCost = matrix.unassignedCost();
+
+        if (rows <= columns) {
+            WarmStart.Costs costs = (row, column) -> matrix.effective(row, column, unassignedCost);
+            WarmStart start = WarmStart.of(costs, rows, columns, ones(columns), previous);
+            start.releaseSlackColumns(costs, ones(columns));
+            int[] columnByRow = assign(start, rows, columns, costs);
+            return toSolution(matrix, columnByRow, start.columnPotentials);
+        }
+
+        // Transposta: cada usuário escolhe uma tarefa
+        AssignmentSolution transposed = previous == null ? null : AssignmentSolution.of(transpose(previous.getColumnByRow(), columns));
+        WarmStart.Costs costs = (row, column) -> matrix.effective(column, row, unassignedCost);
+        WarmStart start = WarmStart.of(costs, columns, rows, ones(rows), transposed);
+        start.releaseSlackColumns(costs, ones(rows));
+        int[] rowByColumn = assign(start, columns, rows, costs);
+        return toSolution(matrix, transpose(rowByColumn, rows), null);
+    }
+
+    /**
+     * Insere, uma a uma, as linhas ainda sem coluna, por caminhos aumentantes mínimos (rows ≤ columns)
+     */
+    private static int[] assign(WarmStart start, int rows, int columns, WarmStart.Costs costs) {
+        // Índices deslocados em 1: a coluna 0 é a raiz da busca de cada linha inserida
+        double[] u = new double[rows + 1];
+        double[] v = new double[columns + 1];
+        int[] rowOfColumn = new int[columns + 1];
+        System.arraycopy(start.rowPotentials, 0, u, 1, rows);
+        System.arraycopy(start.columnPotentials, 0, v, 1, columns);
+        for (int row = 0; row < rows; row++) {
+            if (start.columnByRow[row] != AssignmentSolution.UNASSIGNED) {
+                rowOfColumn[start.columnByRow[row] + 1] = row + 1;
+            }
+        }
+
+        double[] minReduced = new double[columns + 1];
+        int[] way = new int[columns + 1];
+        boolean[] used = new boolean[columns + 1];
+        for (int row = 1; row <= rows; row++) {
+            if (start.columnByRow[row - 1] != AssignmentSolution.UNASSIGNED) {
+                continue;
+            }
+            rowOfColumn[0] = row;
+            int current = 0;
+            Arrays.fill(minReduced, Double.POSITIVE_INFINITY);
+            Arrays.fill(used, false);
+            do {
+                used[current] = true;
+                int currentRow = rowOfColumn[current];
+                double delta = Double.POSITIVE_INFINITY;
+                int next = 0;
+                for (int column = 1; column <= columns; column++) {
+                    if (!used[column]) {
+                        double reduced = costs.cost(currentRow - 1, column - 1) - u[currentRow] - v[column];
+                        if (reduced < minReduced[column]) {
+                            minReduced[column] = reduced;
+                            way[column] = current;
+                        }
+                        if (minReduced[column] < delta) {
+                            delta = minReduced[column];
+                            next = column;
+                        }
+                    }
+                }
+                for (int column = 0; column <= columns; column++) {
+                    if (used[column]) {
+                        u[rowOfColumn[column]] += delta;
+                        v[column] -= delta;
+                    } else {
+                        minReduced[column] -= delta;
+                    }
+                }
+                current = next;
+            } while (rowOfColumn[current] != 0);
+
+            do {
+                int previous = way[current];
+                rowOfColumn[current] = rowOfColumn[previous];
+                current = previous;
+            } while (current != 0);
+        }
+
+        System.arraycopy(v, 1, start.columnPotentials, 0, columns);
+        int[] columnByRow = new int[rows];
+        Arrays.fill(columnByRow, AssignmentSolution.UNASSIGNED);
+        for (int column = 1; column <= columns; column++) {
+            if (rowOfColumn[column] != 0) {
+                columnByRow[rowOfColumn[column] - 1] = column - 1;
+            }
+        }
+        return columnByRow;
+    }
+
+    private static AssignmentSolution toSolution(CostMatrix matrix, int[] columnByRow, double[] columnPotentials) {
+        double totalCost = 0.0;
+        for (int row = 0; row < columnByRow.length; row++) {
+            int column = columnByRow[row];
+            if (column == AssignmentSolution.UNASSIGNED) {
+                continue;
+            }
+            if (matrix.isForbidden(row, column)) {
+                columnByRow[row] = AssignmentSolution.UNASSIGNED;
+            } else {
+                totalCost += matrix.get(row, column);
+            }
+        }
+        return new AssignmentSolution(columnByRow, columnPotentials, totalCost);
+    }
+
+    private static int[] transpose(int[] columnByRow, int columns) {
+        int[] rowByColumn = new int[columns];
+        Arrays.fill(rowByColumn, AssignmentSolution.UNASSIGNED);
+        for (int row = 0; row < columnByRow.length; row++) {
+            int column = columnByRow[row];
+            if (column >= 0 && column < columns) {
+                rowByColumn[column] = row;
+            }
+        }
+        return rowByColumn;
+    }
+
+    private static int[] ones(int length) {
+        int[] capacity = new int[length];
+        Arrays.fill(capacity, 1);
+        return capacity;
+    }
+}
@@ -0,0 +1,347 @@
+package com.proximaai.service.ai.assignment;
+
+import java.util.Arrays;
+
+/**
+ * Atribuição de muitas tarefas para um usuário com capacidade (quantidade máxima de tarefas por usuário),
+ * como fluxo de custo mínimo: fonte → tarefa (1) → usuário (custo do par) → sorvedouro (capacidade).
+ * Caminhos aumentantes mínimos, um por tarefa, com Dijkstra sobre os usuários e potenciais (custos reduzidos
+ * não negativos); a busca para no primeiro usuário com folga. Uma coluna extra de "não atribuída", com custo
+ * maior que qualquer atribuição, recebe as tarefas que não cabem ou só têm pares proibidos, de modo que o
+ * resultado é o fluxo máximo de menor custo.
+ * <p>
+ * Partindo de uma solução anterior, os pares que continuam ótimos são mantidos e as vagas liberadas por
+ * tarefas que mudaram são preenchidas de volta por caminhos mínimos no sentido inverso (cancelando os
+ * ciclos negativos que a vaga cria), antes de inserir as tarefas sem usuário.
+ */
+public final class MinCostFlowSolver {
+
+    public AssignmentSolution solve(CostMatrix matrix, int[] capacities) {
+        return solve(matrix, capacities, null);
+    }
+
+    /**
+     * @param previous solução anterior (ou só a atribuição atual) usada como ponto de partida; pode ser null
+     */
+    public AssignmentSolution solve(CostMatrix matrix, int[] capacities, AssignmentSolution previous) {
+        int rows = matrix.getRows();
+        int columns = matrix.getColumns();
+        if (capacities.length != columns) {
+            throw new IllegalArgumentException("Esperadas " + columns + " capacidades, recebidas " + capacities.length);
+        }
+
+        double unassignedCost = matrix.unassignedCost();
+        int dummy = columns;
+        int[] capacity = Arrays.copyOf(capacities, columns + 1);
+        for (int column = 0; column < columns; column++) {
+            capacity[column] = Math.max(0, capacity[column]);
+        }
+        capacity[dummy] = Math.max(rows, 1);
+
+        WarmStart.Costs costs = (row, column) -> column == dummy ? unassignedCost : matrix.effective(row, column, unassignedCost);
+        WarmStart start = WarmStart.of(costs, rows, columns + 1, capacity, withUnassignedColumn(previous, dummy));
+        State state = new State(matrix, unassignedCost, capacity, start);
+
+        for (int column = 0; column < columns; column++) {
+            state.refill(column);
+        }
+        for (int row = 0; row < rows; row++) {
+            if (state.columnByRow[row] == AssignmentSolution.UNASSIGNED) {
+                state.insert(row);
+            }
+        }
+        return state.toSolution();
+    }
+
+    /**
+     * Tarefas não atribuídas da solução anterior voltam para a coluna de não atribuída, onde continuam ótimas
+     * se os custos não mudaram; sem isso cada uma seria reinserida com uma busca por todos os usuários
+     */
+    private static AssignmentSolution withUnassignedColumn(AssignmentSolution previous, int dummy) {
+        if (previous == null) {
+            return null;
+        }
+        int[] columnByRow = previous.getColumnByRow();
+        for (int row = 0; row < columnByRow.length; row++) {
+            if (columnByRow[row] == AssignmentSolution.UNASSIGNED) {
+                columnByRow[row] = dummy;
+            }
+        }
+        return new AssignmentSolution(columnByRow, previous.getColumnPotentials(), previous.getTotalCost());
+    }
+
+    /**
+     * Estado do fluxo: usuário de cada tarefa, tarefas de cada usuário e potenciais
+     */
+    private static final class State {
+
+        private final CostMatrix matrix;
+        private final double[] costs; // custos efetivos por linha, com a coluna de não atribuída no fim
+        private final int rows;
+        private final int columns; // inclui a coluna de não atribuída
+        private final int[] capacity;
+        private final double[] u;
+        private final double[] v;
+        private final int[] columnByRow;
+        private final int[][] rowsByColumn;
+        private final int[] load;
+        private final int[] positionInColumn;
+
+        // Buffers do Dijkstra, reaproveitados entre inserções
+        private final double[] dist;
+        private final int[] previousRow;
+        private final boolean[] visited;
+        private final int[] visitedColumns;
+        private final double[] rowDist;
+        private final int[] reachedRows;
+
+        State(CostMatrix matrix, double unassignedCost, int[] capacity, WarmStart start) {
+            this.matrix = matrix;
+            this.rows = matrix.getRows();
+            this.columns = capacity.length;
+            this.costs = new double[rows * columns];
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < columns - 1; column++) {
+                    costs[row * columns + column] = matrix.effective(row, column, unassignedCost);
+                }
+                costs[row * columns + columns - 1] = unassignedCost;
+            }
+            this.capacity = capacity;
+            this.u = start.rowPotentials;
+            this.v = start.columnPotentials;
+            this.columnByRow = start.columnByRow;
+            this.load = new int[columns];
+            this.rowsByColumn = new int[columns][];
+            this.positionInColumn = new int[rows];
+            for (int column = 0; column < columns; column++) {
+                rowsByColumn[column] = new int[Math.min(capacity[column], Math.max(start.load[column], 4))];
+            }
+            for (int row = 0; row < rows; row++) {
+                if (columnByRow[row] != AssignmentSolution.UNASSIGNED) {
+                    attach(row, columnByRow[row]);
+                }
+            }
+
+            this.dist = new double[columns];
+            this.previousRow = new int[columns];
+            this.visited = new boolean[columns];
+            this.visitedColumns = new int[columns];
+            this.rowDist = new double[rows];
+            this.reachedRows = new int[rows];
+        }
+
+        private double cost(int row, int column) {
+            return costs[row * columns + column];
+        }
+
+        /**
+         * Caminho aumentante mínimo da tarefa até um usuário com folga, com atualização dos potenciais
+         */
+        void insert(int source) {
+            double min = Double.POSITIVE_INFINITY;
+            for (int column = 0; column < columns; column++) {
+                min = Math.min(min, cost(source, column) - v[column]);
+            }
+            u[source] = min;
+
+            for (int column = 0; column < columns; column++) {
+                dist[column] = cost(source, column) - u[source] - v[column];
+                previousRow[column] = source;
+                visited[column] = false;
+            }
+            int visitedCount = 0;
+            int reachedCount = 0;
+            rowDist[source] = 0.0;
+            reachedRows[reachedCount++] = source;
+
+            int terminal;
+            while (true) {
+                int next = -1;
+                double best = Double.POSITIVE_INFINITY;
+                for (int column = 0; column < columns; column++) {
+                    if (!visited[column] && dist[column] < best) {
+                        best = dist[column];
+                        next = column;
+                    }
+                }
+                if (load[next] < capacity[next]) {
+                    terminal = next;
+                    break;
+                }
+
+                visited[next] = true;
+                visitedColumns[visitedCount++] = next;
+                int[] assigned = rowsByColumn[next];
+                for (int i = 0; i < load[next]; i++) {
+                    int row = assigned[i];
+                    rowDist[row] = best;
+                    reachedRows[reachedCount++] = row;
+                    double base = best - u[row];
+                    int offset = row * columns;
+                    for (int column = 0; column < columns; column++) {
+                        if (!visited[column]) {
+                            double candidate = base + costs[offset + column] - v[column];
+                            if (candidate < dist[column]) {
+                                dist[column] = candidate;
+                                previousRow[column] = row;
+                            }
+                        }
+                    }
+                }
+            }
+
+            double total = dist[terminal];
+            for (int i = 0; i < visitedCount; i++) {
+                int column = visitedColumns[i];
+                v[column] += dist[column] - total;
+            }
+            for (int i = 0; i < reachedCount; i++) {
+                int row = reachedRows[i];
+                u[row] += total - rowDist[row];
+            }
+
+            // Cada tarefa do caminho passa para a coluna seguinte, liberando a vaga da anterior
+            int column = terminal;
+            while (true) {
+                int row = previousRow[column];
+                int from = columnByRow[row];
+                if (from != AssignmentSolution.UNASSIGNED) {
+                    detach(row, from);
+                }
+                attach(row, column);
+                if (row == source) {
+                    break;
+                }
+                column = from;
+            }
+        }
+
+        /**
+         * Restaura a condição de otimalidade de uma coluna com folga e potencial negativo: enquanto houver
+         * ciclo de custo negativo passando pela vaga, traz para ela uma tarefa, pelo caminho mínimo a partir
+         * das colunas que podem ceder uma tarefa sem perder a otimalidade (potencial zero ou a não atribuída)
+         */
+        void refill(int target) {
+            while (load[target] < capacity[target] && v[target] < 0.0) {
+                for (int column = 0; column < columns; column++) {
+                    dist[column] = load[column] > 0 ? -v[column] : Double.POSITIVE_INFINITY;
+                    previousRow[column] = -1;
+                    visited[column] = false;
+                }
+                int reachedCount = 0;
+
+                while (!visited[target]) {
+                    int next = -1;
+                    double best = Double.POSITIVE_INFINITY;
+                    for (int column = 0; column < columns; column++) {
+                        if (!visited[column] && dist[column] < best) {
+                            best = dist[column];
+                            next = column;
+                        }
+                    }
+                    if (next == -1) {
+                        break;
+                    }
+
+                    visited[next] = true;
+                    if (next == target) {
+                        break;
+                    }
+                    int[] assigned = rowsByColumn[next];
+                    for (int i = 0; i < load[next]; i++) {
+                        int row = assigned[i];
+                        rowDist[row] = best;
+                        reachedRows[reachedCount++] = row;
+                        double base = best - u[row];
+                        int offset = row * columns;
+                        for (int column = 0; column < columns; column++) {
+                            if (!visited[column]) {
+                                double candidate = base + costs[offset + column] - v[column];
+                                if (candidate < dist[column]) {
+                                    dist[column] = candidate;
+                                    previousRow[column] = row;
+                                }
+                            }
+                        }
+                    }
+                }
+
+                if (!visited[target]) {
+                    // Nenhuma tarefa no fluxo: zerar o potencial não viola nenhum custo reduzido
+                    v[target] = 0.0;
+                    return;
+                }
+
+                // Potenciais: +min(dist, D) nas colunas e -min(dist, D) nas tarefas do fluxo
+                double total = dist[target];
+                boolean negativeCycle = total + v[target] < 0.0;
+                for (int column = 0; column < columns; column++) {
+                    v[column] += Math.min(dist[column], total);
+                }
+                for (int row = 0; row < rows; row++) {
+                    if (columnByRow[row] != AssignmentSolution.UNASSIGNED) {
+                        u[row] -= total;
+                    }
+                }
+                for (int i = 0; i < reachedCount; i++) {
+                    int row = reachedRows[i];
+                    u[row] += total - rowDist[row];
+                }
+
+                if (negativeCycle) {
+                    int column = target;
+                    while (previousRow[column] != -1) {
+                        int row = previousRow[column];
+                        int from = columnByRow[row];
+                        detach(row, from);
+                        attach(row, column);
+                        column = from;
+                    }
+                }
+
+                // Colunas vazias não precisam de potencial positivo; zerá-lo só aumenta custos reduzidos
+                for (int column = 0; column < columns; column++) {
+                    if (load[column] == 0 && v[column] > 0.0) {
+                        v[column] = 0.0;
+                    }
+                }
+                if (!negativeCycle) {
+                    return;
+                }
+            }
+        }
+
+        private void attach(int row, int column) {
+            if (load[column] == rowsByColumn[column].length) {
+                rowsByColumn[column] = Arrays.copyOf(rowsByColumn[column], Math.max(4, load[column] * 2));
+            }
+            positionInColumn[row] = load[column];
+            rowsByColumn[column][load[column]++] = row;
+            columnByRow[row] = column;
+        }
+
+        private void detach(int row, int column) {
+            int position = positionInColumn[row];
+            int last = rowsByColumn[column][--load[column]];
+            rowsByColumn[column][position] = last;
+            positionInColumn[last] = position;
+            columnByRow[row] = AssignmentSolution.UNASSIGNED;
+        }
+
+        AssignmentSolution toSolution() {
+            int realColumns = columns - 1;
+            int[] result = new int[rows];
+            double totalCost = 0.0;
+            for (int row = 0; row < rows; row++) {
+                int column = columnByRow[row];
+                if (column == realColumns || matrix.isForbidden(row, column)) {
+                    result[row] = AssignmentSolution.UNASSIGNED;
+                } else {
+                    result[row] = column;
+                    totalCost += matrix.get(row, column);
+                }
+            }
+            return new AssignmentSolution(result, Arrays.copyOf(v, realColumns), totalCost);
+        }
+    }
+}
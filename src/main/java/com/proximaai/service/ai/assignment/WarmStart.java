@@ -0,0 +1,95 @@
+package com.proximaai.service.ai.assignment;
+
+import java.util.Arrays;
+
+/**
+ * Ponto de partida dos solvers a partir de uma solução anterior. Os potenciais das colunas são reaproveitados
+ * (limitados a ≤ 0) e os das linhas recalculados para que todos os custos reduzidos fiquem ≥ 0; mantêm-se
+ * apenas os pares anteriores que continuam com custo reduzido zero e cabem na capacidade da coluna.
+ * Colunas que ficam com folga e potencial negativo ainda precisam ser tratadas pelo solver: ou zerando o
+ * potencial ({@link #releaseSlackColumns}), ou trazendo tarefas de volta para elas.
+ */
+final class WarmStart {
+
+    @FunctionalInterface
+    interface Costs {
+        double cost(int row, int column);
+    }
+
+    private static final double TOLERANCE = 1e-9;
+
+    final double[] rowPotentials;
+    final double[] columnPotentials;
+    final int[] columnByRow;
+    final int[] load;
+
+    private WarmStart(int rows, int columns) {
+        this.rowPotentials = new double[rows];
+        this.columnPotentials = new double[columns];
+        this.columnByRow = new int[rows];
+        this.load = new int[columns];
+    }
+
+    static WarmStart of(Costs costs, int rows, int columns, int[] capacity, AssignmentSolution previous) {
+        WarmStart start = new WarmStart(rows, columns);
+        Arrays.fill(start.columnByRow, AssignmentSolution.UNASSIGNED);
+        if (previous == null) {
+            return start;
+        }
+
+        double[] potentials = previous.getColumnPotentials();
+        if (potentials != null) {
+            for (int column = 0; column < Math.min(columns, potentials.length); column++) {
+                start.columnPotentials[column] = Math.min(0.0, potentials[column]);
+            }
+        }
+
+        start.keepTightPairs(costs, capacity, previous.getColumnByRow());
+        return start;
+    }
+
+    /**
+     * Zera o potencial das colunas com folga, descartando os pares que deixam de ser ótimos, até que nenhuma
+     * coluna com folga tenha potencial negativo. Cada rodada pode liberar vagas em outras colunas e, com todas
+     * as colunas cheias, uma pequena mudança de custos chega a descartar boa parte dos pares.
+     */
+    void releaseSlackColumns(Costs costs, int[] capacity) {
+        int[] kept = columnByRow.clone();
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (int column = 0; column < columnPotentials.length; column++) {
+                if (columnPotentials[column] < 0.0 && load[column] < capacity[column]) {
+                    columnPotentials[column] = 0.0;
+                    changed = true;
+                }
+            }
+            if (changed) {
+                keepTightPairs(costs, capacity, kept);
+                kept = columnByRow.clone();
+            }
+        }
+    }
+
+    private void keepTightPairs(Costs costs, int[] capacity, int[] previousColumns) {
+        int rows = rowPotentials.length;
+        int columns = columnPotentials.length;
+        Arrays.fill(columnByRow, AssignmentSolution.UNASSIGNED);
+        Arrays.fill(load, 0);
+
+        for (int row = 0; row < rows; row++) {
+            double min = Double.POSITIVE_INFINITY;
+            for (int column = 0; column < columns; column++) {
+                min = Math.min(min, costs.cost(row, column) - columnPotentials[column]);
+            }
+            rowPotentials[row] = min;
+
+            int column = row < previousColumns.length ? previousColumns[row] : AssignmentSolution.UNASSIGNED;
+            if (column >= 0 && column < columns && load[column] < capacity[column]
+                    && costs.cost(row, column) - min - columnPotentials[column] <= TOLERANCE * (1.0 + Math.abs(min))) {
+                columnByRow[row] = column;
+                load[column]++;
+            }
+        }
+    }
+}
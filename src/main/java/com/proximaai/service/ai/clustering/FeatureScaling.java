@@ -0,0 +1,79 @@
+package com.proximaai.service.ai.clustering;
+
+/**
+ * Padronização z-score por dimensão. Guardada com os clusters para que vetores de tarefas novas
+ * sejam projetados no mesmo espaço dos centroides.
+ */
+public class FeatureScaling {
+
+    private double[] mean;
+    private double[] scale;
+
+    public FeatureScaling() {}
+
+    public FeatureScaling(double[] mean, double[] scale) {
+        this.mean = mean;
+        this.scale = scale;
+    }
+
+    /**
+     * Calcula média e desvio-padrão de cada dimensão em uma passada (dimensões constantes ficam com escala 1)
+     */
+    public static FeatureScaling fit(double[] points, int dimensions) {
+        int n = points.length / dimensions;
+        double[] mean = new double[dimensions];
+        double[] squares = new double[dimensions];
+
+        for (int i = 0, base = 0; i < n; i++, base += dimensions) {
+            for (int j = 0; j < dimensions; j++) {
+                double value = points[base + j];
+                mean[j] += value;
+                squares[j] += value * value;
+            }
+        }
+
+        double[] scale = new double[dimensions];
+        for (int j = 0; j < dimensions; j++) {
+            mean[j] /= n;
+            double variance = squares[j] / n - mean[j] * mean[j];
+            scale[j] = variance > 1e-12 ? Math.sqrt(variance) : 1.0;
+        }
+        return new FeatureScaling(mean, scale);
+    }
+
+    /**
+     * Padroniza, no próprio array, todos os pontos
+     */
+    public void apply(double[] points) {
+        int dimensions = mean.length;
+        for (int base = 0; base < points.length; base += dimensions) {
+            apply(points, base);
+        }
+    }
+
+    /**
+     * Padroniza, no próprio array, o ponto que começa em offset
+     */
+    public void apply(double[] points, int offset) {
+        for (int j = 0; j < mean.length; j++) {
+            points[offset + j] = (points[offset + j] - mean[j]) / scale[j];
+        }
+    }
+
+    // Getters and Setters
+    public double[] getMean() {
+        return mean;
+    }
+
+    public void setMean(double[] mean) {
+        this.mean = mean;
+    }
+
+    public double[] getScale() {
+        return scale;
+    }
+
+    public void setScale(double[] scale) {
+        this.scale = scale;
+    }
+}
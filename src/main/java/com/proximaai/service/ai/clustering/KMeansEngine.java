@@ -0,0 +1,344 @@
+package com.proximaai.service.ai.clustering;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * K-means sobre pontos armazenados em um único double[] (linha a linha: n pontos x dimensions).
+ * Sementes por k-means++, atribuição paralela em blocos no ForkJoinPool usando distância ao quadrado
+ * e centroides recalculados a partir das somas parciais de cada bloco.
+ * Todos os buffers são alocados uma vez por execução; as iterações não alocam.
+ */
+public class KMeansEngine {
+
+    // Abaixo disso um bloco não compensa o custo de agendamento
+    private static final int MIN_POINTS_PER_CHUNK = 4096;
+
+    // Blocos por thread, para equilibrar a carga entre os workers
+    private static final int CHUNKS_PER_THREAD = 4;
+
+    private final ForkJoinPool pool;
+
+    public KMeansEngine(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Agrupa os pontos em até k clusters.
+     *
+     * @param points        coordenadas linha a linha (points.length = n * dimensions)
+     * @param tolerance     deslocamento máximo de centroide para considerar convergência
+     * @param seed          semente do k-means++ (mesma semente e dados produzem o mesmo resultado)
+     */
+    public KMeansResult cluster(double[] points, int dimensions, int k, int maxIterations, double tolerance, long seed) {
+        if (dimensions <= 0 || points.length == 0 || points.length % dimensions != 0) {
+            throw new IllegalArgumentException("points.length deve ser múltiplo positivo de dimensions");
+        }
+        if (k <= 0) {
+            throw new IllegalArgumentException("k deve ser positivo");
+        }
+
+        long startTime = System.nanoTime();
+        Run run = new Run(points, dimensions, Math.min(k, points.length / dimensions));
+        run.seed(new SplittableRandom(seed));
+
+        double tolerance2 = tolerance * tolerance;
+        int iterations = 0;
+        boolean converged = false;
+        while (iterations < maxIterations) {
+            long changed = run.assign();
+            iterations++;
+            if (changed == 0) {
+                converged = true;
+                break;
+            }
+            if (run.updateCentroids() <= tolerance2) {
+                converged = true;
+                run.assign();
+                break;
+            }
+        }
+        if (!converged) {
+            // Os centroides mudaram depois da última atribuição
+            run.assign();
+        }
+
+        long processingTimeMs = (System.nanoTime() - startTime) / 1_000_000;
+        return KMeansResult.of(points, dimensions, run.k, run.centroids, run.assignments, run.distances,
+                iterations, converged, processingTimeMs);
+    }
+
+    /**
+     * Estado de uma execução: pontos, centroides e os blocos reutilizados a cada iteração
+     */
+    private final class Run {
+
+        private final double[] points;
+        private final int dimensions;
+        private final int n;
+        private final int k;
+
+        private final double[] centroids;
+        private final double[] nextCentroids;
+        private final int[] assignments;
+        private final double[] distances; // distância ao quadrado ao centroide atribuído
+        private final Chunk[] chunks;
+        private final Fork fork;
+
+        Run(double[] points, int dimensions, int k) {
+            this.points = points;
+            this.dimensions = dimensions;
+            this.n = points.length / dimensions;
+            this.k = k;
+            this.centroids = new double[k * dimensions];
+            this.nextCentroids = new double[k * dimensions];
+            this.assignments = new int[n];
+            this.distances = new double[n];
+            Arrays.fill(assignments, -1);
+
+            int maxChunks = Math.max(1, n / MIN_POINTS_PER_CHUNK);
+            int chunkCount = Math.min(maxChunks, pool.getParallelism() * CHUNKS_PER_THREAD);
+            this.chunks = new Chunk[chunkCount];
+            for (int c = 0; c < chunkCount; c++) {
+                chunks[c] = new Chunk(this, (int) ((long) n * c / chunkCount), (int) ((long) n * (c + 1) / chunkCount));
+            }
+            this.fork = new Fork(chunks);
+        }
+
+        /**
+         * k-means++: cada novo centroide é sorteado com probabilidade proporcional
+         * à distância ao quadrado até o centroide mais próximo já escolhido
+         */
+        void seed(SplittableRandom random) {
+            copyPoint(random.nextInt(n), 0);
+            runChunks(Chunk.NEAREST, 0);
+
+            for (int c = 1; c < k; c++) {
+                double total = 0.0;
+                for (Chunk chunk : chunks) {
+                    total += chunk.distanceSum;
+                }
+
+                int chosen = total > 0 ? sample(random.nextDouble() * total) : random.nextInt(n);
+                copyPoint(chosen, c);
+                runChunks(Chunk.NEAREST, c);
+            }
+        }
+
+        private int sample(double target) {
+            for (Chunk chunk : chunks) {
+                if (target >= chunk.distanceSum) {
+                    target -= chunk.distanceSum;
+                    continue;
+                }
+                for (int i = chunk.from; i < chunk.to; i++) {
+                    target -= distances[i];
+                    if (target < 0) {
+                        return i;
+                    }
+                }
+                return chunk.to - 1;
+            }
+            return n - 1; // Arredondamento acumulado
+        }
+
+        long assign() {
+            runChunks(Chunk.ASSIGN, 0);
+            long changed = 0;
+            for (Chunk chunk : chunks) {
+                changed += chunk.changed;
+            }
+            return changed;
+        }
+
+        /**
+         * Novos centroides a partir das somas parciais; retorna o maior deslocamento ao quadrado
+         */
+        double updateCentroids() {
+            Arrays.fill(nextCentroids, 0.0);
+            double maxShift = 0.0;
+
+            for (int c = 0; c < k; c++) {
+                long count = 0;
+                int base = c * dimensions;
+                for (Chunk chunk : chunks) {
+                    count += chunk.counts[c];
+                    for (int j = 0; j < dimensions; j++) {
+                        nextCentroids[base + j] += chunk.sums[base + j];
+                    }
+                }
+
+                if (count == 0) {
+                    // Cluster vazio recomeça no ponto mais distante do próprio centroide
+                    int farthest = farthestPoint();
+                    System.arraycopy(points, farthest * dimensions, nextCentroids, base, dimensions);
+                    distances[farthest] = 0.0;
+                    maxShift = Double.POSITIVE_INFINITY;
+                    continue;
+                }
+
+                double shift = 0.0;
+                for (int j = 0; j < dimensions; j++) {
+                    double value = nextCentroids[base + j] / count;
+                    double delta = value - centroids[base + j];
+                    nextCentroids[base + j] = value;
+                    shift += delta * delta;
+                }
+                maxShift = Math.max(maxShift, shift);
+            }
+
+            System.arraycopy(nextCentroids, 0, centroids, 0, centroids.length);
+            return maxShift;
+        }
+
+        private int farthestPoint() {
+            int farthest = 0;
+            for (int i = 1; i < n; i++) {
+                if (distances[i] > distances[farthest]) {
+                    farthest = i;
+                }
+            }
+            return farthest;
+        }
+
+        private void copyPoint(int point, int centroid) {
+            System.arraycopy(points, point * dimensions, centroids, centroid * dimensions, dimensions);
+        }
+
+        private void runChunks(int mode, int centroid) {
+            for (Chunk chunk : chunks) {
+                chunk.reinitialize();
+                chunk.mode = mode;
+                chunk.centroid = centroid;
+            }
+            if (chunks.length == 1) {
+                chunks[0].compute();
+            } else {
+                fork.reinitialize();
+                pool.invoke(fork);
+            }
+        }
+    }
+
+    private static final class Fork extends RecursiveAction {
+
+        private final Chunk[] chunks;
+
+        Fork(Chunk[] chunks) {
+            this.chunks = chunks;
+        }
+
+        @Override
+        protected void compute() {
+            ForkJoinTask.invokeAll(chunks);
+        }
+    }
+
+    /**
+     * Intervalo [from, to) de pontos com somas parciais próprias (k x dimensions) e contagens por cluster
+     */
+    private static final class Chunk extends RecursiveAction {
+
+        static final int ASSIGN = 0;
+        static final int NEAREST = 1;
+
+        private final Run run;
+        private final int from;
+        private final int to;
+        private final double[] sums;
+        private final long[] counts;
+
+        int mode;
+        int centroid;
+        long changed;
+        double distanceSum;
+
+        Chunk(Run run, int from, int to) {
+            this.run = run;
+            this.from = from;
+            this.to = to;
+            this.sums = new double[run.k * run.dimensions];
+            this.counts = new long[run.k];
+        }
+
+        @Override
+        protected void compute() {
+            if (mode == ASSIGN) {
+                assign();
+            } else {
+                nearest();
+            }
+        }
+
+        private void assign() {
+            double[] points = run.points;
+            double[] centroids = run.centroids;
+            int dimensions = run.dimensions;
+            int k = run.k;
+
+            Arrays.fill(sums, 0.0);
+            Arrays.fill(counts, 0L);
+            long changedPoints = 0;
+
+            for (int i = from; i < to; i++) {
+                int base = i * dimensions;
+                int best = 0;
+                double bestDistance = Double.MAX_VALUE;
+
+                for (int c = 0, centroidBase = 0; c < k; c++, centroidBase += dimensions) {
+                    double distance = 0.0;
+                    for (int j = 0; j < dimensions; j++) {
+                        double delta = points[base + j] - centroids[centroidBase + j];
+                        distance += delta * delta;
+                    }
+                    if (distance < bestDistance) {
+                        bestDistance = distance;
+                        best = c;
+                    }
+                }
+
+                if (run.assignments[i] != best) {
+                    run.assignments[i] = best;
+                    changedPoints++;
+                }
+                run.distances[i] = bestDistance;
+                counts[best]++;
+                int sumBase = best * dimensions;
+                for (int j = 0; j < dimensions; j++) {
+                    sums[sumBase + j] += points[base + j];
+                }
+            }
+
+            changed = changedPoints;
+        }
+
+        /**
+         * Atualiza a menor distância de cada ponto considerando o centroide recém-escolhido
+         */
+        private void nearest() {
+            double[] points = run.points;
+            double[] distances = run.distances;
+            int dimensions = run.dimensions;
+            int centroidBase = centroid * dimensions;
+            double sum = 0.0;
+
+            for (int i = from; i < to; i++) {
+                int base = i * dimensions;
+                double distance = 0.0;
+                for (int j = 0; j < dimensions; j++) {
+                    double delta = points[base + j] - run.centroids[centroidBase + j];
+                    distance += delta * delta;
+                }
+                if (centroid == 0 || distance < distances[i]) {
+                    distances[i] = distance;
+                }
+                sum += distances[i];
+            }
+
+            distanceSum = sum;
+        }
+    }
+}
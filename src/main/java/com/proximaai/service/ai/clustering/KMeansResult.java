@@ -0,0 +1,182 @@
+package com.proximaai.service.ai.clustering;
+
+/**
+ * Resultado do K-means: centroides (k x dimensions, linha a linha), cluster e distância de cada ponto
+ * e as métricas por cluster calculadas em uma passada sobre os pontos.
+ */
+public class KMeansResult {
+
+    private final int k;
+    private final int dimensions;
+    private final double[] centroids;
+    private final int[] assignments;
+    private final double[] distances;
+    private final int[] clusterSizes;
+    private final double[] meanDistances;
+    private final double[] distanceDeviations;
+    private final double inertia;
+    private final double totalSumOfSquares;
+    private final int iterations;
+    private final boolean converged;
+    private final long processingTimeMs;
+
+    private KMeansResult(int k, int dimensions, double[] centroids, int[] assignments, double[] distances,
+                         int[] clusterSizes, double[] meanDistances, double[] distanceDeviations,
+                         double inertia, double totalSumOfSquares, int iterations, boolean converged,
+                         long processingTimeMs) {
+        this.k = k;
+        this.dimensions = dimensions;
+        this.centroids = centroids;
+        this.assignments = assignments;
+        this.distances = distances;
+        this.clusterSizes = clusterSizes;
+        this.meanDistances = meanDistances;
+        this.distanceDeviations = distanceDeviations;
+        this.inertia = inertia;
+        this.totalSumOfSquares = totalSumOfSquares;
+        this.iterations = iterations;
+        this.converged = converged;
+        this.processingTimeMs = processingTimeMs;
+    }
+
+    /**
+     * @param squaredDistances distância ao quadrado de cada ponto ao seu centroide (convertida para distância)
+     */
+    static KMeansResult of(double[] points, int dimensions, int k, double[] centroids, int[] assignments,
+                           double[] squaredDistances, int iterations, boolean converged, long processingTimeMs) {
+        int n = assignments.length;
+        int[] sizes = new int[k];
+        double[] distanceSums = new double[k];
+        double[] squaredSums = new double[k];
+        double[] mean = new double[dimensions];
+        double inertia = 0.0;
+
+        double[] distances = new double[n];
+        for (int i = 0; i < n; i++) {
+            int cluster = assignments[i];
+            double distance = Math.sqrt(squaredDistances[i]);
+            distances[i] = distance;
+            sizes[cluster]++;
+            distanceSums[cluster] += distance;
+            squaredSums[cluster] += squaredDistances[i];
+            inertia += squaredDistances[i];
+
+            int base = i * dimensions;
+            for (int j = 0; j < dimensions; j++) {
+                mean[j] += points[base + j];
+            }
+        }
+
+        for (int j = 0; j < dimensions; j++) {
+            mean[j] /= n;
+        }
+        double totalSumOfSquares = 0.0;
+        for (int i = 0; i < n; i++) {
+            int base = i * dimensions;
+            for (int j = 0; j < dimensions; j++) {
+                double delta = points[base + j] - mean[j];
+                totalSumOfSquares += delta * delta;
+            }
+        }
+
+        double[] meanDistances = new double[k];
+        double[] deviations = new double[k];
+        for (int c = 0; c < k; c++) {
+            if (sizes[c] > 0) {
+                meanDistances[c] = distanceSums[c] / sizes[c];
+                double variance = squaredSums[c] / sizes[c] - meanDistances[c] * meanDistances[c];
+                deviations[c] = Math.sqrt(Math.max(0.0, variance));
+            }
+        }
+
+        return new KMeansResult(k, dimensions, centroids.clone(), assignments, distances, sizes, meanDistances,
+                deviations, inertia, totalSumOfSquares, iterations, converged, processingTimeMs);
+    }
+
+    // Métricas
+    /**
+     * Coesão do cluster em (0, 1]: 1 quando todos os pontos coincidem com o centroide
+     */
+    public double getCohesionScore(int cluster) {
+        return 1.0 / (1.0 + meanDistances[cluster]);
+    }
+
+    /**
+     * Fração da variância total explicada pelos clusters (1 - inércia / soma total dos quadrados)
+     */
+    public double getExplainedVariance() {
+        return totalSumOfSquares == 0 ? 1.0 : Math.max(0.0, 1.0 - inertia / totalSumOfSquares);
+    }
+
+    /**
+     * Quantos desvios-padrão a distância do ponto está acima da média do seu cluster
+     */
+    public double getOutlierScore(int point) {
+        int cluster = assignments[point];
+        double deviation = distanceDeviations[cluster];
+        return deviation == 0 ? 0.0 : (distances[point] - meanDistances[cluster]) / deviation;
+    }
+
+    public double[] getCentroid(int cluster) {
+        double[] centroid = new double[dimensions];
+        System.arraycopy(centroids, cluster * dimensions, centroid, 0, dimensions);
+        return centroid;
+    }
+
+    // Getters
+    public int getK() {
+        return k;
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    public int getPointCount() {
+        return assignments.length;
+    }
+
+    public double[] getCentroids() {
+        return centroids;
+    }
+
+    public int getAssignment(int point) {
+        return assignments[point];
+    }
+
+    public int[] getAssignments() {
+        return assignments;
+    }
+
+    public double getDistance(int point) {
+        return distances[point];
+    }
+
+    public int getClusterSize(int cluster) {
+        return clusterSizes[cluster];
+    }
+
+    public double getMeanDistance(int cluster) {
+        return meanDistances[cluster];
+    }
+
+    public double getDistanceDeviation(int cluster) {
+        return distanceDeviations[cluster];
+    }
+
+    public double getInertia() {
+        return inertia;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public boolean isConverged() {
+        return converged;
+    }
+
+    public long getProcessingTimeMs() {
+        return processingTimeMs;
+    }
+}
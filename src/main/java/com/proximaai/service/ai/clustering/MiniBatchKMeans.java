@@ -0,0 +1,89 @@
+package com.proximaai.service.ai.clustering;
+
+/**
+ * Atualização incremental (mini-batch) de centroides já existentes com um lote de pontos novos ou alterados.
+ * Cada lote é atribuído aos centroides correntes e cada ponto puxa o seu centroide com taxa 1/contagem,
+ * de modo que centroides com muitas tarefas se movem pouco. Os centroides e contagens são alterados no lugar.
+ */
+public final class MiniBatchKMeans {
+
+    private MiniBatchKMeans() {}
+
+    /**
+     * @param centroids  centroides linha a linha (k x dimensions), atualizados no lugar
+     * @param counts     quantidade de pontos já absorvidos por centroide, atualizada no lugar
+     * @param points     pontos do lote, já padronizados, linha a linha
+     * @param batchSize  pontos por mini-batch
+     */
+    public static Update update(double[] centroids, long[] counts, double[] points, int dimensions, int batchSize) {
+        int k = counts.length;
+        int n = points.length / dimensions;
+        double[] previous = centroids.clone();
+        int[] assignments = new int[n];
+        double[] distances = new double[n];
+
+        for (int from = 0; from < n; from += batchSize) {
+            int to = Math.min(n, from + batchSize);
+            assign(centroids, k, points, dimensions, from, to, assignments, distances);
+
+            for (int i = from; i < to; i++) {
+                int c = assignments[i];
+                counts[c]++;
+                double rate = 1.0 / counts[c];
+                int base = i * dimensions;
+                int centroidBase = c * dimensions;
+                for (int j = 0; j < dimensions; j++) {
+                    centroids[centroidBase + j] += rate * (points[base + j] - centroids[centroidBase + j]);
+                }
+            }
+        }
+
+        // Distâncias finais em relação aos centroides já atualizados
+        assign(centroids, k, points, dimensions, 0, n, assignments, distances);
+        for (int i = 0; i < n; i++) {
+            distances[i] = Math.sqrt(distances[i]);
+        }
+
+        double[] drift = new double[k];
+        for (int c = 0; c < k; c++) {
+            double shift = 0.0;
+            for (int j = c * dimensions; j < (c + 1) * dimensions; j++) {
+                double delta = centroids[j] - previous[j];
+                shift += delta * delta;
+            }
+            drift[c] = Math.sqrt(shift);
+        }
+
+        return new Update(assignments, distances, drift);
+    }
+
+    private static void assign(double[] centroids, int k, double[] points, int dimensions, int from, int to,
+                               int[] assignments, double[] distances) {
+        for (int i = from; i < to; i++) {
+            int base = i * dimensions;
+            int best = 0;
+            double bestDistance = Double.MAX_VALUE;
+
+            for (int c = 0, centroidBase = 0; c < k; c++, centroidBase += dimensions) {
+                double distance = 0.0;
+                for (int j = 0; j < dimensions; j++) {
+                    double delta = points[base + j] - centroids[centroidBase + j];
+                    distance += delta * delta;
+                }
+                if (distance < bestDistance) {
+                    bestDistance = distance;
+                    best = c;
+                }
+            }
+
+            assignments[i] = best;
+            distances[i] = bestDistance;
+        }
+    }
+
+    /**
+     * Cluster e distância de cada ponto do lote e deslocamento (distância euclidiana) de cada centroide
+     */
+    public record Update(int[] assignments, double[] distances, double[] drift) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.proximaai.service.ai.clustering;
+
+import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.projection.TaskFeatureRow;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Converte tarefas em vetores numéricos para o K-means, gravando direto no array linha a linha
+ */
+public final class TaskFeatureVectors {
+
+    // Prazo e idade acima disso não diferenciam mais as tarefas
+    private static final long MAX_DAYS = 90;
+
+    public static final List<String> FEATURES = buildFeatureNames();
+    public static final int DIMENSIONS = FEATURES.size();
+
+    private TaskFeatureVectors() {}
+
+    public static double[] toPoints(List<TaskFeatureRow> rows, LocalDate today) {
+        double[] points = new double[rows.size() * DIMENSIONS];
+        for (int i = 0; i < rows.size(); i++) {
+            write(rows.get(i), today, points, i * DIMENSIONS);
+        }
+        return points;
+    }
+
+    public static void write(TaskFeatureRow row, LocalDate today, double[] target, int offset) {
+        target[offset] = row.priority() != null ? row.priority().ordinal() : Task.TaskPriority.MEDIUM.ordinal();
+        target[offset + 1] = progressOf(row.status());
+        target[offset + 2] = Math.log1p(valueOf(row.storyPoints()));
+        target[offset + 3] = Math.log1p(valueOf(row.estimatedHours()));
+        target[offset + 4] = Math.log1p(valueOf(row.actualHours()));
+        target[offset + 5] = row.dueDate() != null ? clampDays(ChronoUnit.DAYS.between(today, row.dueDate())) : MAX_DAYS;
+        target[offset + 6] = row.createdAt() != null ? clampDays(ChronoUnit.DAYS.between(row.createdAt().toLocalDate(), today)) : 0;
+
+        // Tipo em one-hot
+        Task.TaskType[] types = Task.TaskType.values();
+        for (int t = 0; t < types.length; t++) {
+            target[offset + 7 + t] = types[t] == row.type() ? 1.0 : 0.0;
+        }
+    }
+
+    private static double progressOf(Task.TaskStatus status) {
+        if (status == null) {
+            return 0.0;
+        }
+        return switch (status) {
+            case TODO, CANCELLED -> 0.0;
+            case IN_PROGRESS -> 0.4;
+            case IN_REVIEW -> 0.7;
+            case TESTING -> 0.8;
+            case DONE -> 1.0;
+        };
+    }
+
+    private static double valueOf(Integer value) {
+        return value != null ? Math.max(0, value) : 0.0;
+    }
+
+    private static double clampDays(long days) {
+        return Math.max(-MAX_DAYS, Math.min(MAX_DAYS, days));
+    }
+
+    private static List<String> buildFeatureNames() {
+        List<String> names = new ArrayList<>(List.of(
+                "priority", "progress", "storyPoints", "estimatedHours", "actualHours", "daysUntilDue", "ageDays"));
+        for (Task.TaskType type : Task.TaskType.values()) {
+            names.add("type:" + type.name());
+        }
+        return List.copyOf(names);
+    }
+}
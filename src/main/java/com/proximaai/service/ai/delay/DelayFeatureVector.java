@@ -0,0 +1,87 @@
+package com.proximaai.service.ai.delay;
+
+import com.proximaai.domain.entity.Task;
+
+/**
+ * Features de atraso de uma tarefa em doubles primitivos, na ordem de DelayRegressionService.FEATURES,
+ * mais a confiança derivada da completude dos dados da tarefa. Todos os valores ficam entre 0 e 1.
+ */
+public record DelayFeatureVector(
+        double complexityScore,
+        double teamExperienceScore,
+        double dependencyRiskScore,
+        double resourceAvailabilityScore,
+        double confidenceScore) {
+
+    public static final int DIMENSIONS = 4;
+
+    // Implementação simplificada - em produção viriam do histórico da equipe e da alocação real
+    private static final double DEFAULT_TEAM_EXPERIENCE = 0.7;
+    private static final double DEFAULT_RESOURCE_AVAILABILITY = 0.8;
+
+    /**
+     * Extrai as features lendo a tarefa uma única vez (as dependências devem estar carregadas)
+     */
+    public static DelayFeatureVector of(Task task) {
+        Integer estimatedHours = task.getEstimatedHours();
+        Task.TaskPriority priority = task.getPriority();
+        boolean hasDependencies = task.getDependencies() != null && !task.getDependencies().isEmpty();
+
+        return new DelayFeatureVector(
+                complexity(estimatedHours, priority),
+                DEFAULT_TEAM_EXPERIENCE,
+                hasDependencies ? 0.6 : 0.2,
+                DEFAULT_RESOURCE_AVAILABILITY,
+                confidence(estimatedHours != null, priority != null, hasDependencies));
+    }
+
+    /**
+     * Features na ordem do modelo de regressão, sem a confiança
+     */
+    public double[] toArray() {
+        return new double[] {complexityScore, teamExperienceScore, dependencyRiskScore, resourceAvailabilityScore};
+    }
+
+    /**
+     * Complexidade pela faixa de estimativa de horas mais o peso da prioridade, limitada a 1
+     */
+    private static double complexity(Integer estimatedHours, Task.TaskPriority priority) {
+        double score = 0.0;
+        if (estimatedHours != null) {
+            if (estimatedHours <= 8) {
+                score += 0.2;
+            } else if (estimatedHours <= 24) {
+                score += 0.5;
+            } else if (estimatedHours <= 40) {
+                score += 0.8;
+            } else {
+                score += 1.0;
+            }
+        }
+        if (priority != null) {
+            score += switch (priority) {
+                case HIGH -> 0.3;
+                case LOW -> 0.0;
+                default -> 0.1;
+            };
+        }
+        return Math.min(score, 1.0);
+    }
+
+    /**
+     * Confiança base de 0.8, maior quanto mais completos os dados da tarefa
+     */
+    private static double confidence(boolean hasEstimate, boolean hasPriority, boolean hasDependencies) {
+        double confidence = 0.8;
+        if (hasEstimate) {
+            confidence += 0.1;
+        }
+        if (hasPriority) {
+            confidence += 0.05;
+        }
+        if (hasDependencies) {
+            confidence += 0.05;
+        }
+        return Math.min(confidence, 1.0);
+    }
+}
@@ -0,0 +1,134 @@
+package com.proximaai.service.ai.delay;
+
+import com.proximaai.domain.entity.Task;
+import com.proximaai.domain.entity.TaskDependency;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Marca para repredição as tarefas cujas entradas do modelo de atraso mudaram: tarefas novas, alterações
+ * de estimativa, prazo, prioridade ou responsável e dependências criadas ou removidas. Os ids são coletados
+ * no flush e, somente após o commit, entram na {@link DelayRepredictionQueue}; rollbacks descartam o lote.
+ */
+@Component
+public class DelayRepredictionListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    // Propriedades de Task que alimentam a predição de atraso
+    private static final List<String> PREDICTION_PROPERTIES = List.of("estimatedHours", "dueDate", "priority", "assignee");
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DelayRepredictionQueue delayRepredictionQueue;
+
+    private int[] predictionPropertyIndexes;
+
+    @PostConstruct
+    public void registerListeners() {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        EntityPersister taskPersister = sessionFactory.getMappingMetamodel().getEntityDescriptor(Task.class);
+        predictionPropertyIndexes = PREDICTION_PROPERTIES.stream()
+                .mapToInt(taskPersister.getEntityMetamodel()::getPropertyIndex)
+                .toArray();
+
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Task task) {
+            stage(task.getId());
+        } else if (event.getEntity() instanceof TaskDependency dependency) {
+            stage(dependency.getDependentTask().getId());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof Task task && touchesPrediction(event.getDirtyProperties())) {
+            stage(task.getId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof TaskDependency dependency) {
+            stage(dependency.getDependentTask().getId());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * Sem a lista de propriedades sujas (update de entidade desanexada sem estado anterior) a tarefa é
+     * repredita por precaução
+     */
+    private boolean touchesPrediction(int[] dirtyProperties) {
+        if (dirtyProperties == null) {
+            return true;
+        }
+        for (int dirty : dirtyProperties) {
+            for (int index : predictionPropertyIndexes) {
+                if (dirty == index) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void stage(Long taskId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            delayRepredictionQueue.enqueue(Set.of(taskId));
+            return;
+        }
+
+        PendingTasks pending = (PendingTasks) TransactionSynchronizationManager.getResource(PendingTasks.class);
+        if (pending == null) {
+            pending = new PendingTasks();
+            TransactionSynchronizationManager.bindResource(PendingTasks.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.taskIds.add(taskId);
+    }
+
+    private class PendingTasks implements TransactionSynchronization {
+
+        private final Set<Long> taskIds = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            delayRepredictionQueue.enqueue(taskIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingTasks.class);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.proximaai.service.ai.delay;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fila em memória, sem repetições, das tarefas cujas entradas do modelo de atraso mudaram desde a última
+ * predição. Uma tarefa alterada várias vezes antes da drenagem é repredita uma única vez; a ordem de
+ * chegada é preservada. Ids ainda não drenados se perdem num restart.
+ */
+@Component
+public class DelayRepredictionQueue {
+
+    private final Set<Long> taskIds = new LinkedHashSet<>();
+
+    public synchronized void enqueue(Collection<Long> ids) {
+        taskIds.addAll(ids);
+    }
+
+    /**
+     * Remove e retorna até {@code maxSize} tarefas, as mais antigas primeiro
+     */
+    public synchronized List<Long> drain(int maxSize) {
+        List<Long> batch = new ArrayList<>(Math.min(maxSize, taskIds.size()));
+        Iterator<Long> iterator = taskIds.iterator();
+        while (iterator.hasNext() && batch.size() < maxSize) {
+            batch.add(iterator.next());
+            iterator.remove();
+        }
+        return batch;
+    }
+
+    public synchronized boolean contains(Long taskId) {
+        return taskIds.contains(taskId);
+    }
+
+    public synchronized int size() {
+        return taskIds.size();
+    }
+}
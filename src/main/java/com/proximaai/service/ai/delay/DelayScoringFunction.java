@@ -0,0 +1,73 @@
+package com.proximaai.service.ai.delay;
+
+/**
+ * Regressão ponderada de atraso compilada uma única vez: pesos das features e faixas do score ficam em
+ * arrays finais e cada predição é um produto escalar seguido de uma busca linear nas faixas, sem alocação.
+ */
+public final class DelayScoringFunction {
+
+    /**
+     * Regressão ponderada fixa: score até 0.3 sem atraso, até 0.5 um dia, até 0.7 três dias,
+     * até 0.85 cinco dias e acima disso sete dias
+     */
+    public static final DelayScoringFunction WEIGHTED = new DelayScoringFunction(
+            new double[] {0.4, 0.2, 0.25, 0.15},
+            new double[] {0.3, 0.5, 0.7, 0.85},
+            new int[] {0, 1, 3, 5, 7});
+
+    private final double[] weights;
+    private final double[] thresholds;
+    private final int[] delayDays;
+
+    /**
+     * @param weights     peso de cada feature, na ordem de {@link DelayFeatureVector#toArray()}
+     * @param thresholds  limites superiores (inclusivos) e crescentes das faixas do score
+     * @param delayDays   dias de atraso de cada faixa, um a mais que os limites (acima do último)
+     */
+    public DelayScoringFunction(double[] weights, double[] thresholds, int[] delayDays) {
+        if (weights.length != DelayFeatureVector.DIMENSIONS) {
+            throw new IllegalArgumentException("Esperados " + DelayFeatureVector.DIMENSIONS + " pesos");
+        }
+        if (delayDays.length != thresholds.length + 1) {
+            throw new IllegalArgumentException("Esperados " + (thresholds.length + 1) + " valores de atraso");
+        }
+        this.weights = weights.clone();
+        this.thresholds = thresholds.clone();
+        this.delayDays = delayDays.clone();
+    }
+
+    /**
+     * Score ponderado das features
+     */
+    public double score(DelayFeatureVector features) {
+        return weights[0] * features.complexityScore()
+                + weights[1] * features.teamExperienceScore()
+                + weights[2] * features.dependencyRiskScore()
+                + weights[3] * features.resourceAvailabilityScore();
+    }
+
+    /**
+     * Dias de atraso da faixa em que cai o score ponderado
+     */
+    public int predictDelayDays(DelayFeatureVector features) {
+        double score = score(features);
+        for (int i = 0; i < thresholds.length; i++) {
+            if (score <= thresholds[i]) {
+                return delayDays[i];
+            }
+        }
+        return delayDays[thresholds.length];
+    }
+
+    /**
+     * Dias de atraso pela regressão aprendida do projeto (intercepto primeiro), arredondados e nunca negativos
+     */
+    public static int predictDelayDays(double[] coefficients, DelayFeatureVector features) {
+        double delay = coefficients[0]
+                + coefficients[1] * features.complexityScore()
+                + coefficients[2] * features.teamExperienceScore()
+                + coefficients[3] * features.dependencyRiskScore()
+                + coefficients[4] * features.resourceAvailabilityScore();
+        return (int) Math.round(Math.max(0.0, delay));
+    }
+}
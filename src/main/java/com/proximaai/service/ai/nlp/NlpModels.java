@@ -0,0 +1,119 @@
+package com.proximaai.service.ai.nlp;
+
+import opennlp.tools.lemmatizer.DictionaryLemmatizer;
+import opennlp.tools.postag.POSModel;
+import opennlp.tools.sentdetect.SentenceModel;
+import opennlp.tools.tokenize.TokenizerModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * Modelos OpenNLP compartilhados entre threads. Os modelos são imutáveis e carregados uma única vez,
+ * no primeiro uso; já os SentenceDetectorME/TokenizerME/POSTaggerME criados a partir deles não são
+ * thread-safe e ficam um por thread em {@link TextProcessingService}.
+ * Modelos sem localização configurada ficam nulos e o pipeline usa os fallbacks.
+ */
+public class NlpModels {
+
+    private static final Logger log = LoggerFactory.getLogger(NlpModels.class);
+
+    private final ResourceLoader resourceLoader;
+    private final Locale locale;
+    private final String sentenceModelLocation;
+    private final String tokenizerModelLocation;
+    private final String posModelLocation;
+    private final String lemmaDictionaryLocation;
+
+    private volatile Loaded loaded;
+
+    public NlpModels(ResourceLoader resourceLoader, Locale locale, String sentenceModelLocation,
+                     String tokenizerModelLocation, String posModelLocation, String lemmaDictionaryLocation) {
+        this.resourceLoader = resourceLoader;
+        this.locale = locale;
+        this.sentenceModelLocation = sentenceModelLocation;
+        this.tokenizerModelLocation = tokenizerModelLocation;
+        this.posModelLocation = posModelLocation;
+        this.lemmaDictionaryLocation = lemmaDictionaryLocation;
+    }
+
+    public Locale getLocale() {
+        return locale;
+    }
+
+    public SentenceModel getSentenceModel() {
+        return load().sentenceModel;
+    }
+
+    public TokenizerModel getTokenizerModel() {
+        return load().tokenizerModel;
+    }
+
+    public POSModel getPosModel() {
+        return load().posModel;
+    }
+
+    /**
+     * Lematizador por dicionário (somente leitura após carregado, pode ser compartilhado); exige o modelo de POS
+     */
+    public DictionaryLemmatizer getLemmatizer() {
+        return load().lemmatizer;
+    }
+
+    private Loaded load() {
+        Loaded current = loaded;
+        if (current == null) {
+            synchronized (this) {
+                current = loaded;
+                if (current == null) {
+                    current = new Loaded();
+                    loaded = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private final class Loaded {
+
+        private final SentenceModel sentenceModel;
+        private final TokenizerModel tokenizerModel;
+        private final POSModel posModel;
+        private final DictionaryLemmatizer lemmatizer;
+
+        Loaded() {
+            long startTime = System.currentTimeMillis();
+            this.sentenceModel = read(sentenceModelLocation, SentenceModel::new);
+            this.tokenizerModel = read(tokenizerModelLocation, TokenizerModel::new);
+            this.posModel = read(posModelLocation, POSModel::new);
+            this.lemmatizer = posModel != null ? read(lemmaDictionaryLocation, DictionaryLemmatizer::new) : null;
+            log.info("Modelos de NLP carregados em {} ms (sentenças: {}, tokens: {}, POS: {}, lemas: {})",
+                    System.currentTimeMillis() - startTime, sentenceModel != null, tokenizerModel != null,
+                    posModel != null, lemmatizer != null);
+        }
+    }
+
+    private <T> T read(String location, ModelReader<T> reader) {
+        if (!StringUtils.hasText(location)) {
+            return null;
+        }
+        Resource resource = resourceLoader.getResource(location);
+        try (InputStream in = resource.getInputStream()) {
+            return reader.read(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao carregar o modelo de NLP " + location, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ModelReader<T> {
+        T read(InputStream in) throws IOException;
+    }
+}
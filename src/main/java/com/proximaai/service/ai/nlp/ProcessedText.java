@@ -0,0 +1,25 @@
+package com.proximaai.service.ai.nlp;
+
+import java.util.List;
+
+/**
+ * Resultado do pipeline de texto: sentenças, tokens e, quando os modelos estão configurados,
+ * classes gramaticais (POS) e lemas alinhados aos tokens (listas vazias caso contrário)
+ */
+public record ProcessedText(List<String> sentences, List<String> tokens, List<String> posTags, List<String> lemmas) {
+
+    public static final ProcessedText EMPTY = new ProcessedText(List.of(), List.of(), List.of(), List.of());
+
+    /**
+     * Quantidade de tokens que contêm ao menos uma letra ou dígito (ignora pontuação)
+     */
+    public int getWordCount() {
+        int words = 0;
+        for (String token : tokens) {
+            if (TextProcessingService.isWord(token)) {
+                words++;
+            }
+        }
+        return words;
+    }
+}
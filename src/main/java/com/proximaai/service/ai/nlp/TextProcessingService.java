@@ -0,0 +1,188 @@
+package com.proximaai.service.ai.nlp;
+
+import com.proximaai.domain.entity.Task;
+import com.proximaai.domain.entity.TaskComment;
+import com.proximaai.service.ai.ParallelChunks;
+import opennlp.tools.lemmatizer.DictionaryLemmatizer;
+import opennlp.tools.postag.POSTaggerME;
+import opennlp.tools.sentdetect.SentenceDetectorME;
+import opennlp.tools.tokenize.SimpleTokenizer;
+import opennlp.tools.tokenize.Tokenizer;
+import opennlp.tools.tokenize.TokenizerME;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.text.BreakIterator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+/**
+ * Pipeline de texto com OpenNLP (sentenças, tokens e, opcionalmente, POS e lemas) para comentários
+ * e descrições de tarefas. Os modelos são compartilhados; os detectores, tokenizadores e taggers,
+ * que não são thread-safe, ficam um por thread e são reaproveitados entre chamadas.
+ * Sem modelos configurados, usa BreakIterator para sentenças e SimpleTokenizer para tokens.
+ */
+@Service
+public class TextProcessingService {
+
+    // Textos por bloco no processamento em lote; lotes menores rodam na thread chamadora
+    private static final int BATCH_CHUNK_SIZE = 64;
+
+    // Lema devolvido pelo DictionaryLemmatizer para palavras fora do dicionário
+    private static final String UNKNOWN_LEMMA = "O";
+
+    @Autowired
+    private NlpModels nlpModels;
+
+    @Autowired
+    @Qualifier("aiTaskExecutor")
+    private Executor aiTaskExecutor;
+
+    private final ThreadLocal<Pipeline> pipelines = ThreadLocal.withInitial(() -> new Pipeline(nlpModels));
+
+    /**
+     * Processa um texto: sentenças, tokens de cada sentença e, se houver modelos, POS e lemas
+     */
+    public ProcessedText process(String text) {
+        if (text == null || text.isBlank()) {
+            return ProcessedText.EMPTY;
+        }
+        return pipelines.get().process(text);
+    }
+
+    /**
+     * Processa um lote de textos em paralelo no aiTaskExecutor; os resultados voltam na mesma ordem
+     */
+    public List<ProcessedText> processBatch(List<String> texts) {
+        String[] input = texts.toArray(new String[0]);
+        ProcessedText[] results = new ProcessedText[input.length];
+
+        ParallelChunks.run(input.length, BATCH_CHUNK_SIZE, aiTaskExecutor, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = process(input[i]);
+            }
+        });
+        return List.of(results);
+    }
+
+    /**
+     * Processa o conteúdo dos comentários em lote, indexado pelo id do comentário
+     */
+    public Map<Long, ProcessedText> processComments(List<TaskComment> comments) {
+        List<ProcessedText> results = processBatch(comments.stream().map(TaskComment::getContent).toList());
+        Map<Long, ProcessedText> byComment = new LinkedHashMap<>();
+        for (int i = 0; i < comments.size(); i++) {
+            byComment.put(comments.get(i).getId(), results.get(i));
+        }
+        return byComment;
+    }
+
+    /**
+     * Processa título e descrição da tarefa como um único texto
+     */
+    public ProcessedText processTask(Task task) {
+        String description = task.getDescription();
+        return process(description == null || description.isBlank() ? task.getTitle() : task.getTitle() + ".\n" + description);
+    }
+
+    public String[] tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return new String[0];
+        }
+        return pipelines.get().tokenizer.tokenize(text);
+    }
+
+    /**
+     * Quantidade de palavras do texto (tokens com ao menos uma letra ou dígito)
+     */
+    public int countWords(String text) {
+        int words = 0;
+        for (String token : tokenize(text)) {
+            if (isWord(token)) {
+                words++;
+            }
+        }
+        return words;
+    }
+
+    static boolean isWord(String token) {
+        for (int i = 0; i < token.length(); i++) {
+            if (Character.isLetterOrDigit(token.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Instâncias de uma thread: criadas na primeira chamada da thread a partir dos modelos compartilhados
+     */
+    private static final class Pipeline {
+
+        private final SentenceDetectorME sentenceDetector;
+        private final BreakIterator sentenceIterator;
+        private final Tokenizer tokenizer;
+        private final POSTaggerME posTagger;
+        private final DictionaryLemmatizer lemmatizer;
+        private final NlpModels models;
+
+        Pipeline(NlpModels models) {
+            this.models = models;
+            this.sentenceDetector = models.getSentenceModel() != null ? new SentenceDetectorME(models.getSentenceModel()) : null;
+            this.sentenceIterator = sentenceDetector == null ? BreakIterator.getSentenceInstance(models.getLocale()) : null;
+            this.tokenizer = models.getTokenizerModel() != null ? new TokenizerME(models.getTokenizerModel()) : SimpleTokenizer.INSTANCE;
+            this.posTagger = models.getPosModel() != null ? new POSTaggerME(models.getPosModel()) : null;
+            this.lemmatizer = models.getLemmatizer();
+        }
+
+        ProcessedText process(String text) {
+            List<String> sentences = detectSentences(text);
+            List<String> tokens = new ArrayList<>();
+            List<String> posTags = posTagger != null ? new ArrayList<>() : List.of();
+            List<String> lemmas = lemmatizer != null ? new ArrayList<>() : List.of();
+
+            for (String sentence : sentences) {
+                String[] sentenceTokens = tokenizer.tokenize(sentence);
+                tokens.addAll(Arrays.asList(sentenceTokens));
+                if (posTagger == null) {
+                    continue;
+                }
+
+                String[] tags = posTagger.tag(sentenceTokens);
+                posTags.addAll(Arrays.asList(tags));
+                if (lemmatizer != null) {
+                    String[] sentenceLemmas = lemmatizer.lemmatize(sentenceTokens, tags);
+                    for (int i = 0; i < sentenceLemmas.length; i++) {
+                        lemmas.add(UNKNOWN_LEMMA.equals(sentenceLemmas[i])
+                                ? sentenceTokens[i].toLowerCase(models.getLocale())
+                                : sentenceLemmas[i]);
+                    }
+                }
+            }
+
+            return new ProcessedText(sentences, tokens, posTags, lemmas);
+        }
+
+        private List<String> detectSentences(String text) {
+            if (sentenceDetector != null) {
+                return Arrays.asList(sentenceDetector.sentDetect(text));
+            }
+
+            List<String> sentences = new ArrayList<>();
+            sentenceIterator.setText(text);
+            int start = sentenceIterator.first();
+            for (int end = sentenceIterator.next(); end != BreakIterator.DONE; start = end, end = sentenceIterator.next()) {
+                String sentence = text.substring(start, end).strip();
+                if (!sentence.isEmpty()) {
+                    sentences.add(sentence);
+                }
+            }
+            return sentences;
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package com.proximaai.service.ai.regression;
+
+import java.util.Arrays;
+
+/**
+ * Estatísticas suficientes de uma regressão linear múltipla com intercepto (XᵀX, Xᵀy, yᵀy e pesos).
+ * Cada observação é somada em O(p²) sem guardar o histórico; os coeficientes saem de um sistema p×p
+ * (ridge nos coeficientes das features, não no intercepto), resolvido por Cholesky.
+ * O decaimento multiplica tudo por um fator, dando menos peso às observações antigas.
+ */
+public final class RegressionStatistics {
+
+    private final int dimensions; // features + intercepto
+    private final double[] xtx;
+    private final double[] xty;
+    private double yty;
+    private double weight;
+    private long count;
+
+    public RegressionStatistics(int features) {
+        this.dimensions = features + 1;
+        this.xtx = new double[dimensions * dimensions];
+        this.xty = new double[dimensions];
+    }
+
+    /**
+     * Restaura estatísticas persistidas; arrays nulos (estado vazio) viram zeros
+     */
+    public static RegressionStatistics restore(int features, double[] xtx, double[] xty, double yty, double weight, long count) {
+        RegressionStatistics stats = new RegressionStatistics(features);
+        if (xtx != null && xty != null) {
+            if (xtx.length != stats.xtx.length || xty.length != stats.xty.length) {
+                throw new IllegalArgumentException("Estatísticas com dimensão diferente de " + features + " features");
+            }
+            System.arraycopy(xtx, 0, stats.xtx, 0, xtx.length);
+            System.arraycopy(xty, 0, stats.xty, 0, xty.length);
+        }
+        stats.yty = yty;
+        stats.weight = weight;
+        stats.count = count;
+        return stats;
+    }
+
+    public void add(double[] features, double target) {
+        accumulate(features, target, 1.0);
+        count++;
+    }
+
+    /**
+     * Desfaz uma observação somada antes (ex.: atraso real corrigido)
+     */
+    public void remove(double[] features, double target) {
+        accumulate(features, target, -1.0);
+        count = Math.max(0, count - 1);
+    }
+
+    private void accumulate(double[] features, double target, double sign) {
+        if (features.length != dimensions - 1) {
+            throw new IllegalArgumentException("Esperadas " + (dimensions - 1) + " features, recebidas " + features.length);
+        }
+        for (int i = 0; i < dimensions; i++) {
+            double xi = i == 0 ? 1.0 : features[i - 1];
+            xty[i] += sign * xi * target;
+            for (int j = i; j < dimensions; j++) {
+                double xj = j == 0 ? 1.0 : features[j - 1];
+                xtx[i * dimensions + j] += sign * xi * xj;
+            }
+        }
+        yty += sign * target * target;
+        weight += sign;
+    }
+
+    public void decay(double factor) {
+        for (int i = 0; i < xtx.length; i++) {
+            xtx[i] *= factor;
+        }
+        for (int i = 0; i < xty.length; i++) {
+            xty[i] *= factor;
+        }
+        yty *= factor;
+        weight *= factor;
+    }
+
+    /**
+     * Coeficientes [intercepto, β₁..βₚ] por mínimos quadrados com ridge; null se o sistema não tem solução
+     */
+    public double[] solve(double ridge) {
+        int n = dimensions;
+        double[] a = new double[n * n];
+        for (int i = 0; i < n; i++) {
+            for (int j = i; j < n; j++) {
+                a[i * n + j] = xtx[i * n + j];
+                a[j * n + i] = xtx[i * n + j];
+            }
+            if (i > 0) {
+                a[i * n + i] += ridge;
+            }
+        }
+
+        // Cholesky: a = L·Lᵀ, com L no triângulo inferior de a
+        for (int j = 0; j < n; j++) {
+            double diagonal = a[j * n + j];
+            for (int k = 0; k < j; k++) {
+                diagonal -= a[j * n + k] * a[j * n + k];
+            }
+            if (diagonal <= 1e-12) {
+                return null;
+            }
+            double pivot = Math.sqrt(diagonal);
+            a[j * n + j] = pivot;
+            for (int i = j + 1; i < n; i++) {
+                double sum = a[i * n + j];
+                for (int k = 0; k < j; k++) {
+                    sum -= a[i * n + k] * a[j * n + k];
+                }
+                a[i * n + j] = sum / pivot;
+            }
+        }
+
+        double[] beta = Arrays.copyOf(xty, n);
+        for (int i = 0; i < n; i++) {
+            for (int k = 0; k < i; k++) {
+                beta[i] -= a[i * n + k] * beta[k];
+            }
+            beta[i] /= a[i * n + i];
+        }
+        for (int i = n - 1; i >= 0; i--) {
+            for (int k = i + 1; k < n; k++) {
+                beta[i] -= a[k * n + i] * beta[k];
+            }
+            beta[i] /= a[i * n + i];
+        }
+        return beta;
+    }
+
+    /**
+     * Variância residual dos coeficientes informados, a partir das estatísticas (sem reler as observações)
+     */
+    public double residualVariance(double[] coefficients) {
+        if (weight <= dimensions) {
+            return Double.NaN;
+        }
+        // SSE = yᵀy - 2βᵀXᵀy + βᵀXᵀXβ
+        double sse = yty;
+        for (int i = 0; i < dimensions; i++) {
+            sse -= 2 * coefficients[i] * xty[i];
+            for (int j = 0; j < dimensions; j++) {
+                double value = i <= j ? xtx[i * dimensions + j] : xtx[j * dimensions + i];
+                sse += coefficients[i] * value * coefficients[j];
+            }
+        }
+        return Math.max(0.0, sse / (weight - dimensions));
+    }
+
+    public static double predict(double[] coefficients, double[] features) {
+        double prediction = coefficients[0];
+        for (int i = 0; i < features.length; i++) {
+            prediction += coefficients[i + 1] * features[i];
+        }
+        return prediction;
+    }
+
+    // Getters (cópias dos arrays, para persistir)
+    public double[] getXtx() {
+        return xtx.clone();
+    }
+
+    public double[] getXty() {
+        return xty.clone();
+    }
+
+    public double getYty() {
+        return yty;
+    }
+
+    public double getWeight() {
+        return weight;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,251 @@
+package com.proximaai.service.ai.sentiment;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Léxico de sentimento compilado: as palavras (em minúsculas e sem acentos) ficam em uma tabela hash de
+ * endereçamento aberto sobre um único char[], consultada direto sobre o texto durante a varredura.
+ * Nenhuma String é criada por palavra. Imutável e seguro para uso concorrente.
+ */
+public final class SentimentLexicon {
+
+    private static final String RESOURCE_PATTERN = "sentiment/lexicon-%s.txt";
+
+    // Letras até Latin Extended-A já em minúsculas e sem diacríticos (0 para o que não é letra),
+    // para testar e normalizar cada caractere com uma única consulta; acima disso, Character
+    private static final char[] FOLDED = buildFoldTable('ſ');
+
+    private final char[] chars;
+    private final int[] offsets;
+    private final int[] lengths;
+    private final int[] hashes;
+    private final int[] weights;
+    private final int[] slots; // índice da palavra + 1; 0 = vazio
+    private final int mask;
+    private final int maxLength;
+    private final int maxAbsWeight;
+
+    private SentimentLexicon(Map<String, Integer> words) {
+        int size = words.size();
+        this.offsets = new int[size];
+        this.lengths = new int[size];
+        this.hashes = new int[size];
+        this.weights = new int[size];
+
+        int capacity = Integer.highestOneBit(Math.max(4, size * 2) - 1) << 1;
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+
+        StringBuilder pool = new StringBuilder();
+        int longest = 0;
+        int strongest = 1;
+        int index = 0;
+        for (Map.Entry<String, Integer> entry : words.entrySet()) {
+            String word = entry.getKey();
+            offsets[index] = pool.length();
+            lengths[index] = word.length();
+            hashes[index] = hash(word, 0, word.length());
+            weights[index] = entry.getValue();
+            pool.append(word);
+            longest = Math.max(longest, word.length());
+            strongest = Math.max(strongest, Math.abs(entry.getValue()));
+
+            int slot = spread(hashes[index]) & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = index + 1;
+            index++;
+        }
+
+        this.chars = pool.toString().toCharArray();
+        this.maxLength = longest;
+        this.maxAbsWeight = strongest;
+    }
+
+    /**
+     * Carrega e compila o léxico de uma língua (sentiment/lexicon-{língua}.txt no classpath)
+     */
+    public static SentimentLexicon load(String language) {
+        Map<String, Integer> words = new LinkedHashMap<>();
+        String resource = String.format(RESOURCE_PATTERN, language);
+        try (InputStream in = SentimentLexicon.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Léxico de sentimento não encontrado: " + resource);
+            }
+            readLexicon(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), words);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler o léxico " + resource, e);
+        }
+        return new SentimentLexicon(words);
+    }
+
+    /**
+     * Compila um léxico a partir de palavras e pesos (palavras são normalizadas como o texto analisado)
+     */
+    public static SentimentLexicon of(Map<String, Integer> weightsByWord) {
+        Map<String, Integer> words = new LinkedHashMap<>();
+        weightsByWord.forEach((word, weight) -> {
+            if (weight != 0) {
+                words.put(fold(word), weight);
+            }
+        });
+        return new SentimentLexicon(words);
+    }
+
+    private static void readLexicon(BufferedReader reader, Map<String, Integer> words) throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            line = line.strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int separator = line.lastIndexOf(' ');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Linha inválida no léxico de sentimento: " + line);
+            }
+            int weight = Integer.parseInt(line.substring(separator + 1));
+            if (weight != 0) {
+                words.put(fold(line.substring(0, separator).strip()), weight);
+            }
+        }
+    }
+
+    /**
+     * Score do texto entre -1 e 1: soma dos pesos das palavras encontradas dividida pelo máximo possível
+     * para essa quantidade de palavras. Retorna 0 quando nenhuma palavra do léxico aparece.
+     * Palavras são sequências de letras Unicode; todo o resto separa palavras.
+     */
+    public double score(CharSequence text) {
+        return toScore(scan(text));
+    }
+
+    /**
+     * Soma dos pesos (32 bits altos) e quantidade de palavras do léxico encontradas (32 bits baixos),
+     * para comparar léxicos sobre o mesmo texto sem alocar
+     */
+    long scan(CharSequence text) {
+        int total = 0;
+        int matches = 0;
+        int length = text.length();
+        int i = 0;
+
+        while (i < length) {
+            char folded = fold(text.charAt(i));
+            if (folded == 0) {
+                i++;
+                continue;
+            }
+
+            int start = i;
+            int hash = 0;
+            do {
+                hash = 31 * hash + folded;
+                if (++i == length) {
+                    break;
+                }
+                folded = fold(text.charAt(i));
+            } while (folded != 0);
+
+            int wordLength = i - start;
+            if (wordLength <= maxLength) {
+                int weight = lookup(text, start, wordLength, hash);
+                if (weight != 0) {
+                    total += weight;
+                    matches++;
+                }
+            }
+        }
+        return ((long) total << 32) | matches;
+    }
+
+    static int matches(long scan) {
+        return (int) scan;
+    }
+
+    double toScore(long scan) {
+        int matches = matches(scan);
+        if (matches == 0) {
+            return 0.0;
+        }
+        int total = (int) (scan >> 32);
+        double normalized = (double) total / ((double) matches * maxAbsWeight);
+        return Math.max(-1.0, Math.min(1.0, normalized));
+    }
+
+    public int size() {
+        return weights.length;
+    }
+
+    private int lookup(CharSequence text, int start, int length, int hash) {
+        int slot = spread(hash) & mask;
+        int entry;
+        while ((entry = slots[slot]) != 0) {
+            int word = entry - 1;
+            if (hashes[word] == hash && lengths[word] == length && matches(word, text, start, length)) {
+                return weights[word];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return 0;
+    }
+
+    private boolean matches(int word, CharSequence text, int start, int length) {
+        int offset = offsets[word];
+        for (int j = 0; j < length; j++) {
+            if (chars[offset + j] != fold(text.charAt(start + j))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(CharSequence word, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + word.charAt(i);
+        }
+        return hash;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Letra em minúsculas e sem acento; 0 quando o caractere não é letra
+     */
+    private static char fold(char c) {
+        if (c < FOLDED.length) {
+            return FOLDED[c];
+        }
+        return Character.isLetter(c) ? Character.toLowerCase(c) : 0;
+    }
+
+    private static String fold(String word) {
+        char[] folded = word.toCharArray();
+        for (int i = 0; i < folded.length; i++) {
+            folded[i] = fold(folded[i]);
+        }
+        return new String(folded);
+    }
+
+    private static char[] buildFoldTable(char last) {
+        char[] table = new char[last + 1];
+        for (char c = 0; c <= last; c++) {
+            if (Character.isLetter(c)) {
+                String decomposed = Normalizer.normalize(String.valueOf(c), Normalizer.Form.NFD);
+                table[c] = Character.toLowerCase(decomposed.charAt(0));
+            }
+        }
+        return table;
+    }
+}
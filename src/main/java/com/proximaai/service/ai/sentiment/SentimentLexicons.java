@@ -0,0 +1,71 @@
+package com.proximaai.service.ai.sentiment;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Léxicos de sentimento por língua, cada um compilado separadamente: uma palavra com polaridades opostas
+ * em duas línguas mantém o peso de cada uma. Texto sem língua informada é pontuado com o léxico que
+ * reconhece mais palavras dele; no empate, vale a primeira língua configurada. Imutável.
+ */
+public final class SentimentLexicons {
+
+    private final Map<String, SentimentLexicon> byLanguage;
+    private final SentimentLexicon[] ordered;
+
+    private SentimentLexicons(Map<String, SentimentLexicon> byLanguage) {
+        if (byLanguage.isEmpty()) {
+            throw new IllegalArgumentException("Nenhuma língua configurada para o léxico de sentimento");
+        }
+        this.byLanguage = byLanguage;
+        this.ordered = byLanguage.values().toArray(new SentimentLexicon[0]);
+    }
+
+    /**
+     * Carrega e compila o léxico de cada língua informada, na ordem da lista
+     */
+    public static SentimentLexicons load(List<String> languages) {
+        Map<String, SentimentLexicon> byLanguage = new LinkedHashMap<>();
+        for (String language : languages) {
+            byLanguage.put(language, SentimentLexicon.load(language));
+        }
+        return new SentimentLexicons(byLanguage);
+    }
+
+    public SentimentLexicon get(String language) {
+        SentimentLexicon lexicon = byLanguage.get(language);
+        if (lexicon == null) {
+            throw new IllegalArgumentException("Língua sem léxico de sentimento: " + language);
+        }
+        return lexicon;
+    }
+
+    public Set<String> languages() {
+        return byLanguage.keySet();
+    }
+
+    /**
+     * Score do texto com o léxico da língua informada
+     */
+    public double score(CharSequence text, String language) {
+        return get(language).score(text);
+    }
+
+    /**
+     * Score do texto com o léxico que encontra mais palavras nele
+     */
+    public double score(CharSequence text) {
+        SentimentLexicon best = ordered[0];
+        long bestScan = best.scan(text);
+        for (int i = 1; i < ordered.length; i++) {
+            long scan = ordered[i].scan(text);
+            if (SentimentLexicon.matches(scan) > SentimentLexicon.matches(bestScan)) {
+                best = ordered[i];
+                bestScan = scan;
+            }
+        }
+        return best.toScore(bestScan);
+    }
+}
@@ -0,0 +1,30 @@
+package com.proximaai.service.ai.similarity;
+
+/**
+ * Produtos escalares de um vetor de consulta contra um bloco de linhas guardadas por coluna
+ * (o valor da linha r na dimensão d fica em columns[d * stride + r]).
+ */
+public interface DotProductKernel {
+
+    /**
+     * out[i] = Σ_d query[d] · columns[d * stride + from + i], para i em [0, length)
+     */
+    void dot(float[] columns, int stride, int from, int length, float[] query, float[] out);
+
+    /**
+     * Kernel escalar; o laço interno percorre linhas contíguas e o JIT costuma vetorizá-lo sozinho
+     */
+    DotProductKernel SCALAR = (columns, stride, from, length, query, out) -> {
+        java.util.Arrays.fill(out, 0, length, 0f);
+        for (int d = 0; d < query.length; d++) {
+            float weight = query[d];
+            if (weight == 0f) {
+                continue;
+            }
+            int offset = d * stride + from;
+            for (int i = 0; i < length; i++) {
+                out[i] += weight * columns[offset + i];
+            }
+        }
+    };
+}
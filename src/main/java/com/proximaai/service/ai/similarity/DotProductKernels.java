@@ -0,0 +1,32 @@
+package com.proximaai.service.ai.similarity;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Escolhe o kernel de produtos escalares: SIMD quando habilitado e disponível, senão o escalar. O kernel SIMD
+ * só existe em builds com o perfil Maven {@code vector} e exige a JVM com --add-modules jdk.incubator.vector
+ */
+public final class DotProductKernels {
+
+    private static final Logger log = LoggerFactory.getLogger(DotProductKernels.class);
+
+    private static final String VECTOR_KERNEL = "com.proximaai.service.ai.similarity.VectorDotProductKernel";
+
+    private DotProductKernels() {}
+
+    public static DotProductKernel select(boolean simdEnabled) {
+        if (!simdEnabled) {
+            return DotProductKernel.SCALAR;
+        }
+        try {
+            DotProductKernel kernel = (DotProductKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+            log.info("Similaridade de perfis com kernel {}", kernel);
+            return kernel;
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Build sem o perfil vector, ou módulo jdk.incubator.vector não adicionado à JVM
+            log.info("Vector API indisponível, similaridade de perfis com kernel escalar: {}", e.toString());
+            return DotProductKernel.SCALAR;
+        }
+    }
+}
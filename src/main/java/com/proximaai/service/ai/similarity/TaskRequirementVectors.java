@@ -0,0 +1,50 @@
+package com.proximaai.service.ai.similarity;
+
+import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.projection.UserTaskProfileRow;
+
+/**
+ * Vetor de requisitos de uma tarefa (tipo e prioridade em one-hot, mais a complexidade em story points)
+ * e o perfil de um usuário no mesmo espaço: a soma dos vetores das tarefas que ele concluiu.
+ */
+public final class TaskRequirementVectors {
+
+    private static final Task.TaskType[] TYPES = Task.TaskType.values();
+    private static final Task.TaskPriority[] PRIORITIES = Task.TaskPriority.values();
+
+    // Story points a partir dos quais a tarefa conta como complexidade máxima
+    public static final int MAX_STORY_POINTS = 13;
+
+    public static final int DIMENSIONS = TYPES.length + PRIORITIES.length + 1;
+
+    private static final int COMPLEXITY = DIMENSIONS - 1;
+
+    private TaskRequirementVectors() {}
+
+    public static double[] of(Task task) {
+        double[] vector = new double[DIMENSIONS];
+        add(vector, task.getType(), task.getPriority(), 1, complexity(task.getStoryPoints()));
+        return vector;
+    }
+
+    /**
+     * Soma ao perfil um grupo de tarefas concluídas com o mesmo tipo e prioridade
+     */
+    public static void addToProfile(double[] profile, UserTaskProfileRow row) {
+        add(profile, row.type(), row.priority(), row.taskCount(), row.complexitySum() != null ? row.complexitySum() : 0.0);
+    }
+
+    private static void add(double[] vector, Task.TaskType type, Task.TaskPriority priority, double count, double complexity) {
+        if (type != null) {
+            vector[type.ordinal()] += count;
+        }
+        if (priority != null) {
+            vector[TYPES.length + priority.ordinal()] += count;
+        }
+        vector[COMPLEXITY] += complexity;
+    }
+
+    private static double complexity(Integer storyPoints) {
+        return storyPoints == null ? 0.0 : (double) Math.min(storyPoints, MAX_STORY_POINTS) / MAX_STORY_POINTS;
+    }
+}
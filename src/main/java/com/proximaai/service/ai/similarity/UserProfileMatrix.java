@@ -0,0 +1,257 @@
+package com.proximaai.service.ai.similarity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Matriz de perfis de usuários em float, com cada linha já normalizada (norma 1), para similaridade
+ * de cosseno em lote. Os valores ficam por coluna (todas as linhas de uma dimensão contíguas), de modo
+ * que um bloco de usuários é pontuado com laços sequenciais e o bloco é reaproveitado para todas as
+ * consultas antes de passar ao próximo. Linhas são incluídas, trocadas e removidas individualmente.
+ * Seguro para uso concorrente: consultas compartilham a leitura e alterações são exclusivas.
+ */
+public final class UserProfileMatrix {
+
+    // Usuários pontuados por vez: o bloco de cada coluna e os scores cabem em cache
+    private static final int BLOCK_SIZE = 1024;
+    private static final int INITIAL_CAPACITY = 256;
+
+    private final int dimensions;
+    private final DotProductKernel kernel;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> rowByUser = new HashMap<>();
+
+    private float[] columns;
+    private long[] userIds;
+    private int capacity;
+    private int size;
+
+    public record Match(long userId, double score) {}
+
+    public UserProfileMatrix(int dimensions, DotProductKernel kernel) {
+        this.dimensions = dimensions;
+        this.kernel = kernel;
+        this.capacity = INITIAL_CAPACITY;
+        this.columns = new float[dimensions * capacity];
+        this.userIds = new long[capacity];
+    }
+
+    public int getDimensions() {
+        return dimensions;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inclui ou substitui o perfil do usuário; perfis nulos ou sem nenhum valor removem a linha
+     */
+    public void put(long userId, double[] profile) {
+        float[] normalized = normalize(profile);
+        if (normalized == null) {
+            remove(userId);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByUser.get(userId);
+            if (row == null) {
+                if (size == capacity) {
+                    grow();
+                }
+                row = size++;
+                rowByUser.put(userId, row);
+                userIds[row] = userId;
+            }
+            for (int d = 0; d < dimensions; d++) {
+                columns[d * capacity + row] = normalized[d];
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove o perfil do usuário, movendo a última linha para o lugar dele
+     */
+    public boolean remove(long userId) {
+        lock.writeLock().lock();
+        try {
+            Integer row = rowByUser.remove(userId);
+            if (row == null) {
+                return false;
+            }
+            int last = --size;
+            if (row != last) {
+                for (int d = 0; d < dimensions; d++) {
+                    columns[d * capacity + row] = columns[d * capacity + last];
+                }
+                userIds[row] = userIds[last];
+                rowByUser.put(userIds[row], row);
+            }
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Os k usuários mais similares ao vetor de requisitos, do maior para o menor score
+     */
+    public List<Match> topK(double[] requirements, int k) {
+        return topK(List.of(requirements), k).get(0);
+    }
+
+    /**
+     * Os k usuários mais similares a cada vetor de requisitos, na ordem dos vetores.
+     * Vetores sem nenhum valor não têm similares (lista vazia).
+     */
+    public List<List<Match>> topK(List<double[]> requirements, int k) {
+        int queryCount = requirements.size();
+        float[][] queries = new float[queryCount][];
+        TopK[] results = new TopK[queryCount];
+        for (int q = 0; q < queryCount; q++) {
+            queries[q] = normalize(requirements.get(q));
+            results[q] = new TopK(Math.max(0, k));
+        }
+
+        lock.readLock().lock();
+        try {
+            float[] scores = new float[BLOCK_SIZE];
+            for (int from = 0; from < size; from += BLOCK_SIZE) {
+                int length = Math.min(BLOCK_SIZE, size - from);
+                for (int q = 0; q < queryCount; q++) {
+                    if (queries[q] == null || k <= 0) {
+                        continue;
+                    }
+                    kernel.dot(columns, capacity, from, length, queries[q], scores);
+                    TopK result = results[q];
+                    for (int i = 0; i < length; i++) {
+                        result.offer(scores[i], from + i);
+                    }
+                }
+            }
+
+            List<List<Match>> matches = new ArrayList<>(queryCount);
+            for (TopK result : results) {
+                matches.add(result.toMatches(userIds));
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private float[] normalize(double[] vector) {
+        if (vector == null) {
+            return null;
+        }
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("Esperadas " + dimensions + " dimensões, recebidas " + vector.length);
+        }
+        double norm = 0.0;
+        for (double value : vector) {
+            norm += value * value;
+        }
+        if (norm == 0.0 || !Double.isFinite(norm)) {
+            return null;
+        }
+        double scale = 1.0 / Math.sqrt(norm);
+        float[] normalized = new float[dimensions];
+        for (int d = 0; d < dimensions; d++) {
+            normalized[d] = (float) (vector[d] * scale);
+        }
+        return normalized;
+    }
+
+    private void grow() {
+        int newCapacity = capacity * 2;
+        float[] newColumns = new float[dimensions * newCapacity];
+        for (int d = 0; d < dimensions; d++) {
+            System.arraycopy(columns, d * capacity, newColumns, d * newCapacity, size);
+        }
+        columns = newColumns;
+        userIds = Arrays.copyOf(userIds, newCapacity);
+        capacity = newCapacity;
+    }
+
+    /**
+     * Min-heap das k maiores pontuações; a raiz é o menor score ainda aceito
+     */
+    private static final class TopK {
+
+        private final float[] scores;
+        private final int[] rows;
+        private int count;
+
+        TopK(int k) {
+            this.scores = new float[k];
+            this.rows = new int[k];
+        }
+
+        void offer(float score, int row) {
+            if (count < scores.length) {
+                int i = count++;
+                while (i > 0) {
+                    int parent = (i - 1) >>> 1;
+                    if (scores[parent] <= score) {
+                        break;
+                    }
+                    scores[i] = scores[parent];
+                    rows[i] = rows[parent];
+                    i = parent;
+                }
+                scores[i] = score;
+                rows[i] = row;
+            } else if (count > 0 && score > scores[0]) {
+                siftDown(score, row);
+            }
+        }
+
+        private void siftDown(float score, int row) {
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= count) {
+                    break;
+                }
+                if (child + 1 < count && scores[child + 1] < scores[child]) {
+                    child++;
+                }
+                if (scores[child] >= score) {
+                    break;
+                }
+                scores[i] = scores[child];
+                rows[i] = rows[child];
+                i = child;
+            }
+            scores[i] = score;
+            rows[i] = row;
+        }
+
+        List<Match> toMatches(long[] userIds) {
+            Integer[] order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, (a, b) -> Float.compare(scores[b], scores[a]));
+
+            List<Match> matches = new ArrayList<>(count);
+            for (int i : order) {
+                matches.add(new Match(userIds[rows[i]], Math.max(0.0, Math.min(1.0, scores[i]))));
+            }
+            return matches;
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.proximaai.service.ai.timeseries;
+
+/**
+ * Série temporal com as últimas observações em um buffer circular de capacidade fixa (arrays primitivos)
+ * e dois modelos incrementais sobre todas as observações: média móvel exponencial (EWMA) e Holt
+ * (nível + tendência linear). Incluir uma observação e consultar os modelos custam O(1).
+ * Não é thread-safe: o {@link TimeSeriesStore} serializa o acesso por chave.
+ */
+public final class TimeSeries {
+
+    private final double[] values;
+    private final long[] timestamps;
+    private final double ewmaAlpha;
+    private final double holtAlpha;
+    private final double holtBeta;
+
+    private int head; // Posição da próxima escrita
+    private int size;
+    private long count;
+    private double ewma;
+    private double level;
+    private double trend;
+
+    public TimeSeries(int capacity, double ewmaAlpha, double holtAlpha, double holtBeta) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity deve ser positiva: " + capacity);
+        }
+        checkSmoothing("ewmaAlpha", ewmaAlpha);
+        checkSmoothing("holtAlpha", holtAlpha);
+        checkSmoothing("holtBeta", holtBeta);
+        this.values = new double[capacity];
+        this.timestamps = new long[capacity];
+        this.ewmaAlpha = ewmaAlpha;
+        this.holtAlpha = holtAlpha;
+        this.holtBeta = holtBeta;
+    }
+
+    /**
+     * Restaura uma série persistida; com capacidade menor que a gravada, ficam as observações mais recentes
+     */
+    public static TimeSeries restore(int capacity, double ewmaAlpha, double holtAlpha, double holtBeta,
+                                     double[] values, long[] timestamps, long count, double ewma, double level, double trend) {
+        TimeSeries series = new TimeSeries(capacity, ewmaAlpha, holtAlpha, holtBeta);
+        int from = Math.max(0, values.length - capacity);
+        for (int i = from; i < values.length; i++) {
+            series.push(timestamps[i], values[i]);
+        }
+        series.count = count;
+        series.ewma = ewma;
+        series.level = level;
+        series.trend = trend;
+        return series;
+    }
+
+    public void add(long timestamp, double value) {
+        if (!Double.isFinite(value)) {
+            throw new IllegalArgumentException("Valor inválido: " + value);
+        }
+        push(timestamp, value);
+        count++;
+
+        if (count == 1) {
+            ewma = value;
+            level = value;
+            trend = 0.0;
+        } else {
+            ewma += ewmaAlpha * (value - ewma);
+            if (count == 2) {
+                trend = value - level;
+                level = value;
+            } else {
+                double previousLevel = level;
+                level = holtAlpha * value + (1.0 - holtAlpha) * (level + trend);
+                trend = holtBeta * (level - previousLevel) + (1.0 - holtBeta) * trend;
+            }
+        }
+    }
+
+    /**
+     * Previsão de Holt para daqui a {@code steps} observações
+     */
+    public double forecast(int steps) {
+        return level + steps * trend;
+    }
+
+    /**
+     * i-ésima observação guardada em ordem cronológica (0 é a mais antiga)
+     */
+    public double get(int i) {
+        return values[index(i)];
+    }
+
+    public long getTimestamp(int i) {
+        return timestamps[index(i)];
+    }
+
+    public double getLast() {
+        if (size == 0) {
+            throw new IllegalStateException("Série vazia");
+        }
+        return get(size - 1);
+    }
+
+    /**
+     * Cópia das observações guardadas, em ordem cronológica
+     */
+    public double[] toValueArray() {
+        double[] copy = new double[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = get(i);
+        }
+        return copy;
+    }
+
+    public long[] toTimestampArray() {
+        long[] copy = new long[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = getTimestamp(i);
+        }
+        return copy;
+    }
+
+    public TimeSeries copy() {
+        TimeSeries copy = new TimeSeries(values.length, ewmaAlpha, holtAlpha, holtBeta);
+        System.arraycopy(values, 0, copy.values, 0, values.length);
+        System.arraycopy(timestamps, 0, copy.timestamps, 0, timestamps.length);
+        copy.head = head;
+        copy.size = size;
+        copy.count = count;
+        copy.ewma = ewma;
+        copy.level = level;
+        copy.trend = trend;
+        return copy;
+    }
+
+    private void push(long timestamp, double value) {
+        values[head] = value;
+        timestamps[head] = timestamp;
+        head = (head + 1) % values.length;
+        size = Math.min(size + 1, values.length);
+    }
+
+    private int index(int i) {
+        if (i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException("Índice " + i + " fora da série de " + size + " observações");
+        }
+        int index = head - size + i;
+        return index < 0 ? index + values.length : index;
+    }
+
+    private static void checkSmoothing(String name, double value) {
+        if (value <= 0.0 || value > 1.0) {
+            throw new IllegalArgumentException(name + " deve estar em (0, 1]: " + value);
+        }
+    }
+
+    // Getters
+    public int getCapacity() {
+        return values.length;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getEwma() {
+        return ewma;
+    }
+
+    public double getLevel() {
+        return level;
+    }
+
+    public double getTrend() {
+        return trend;
+    }
+}
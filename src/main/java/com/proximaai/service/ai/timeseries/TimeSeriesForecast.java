@@ -0,0 +1,14 @@
+package com.proximaai.service.ai.timeseries;
+
+/**
+ * Resumo de uma série: última observação, EWMA, nível e tendência de Holt por observação e a previsão
+ * para o horizonte pedido
+ */
+public record TimeSeriesForecast(long count, double last, double ewma, double level, double trend,
+                                 int horizon, double forecast) {
+
+    static TimeSeriesForecast of(TimeSeries series, int horizon) {
+        return new TimeSeriesForecast(series.getCount(), series.getLast(), series.getEwma(), series.getLevel(),
+                series.getTrend(), horizon, series.forecast(horizon));
+    }
+}
@@ -0,0 +1,25 @@
+package com.proximaai.service.ai.timeseries;
+
+/**
+ * Chave de uma série temporal: a métrica de um projeto, ou de uma equipe dentro do projeto
+ */
+public record TimeSeriesKey(Metric metric, Long projectId, Long teamId) {
+
+    // teamId das séries do projeto como um todo
+    public static final long NO_TEAM = 0L;
+
+    public enum Metric {
+        SENTIMENT,       // score de cada análise de sentimento da equipe
+        COMPLETED_TASKS, // tarefas concluídas do projeto na recontagem diária (acumulado)
+        VELOCITY,        // tarefas concluídas desde a recontagem anterior
+        OVERDUE_TASKS    // tarefas atrasadas do projeto na recontagem diária
+    }
+
+    public static TimeSeriesKey project(Long projectId, Metric metric) {
+        return new TimeSeriesKey(metric, projectId, NO_TEAM);
+    }
+
+    public static TimeSeriesKey team(Long projectId, Long teamId, Metric metric) {
+        return new TimeSeriesKey(metric, projectId, teamId);
+    }
+}
@@ -0,0 +1,138 @@
+package com.proximaai.service.ai.timeseries;
+
+import com.proximaai.config.AIConfig;
+import com.proximaai.domain.entity.ai.TimeSeriesSnapshot;
+import com.proximaai.repository.ai.TimeSeriesSnapshotRepository;
+import com.proximaai.service.ai.SnapshotMap;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.OptionalDouble;
+
+/**
+ * Séries temporais por métrica, projeto e equipe (sentimento, velocidade, tarefas atrasadas), mantidas em
+ * memória com as últimas observações e os modelos EWMA/Holt atualizados a cada inclusão: incluir e prever
+ * custam O(1), sem consultar o histórico. As séries alteradas são gravadas periodicamente em ai_time_series
+ * e relidas na inicialização; observações feitas entre a última gravação e uma parada abrupta se perdem.
+ */
+@Service
+public class TimeSeriesStore {
+
+    @Autowired
+    private TimeSeriesSnapshotRepository timeSeriesSnapshotRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AIConfig aiConfig;
+
+    private final SnapshotMap<TimeSeriesKey, TimeSeries> series = new SnapshotMap<>("séries temporais", TimeSeries::copy);
+
+    public void record(TimeSeriesKey key, double value) {
+        record(key, System.currentTimeMillis(), value);
+    }
+
+    public void record(TimeSeriesKey key, long timestamp, double value) {
+        series.update(key, (k, current) -> {
+            TimeSeries target = current != null ? current : newSeries();
+            target.add(timestamp, value);
+            return target;
+        });
+    }
+
+    /**
+     * Inclui a observação somente após o commit da transação corrente (na hora, se não houver transação):
+     * um rollback não deixa na série um valor que não foi gravado
+     */
+    public void recordAfterCommit(TimeSeriesKey key, double value) {
+        long timestamp = System.currentTimeMillis();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(key, timestamp, value);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(key, timestamp, value);
+            }
+        });
+    }
+
+    /**
+     * Previsão de Holt como se {@code value} já tivesse sido incluído, sem alterar a série
+     */
+    public TimeSeriesForecast forecastWith(TimeSeriesKey key, double value, int horizon) {
+        TimeSeries candidate = get(key);
+        if (candidate == null) {
+            candidate = newSeries();
+        }
+        candidate.add(System.currentTimeMillis(), value);
+        return TimeSeriesForecast.of(candidate, horizon);
+    }
+
+    /**
+     * Previsão de Holt para daqui a {@code horizon} observações, com o estado atual dos modelos
+     */
+    public Optional<TimeSeriesForecast> forecast(TimeSeriesKey key, int horizon) {
+        return Optional.ofNullable(series.read(key, current -> TimeSeriesForecast.of(current, horizon)));
+    }
+
+    /**
+     * Última observação da série, vazia se nada foi registrado
+     */
+    public OptionalDouble getLast(TimeSeriesKey key) {
+        Double last = series.read(key, TimeSeries::getLast);
+        return last != null ? OptionalDouble.of(last) : OptionalDouble.empty();
+    }
+
+    /**
+     * Cópia da série, ou null se nada foi registrado
+     */
+    public TimeSeries get(TimeSeriesKey key) {
+        return series.copy(key);
+    }
+
+    /**
+     * Relê as séries persistidas; séries já alimentadas nesta execução são mantidas
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
+        series.rehydrate(transactionTemplate, timeSeriesSnapshotRepository::findAll, TimeSeriesSnapshot::getKey,
+                row -> TimeSeries.restore(aiConfig.getTimeSeriesCapacity(),
+                        aiConfig.getTimeSeriesEwmaAlpha(), aiConfig.getTimeSeriesHoltAlpha(), aiConfig.getTimeSeriesHoltBeta(),
+                        row.getObservedValues(), row.getObservedAt(), row.getSampleCount(),
+                        row.getEwma(), row.getLevel(), row.getTrend()));
+    }
+
+    /**
+     * Grava as séries alteradas desde a última gravação
+     */
+    @Scheduled(fixedDelayString = "${proxima.ai.time-series-flush-interval-ms:60000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        series.flush(transactionTemplate, (key, current) ->
+                timeSeriesSnapshotRepository.upsert(key.metric().name(), key.projectId(), key.teamId(),
+                        current.toValueArray(), current.toTimestampArray(), current.getCount(),
+                        current.getEwma(), current.getLevel(), current.getTrend(), now));
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private TimeSeries newSeries() {
+        return new TimeSeries(aiConfig.getTimeSeriesCapacity(), aiConfig.getTimeSeriesEwmaAlpha(),
+                aiConfig.getTimeSeriesHoltAlpha(), aiConfig.getTimeSeriesHoltBeta());
+    }
+}
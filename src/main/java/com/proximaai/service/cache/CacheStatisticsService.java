@@ -0,0 +1,63 @@
+package com.proximaai.service.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Estatísticas do cache de segundo nível (acertos, faltas e inserções por região)
+ */
+@Service
+public class CacheStatisticsService {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    public Map<String, Object> getStatistics() {
+        Statistics statistics = getHibernateStatistics();
+
+        Map<String, Object> regions = new LinkedHashMap<>();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getDomainDataRegionStatistics(regionName);
+            if (region != null) {
+                regions.put(regionName, describe(region.getHitCount(), region.getMissCount(), region.getPutCount()));
+            }
+        }
+
+        Map<String, Object> result = describe(statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount());
+        result.put("statisticsEnabled", statistics.isStatisticsEnabled());
+        result.put("since", statistics.getStart());
+        result.put("regions", regions);
+        return result;
+    }
+
+    /**
+     * Zera os contadores, útil para medir um período específico
+     */
+    public void resetStatistics() {
+        getHibernateStatistics().clear();
+    }
+
+    private Map<String, Object> describe(long hits, long misses, long puts) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put("hits", hits);
+        values.put("misses", misses);
+        values.put("puts", puts);
+        values.put("hitRatio", hits + misses > 0 ? (double) hits / (hits + misses) : 0.0);
+        return values;
+    }
+
+    private Statistics getHibernateStatistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+}
@@ -0,0 +1,207 @@
+package com.proximaai.service.cache;
+
+import com.proximaai.config.CacheConfig;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.metamodel.mapping.EntityValuedModelPart;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+
+/**
+ * Mantém o cache de segundo nível coerente entre os nós da aplicação.
+ * As entidades e coleções em cache alteradas numa transação são publicadas no Redis após o commit;
+ * os demais nós removem as entradas correspondentes das suas regiões locais.
+ * O TTL das regiões (ehcache.xml) limita a inconsistência se uma mensagem se perder.
+ */
+@Component
+@ConditionalOnProperty(name = "proxima.cache.invalidation-enabled", havingValue = "true")
+public class ClusterCacheInvalidator implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(ClusterCacheInvalidator.class);
+
+    private static final String ENTITY = "E";
+    private static final String COLLECTION = "C";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private CacheConfig cacheConfig;
+
+    private SessionFactoryImplementor sessionFactory;
+
+    // Coleções inversas em cache por entidade elemento (ex.: WorkflowStatus -> CustomWorkflow.statuses)
+    private final Map<String, List<String>> inverseRolesByElement = new HashMap<>();
+
+    @PostConstruct
+    public void registerListeners() {
+        sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+
+        sessionFactory.getMappingMetamodel().forEachCollectionDescriptor(collection -> {
+            if (collection.hasCache() && collection.isInverse()
+                    && collection.getAttributeMapping().getElementDescriptor() instanceof EntityValuedModelPart elementPart) {
+                inverseRolesByElement
+                        .computeIfAbsent(elementPart.getEntityMappingType().getEntityName(), name -> new ArrayList<>())
+                        .add(collection.getRole());
+            }
+        });
+
+        ChangeCollector collector = new ChangeCollector();
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, collector);
+        registry.appendListeners(EventType.POST_UPDATE, collector);
+        registry.appendListeners(EventType.POST_DELETE, collector);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, collector);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, collector);
+    }
+
+    /**
+     * Aplica as invalidações publicadas por outro nó
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] lines = new String(message.getBody(), StandardCharsets.UTF_8).split("\n");
+        if (lines.length == 0 || cacheConfig.getNodeId().equals(lines[0])) {
+            return;
+        }
+
+        org.hibernate.Cache cache = sessionFactory.getCache();
+        for (int i = 1; i < lines.length; i++) {
+            String[] parts = lines[i].split("\\|", 3);
+            if (parts.length != 3) {
+                continue;
+            }
+
+            Long id = Long.valueOf(parts[2]);
+            if (ENTITY.equals(parts[0])) {
+                cache.evictEntityData(parts[1], id);
+                // O dono anterior da entidade não é conhecido aqui; a região da coleção inversa é descartada inteira
+                inverseRolesByElement.getOrDefault(parts[1], List.of()).forEach(cache::evictCollectionData);
+            } else if (COLLECTION.equals(parts[0])) {
+                cache.evictCollectionData(parts[1], id);
+            }
+        }
+    }
+
+    private void stage(String kind, String name, Object id) {
+        String line = kind + "|" + name + "|" + id;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(Set.of(line));
+            return;
+        }
+
+        PendingInvalidations pending = (PendingInvalidations) TransactionSynchronizationManager.getResource(PendingInvalidations.class);
+        if (pending == null) {
+            pending = new PendingInvalidations();
+            TransactionSynchronizationManager.bindResource(PendingInvalidations.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.lines.add(line);
+    }
+
+    /**
+     * Uma mensagem por transação: id do nó na primeira linha e uma invalidação por linha
+     */
+    private void publish(Set<String> lines) {
+        try {
+            redisTemplate.convertAndSend(cacheConfig.getInvalidationChannel(),
+                    cacheConfig.getNodeId() + "\n" + String.join("\n", lines));
+        } catch (RuntimeException e) {
+            // O commit já aconteceu; os outros nós enxergam a alteração quando o TTL da região expirar
+            log.error("Falha ao publicar a invalidação do cache para {}", lines, e);
+        }
+    }
+
+    private class PendingInvalidations implements TransactionSynchronization {
+
+        private final Set<String> lines = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            publish(lines);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingInvalidations.class);
+        }
+    }
+
+    /**
+     * Registra, durante o flush, as entidades e coleções em cache que foram alteradas
+     */
+    private class ChangeCollector implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener,
+            PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+        @Override
+        public void onPostInsert(PostInsertEvent event) {
+            // Entidades novas não estão no cache de ninguém, mas podem entrar em coleções inversas já carregadas
+            if (inverseRolesByElement.containsKey(event.getPersister().getEntityName())) {
+                stage(ENTITY, event.getPersister().getEntityName(), event.getId());
+            }
+        }
+
+        @Override
+        public void onPostUpdate(PostUpdateEvent event) {
+            onEntityChange(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostDelete(PostDeleteEvent event) {
+            onEntityChange(event.getPersister(), event.getId());
+        }
+
+        @Override
+        public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+            onCollectionChange(event);
+        }
+
+        @Override
+        public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+            onCollectionChange(event);
+        }
+
+        @Override
+        public boolean requiresPostCommitHandling(EntityPersister persister) {
+            return false;
+        }
+
+        private void onEntityChange(EntityPersister persister, Object id) {
+            if (persister.canWriteToCache()) {
+                stage(ENTITY, persister.getEntityName(), id);
+            }
+        }
+
+        private void onCollectionChange(AbstractCollectionEvent event) {
+            Object ownerId = event.getAffectedOwnerIdOrNull();
+            if (ownerId == null) {
+                return;
+            }
+
+            String role = event.getCollection().getRole();
+            CollectionPersister persister = event.getSession().getFactory().getMappingMetamodel().getCollectionDescriptor(role);
+            if (persister.hasCache()) {
+                stage(COLLECTION, role, ownerId);
+            }
+        }
+    }
+}
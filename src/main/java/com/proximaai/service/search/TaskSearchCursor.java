@@ -0,0 +1,38 @@
+package com.proximaai.service.search;
+
+/**
+ * Posição de continuação da paginação por chave (rank, id).
+ * O modo é mantido para que as próximas páginas usem a mesma estratégia de busca.
+ */
+public class TaskSearchCursor {
+
+    private final TaskSearchMode mode;
+    private final double rank;
+    private final long id;
+
+    public TaskSearchCursor(TaskSearchMode mode, double rank, long id) {
+        this.mode = mode;
+        this.rank = rank;
+        this.id = id;
+    }
+
+    /**
+     * Cursor da primeira página
+     */
+    public static TaskSearchCursor first(TaskSearchMode mode) {
+        return new TaskSearchCursor(mode, Double.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    // Getters
+    public TaskSearchMode getMode() {
+        return mode;
+    }
+
+    public double getRank() {
+        return rank;
+    }
+
+    public long getId() {
+        return id;
+    }
+}
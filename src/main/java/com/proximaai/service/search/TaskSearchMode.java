@@ -0,0 +1,9 @@
+package com.proximaai.service.search;
+
+/**
+ * Modos de busca textual de tarefas
+ */
+public enum TaskSearchMode {
+    FULL_TEXT,  // tsvector (português + inglês) com ranking por relevância
+    FUZZY       // trigram (pg_trgm) para substrings e termos aproximados
+}
@@ -0,0 +1,41 @@
+package com.proximaai.service.search;
+
+import com.proximaai.repository.projection.TaskSearchHit;
+
+import java.util.List;
+
+/**
+ * Página de resultados ranqueados com o cursor da próxima página
+ */
+public class TaskSearchPage {
+
+    private final TaskSearchMode mode;
+    private final List<TaskSearchHit> hits;
+    private final TaskSearchCursor nextCursor;
+
+    public TaskSearchPage(TaskSearchMode mode, List<TaskSearchHit> hits, TaskSearchCursor nextCursor) {
+        this.mode = mode;
+        this.hits = hits;
+        this.nextCursor = nextCursor;
+    }
+
+    // Getters
+    public TaskSearchMode getMode() {
+        return mode;
+    }
+
+    public List<TaskSearchHit> getHits() {
+        return hits;
+    }
+
+    /**
+     * Cursor da próxima página (null quando não há mais resultados)
+     */
+    public TaskSearchCursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,71 @@
+package com.proximaai.service.search;
+
+import com.proximaai.repository.TaskRepository;
+import com.proximaai.repository.projection.TaskSearchHit;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional(readOnly = true)
+public class TaskSearchService {
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final double FUZZY_WORD_SIMILARITY = 0.5;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    /**
+     * Busca tarefas com ranking por relevância.
+     * A primeira página tenta a busca full-text e, sem resultados, recorre à busca trigram.
+     */
+    public TaskSearchPage search(String searchTerm, Long projectId, TaskSearchCursor after, int pageSize) {
+        if (searchTerm == null || searchTerm.isBlank()) {
+            return new TaskSearchPage(TaskSearchMode.FULL_TEXT, List.of(), null);
+        }
+        
+        String term = searchTerm.trim();
+        int limit = pageSize <= 0 ? DEFAULT_PAGE_SIZE : Math.min(pageSize, MAX_PAGE_SIZE);
+        
+        if (after != null) {
+            return searchPage(term, projectId, after, limit);
+        }
+        
+        TaskSearchPage page = searchPage(term, projectId, TaskSearchCursor.first(TaskSearchMode.FULL_TEXT), limit);
+        if (page.getHits().isEmpty()) {
+            page = searchPage(term, projectId, TaskSearchCursor.first(TaskSearchMode.FUZZY), limit);
+        }
+        return page;
+    }
+
+    /**
+     * Busca uma página usando o modo indicado pelo cursor
+     */
+    private TaskSearchPage searchPage(String term, Long projectId, TaskSearchCursor after, int limit) {
+        if (after.getMode() == TaskSearchMode.FUZZY) {
+            // O padrão do pg_trgm (0.6) descarta erros de digitação simples em títulos longos
+            taskRepository.setWordSimilarityThreshold(FUZZY_WORD_SIMILARITY);
+        }
+        
+        List<TaskSearchHit> hits = switch (after.getMode()) {
+            case FULL_TEXT -> projectId != null
+                    ? taskRepository.fullTextSearchInProject(projectId, term, after.getRank(), after.getId(), limit)
+                    : taskRepository.fullTextSearch(term, after.getRank(), after.getId(), limit);
+            case FUZZY -> projectId != null
+                    ? taskRepository.fuzzySearchInProject(projectId, term, after.getRank(), after.getId(), limit)
+                    : taskRepository.fuzzySearch(term, after.getRank(), after.getId(), limit);
+        };
+        
+        TaskSearchCursor nextCursor = null;
+        if (hits.size() == limit) {
+            TaskSearchHit last = hits.get(hits.size() - 1);
+            nextCursor = new TaskSearchCursor(after.getMode(), last.getRank(), last.getId());
+        }
+        
+        return new TaskSearchPage(after.getMode(), hits, nextCursor);
+    }
+}
@@ -0,0 +1,229 @@
+package com.proximaai.service.search.index;
+
+import co.elastic.clients.elasticsearch._types.FieldValue;
+import co.elastic.clients.elasticsearch._types.SortOrder;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregate;
+import co.elastic.clients.elasticsearch._types.aggregations.Aggregation;
+import co.elastic.clients.elasticsearch._types.query_dsl.BoolQuery;
+import co.elastic.clients.elasticsearch._types.query_dsl.Operator;
+import com.proximaai.domain.entity.Task;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.elasticsearch.client.elc.ElasticsearchAggregations;
+import org.springframework.data.elasticsearch.client.elc.NativeQuery;
+import org.springframework.data.elasticsearch.core.ElasticsearchOperations;
+import org.springframework.data.elasticsearch.core.IndexOperations;
+import org.springframework.data.elasticsearch.core.SearchHit;
+import org.springframework.data.elasticsearch.core.SearchHits;
+import org.springframework.data.elasticsearch.core.index.AliasAction;
+import org.springframework.data.elasticsearch.core.index.AliasActionParameters;
+import org.springframework.data.elasticsearch.core.index.AliasActions;
+import org.springframework.data.elasticsearch.core.mapping.IndexCoordinates;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Índice de tarefas no Elasticsearch.
+ * Escritas usam a API bulk; as facetas vêm de agregações terms na mesma requisição da busca.
+ * A reindexação grava em um índice novo e troca o alias de uma vez, removendo os índices anteriores.
+ */
+@Component
+@ConditionalOnProperty(name = "proxima.search.index-backend", havingValue = "elasticsearch")
+public class ElasticsearchTaskSearchIndex implements TaskSearchIndex {
+
+    private static final int ASSIGNEE_FACET_SIZE = 100;
+    private static final int TAG_FACET_SIZE = 50;
+
+    @Autowired
+    private ElasticsearchOperations elasticsearchOperations;
+
+    private volatile boolean indexReady;
+
+    @Override
+    public void indexAll(Collection<TaskDocument> documents) {
+        if (documents.isEmpty()) {
+            return;
+        }
+        ensureIndex();
+        elasticsearchOperations.save(documents);
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        ensureIndex();
+        List<String> ids = taskIds.stream().map(String::valueOf).toList();
+        NativeQuery query = NativeQuery.builder()
+                .withQuery(q -> q.ids(i -> i.values(ids)))
+                .build();
+        elasticsearchOperations.delete(query, TaskDocument.class);
+    }
+
+    @Override
+    public TaskIndexBuild beginRebuild() {
+        String alias = elasticsearchOperations.getIndexCoordinatesFor(TaskDocument.class).getIndexName();
+        IndexCoordinates target = IndexCoordinates.of(alias + "-" + System.currentTimeMillis());
+        IndexOperations entityOperations = elasticsearchOperations.indexOps(TaskDocument.class);
+        IndexOperations targetOperations = elasticsearchOperations.indexOps(target);
+        targetOperations.create(entityOperations.createSettings(), entityOperations.createMapping());
+
+        return new TaskIndexBuild() {
+            @Override
+            public void indexAll(Collection<TaskDocument> documents) {
+                if (!documents.isEmpty()) {
+                    elasticsearchOperations.save(documents, target);
+                }
+            }
+
+            @Override
+            public void publish() {
+                targetOperations.refresh();
+                synchronized (ElasticsearchTaskSearchIndex.this) {
+                    IndexOperations aliasOperations = elasticsearchOperations.indexOps(IndexCoordinates.of(alias));
+                    // Índices atrás do nome: o próprio índice concreto (criado antes do alias) ou os do alias
+                    Set<String> previous = aliasOperations.exists()
+                            ? aliasOperations.getAliasesForIndex(alias).keySet()
+                            : Set.of();
+
+                    AliasActions actions = new AliasActions(new AliasAction.Add(AliasActionParameters.builder()
+                            .withIndices(target.getIndexName()).withAliases(alias).build()));
+                    for (String index : previous) {
+                        actions.add(index.equals(alias)
+                                ? new AliasAction.RemoveIndex(AliasActionParameters.builder().withIndices(index).build())
+                                : new AliasAction.Remove(AliasActionParameters.builder().withIndices(index).withAliases(alias).build()));
+                    }
+                    aliasOperations.alias(actions);
+                    indexReady = true;
+
+                    previous.stream()
+                            .filter(index -> !index.equals(alias))
+                            .forEach(index -> elasticsearchOperations.indexOps(IndexCoordinates.of(index)).delete());
+                }
+            }
+
+            @Override
+            public void discard() {
+                targetOperations.delete();
+            }
+        };
+    }
+
+    @Override
+    public TaskIndexResult search(TaskIndexQuery query) {
+        ensureIndex();
+        NativeQuery nativeQuery = NativeQuery.builder()
+                .withQuery(q -> q.bool(b -> buildQuery(b, query)))
+                .withAggregation("status", termsAggregation("status", Task.TaskStatus.values().length))
+                .withAggregation("priority", termsAggregation("priority", Task.TaskPriority.values().length))
+                .withAggregation("type", termsAggregation("type", Task.TaskType.values().length))
+                .withAggregation("assignee", termsAggregation("assigneeId", ASSIGNEE_FACET_SIZE))
+                .withAggregation("tag", termsAggregation("tags", TAG_FACET_SIZE))
+                .withSort(s -> s.score(sc -> sc.order(SortOrder.Desc)))
+                .withSort(s -> s.field(f -> f.field("id").order(SortOrder.Desc)))
+                .withPageable(PageRequest.of(query.getPage(), query.getSize()))
+                .withTrackTotalHits(true)
+                .build();
+
+        SearchHits<TaskDocument> searchHits = elasticsearchOperations.search(nativeQuery, TaskDocument.class);
+        List<TaskDocument> hits = new ArrayList<>();
+        for (SearchHit<TaskDocument> hit : searchHits) {
+            hits.add(hit.getContent());
+        }
+
+        TaskIndexResult result = new TaskIndexResult(hits, searchHits.getTotalHits());
+        if (searchHits.getAggregations() instanceof ElasticsearchAggregations aggregations) {
+            Map<String, Aggregate> aggregates = new HashMap<>();
+            aggregations.aggregationsAsMap().forEach((name, aggregation) ->
+                    aggregates.put(name, aggregation.aggregation().getAggregate()));
+
+            aggregates.get("status").sterms().buckets().array().forEach(bucket ->
+                    result.getStatusCounts().put(Task.TaskStatus.valueOf(bucket.key().stringValue()), bucket.docCount()));
+            aggregates.get("priority").sterms().buckets().array().forEach(bucket ->
+                    result.getPriorityCounts().put(Task.TaskPriority.valueOf(bucket.key().stringValue()), bucket.docCount()));
+            aggregates.get("type").sterms().buckets().array().forEach(bucket ->
+                    result.getTypeCounts().put(Task.TaskType.valueOf(bucket.key().stringValue()), bucket.docCount()));
+            aggregates.get("assignee").lterms().buckets().array().forEach(bucket ->
+                    result.getAssigneeCounts().put(bucket.key(), bucket.docCount()));
+            aggregates.get("tag").sterms().buckets().array().forEach(bucket ->
+                    result.getTagCounts().put(bucket.key().stringValue(), bucket.docCount()));
+        }
+        return result;
+    }
+
+    @Override
+    public long count() {
+        ensureIndex();
+        return elasticsearchOperations.count(NativeQuery.builder().withQuery(q -> q.matchAll(m -> m)).build(), TaskDocument.class);
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return true;
+    }
+
+    /**
+     * Texto em título (peso 2) e descrição com todos os termos obrigatórios; filtros não afetam o score
+     */
+    private BoolQuery.Builder buildQuery(BoolQuery.Builder bool, TaskIndexQuery query) {
+        if (query.hasText()) {
+            bool.must(m -> m.multiMatch(mm -> mm
+                    .query(query.getText())
+                    .fields("title^2", "description")
+                    .operator(Operator.And)
+                    .fuzziness("AUTO")));
+        } else {
+            bool.must(m -> m.matchAll(ma -> ma));
+        }
+
+        if (query.getProjectId() != null) {
+            bool.filter(f -> f.term(t -> t.field("projectId").value(query.getProjectId())));
+        }
+        if (query.getStatus() != null) {
+            bool.filter(f -> f.term(t -> t.field("status").value(FieldValue.of(query.getStatus().name()))));
+        }
+        if (query.getPriority() != null) {
+            bool.filter(f -> f.term(t -> t.field("priority").value(FieldValue.of(query.getPriority().name()))));
+        }
+        if (query.getType() != null) {
+            bool.filter(f -> f.term(t -> t.field("type").value(FieldValue.of(query.getType().name()))));
+        }
+        if (query.getAssigneeId() != null) {
+            bool.filter(f -> f.term(t -> t.field("assigneeId").value(query.getAssigneeId())));
+        }
+        if (query.getTag() != null) {
+            bool.filter(f -> f.term(t -> t.field("tags").value(query.getTag())));
+        }
+        return bool;
+    }
+
+    private Aggregation termsAggregation(String field, int size) {
+        return Aggregation.of(a -> a.terms(t -> t.field(field).size(size)));
+    }
+
+    /**
+     * Cria o índice com settings e mapeamento na primeira utilização
+     */
+    private void ensureIndex() {
+        if (indexReady) {
+            return;
+        }
+        synchronized (this) {
+            if (!indexReady) {
+                IndexOperations indexOperations = elasticsearchOperations.indexOps(TaskDocument.class);
+                if (!indexOperations.exists()) {
+                    indexOperations.createWithMapping();
+                }
+                indexReady = true;
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.proximaai.service.search.index;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido em memória para testes e instalações de um único nó.
+ * Cada termo aponta para os documentos que o contêm com um peso (título vale mais que descrição);
+ * o último termo da consulta casa por prefixo para permitir busca enquanto se digita.
+ * A reindexação monta um índice invertido novo e o troca pelo atual de uma vez.
+ */
+@Component
+@ConditionalOnProperty(name = "proxima.search.index-backend", havingValue = "memory", matchIfMissing = true)
+public class InMemoryTaskSearchIndex implements TaskSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private InvertedIndex index = new InvertedIndex();
+
+    @Override
+    public void indexAll(Collection<TaskDocument> batch) {
+        lock.writeLock().lock();
+        try {
+            batch.forEach(index::put);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void deleteAll(Collection<Long> taskIds) {
+        lock.writeLock().lock();
+        try {
+            taskIds.forEach(index::remove);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public TaskIndexBuild beginRebuild() {
+        // Montado só pela thread da reindexação: dispensa o lock até a troca
+        InvertedIndex rebuilt = new InvertedIndex();
+        return new TaskIndexBuild() {
+            @Override
+            public void indexAll(Collection<TaskDocument> documents) {
+                documents.forEach(rebuilt::put);
+            }
+
+            @Override
+            public void publish() {
+                lock.writeLock().lock();
+                try {
+                    index = rebuilt;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+
+            @Override
+            public void discard() {
+                // Nada a liberar além do próprio objeto
+            }
+        };
+    }
+
+    @Override
+    public TaskIndexResult search(TaskIndexQuery query) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Integer> scores = query.hasText() ? score(tokenize(query.getText())) : null;
+            Collection<Long> candidates = scores != null ? scores.keySet() : index.documents.keySet();
+
+            List<TaskDocument> matches = new ArrayList<>();
+            for (Long id : candidates) {
+                TaskDocument document = index.documents.get(id);
+                if (matchesFilters(document, query)) {
+                    matches.add(document);
+                }
+            }
+
+            Comparator<TaskDocument> byId = Comparator.comparing(TaskDocument::getId);
+            Comparator<TaskDocument> order = scores != null
+                    ? Comparator.<TaskDocument>comparingInt(d -> scores.get(d.getId())).thenComparing(byId).reversed()
+                    : byId.reversed();
+            matches.sort(order);
+
+            int from = Math.min(query.getPage() * query.getSize(), matches.size());
+            int to = Math.min(from + query.getSize(), matches.size());
+            TaskIndexResult result = new TaskIndexResult(new ArrayList<>(matches.subList(from, to)), matches.size());
+            matches.forEach(result::countFacets);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public long count() {
+        lock.readLock().lock();
+        try {
+            return index.documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean isPersistent() {
+        return false;
+    }
+
+    /**
+     * Soma os pesos dos termos; todo termo precisa casar (AND)
+     */
+    private Map<Long, Integer> score(List<String> terms) {
+        if (terms.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<Long, Integer> scores = null;
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            Map<Long, Integer> termScores = new HashMap<>();
+            Collection<Map<Long, Integer>> termPostings = i == terms.size() - 1
+                    ? index.postings.subMap(term, true, term + Character.MAX_VALUE, false).values()
+                    : Collections.singletonList(index.postings.getOrDefault(term, Map.of()));
+            for (Map<Long, Integer> posting : termPostings) {
+                posting.forEach((id, weight) -> termScores.merge(id, weight, Integer::sum));
+            }
+
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, total) -> total + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        return scores;
+    }
+
+    private boolean matchesFilters(TaskDocument document, TaskIndexQuery query) {
+        return (query.getProjectId() == null || query.getProjectId().equals(document.getProjectId()))
+                && (query.getStatus() == null || query.getStatus() == document.getStatus())
+                && (query.getPriority() == null || query.getPriority() == document.getPriority())
+                && (query.getType() == null || query.getType() == document.getType())
+                && (query.getAssigneeId() == null || query.getAssigneeId().equals(document.getAssigneeId()))
+                && (query.getTag() == null || document.getTags().contains(query.getTag()));
+    }
+
+    /**
+     * Minúsculas, sem acentos, separando em qualquer caractere que não seja letra ou dígito
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD)).replaceAll("");
+        List<String> terms = new ArrayList<>();
+        for (String term : SEPARATORS.split(normalized.toLowerCase(Locale.ROOT))) {
+            if (!term.isEmpty()) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Documentos, listas invertidas termo → (documento, peso) e os termos de cada documento para a remoção
+     */
+    private static class InvertedIndex {
+
+        private final Map<Long, TaskDocument> documents = new HashMap<>();
+        private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+        private final Map<Long, Set<String>> termsByDocument = new HashMap<>();
+
+        void put(TaskDocument document) {
+            remove(document.getId());
+
+            Map<String, Integer> weights = new HashMap<>();
+            tokenize(document.getTitle()).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+            tokenize(document.getDescription()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(document.getId(), weight));
+            termsByDocument.put(document.getId(), weights.keySet());
+            documents.put(document.getId(), document);
+        }
+
+        void remove(Long id) {
+            Set<String> terms = termsByDocument.remove(id);
+            if (terms != null) {
+                for (String term : terms) {
+                    Map<Long, Integer> posting = postings.get(term);
+                    posting.remove(id);
+                    if (posting.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+            documents.remove(id);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.proximaai.service.search.index;
+
+import com.proximaai.domain.entity.Task;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.elasticsearch.annotations.Document;
+import org.springframework.data.elasticsearch.annotations.Field;
+import org.springframework.data.elasticsearch.annotations.FieldType;
+import org.springframework.data.elasticsearch.annotations.Setting;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cópia desnormalizada de uma tarefa mantida no índice de busca
+ */
+@Document(indexName = "tasks", createIndex = false)
+@Setting(settingPath = "elasticsearch/task-settings.json")
+public class TaskDocument {
+
+    @Id
+    @Field(type = FieldType.Long)
+    private Long id;
+
+    @Field(type = FieldType.Text, analyzer = "task_text")
+    private String title;
+
+    @Field(type = FieldType.Text, analyzer = "task_text")
+    private String description;
+
+    @Field(type = FieldType.Keyword)
+    private Task.TaskStatus status;
+
+    @Field(type = FieldType.Keyword)
+    private Task.TaskPriority priority;
+
+    @Field(type = FieldType.Keyword)
+    private Task.TaskType type;
+
+    @Field(type = FieldType.Long)
+    private Long projectId;
+
+    @Field(type = FieldType.Long)
+    private Long assigneeId;
+
+    @Field(type = FieldType.Keyword)
+    private List<String> tags = new ArrayList<>();
+
+    // Constructors
+    public TaskDocument() {}
+
+    /**
+     * Monta o documento a partir da entidade (as tags devem estar carregadas)
+     */
+    public static TaskDocument from(Task task) {
+        TaskDocument document = new TaskDocument();
+        document.setId(task.getId());
+        document.setTitle(task.getTitle());
+        document.setDescription(task.getDescription());
+        document.setStatus(task.getStatus());
+        document.setPriority(task.getPriority());
+        document.setType(task.getType());
+        document.setProjectId(task.getProject() != null ? task.getProject().getId() : null);
+        document.setAssigneeId(task.getAssignee() != null ? task.getAssignee().getId() : null);
+        document.setTags(new ArrayList<>(task.getTags()));
+        return document;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Task.TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.TaskStatus status) {
+        this.status = status;
+    }
+
+    public Task.TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Task.TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public Task.TaskType getType() {
+        return type;
+    }
+
+    public void setType(Task.TaskType type) {
+        this.type = type;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public void setTags(List<String> tags) {
+        this.tags = tags;
+    }
+}
@@ -0,0 +1,25 @@
+package com.proximaai.service.search.index;
+
+import java.util.Collection;
+
+/**
+ * Reconstrução completa do índice em um índice novo, invisível para as buscas até publish().
+ * Enquanto isso o índice atual continua atendendo buscas e alterações incrementais.
+ */
+public interface TaskIndexBuild {
+
+    /**
+     * Insere os documentos no índice novo
+     */
+    void indexAll(Collection<TaskDocument> documents);
+
+    /**
+     * Substitui atomicamente o índice em uso pelo novo
+     */
+    void publish();
+
+    /**
+     * Descarta o índice novo, mantendo o atual
+     */
+    void discard();
+}
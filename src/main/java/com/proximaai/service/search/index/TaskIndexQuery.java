@@ -0,0 +1,103 @@
+package com.proximaai.service.search.index;
+
+import com.proximaai.domain.entity.Task;
+
+/**
+ * Consulta ao índice de tarefas: texto livre, filtros exatos e paginação
+ */
+public class TaskIndexQuery {
+
+    private String text;
+    private Long projectId;
+    private Task.TaskStatus status;
+    private Task.TaskPriority priority;
+    private Task.TaskType type;
+    private Long assigneeId;
+    private String tag;
+    private int page = 0;
+    private int size = 20;
+
+    // Constructors
+    public TaskIndexQuery() {}
+
+    public TaskIndexQuery(String text) {
+        this.text = text;
+    }
+
+    public boolean hasText() {
+        return text != null && !text.isBlank();
+    }
+
+    // Getters and Setters
+    public String getText() {
+        return text;
+    }
+
+    public void setText(String text) {
+        this.text = text;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Task.TaskStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(Task.TaskStatus status) {
+        this.status = status;
+    }
+
+    public Task.TaskPriority getPriority() {
+        return priority;
+    }
+
+    public void setPriority(Task.TaskPriority priority) {
+        this.priority = priority;
+    }
+
+    public Task.TaskType getType() {
+        return type;
+    }
+
+    public void setType(Task.TaskType type) {
+        this.type = type;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public String getTag() {
+        return tag;
+    }
+
+    public void setTag(String tag) {
+        this.tag = tag == null || tag.isBlank() ? null : Task.normalizeTag(tag);
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public void setPage(int page) {
+        this.page = Math.max(page, 0);
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    public void setSize(int size) {
+        this.size = Math.min(Math.max(size, 1), 100);
+    }
+}
@@ -0,0 +1,77 @@
+package com.proximaai.service.search.index;
+
+import com.proximaai.domain.entity.Task;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Página de documentos encontrados com as contagens por faceta do conjunto filtrado
+ */
+public class TaskIndexResult {
+
+    private final List<TaskDocument> hits;
+    private final long totalHits;
+    private final Map<Task.TaskStatus, Long> statusCounts = new EnumMap<>(Task.TaskStatus.class);
+    private final Map<Task.TaskPriority, Long> priorityCounts = new EnumMap<>(Task.TaskPriority.class);
+    private final Map<Task.TaskType, Long> typeCounts = new EnumMap<>(Task.TaskType.class);
+    private final Map<Long, Long> assigneeCounts = new HashMap<>();
+    private final Map<String, Long> tagCounts = new HashMap<>();
+
+    public TaskIndexResult(List<TaskDocument> hits, long totalHits) {
+        this.hits = hits;
+        this.totalHits = totalHits;
+    }
+
+    /**
+     * Soma as facetas de um documento encontrado
+     */
+    void countFacets(TaskDocument document) {
+        if (document.getStatus() != null) {
+            statusCounts.merge(document.getStatus(), 1L, Long::sum);
+        }
+        if (document.getPriority() != null) {
+            priorityCounts.merge(document.getPriority(), 1L, Long::sum);
+        }
+        if (document.getType() != null) {
+            typeCounts.merge(document.getType(), 1L, Long::sum);
+        }
+        if (document.getAssigneeId() != null) {
+            assigneeCounts.merge(document.getAssigneeId(), 1L, Long::sum);
+        }
+        for (String tag : document.getTags()) {
+            tagCounts.merge(tag, 1L, Long::sum);
+        }
+    }
+
+    // Getters
+    public List<TaskDocument> getHits() {
+        return hits;
+    }
+
+    public long getTotalHits() {
+        return totalHits;
+    }
+
+    public Map<Task.TaskStatus, Long> getStatusCounts() {
+        return statusCounts;
+    }
+
+    public Map<Task.TaskPriority, Long> getPriorityCounts() {
+        return priorityCounts;
+    }
+
+    public Map<Task.TaskType, Long> getTypeCounts() {
+        return typeCounts;
+    }
+
+    public Map<Long, Long> getAssigneeCounts() {
+        return assigneeCounts;
+    }
+
+    public Map<String, Long> getTagCounts() {
+        return tagCounts;
+    }
+}
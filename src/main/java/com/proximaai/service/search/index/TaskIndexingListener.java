@@ -0,0 +1,89 @@
+package com.proximaai.service.search.index;
+
+import com.proximaai.domain.entity.Task;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Listener JPA que mantém o índice de busca em sincronia com a tabela de tarefas.
+ * Os ids alterados numa transação são acumulados e, somente após o commit, relidos do banco
+ * e enviados em lote ao índice; rollbacks descartam o lote.
+ */
+public class TaskIndexingListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskIndexingListener.class);
+
+    // Lazy: o listener é criado junto com o EntityManagerFactory, antes dos repositórios
+    @Autowired
+    @Lazy
+    private TaskIndexingService taskIndexingService;
+
+    @Autowired
+    @Qualifier("searchIndexExecutor")
+    private Executor searchIndexExecutor;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Task task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(Set.of(task.getId()));
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(PendingChanges.class);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(PendingChanges.class, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.taskIds.add(task.getId());
+    }
+
+    /**
+     * Atualiza o índice na thread dedicada, preservando a ordem dos commits
+     */
+    private void dispatch(Set<Long> taskIds) {
+        try {
+            searchIndexExecutor.execute(() -> {
+                try {
+                    taskIndexingService.refresh(taskIds);
+                } catch (RuntimeException e) {
+                    // O banco continua sendo a fonte da verdade; uma reindexação completa recupera o índice
+                    log.error("Falha ao atualizar o índice de busca para as tarefas {}", taskIds, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Encerramento da aplicação: o commit já ocorreu e uma reindexação completa recupera o índice
+            log.warn("Atualização do índice de busca descartada para as tarefas {}", taskIds, e);
+        }
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final Set<Long> taskIds = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            dispatch(taskIds);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(PendingChanges.class);
+        }
+    }
+}
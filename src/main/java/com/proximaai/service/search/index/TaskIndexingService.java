@@ -0,0 +1,157 @@
+package com.proximaai.service.search.index;
+
+import com.proximaai.config.SearchConfig;
+import com.proximaai.domain.entity.Task;
+import com.proximaai.repository.TaskRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+@Service
+@Transactional(readOnly = true)
+public class TaskIndexingService {
+
+    private static final Logger log = LoggerFactory.getLogger(TaskIndexingService.class);
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+
+    @Autowired
+    private SearchConfig searchConfig;
+
+    @Autowired
+    @Qualifier("searchIndexExecutor")
+    private Executor searchIndexExecutor;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Object rebuildLock = new Object();
+
+    // Ids atualizados durante uma reindexação (null fora dela): o lote que os leu pode estar desatualizado
+    private Set<Long> changedDuringRebuild;
+
+    /**
+     * Relê as tarefas informadas e atualiza o índice; ids que não existem mais são removidos.
+     * Transação de escrita para ler do primário: a réplica pode ainda não ter o commit que disparou a atualização.
+     */
+    @Transactional
+    public void refresh(Collection<Long> taskIds) {
+        trackChange(taskIds);
+        List<TaskDocument> documents = loadDocuments(taskIds);
+
+        Set<Long> deleted = new HashSet<>(taskIds);
+        documents.forEach(document -> deleted.remove(document.getId()));
+
+        taskSearchIndex.indexAll(documents);
+        taskSearchIndex.deleteAll(deleted);
+    }
+
+    /**
+     * Reconstrói o índice a partir do banco em um índice novo, enviando os documentos em lotes bulk.
+     * O índice atual segue atendendo buscas e alterações até a troca; as tarefas alteradas nesse
+     * intervalo são relidas depois dela.
+     */
+    public long reindexAll() {
+        synchronized (rebuildLock) {
+            TaskIndexBuild build = taskSearchIndex.beginRebuild();
+            startTracking();
+
+            int bulkSize = Math.max(searchConfig.getBulkSize(), 1);
+            long indexed = 0;
+            try {
+                Long lastId = 0L;
+                List<Long> ids = taskRepository.findIdsAfter(lastId, PageRequest.of(0, bulkSize));
+                while (!ids.isEmpty()) {
+                    List<TaskDocument> documents = loadDocuments(ids);
+                    build.indexAll(documents);
+                    indexed += documents.size();
+                    entityManager.clear();
+
+                    lastId = ids.get(ids.size() - 1);
+                    ids = taskRepository.findIdsAfter(lastId, PageRequest.of(0, bulkSize));
+                }
+                build.publish();
+            } catch (RuntimeException e) {
+                stopTracking();
+                build.discard();
+                throw e;
+            }
+
+            Set<Long> changed = stopTracking();
+            if (!changed.isEmpty()) {
+                refreshAfterRebuild(changed);
+            }
+            return indexed;
+        }
+    }
+
+    /**
+     * Índices voláteis (memória) começam vazios e são populados na inicialização
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildVolatileIndex() {
+        if (!taskSearchIndex.isPersistent()) {
+            reindexAll();
+        }
+    }
+
+    private List<TaskDocument> loadDocuments(Collection<Long> taskIds) {
+        List<TaskDocument> documents = new ArrayList<>();
+        for (Task task : taskRepository.findAllForIndexing(taskIds)) {
+            documents.add(TaskDocument.from(task));
+        }
+        return documents;
+    }
+
+    private synchronized void startTracking() {
+        changedDuringRebuild = new HashSet<>();
+    }
+
+    private synchronized Set<Long> stopTracking() {
+        Set<Long> changed = changedDuringRebuild;
+        changedDuringRebuild = null;
+        return changed;
+    }
+
+    private synchronized void trackChange(Collection<Long> taskIds) {
+        if (changedDuringRebuild != null) {
+            changedDuringRebuild.addAll(taskIds);
+        }
+    }
+
+    /**
+     * Relê no índice novo, na thread do índice e a partir do primário, as tarefas alteradas durante a reindexação
+     */
+    private void refreshAfterRebuild(Set<Long> taskIds) {
+        searchIndexExecutor.execute(() -> {
+            try {
+                transactionTemplate.executeWithoutResult(status -> refresh(taskIds));
+            } catch (RuntimeException e) {
+                log.error("Falha ao atualizar o índice de busca para as tarefas {} alteradas durante a reindexação", taskIds, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package com.proximaai.service.search.index;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Índice de busca de tarefas fora do PostgreSQL.
+ * A implementação é escolhida por proxima.search.index-backend (elasticsearch ou memory).
+ */
+public interface TaskSearchIndex {
+
+    /**
+     * Insere ou substitui os documentos em lote
+     */
+    void indexAll(Collection<TaskDocument> documents);
+
+    /**
+     * Remove os documentos das tarefas informadas
+     */
+    void deleteAll(Collection<Long> taskIds);
+
+    /**
+     * Inicia uma reconstrução completa em um índice novo, trocado pelo atual só ao final
+     */
+    TaskIndexBuild beginRebuild();
+
+    /**
+     * Busca por texto e filtros, devolvendo as contagens por status, prioridade, tipo, responsável e tag
+     */
+    TaskIndexResult search(TaskIndexQuery query);
+
+    long count();
+
+    /**
+     * Indica se o conteúdo sobrevive a um restart; índices voláteis são reconstruídos na inicialização
+     */
+    boolean isPersistent();
+
+    default void index(TaskDocument document) {
+        indexAll(List.of(document));
+    }
+
+    default void delete(Long taskId) {
+        deleteAll(List.of(taskId));
+    }
+}
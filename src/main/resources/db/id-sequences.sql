@@ -0,0 +1,32 @@
+-- Sequências de ids (PostgreSQL)
+-- As entidades usam sequências <tabela>_seq com otimizador pooled (incremento 50) em vez de IDENTITY,
+-- o que permite ao Hibernate agrupar INSERTs em lotes JDBC. Em bancos que já têm dados, avança cada
+-- sequência para além do maior id existente; depois disso o script não altera nada.
+
+DO $$
+DECLARE
+    table_name text;
+    max_id bigint;
+    current_value bigint;
+BEGIN
+    FOREACH table_name IN ARRAY ARRAY[
+        'ai_allocation_recommendations', 'ai_cluster_tasks', 'ai_delay_predictions',
+        'ai_project_summaries', 'ai_sentiment_analysis', 'ai_task_clusters',
+        'audit_logs', 'custom_workflows', 'notifications', 'project_templates',
+        'projects', 'resource_allocations', 'task_comments', 'task_dependencies',
+        'task_time_logs', 'tasks', 'teams', 'template_milestones', 'template_resources',
+        'template_tasks', 'timesheet_entries', 'timesheets', 'users',
+        'workflow_statuses', 'workflow_transitions'
+    ] LOOP
+        IF to_regclass(table_name) IS NULL OR to_regclass(table_name || '_seq') IS NULL THEN
+            CONTINUE;
+        END IF;
+
+        EXECUTE format('SELECT max(id) FROM %I', table_name) INTO max_id;
+        EXECUTE format('SELECT last_value FROM %I', table_name || '_seq') INTO current_value;
+
+        IF max_id IS NOT NULL AND current_value < max_id THEN
+            PERFORM setval(table_name || '_seq', max_id + 50);
+        END IF;
+    END LOOP;
+END $$;
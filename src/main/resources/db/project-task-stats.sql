@@ -0,0 +1,158 @@
+-- Contadores de tarefas por projeto (PostgreSQL)
+-- Script idempotente executado após o Hibernate criar a tabela project_task_stats.
+-- Os gatilhos mantêm uma linha por projeto na mesma transação que altera as tarefas.
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_project_task_stats_project') THEN
+        ALTER TABLE project_task_stats ADD CONSTRAINT fk_project_task_stats_project
+            FOREIGN KEY (project_id) REFERENCES projects (id) ON DELETE CASCADE;
+    END IF;
+END $$;
+
+-- Soma (p_sign = 1) ou subtrai (p_sign = -1) uma tarefa dos contadores do projeto
+CREATE OR REPLACE FUNCTION project_task_stats_apply(p_task tasks, p_sign integer) RETURNS void AS $$
+BEGIN
+    UPDATE project_task_stats SET
+        total_tasks        = total_tasks + p_sign,
+        todo_tasks         = todo_tasks + CASE WHEN p_task.status = 'TODO' THEN p_sign ELSE 0 END,
+        in_progress_tasks  = in_progress_tasks + CASE WHEN p_task.status = 'IN_PROGRESS' THEN p_sign ELSE 0 END,
+        in_review_tasks    = in_review_tasks + CASE WHEN p_task.status = 'IN_REVIEW' THEN p_sign ELSE 0 END,
+        testing_tasks      = testing_tasks + CASE WHEN p_task.status = 'TESTING' THEN p_sign ELSE 0 END,
+        done_tasks         = done_tasks + CASE WHEN p_task.status = 'DONE' THEN p_sign ELSE 0 END,
+        cancelled_tasks    = cancelled_tasks + CASE WHEN p_task.status = 'CANCELLED' THEN p_sign ELSE 0 END,
+        overdue_tasks      = overdue_tasks + CASE WHEN p_task.due_date < current_date AND p_task.status <> 'DONE' THEN p_sign ELSE 0 END,
+        estimated_hours    = estimated_hours + p_sign * coalesce(p_task.estimated_hours, 0),
+        actual_hours       = actual_hours + p_sign * coalesce(p_task.actual_hours, 0),
+        story_points_sum   = story_points_sum + p_sign * coalesce(p_task.story_points, 0),
+        story_points_count = story_points_count + CASE WHEN p_task.story_points IS NOT NULL THEN p_sign ELSE 0 END,
+        updated_at         = now()
+    WHERE project_id = p_task.project_id;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION project_task_stats_on_task() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('UPDATE', 'DELETE') THEN
+        PERFORM project_task_stats_apply(OLD, -1);
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM project_task_stats_apply(NEW, 1);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Todo projeto tem uma linha de contadores, zerada na criação
+CREATE OR REPLACE FUNCTION project_task_stats_on_project() RETURNS trigger AS $$
+BEGIN
+    INSERT INTO project_task_stats (project_id, total_tasks, todo_tasks, in_progress_tasks, in_review_tasks,
+                                    testing_tasks, done_tasks, cancelled_tasks, overdue_tasks, estimated_hours,
+                                    actual_hours, story_points_sum, story_points_count, updated_at)
+    VALUES (NEW.id, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, now())
+    ON CONFLICT (project_id) DO NOTHING;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_project_task_stats_insert ON tasks;
+CREATE TRIGGER trg_project_task_stats_insert AFTER INSERT ON tasks
+    FOR EACH ROW EXECUTE FUNCTION project_task_stats_on_task();
+
+-- O Hibernate regrava todas as colunas; só recalcula quando um campo contado mudou
+DROP TRIGGER IF EXISTS trg_project_task_stats_update ON tasks;
+CREATE TRIGGER trg_project_task_stats_update AFTER UPDATE ON tasks
+    FOR EACH ROW
+    WHEN ((OLD.project_id, OLD.status, OLD.due_date, OLD.estimated_hours, OLD.actual_hours, OLD.story_points)
+          IS DISTINCT FROM
+          (NEW.project_id, NEW.status, NEW.due_date, NEW.estimated_hours, NEW.actual_hours, NEW.story_points))
+    EXECUTE FUNCTION project_task_stats_on_task();
+
+DROP TRIGGER IF EXISTS trg_project_task_stats_delete ON tasks;
+CREATE TRIGGER trg_project_task_stats_delete AFTER DELETE ON tasks
+    FOR EACH ROW EXECUTE FUNCTION project_task_stats_on_task();
+
+DROP TRIGGER IF EXISTS trg_project_task_stats_project ON projects;
+CREATE TRIGGER trg_project_task_stats_project AFTER INSERT ON projects
+    FOR EACH ROW EXECUTE FUNCTION project_task_stats_on_project();
+
+-- Versões anteriores, que recalculavam todos os projetos com a tabela tasks bloqueada
+DROP FUNCTION IF EXISTS rebuild_project_task_stats();
+DROP FUNCTION IF EXISTS refresh_project_overdue_tasks();
+
+-- Recalcula os contadores de um projeto a partir das tarefas, sem bloquear a tabela tasks.
+-- A linha do projeto é travada antes da contagem: escritas que já atualizaram a linha terminam antes
+-- e entram na contagem; as seguintes esperam e aplicam seu delta sobre o valor recontado.
+CREATE OR REPLACE FUNCTION rebuild_project_task_stats(p_project_id bigint) RETURNS integer AS $$
+DECLARE
+    rebuilt integer;
+BEGIN
+    PERFORM 1 FROM project_task_stats WHERE project_id = p_project_id FOR UPDATE;
+
+    INSERT INTO project_task_stats AS s (project_id, total_tasks, todo_tasks, in_progress_tasks, in_review_tasks,
+                                         testing_tasks, done_tasks, cancelled_tasks, overdue_tasks, estimated_hours,
+                                         actual_hours, story_points_sum, story_points_count, updated_at)
+    SELECT p.id,
+           count(t.id),
+           count(t.id) FILTER (WHERE t.status = 'TODO'),
+           count(t.id) FILTER (WHERE t.status = 'IN_PROGRESS'),
+           count(t.id) FILTER (WHERE t.status = 'IN_REVIEW'),
+           count(t.id) FILTER (WHERE t.status = 'TESTING'),
+           count(t.id) FILTER (WHERE t.status = 'DONE'),
+           count(t.id) FILTER (WHERE t.status = 'CANCELLED'),
+           count(t.id) FILTER (WHERE t.due_date < current_date AND t.status <> 'DONE'),
+           coalesce(sum(t.estimated_hours), 0),
+           coalesce(sum(t.actual_hours), 0),
+           coalesce(sum(t.story_points), 0),
+           count(t.story_points),
+           now()
+    FROM projects p
+    LEFT JOIN tasks t ON t.project_id = p.id
+    WHERE p.id = p_project_id
+    GROUP BY p.id
+    ON CONFLICT (project_id) DO UPDATE SET
+        total_tasks        = EXCLUDED.total_tasks,
+        todo_tasks         = EXCLUDED.todo_tasks,
+        in_progress_tasks  = EXCLUDED.in_progress_tasks,
+        in_review_tasks    = EXCLUDED.in_review_tasks,
+        testing_tasks      = EXCLUDED.testing_tasks,
+        done_tasks         = EXCLUDED.done_tasks,
+        cancelled_tasks    = EXCLUDED.cancelled_tasks,
+        overdue_tasks      = EXCLUDED.overdue_tasks,
+        estimated_hours    = EXCLUDED.estimated_hours,
+        actual_hours       = EXCLUDED.actual_hours,
+        story_points_sum   = EXCLUDED.story_points_sum,
+        story_points_count = EXCLUDED.story_points_count,
+        updated_at         = EXCLUDED.updated_at;
+
+    GET DIAGNOSTICS rebuilt = ROW_COUNT;
+    RETURN rebuilt;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Reconta as tarefas atrasadas de um projeto; executado quando a data muda, pois nenhuma tarefa é alterada nessa hora.
+-- Mesma ordem da reconstrução: trava a linha e só então conta.
+CREATE OR REPLACE FUNCTION refresh_project_overdue_tasks(p_project_id bigint) RETURNS integer AS $$
+DECLARE
+    refreshed integer;
+BEGIN
+    PERFORM 1 FROM project_task_stats WHERE project_id = p_project_id FOR UPDATE;
+
+    UPDATE project_task_stats s SET overdue_tasks = o.overdue_tasks, updated_at = now()
+    FROM (SELECT count(*) AS overdue_tasks
+          FROM tasks t
+          WHERE t.project_id = p_project_id AND t.due_date < current_date AND t.status <> 'DONE') o
+    WHERE s.project_id = p_project_id AND s.overdue_tasks <> o.overdue_tasks;
+
+    GET DIAGNOSTICS refreshed = ROW_COUNT;
+    RETURN refreshed;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Primeira execução: popula os contadores dos projetos existentes
+DO $$
+BEGIN
+    IF (SELECT count(*) FROM project_task_stats) < (SELECT count(*) FROM projects) THEN
+        PERFORM rebuild_project_task_stats(p.id) FROM projects p;
+    END IF;
+END $$;
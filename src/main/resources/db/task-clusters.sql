@@ -0,0 +1,16 @@
+-- Colunas JSON dos clusters de tarefas (PostgreSQL)
+-- Centroide, features e metadados do K-means passam de 255 caracteres; o ddl-auto update não altera
+-- o tipo de colunas existentes, então converte para text as que ainda são varchar.
+
+DO $$
+DECLARE
+    col text;
+BEGIN
+    FOREACH col IN ARRAY ARRAY['cluster_centroid', 'cluster_features', 'cluster_metadata'] LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = current_schema() AND table_name = 'ai_task_clusters'
+                     AND column_name = col AND data_type = 'character varying') THEN
+            EXECUTE format('ALTER TABLE ai_task_clusters ALTER COLUMN %I TYPE text', col);
+        END IF;
+    END LOOP;
+END $$;
@@ -0,0 +1,18 @@
+-- Migração das tags de tarefas (PostgreSQL)
+-- Move a antiga coluna tasks.tags (texto separado por vírgula) para a tabela task_tags
+-- criada pelo Hibernate e remove a coluna. Não faz nada quando a coluna já não existe.
+
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'tasks' AND column_name = 'tags') THEN
+        INSERT INTO task_tags (task_id, tag)
+        SELECT DISTINCT t.id, left(lower(trim(raw.tag)), 50)
+        FROM tasks t
+        CROSS JOIN LATERAL unnest(string_to_array(t.tags, ',')) AS raw(tag)
+        WHERE trim(raw.tag) <> ''
+        ON CONFLICT DO NOTHING;
+
+        ALTER TABLE tasks DROP COLUMN tags;
+    END IF;
+END $$;
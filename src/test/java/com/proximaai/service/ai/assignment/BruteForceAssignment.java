@@ -0,0 +1,107 @@
+package com.proximaai.service.ai.assignment;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Ótimo por enumeração de todas as atribuições, para conferir os solvers em matrizes pequenas
+ */
+final class BruteForceAssignment {
+
+    private static final double TOLERANCE = 1e-9;
+
+    private final CostMatrix matrix;
+    private final int[] capacity;
+    private int bestCount;
+    private double bestCost;
+
+    private BruteForceAssignment(CostMatrix matrix, int[] capacity) {
+        this.matrix = matrix;
+        this.capacity = capacity;
+    }
+
+    /**
+     * Confere que a solução respeita proibições e capacidades, atribui o máximo de tarefas e, entre essas,
+     * tem o menor custo total
+     */
+    static void assertOptimal(CostMatrix matrix, int[] capacity, AssignmentSolution solution) {
+        int[] load = new int[capacity.length];
+        int count = 0;
+        double cost = 0.0;
+        for (int row = 0; row < matrix.getRows(); row++) {
+            int column = solution.getColumn(row);
+            if (column == AssignmentSolution.UNASSIGNED) {
+                continue;
+            }
+            assertFalse(matrix.isForbidden(row, column), "par proibido (" + row + ", " + column + ")");
+            load[column]++;
+            count++;
+            cost += matrix.get(row, column);
+        }
+        for (int column = 0; column < capacity.length; column++) {
+            assertTrue(load[column] <= capacity[column], "capacidade excedida na coluna " + column);
+        }
+
+        BruteForceAssignment brute = new BruteForceAssignment(matrix, capacity);
+        brute.bestCount = -1;
+        brute.bestCost = Double.MAX_VALUE;
+        brute.search(0, 0, 0.0, new int[capacity.length]);
+
+        assertEquals(brute.bestCount, count);
+        assertEquals(brute.bestCost, cost, TOLERANCE);
+        assertEquals(cost, solution.getTotalCost(), TOLERANCE);
+        assertEquals(count, solution.getAssignedCount());
+    }
+
+    /**
+     * Scores em quartos (para gerar empates) e cerca de 15% dos pares proibidos
+     */
+    static CostMatrix randomCosts(Random random, int rows, int columns) {
+        double[][] fitScores = new double[rows][columns];
+        for (double[] row : fitScores) {
+            for (int column = 0; column < columns; column++) {
+                row[column] = random.nextDouble() < 0.15 ? -1.0 : Math.round(random.nextDouble() * 4) / 4.0;
+            }
+        }
+        return CostMatrix.fromFitScores(fitScores);
+    }
+
+    /**
+     * Altera o custo de alguns pares, às vezes proibindo-os, como entre duas execuções com ponto de partida
+     */
+    static void perturb(Random random, CostMatrix matrix, int changes) {
+        for (int i = 0; i < changes; i++) {
+            int row = random.nextInt(matrix.getRows());
+            int column = random.nextInt(matrix.getColumns());
+            matrix.set(row, column, random.nextDouble() < 0.2 ? CostMatrix.FORBIDDEN : random.nextDouble());
+        }
+    }
+
+    static int[] ones(int columns) {
+        int[] capacity = new int[columns];
+        Arrays.fill(capacity, 1);
+        return capacity;
+    }
+
+    private void search(int row, int count, double cost, int[] load) {
+        if (row == matrix.getRows()) {
+            if (count > bestCount || (count == bestCount && cost < bestCost - 1e-12)) {
+                bestCount = count;
+                bestCost = cost;
+            }
+            return;
+        }
+        search(row + 1, count, cost, load);
+        for (int column = 0; column < matrix.getColumns(); column++) {
+            if (load[column] < capacity[column] && !matrix.isForbidden(row, column)) {
+                load[column]++;
+                search(row + 1, count + 1, cost + matrix.get(row, column), load);
+                load[column]--;
+            }
+        }
+    }
+}
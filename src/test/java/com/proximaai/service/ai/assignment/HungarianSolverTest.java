@@ -0,0 +1,52 @@
+package com.proximaai.service.ai.assignment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.proximaai.service.ai.assignment.BruteForceAssignment.assertOptimal;
+import static com.proximaai.service.ai.assignment.BruteForceAssignment.ones;
+import static com.proximaai.service.ai.assignment.BruteForceAssignment.perturb;
+import static com.proximaai.service.ai.assignment.BruteForceAssignment.randomCosts;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HungarianSolverTest {
+
+    @Test
+    void matchesBruteForceOnSmallMatrices() {
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            CostMatrix matrix = randomCosts(random, 1 + random.nextInt(6), 1 + random.nextInt(4));
+            assertOptimal(matrix, ones(matrix.getColumns()), new HungarianSolver().solve(matrix));
+        }
+    }
+
+    @Test
+    void warmStartMatchesBruteForceAfterCostChanges() {
+        Random random = new Random(2);
+        for (int i = 0; i < 2000; i++) {
+            CostMatrix matrix = randomCosts(random, 1 + random.nextInt(6), 1 + random.nextInt(4));
+            AssignmentSolution previous = new HungarianSolver().solve(matrix);
+            perturb(random, matrix, 2);
+
+            assertOptimal(matrix, ones(matrix.getColumns()), new HungarianSolver().solve(matrix, previous));
+            assertOptimal(matrix, ones(matrix.getColumns()),
+                    new HungarianSolver().solve(matrix, AssignmentSolution.of(previous.getColumnByRow())));
+        }
+    }
+
+    @Test
+    void leavesForbiddenOnlyRowsUnassigned() {
+        CostMatrix matrix = CostMatrix.fromFitScores(new double[][] {
+                {0.9, -1.0},
+                {-1.0, -1.0},
+                {0.2, 0.8}
+        });
+
+        AssignmentSolution solution = new HungarianSolver().solve(matrix);
+
+        assertArrayEquals(new int[] {0, AssignmentSolution.UNASSIGNED, 1}, solution.getColumnByRow());
+        assertEquals(0.1 + 0.2, solution.getTotalCost(), 1e-9);
+    }
+}
@@ -0,0 +1,72 @@
+package com.proximaai.service.ai.assignment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.proximaai.service.ai.assignment.BruteForceAssignment.assertOptimal;
+import static com.proximaai.service.ai.assignment.BruteForceAssignment.perturb;
+import static com.proximaai.service.ai.assignment.BruteForceAssignment.randomCosts;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+class MinCostFlowSolverTest {
+
+    @Test
+    void matchesBruteForceOnSmallMatrices() {
+        Random random = new Random(1);
+        for (int i = 0; i < 2000; i++) {
+            CostMatrix matrix = randomCosts(random, 1 + random.nextInt(6), 1 + random.nextInt(4));
+            int[] capacity = randomCapacity(random, matrix.getColumns());
+            assertOptimal(matrix, capacity, new MinCostFlowSolver().solve(matrix, capacity));
+        }
+    }
+
+    @Test
+    void warmStartMatchesBruteForceAfterCostChanges() {
+        Random random = new Random(2);
+        for (int i = 0; i < 2000; i++) {
+            CostMatrix matrix = randomCosts(random, 1 + random.nextInt(6), 1 + random.nextInt(4));
+            int[] capacity = randomCapacity(random, matrix.getColumns());
+            AssignmentSolution previous = new MinCostFlowSolver().solve(matrix, capacity);
+            perturb(random, matrix, 2);
+
+            assertOptimal(matrix, capacity, new MinCostFlowSolver().solve(matrix, capacity, previous));
+            assertOptimal(matrix, capacity,
+                    new MinCostFlowSolver().solve(matrix, capacity, AssignmentSolution.of(previous.getColumnByRow())));
+        }
+    }
+
+    @Test
+    void warmStartMatchesBruteForceAfterCapacityChanges() {
+        Random random = new Random(3);
+        for (int i = 0; i < 2000; i++) {
+            CostMatrix matrix = randomCosts(random, 1 + random.nextInt(6), 1 + random.nextInt(4));
+            int[] capacity = randomCapacity(random, matrix.getColumns());
+            AssignmentSolution previous = new MinCostFlowSolver().solve(matrix, capacity);
+            capacity[random.nextInt(capacity.length)] = random.nextInt(3);
+
+            assertOptimal(matrix, capacity, new MinCostFlowSolver().solve(matrix, capacity, previous));
+        }
+    }
+
+    @Test
+    void prefersMoreAssignedTasksOverLowerCost() {
+        // A tarefa 0 fica com o usuário 0 (custo maior) para que a tarefa 1, que só pode ir para o usuário 1, caiba
+        CostMatrix matrix = CostMatrix.fromFitScores(new double[][] {
+                {0.1, 1.0},
+                {-1.0, 0.1}
+        });
+
+        AssignmentSolution solution = new MinCostFlowSolver().solve(matrix, new int[] {1, 1});
+
+        assertArrayEquals(new int[] {0, 1}, solution.getColumnByRow());
+    }
+
+    private static int[] randomCapacity(Random random, int columns) {
+        int[] capacity = new int[columns];
+        for (int column = 0; column < columns; column++) {
+            capacity[column] = random.nextInt(3);
+        }
+        return capacity;
+    }
+}
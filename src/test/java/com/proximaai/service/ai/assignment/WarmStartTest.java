@@ -0,0 +1,84 @@
+package com.proximaai.service.ai.assignment;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static com.proximaai.service.ai.assignment.BruteForceAssignment.perturb;
+import static com.proximaai.service.ai.assignment.BruteForceAssignment.randomCosts;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class WarmStartTest {
+
+    private static final double TOLERANCE = 1e-9;
+
+    @Test
+    void withoutPreviousSolutionStartsEmpty() {
+        CostMatrix matrix = randomCosts(new Random(1), 4, 3);
+        WarmStart start = WarmStart.of(costs(matrix), 4, 3, new int[] {1, 1, 1}, null);
+
+        for (int row = 0; row < 4; row++) {
+            assertEquals(AssignmentSolution.UNASSIGNED, start.columnByRow[row]);
+        }
+    }
+
+    @Test
+    void keepsOnlyTightPairsWithinCapacity() {
+        Random random = new Random(2);
+        for (int i = 0; i < 2000; i++) {
+            CostMatrix matrix = randomCosts(random, 1 + random.nextInt(6), 1 + random.nextInt(4));
+            int[] capacity = randomCapacity(random, matrix.getColumns());
+            AssignmentSolution previous = new MinCostFlowSolver().solve(matrix, capacity);
+            perturb(random, matrix, 2);
+
+            WarmStart start = WarmStart.of(costs(matrix), matrix.getRows(), matrix.getColumns(), capacity, previous);
+            assertFeasible(matrix, capacity, start);
+
+            start.releaseSlackColumns(costs(matrix), capacity);
+            assertFeasible(matrix, capacity, start);
+            for (int column = 0; column < matrix.getColumns(); column++) {
+                assertFalse(start.columnPotentials[column] < 0.0 && start.load[column] < capacity[column],
+                        "coluna " + column + " com folga e potencial negativo");
+            }
+        }
+    }
+
+    /**
+     * Custos reduzidos ≥ 0, pares mantidos com custo reduzido zero e cargas dentro da capacidade
+     */
+    private static void assertFeasible(CostMatrix matrix, int[] capacity, WarmStart start) {
+        WarmStart.Costs costs = costs(matrix);
+        int[] load = new int[capacity.length];
+        for (int row = 0; row < matrix.getRows(); row++) {
+            for (int column = 0; column < matrix.getColumns(); column++) {
+                double reduced = costs.cost(row, column) - start.rowPotentials[row] - start.columnPotentials[column];
+                assertTrue(reduced >= -TOLERANCE, "custo reduzido negativo em (" + row + ", " + column + ")");
+            }
+            int column = start.columnByRow[row];
+            if (column != AssignmentSolution.UNASSIGNED) {
+                load[column]++;
+                double reduced = costs.cost(row, column) - start.rowPotentials[row] - start.columnPotentials[column];
+                assertEquals(0.0, reduced, TOLERANCE * (1.0 + Math.abs(start.rowPotentials[row])));
+            }
+        }
+        for (int column = 0; column < capacity.length; column++) {
+            assertEquals(load[column], start.load[column]);
+            assertTrue(load[column] <= capacity[column]);
+        }
+    }
+
+    private static WarmStart.Costs costs(CostMatrix matrix) {
+        double unassignedCost = matrix.unassignedCost();
+        return (row, column) -> matrix.effective(row, column, unassignedCost);
+    }
+
+    private static int[] randomCapacity(Random random, int columns) {
+        int[] capacity = new int[columns];
+        for (int column = 0; column < columns; column++) {
+            capacity[column] = random.nextInt(3);
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,46 @@
+package com.proximaai.service.ai.similarity;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Kernel SIMD com a Vector API (jdk.incubator.vector): cada vetor de lanes acumula, com FMA, várias linhas
+ * ao mesmo tempo em registrador ao longo de todas as dimensões. Só é carregado por {@link DotProductKernels}
+ * quando a JVM sobe com --add-modules jdk.incubator.vector.
+ */
+final class VectorDotProductKernel implements DotProductKernel {
+
+    private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+    @Override
+    public void dot(float[] columns, int stride, int from, int length, float[] query, float[] out) {
+        int dimensions = query.length;
+        FloatVector[] weights = new FloatVector[dimensions];
+        for (int d = 0; d < dimensions; d++) {
+            weights[d] = FloatVector.broadcast(SPECIES, query[d]);
+        }
+
+        int vectorLength = SPECIES.loopBound(length);
+        int i = 0;
+        for (; i < vectorLength; i += SPECIES.length()) {
+            FloatVector sum = FloatVector.zero(SPECIES);
+            for (int d = 0; d < dimensions; d++) {
+                FloatVector column = FloatVector.fromArray(SPECIES, columns, d * stride + from + i);
+                sum = column.fma(weights[d], sum);
+            }
+            sum.intoArray(out, i);
+        }
+        for (; i < length; i++) {
+            float sum = 0f;
+            for (int d = 0; d < dimensions; d++) {
+                sum += query[d] * columns[d * stride + from + i];
+            }
+            out[i] = sum;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "SIMD (" + SPECIES.length() + " lanes)";
+    }
+}